@@ -20,29 +20,69 @@ CREATE SEQUENCE swift_messages_id_seq
     NO MAXVALUE
     CACHE 1;
 
+-- Range partitioned by created_at, one partition per month (swift_messages_pYYYYMM).
+-- The application (MessageRetentionJob) creates upcoming months and drops expired ones;
+-- swift_messages_default only catches rows outside every monthly partition.
+-- The partition key must be part of the primary key.
 CREATE TABLE swift_messages (
-    id BIGINT PRIMARY KEY DEFAULT nextval('swift_messages_id_seq'),
+    id BIGINT NOT NULL DEFAULT nextval('swift_messages_id_seq'),
     message_type VARCHAR(10) NOT NULL CHECK (message_type IN ('MT102', 'MT103', 'MT202', 'MT202COV', 'MT203')),
     sender_bic VARCHAR(15),
     receiver_bic VARCHAR(15),
-    amount DECIMAL(19,2),
+    amount DECIMAL(19,4),
     currency VARCHAR(3),
     value_date DATE,
-    raw_mt_message TEXT NOT NULL,
+    -- Business keys extracted from the MT at ingest (MtBusinessKeys)
+    transaction_reference VARCHAR(35),
+    uetr VARCHAR(36),
+    raw_mt_message TEXT,
     generated_mx_message TEXT,
-    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
-);
+    -- Compressed payloads (PayloadCompression); a compressed text leaves its TEXT column NULL
+    raw_mt_message_z BYTEA,
+    generated_mx_message_z BYTEA,
+    -- Canonical payment read from the MT (lazy MX generation)
+    canonical_payment BYTEA,
+    -- Lifecycle and outcome of the conversion
+    status VARCHAR(20),
+    validation_verdict VARCHAR(20),
+    error_code VARCHAR(30),
+    error_message VARCHAR(1000),
+    mx_schema VARCHAR(40),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT chk_swift_messages_raw_mt CHECK (raw_mt_message IS NOT NULL OR raw_mt_message_z IS NOT NULL)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE swift_messages_default PARTITION OF swift_messages DEFAULT;
+
+-- Previous, current and next two months
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN -1..2 LOOP
+        month_start := (date_trunc('month', CURRENT_DATE) + make_interval(months => i))::DATE;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF swift_messages FOR VALUES FROM (%L) TO (%L)',
+                       'swift_messages_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, (month_start + INTERVAL '1 month')::DATE);
+    END LOOP;
+END $$;
 
 -- Set sequence ownership
 ALTER SEQUENCE swift_messages_id_seq OWNED BY swift_messages.id;
 
--- Create indexes
+-- Create indexes (created on every partition)
+-- Names match the @Index declarations of SwiftMessage so ddl-auto: update does not duplicate them
 CREATE INDEX idx_swift_messages_message_type ON swift_messages (message_type);
-CREATE INDEX idx_swift_messages_sender_bic ON swift_messages (sender_bic);
-CREATE INDEX idx_swift_messages_receiver_bic ON swift_messages (receiver_bic);
+CREATE INDEX idx_swift_messages_status ON swift_messages (status, message_type, created_at);
+CREATE INDEX idx_swift_messages_verdict ON swift_messages (validation_verdict, created_at);
+CREATE INDEX idx_swift_messages_reference ON swift_messages (transaction_reference);
+CREATE INDEX idx_swift_messages_uetr ON swift_messages (uetr);
+CREATE INDEX idx_swift_messages_sender ON swift_messages (sender_bic, created_at);
+CREATE INDEX idx_swift_messages_receiver ON swift_messages (receiver_bic, created_at);
 CREATE INDEX idx_swift_messages_currency ON swift_messages (currency);
-CREATE INDEX idx_swift_messages_created_at ON swift_messages (created_at);
+CREATE INDEX idx_swift_messages_created ON swift_messages (created_at);
 CREATE INDEX idx_swift_messages_value_date ON swift_messages (value_date);
 CREATE INDEX idx_swift_messages_amount ON swift_messages (amount);
 
@@ -0,0 +1,22 @@
+package com.mtmx.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks beans that need the {@code swift_messages} persistence layer.
+ * Such beans are skipped when {@code mtmx.persistence.enabled=false}
+ * (see the {@code stateless} profile), so conversion-only nodes start
+ * without a DataSource, Hibernate or the JPA repositories.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ConditionalOnProperty(prefix = "mtmx.persistence", name = "enabled", havingValue = "true", matchIfMissing = true)
+public @interface ConditionalOnPersistence {
+}
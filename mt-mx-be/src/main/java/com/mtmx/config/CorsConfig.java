@@ -15,7 +15,11 @@ public class CorsConfig implements WebMvcConfigurer {
                     "http://localhost:3000",     // React dev server
                     "http://127.0.0.1:3000",    // Alternative localhost
                     "http://localhost:8080",     // Alternative frontend port
-                    "http://127.0.0.1:8080"     // Alternative localhost
+                    "http://127.0.0.1:8080",    // Alternative localhost
+                    "http://localhost:5173",     // Vite dev server (and its fallback ports)
+                    "http://localhost:5174",
+                    "http://localhost:5175",
+                    "http://localhost:5176"
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
@@ -0,0 +1,22 @@
+package com.mtmx.config;
+
+import com.mtmx.domain.compression.PayloadCompression;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies {@code mtmx.storage.compression.*} to {@link PayloadCompression} at startup, before
+ * any entity is written.
+ */
+@Slf4j
+@Configuration
+public class PayloadCompressionConfig {
+
+    public PayloadCompressionConfig(@Value("${mtmx.storage.compression.enabled:false}") boolean enabled,
+                                    @Value("${mtmx.storage.compression.dictionaries:true}") boolean dictionaries) {
+        PayloadCompression.configure(enabled, dictionaries);
+        log.info("Payload compression {} (dictionaries {})", enabled ? "enabled" : "disabled",
+                dictionaries ? "on" : "off");
+    }
+}
@@ -0,0 +1,44 @@
+package com.mtmx.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Shared {@link TaskScheduler} of the background work: the periodic jobs (retention, payload
+ * compression migration, business key backfill, BIC directory refresh), the MT103 batch flush
+ * timeouts and the lazy MX write-back.
+ * <p>
+ * The periodic jobs register themselves as {@link SchedulingConfigurer}s and are only picked up
+ * with {@code mtmx.scheduling.enabled=true}; each has its own switch as well. Nothing is started
+ * while the beans are constructed and the pool threads are created on first use.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    /**
+     * Declared as {@link TaskScheduler} so that Spring Boot still creates its
+     * {@code applicationTaskExecutor} for async MVC requests.
+     */
+    @Bean
+    public TaskScheduler taskScheduler(@Value("${mtmx.scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(1, poolSize));
+        scheduler.setThreadNamePrefix("mtmx-scheduler-");
+        scheduler.setDaemon(true);
+        // Batch flush timeouts are mostly cancelled before they fire
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "mtmx.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+    static class Jobs {
+    }
+}
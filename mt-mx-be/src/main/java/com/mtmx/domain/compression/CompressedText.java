@@ -0,0 +1,79 @@
+package com.mtmx.domain.compression;
+
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Text column value kept in its stored, compressed form ({@link PayloadCodec}). The text is
+ * inflated on the first {@link #text()} call and cached, so loading a page of entities costs
+ * no decompression until a payload is actually read.
+ * <p>
+ * Immutable: Hibernate compares instances with {@link #equals(Object)} for dirty checking
+ * and does not copy them.
+ */
+@Immutable
+public final class CompressedText implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] bytes;
+    private transient volatile String text;
+
+    private CompressedText(byte[] bytes, String text) {
+        this.bytes = bytes;
+        this.text = text;
+    }
+
+    /**
+     * @param useDictionary compress with the shared dictionary of the payload kind
+     * @return compressed value, or null for null text
+     */
+    public static CompressedText of(String text, boolean useDictionary) {
+        return text == null ? null : new CompressedText(PayloadCodec.encode(text, useDictionary), text);
+    }
+
+    /**
+     * Wraps stored bytes without decoding them
+     *
+     * @return value, or null for null bytes
+     */
+    public static CompressedText wrap(byte[] bytes) {
+        return bytes == null ? null : new CompressedText(bytes, null);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the stored bytes are not a valid payload
+     */
+    public String text() {
+        String decoded = text;
+        if (decoded == null) {
+            decoded = PayloadCodec.decode(bytes);
+            text = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Stored form; the array is shared, callers must not modify it
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof CompressedText && Arrays.equals(bytes, ((CompressedText) o).bytes));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "CompressedText(" + bytes.length + " bytes)";
+    }
+}
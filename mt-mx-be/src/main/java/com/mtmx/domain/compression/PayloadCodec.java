@@ -0,0 +1,157 @@
+package com.mtmx.domain.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary form of a stored text payload.
+ * <pre>
+ * magic          1 byte, 'Z'
+ * codec          1 byte, 0 = stored UTF-8, 1 = zlib deflate
+ * dictionary     1 byte, {@link PayloadDictionaries} id, 0 = none
+ * length         varint, UTF-8 length of the text
+ * body           stored or compressed bytes
+ * </pre>
+ * Deflate runs at {@link Deflater#BEST_SPEED}: payloads are small and written on the request
+ * path, and with a preset dictionary level 1 already reaches most of the ratio of higher levels.
+ * Texts shorter than {@value #MIN_COMPRESSED_LENGTH} bytes are stored as they are.
+ */
+public final class PayloadCodec {
+
+    static final byte MAGIC = 'Z';
+    static final int STORED = 0;
+    static final int DEFLATE = 1;
+    static final int MIN_COMPRESSED_LENGTH = 64;
+
+    private static final int HEADER_LENGTH = 3;
+
+    private PayloadCodec() {
+    }
+
+    /**
+     * @param useDictionary compress with the shared dictionary of the payload kind, if any
+     */
+    public static byte[] encode(String text, boolean useDictionary) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length < MIN_COMPRESSED_LENGTH) {
+            return frame(STORED, PayloadDictionaries.NONE, utf8, utf8.length);
+        }
+
+        int dictionary = useDictionary ? PayloadDictionaries.select(text) : PayloadDictionaries.NONE;
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            if (dictionary != PayloadDictionaries.NONE) {
+                deflater.setDictionary(PayloadDictionaries.get(dictionary));
+            }
+            deflater.setInput(utf8);
+            deflater.finish();
+            byte[] buffer = new byte[Math.max(64, utf8.length / 2)];
+            ByteArrayOutputStream out = new ByteArrayOutputStream(buffer.length);
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            byte[] compressed = out.toByteArray();
+            if (compressed.length >= utf8.length) {
+                return frame(STORED, PayloadDictionaries.NONE, utf8, utf8.length);
+            }
+            return frame(DEFLATE, dictionary, compressed, utf8.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not a valid payload
+     */
+    public static String decode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_LENGTH + 1 || bytes[0] != MAGIC) {
+            throw new IllegalArgumentException("Not a compressed payload");
+        }
+        int codec = bytes[1];
+        int dictionary = bytes[2];
+        int position = HEADER_LENGTH;
+        long length = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (position >= bytes.length || shift > 28) {
+                throw new IllegalArgumentException("Malformed payload length");
+            }
+            int b = bytes[position++] & 0xFF;
+            length |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Payload too large: " + length);
+        }
+
+        switch (codec) {
+            case STORED:
+                if (bytes.length - position != length) {
+                    throw new IllegalArgumentException("Stored payload length mismatch");
+                }
+                return new String(bytes, position, (int) length, StandardCharsets.UTF_8);
+            case DEFLATE:
+                return new String(inflate(bytes, position, (int) length, dictionary), StandardCharsets.UTF_8);
+            default:
+                throw new IllegalArgumentException("Unknown payload codec: " + codec);
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int length, int dictionary) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] result = new byte[length];
+            int filled = 0;
+            while (filled < length) {
+                int n = inflater.inflate(result, filled, length - filled);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(PayloadDictionaries.get(dictionary));
+                    } else if (inflater.finished() || inflater.needsInput()) {
+                        throw new IllegalArgumentException("Truncated compressed payload");
+                    }
+                }
+                filled += n;
+            }
+            if (!inflater.finished() && inflater.inflate(new byte[1]) > 0) {
+                throw new IllegalArgumentException("Compressed payload longer than recorded length");
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt compressed payload: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] frame(int codec, int dictionary, byte[] body, int textLength) {
+        byte[] length = varint(textLength);
+        byte[] framed = new byte[HEADER_LENGTH + length.length + body.length];
+        framed[0] = MAGIC;
+        framed[1] = (byte) codec;
+        framed[2] = (byte) dictionary;
+        System.arraycopy(length, 0, framed, HEADER_LENGTH, length.length);
+        System.arraycopy(body, 0, framed, HEADER_LENGTH + length.length, body.length);
+        return framed;
+    }
+
+    private static byte[] varint(int value) {
+        byte[] buffer = new byte[5];
+        int size = 0;
+        int rest = value;
+        while ((rest & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((rest & 0x7F) | 0x80);
+            rest >>>= 7;
+        }
+        buffer[size++] = (byte) rest;
+        byte[] result = new byte[size];
+        System.arraycopy(buffer, 0, result, 0, size);
+        return result;
+    }
+}
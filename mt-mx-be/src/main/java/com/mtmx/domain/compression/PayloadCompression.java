@@ -0,0 +1,32 @@
+package com.mtmx.domain.compression;
+
+/**
+ * Process wide switch for compressing stored payloads, set once at startup from
+ * {@code mtmx.storage.compression.*}. Entities are not Spring beans, so their setters consult
+ * this class instead of an injected configuration. Reading is always possible: a compressed
+ * column is decoded whether or not compression is currently enabled.
+ */
+public final class PayloadCompression {
+
+    private static volatile boolean enabled;
+    private static volatile boolean dictionaries = true;
+
+    private PayloadCompression() {
+    }
+
+    public static void configure(boolean enabled, boolean dictionaries) {
+        PayloadCompression.enabled = enabled;
+        PayloadCompression.dictionaries = dictionaries;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return compressed text, or null if compression is disabled or the text is null
+     */
+    public static CompressedText compress(String text) {
+        return enabled && text != null ? CompressedText.of(text, dictionaries) : null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.mtmx.domain.compression;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shared deflate preset dictionaries per payload kind. A stored payload records the id of the
+ * dictionary it was compressed with, so the content of an id must never change once released;
+ * an improved dictionary gets a new id. Strings that occur most often are placed at the end,
+ * where deflate reaches them with the shortest distances.
+ */
+public final class PayloadDictionaries {
+
+    public static final int NONE = 0;
+    public static final int MT = 1;
+    public static final int PACS_008 = 2;
+    public static final int PACS_009 = 3;
+
+    private static final String PACS008_NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08";
+    private static final String PACS009_NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pacs.009.001.08";
+
+    private static final byte[] MT_DICTIONARY = ("{3:{108:MT103CONVERSION}}{3:{119:COV}}"
+            + ":13C:/CLSTIME/:23E:INTC:26T::36::33B:EUR:33B:USD:56A::57A::57D::70:/RFB/:70:/INV/"
+            + ":71F:EUR:71F:USD:71G:EUR:71A:OUR\r\n:71A:BEN\r\n:71A:SHA\r\n:72:/ACC/:72:/INS/:72:/BNF/"
+            + ":23:CREDIT\r\n:23:CRED\r\n:23B:CRED\r\n:19::21:NONREF\r\n:21:"
+            + ":58A:/:58A::53A::52A::50F:/:50A:/:50K:/:59A:/:59:/"
+            + ":32B:EUR:32B:USD:32A:EUR:32A:USD:32A:"
+            + "{1:F01}{2:I102}{2:I103}{2:I202}{2:I203}{2:O103}XXXXN}{4:\r\n:20:"
+            + "\r\n-}").getBytes(StandardCharsets.US_ASCII);
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+
+    private static final byte[] PACS008_DICTIONARY = (XML_HEADER
+            + "<!-- XSD Validation Warning: -->"
+            + "<Document xmlns=\"" + PACS008_NAMESPACE + "\">"
+            + "<ns2:Document xmlns:ns2=\"" + PACS008_NAMESPACE + "\">\n"
+            + "    <FIToFICstmrCdtTrf>\n"
+            + "        <GrpHdr>\n"
+            + "            <NbOfTxs>1</NbOfTxs>\n"
+            + "            <CtrlSum></CtrlSum>\n"
+            + "        </GrpHdr>\n"
+            + "            <Dbtr>\n"
+            + "                <Nm>ORDERING CUSTOMER</Nm>\n"
+            + "            </Dbtr>\n"
+            + "            <Cdtr>\n"
+            + "                <Nm>BENEFICIARY CUSTOMER</Nm>\n"
+            + "            </Cdtr>\n"
+            + "        </CdtTrfTxInf>\n"
+            + "    </FIToFICstmrCdtTrf>\n"
+            + "</ns2:Document>\n"
+            + "</Document>\n"
+            + "            <MsgId></MsgId>\n"
+            + "            <CreDtTm>2025-01-01T00:00:00.000000</CreDtTm>\n"
+            + "            <TtlIntrBkSttlmAmt Ccy=\"EUR\"></TtlIntrBkSttlmAmt>\n"
+            + "        <CdtTrfTxInf>\n"
+            + "            <PmtId>\n"
+            + "                <InstrId></InstrId>\n"
+            + "                <EndToEndId></EndToEndId>\n"
+            + "            </PmtId>\n"
+            + "            <IntrBkSttlmAmt Ccy=\"USD\"></IntrBkSttlmAmt>\n").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] PACS009_DICTIONARY = (XML_HEADER
+            + "<!-- XSD Validation Warning: -->"
+            + "<Document xmlns=\"" + PACS009_NAMESPACE + "\">"
+            + "<ns2:Document xmlns:ns2=\"" + PACS009_NAMESPACE + "\">\n"
+            + "    <FICdtTrf>\n"
+            + "        <GrpHdr>\n"
+            + "            <NbOfTxs>1</NbOfTxs>\n"
+            + "        </GrpHdr>\n"
+            + "        </CdtTrfTxInf>\n"
+            + "    </FICdtTrf>\n"
+            + "</ns2:Document>\n"
+            + "</Document>\n"
+            + "            <MsgId></MsgId>\n"
+            + "            <CreDtTm>2025-01-01T00:00:00.000000</CreDtTm>\n"
+            + "            <TtlIntrBkSttlmAmt Ccy=\"EUR\"></TtlIntrBkSttlmAmt>\n"
+            + "        <CdtTrfTxInf>\n"
+            + "            <PmtId>\n"
+            + "                <InstrId></InstrId>\n"
+            + "                <EndToEndId></EndToEndId>\n"
+            + "            </PmtId>\n"
+            + "            <IntrBkSttlmAmt Ccy=\"USD\"></IntrBkSttlmAmt>\n"
+            + "            <InstdAgt>\n"
+            + "                <FinInstnId>\n"
+            + "                    <BICFI></BICFI>\n"
+            + "                </FinInstnId>\n"
+            + "            </InstdAgt>\n").getBytes(StandardCharsets.UTF_8);
+
+    private PayloadDictionaries() {
+    }
+
+    /**
+     * Dictionary matching the content: pacs.008 / pacs.009 by namespace, MT by its text block
+     *
+     * @return dictionary id, {@link #NONE} for anything else
+     */
+    public static int select(String text) {
+        if (text.contains(PACS008_NAMESPACE)) {
+            return PACS_008;
+        }
+        if (text.contains(PACS009_NAMESPACE)) {
+            return PACS_009;
+        }
+        if (text.contains("{4:")) {
+            return MT;
+        }
+        return NONE;
+    }
+
+    /**
+     * @throws IllegalArgumentException for an unknown id
+     */
+    static byte[] get(int id) {
+        switch (id) {
+            case MT:
+                return MT_DICTIONARY;
+            case PACS_008:
+                return PACS008_DICTIONARY;
+            case PACS_009:
+                return PACS009_DICTIONARY;
+            default:
+                throw new IllegalArgumentException("Unknown payload dictionary: " + id);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.mtmx.domain.currency;
+
+import com.mtmx.domain.validation.SwiftFormats;
+
+import java.math.BigDecimal;
+
+/**
+ * SWIFT amount codec working on {@code long} minor units, driven by {@link CurrencyTable}.
+ * <p>
+ * MT amounts use a decimal comma and at most as many fraction digits as the currency has
+ * minor units ({@code JPY1000,}, {@code EUR1000,5}, {@code BHD1000,125}); MX amounts are
+ * plain decimals at the currency scale ({@code 1000}, {@code 1000.50}, {@code 1000.125}).
+ * Both are parsed straight into scaled minor units ({@code EUR1000,5} is {@code 100050})
+ * with overflow checks, summed and compared as plain longs, and formatted back from longs.
+ * {@link BigDecimal} is only created at the JAXB / JPA boundary via {@link #toBigDecimal}.
+ */
+public final class CurrencyAmounts {
+
+    /** Working scale for codes without ISO minor units (XAU, XDR, ...) */
+    public static final int UNSPECIFIED_SCALE = 4;
+
+    /** Minor units of a missing or malformed amount; valid amounts are never negative */
+    public static final long NO_AMOUNT = -1L;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L
+    };
+
+    private CurrencyAmounts() {
+    }
+
+    /**
+     * Scale of the minor units used for the currency
+     *
+     * @return ISO minor units, or {@link #UNSPECIFIED_SCALE} for codes without a fixed scale
+     * @throws IllegalArgumentException for codes that are not active ISO 4217 currencies
+     */
+    public static int scaleOf(CharSequence currency) {
+        int minorUnits = CurrencyTable.minorUnits(currency);
+        if (minorUnits == CurrencyTable.UNKNOWN) {
+            throw new IllegalArgumentException("Geçersiz ISO 4217 para birimi: " + currency);
+        }
+        return minorUnits == CurrencyTable.NOT_APPLICABLE ? UNSPECIFIED_SCALE : minorUnits;
+    }
+
+    /**
+     * Fraction digits allowed for the currency; 2 for unknown codes (reported separately)
+     *
+     * @return minor units, or -1 if the currency has no fixed scale
+     */
+    public static int maxFractionDigits(String currency) {
+        int minorUnits = CurrencyTable.minorUnits(currency);
+        if (minorUnits == CurrencyTable.UNKNOWN) {
+            return 2;
+        }
+        return minorUnits == CurrencyTable.NOT_APPLICABLE ? -1 : minorUnits;
+    }
+
+    /**
+     * True if the amount has more significant fraction digits than the currency allows
+     * ({@code 1000.50} JPY is rejected, {@code 1000.00} JPY is accepted)
+     */
+    public static boolean exceedsMinorUnits(BigDecimal amount, String currency) {
+        int max = maxFractionDigits(currency);
+        return max >= 0 && amount.scale() > max && amount.stripTrailingZeros().scale() > max;
+    }
+
+    public static boolean isValidMtAmount(CharSequence amount, CharSequence currency) {
+        int minorUnits = CurrencyTable.minorUnits(currency);
+        return amount != null && minorUnits != CurrencyTable.UNKNOWN
+                && isValidMtAmount(amount, 0, amount.length(), minorUnits);
+    }
+
+    /**
+     * SWIFT amount check: at least one integer digit, optional decimal comma, no more fraction
+     * digits than the currency allows
+     *
+     * @param minorUnits value from {@link CurrencyTable#minorUnits}
+     */
+    public static boolean isValidMtAmount(CharSequence s, int from, int to, int minorUnits) {
+        if (minorUnits == CurrencyTable.UNKNOWN || to - from < 1 || to - from > 15) {
+            return false;
+        }
+        int i = from;
+        while (i < to && SwiftFormats.isDigit(s.charAt(i))) {
+            i++;
+        }
+        if (i == from) {
+            return false;
+        }
+        if (i == to) {
+            return true;
+        }
+        if (s.charAt(i) != ',') {
+            return false;
+        }
+        int fractionStart = ++i;
+        while (i < to && SwiftFormats.isDigit(s.charAt(i))) {
+            i++;
+        }
+        return i == to && (minorUnits == CurrencyTable.NOT_APPLICABLE || i - fractionStart <= minorUnits);
+    }
+
+    // ---------------------------------------------------------------- parsing
+
+    public static long parseMinorUnits(String amount, String currency) {
+        return parseMinorUnits(amount, 0, amount.length(), scaleOf(currency));
+    }
+
+    public static long parseMinorUnits(CharSequence s, int from, int to, String currency) {
+        return parseMinorUnits(s, from, to, scaleOf(currency));
+    }
+
+    /**
+     * Parse an MT amount ({@code ,} or {@code .} as decimal mark) into minor units of the given scale
+     *
+     * @throws NumberFormatException if the amount is malformed, has more fraction digits than
+     *                               the scale or does not fit into a long
+     */
+    public static long parseMinorUnits(CharSequence s, int from, int to, int scale) {
+        long integer = 0;
+        long fraction = 0;
+        int fractionDigits = -1;
+        int integerDigits = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (SwiftFormats.isDigit(c)) {
+                if (fractionDigits < 0) {
+                    integer = accumulate(integer, c, s, from, to);
+                    integerDigits++;
+                } else {
+                    if (++fractionDigits > scale) {
+                        throw new NumberFormatException("En fazla " + scale + " ondalık basamak içerebilir: "
+                                + s.subSequence(from, to));
+                    }
+                    fraction = fraction * 10 + (c - '0');
+                }
+            } else if ((c == ',' || c == '.') && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                throw new NumberFormatException("Geçersiz tutar: " + s.subSequence(from, to));
+            }
+        }
+        if (integerDigits == 0) {
+            throw new NumberFormatException("Geçersiz tutar: " + s.subSequence(from, to));
+        }
+
+        try {
+            long scaledFraction = fractionDigits > 0 ? fraction * POWERS_OF_TEN[scale - fractionDigits] : 0;
+            return Math.addExact(Math.multiplyExact(integer, POWERS_OF_TEN[scale]), scaledFraction);
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Tutar çok büyük: " + s.subSequence(from, to));
+        }
+    }
+
+    /**
+     * Minor units of a JPA / JAXB amount at the currency scale
+     *
+     * @throws IllegalArgumentException if the amount is negative, needs rounding, does not fit
+     *                                  into a long or the currency is unknown
+     */
+    public static long toMinorUnits(BigDecimal amount, String currency) {
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Tutar negatif olamaz: " + amount.toPlainString());
+        }
+        int scale = scaleOf(currency);
+        try {
+            return amount.movePointRight(scale).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Para birimi " + currency + " en fazla " + scale
+                    + " ondalık basamak içerebilir: " + amount.toPlainString(), e);
+        }
+    }
+
+    /**
+     * Minor units of a model amount, for callers that treat a missing amount as absent
+     *
+     * @return minor units, {@link #NO_AMOUNT} if the amount or currency is missing, negative,
+     *         needs rounding or the currency is unknown
+     */
+    public static long minorUnitsOrNone(BigDecimal amount, String currency) {
+        if (amount == null || currency == null) {
+            return NO_AMOUNT;
+        }
+        try {
+            return toMinorUnits(amount, currency);
+        } catch (IllegalArgumentException e) {
+            return NO_AMOUNT;
+        }
+    }
+
+    // ---------------------------------------------------------------- formatting
+
+    /**
+     * MT amount with decimal comma: {@code 1000,50}, {@code 1000,} for JPY
+     */
+    public static String formatMt(long minorUnits, String currency) {
+        return append(new StringBuilder(20), minorUnits, currency, ',').toString();
+    }
+
+    /**
+     * MX (ActiveOrHistoricCurrencyAndAmount) value at the currency scale: {@code 1000.50}, {@code 1000}
+     */
+    public static String formatMx(long minorUnits, String currency) {
+        return append(new StringBuilder(20), minorUnits, currency, '.').toString();
+    }
+
+    /**
+     * Append an MT amount to a message being built, without an intermediate String
+     */
+    public static StringBuilder appendMt(StringBuilder sb, long minorUnits, String currency) {
+        return append(sb, minorUnits, currency, ',');
+    }
+
+    /**
+     * JAXB / JPA boundary: the only place a {@link BigDecimal} is created from minor units
+     */
+    public static BigDecimal toBigDecimal(long minorUnits, String currency) {
+        return BigDecimal.valueOf(minorUnits, scaleOf(currency));
+    }
+
+    // ---------------------------------------------------------------- BigDecimal / String convenience
+
+    public static BigDecimal parseMt(String amount, String currency) {
+        return parseMt(amount, 0, amount.length(), currency);
+    }
+
+    /**
+     * Parse an MT amount at the currency scale
+     *
+     * @throws NumberFormatException    if the amount is malformed, has too many fraction digits or overflows
+     * @throws IllegalArgumentException if the currency is unknown
+     */
+    public static BigDecimal parseMt(CharSequence s, int from, int to, String currency) {
+        return toBigDecimal(parseMinorUnits(s, from, to, currency), currency);
+    }
+
+    /**
+     * Rewrite an MT amount as an MX decimal at the currency scale without going through
+     * {@link BigDecimal}, e.g. {@code 1000,5} EUR to {@code 1000.50}, {@code 1000,} JPY to {@code 1000}
+     *
+     * @throws NumberFormatException    if the amount is malformed, has too many fraction digits or overflows
+     * @throws IllegalArgumentException if the currency is unknown
+     */
+    public static String mtToMx(CharSequence s, int from, int to, String currency) {
+        return formatMx(parseMinorUnits(s, from, to, currency), currency);
+    }
+
+    public static String mtToMx(String amount, String currency) {
+        return mtToMx(amount, 0, amount.length(), currency);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the amount is negative, needs rounding or the currency is unknown
+     */
+    public static String formatMt(BigDecimal amount, String currency) {
+        return formatMt(toMinorUnits(amount, currency), currency);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the amount is negative, needs rounding or the currency is unknown
+     */
+    public static String formatMx(BigDecimal amount, String currency) {
+        return formatMx(toMinorUnits(amount, currency), currency);
+    }
+
+    private static StringBuilder append(StringBuilder sb, long minorUnits, String currency, char decimalMark) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Tutar negatif olamaz: " + minorUnits);
+        }
+        int scale = scaleOf(currency);
+        long unit = POWERS_OF_TEN[scale];
+        long fraction = minorUnits % unit;
+        sb.append(minorUnits / unit);
+
+        // ISO minor unit'i olmayan kodlarda (XAU vb.) sondaki sıfırlar yazılmaz
+        if (CurrencyTable.minorUnits(currency) == CurrencyTable.NOT_APPLICABLE) {
+            while (scale > 0 && fraction % 10 == 0) {
+                fraction /= 10;
+                scale--;
+            }
+        }
+        if (scale == 0) {
+            // MT'de ondalık virgül zorunludur, MX'te ondalık kısım yazılmaz
+            return decimalMark == ',' ? sb.append(',') : sb;
+        }
+        sb.append(decimalMark);
+        for (long pad = POWERS_OF_TEN[scale - 1]; pad > 1 && fraction < pad; pad /= 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction);
+    }
+
+    private static long accumulate(long value, char digit, CharSequence s, int from, int to) {
+        if (value > (Long.MAX_VALUE - 9) / 10) {
+            throw new NumberFormatException("Tutar çok büyük: " + s.subSequence(from, to));
+        }
+        return value * 10 + (digit - '0');
+    }
+}
@@ -0,0 +1,115 @@
+package com.mtmx.domain.currency;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * In-memory ISO 4217 table loaded once from {@code currency/iso4217.csv}.
+ * <p>
+ * A currency code is packed into {@code 26 * 26 * 26} slots, so the table is one dense
+ * 17.5 KB {@code byte[]} holding the minor-unit count of every active code. Lookups are
+ * three subtractions and an array read, directly over a slice of the raw message.
+ */
+public final class CurrencyTable {
+
+    /** Not an active ISO 4217 code */
+    public static final int UNKNOWN = -1;
+    /** Active code without minor units, e.g. XAU or XDR - any scale is accepted */
+    public static final int NOT_APPLICABLE = -2;
+
+    private static final String RESOURCE = "currency/iso4217.csv";
+    private static final int SLOTS = 26 * 26 * 26;
+    private static final byte[] MINOR_UNITS = load();
+    private static final int SIZE = count();
+
+    private CurrencyTable() {
+    }
+
+    public static boolean isValid(CharSequence code) {
+        return code != null && code.length() == 3 && isValid(code, 0, 3);
+    }
+
+    /**
+     * True if the three characters starting at {@code from} are an active ISO 4217 code
+     */
+    public static boolean isValid(CharSequence s, int from, int to) {
+        return minorUnits(s, from, to) != UNKNOWN;
+    }
+
+    public static int minorUnits(CharSequence code) {
+        return code == null || code.length() != 3 ? UNKNOWN : minorUnits(code, 0, 3);
+    }
+
+    /**
+     * Minor units (decimal places) of the currency at {@code [from, to)}
+     *
+     * @return 0-4, {@link #NOT_APPLICABLE} or {@link #UNKNOWN}
+     */
+    public static int minorUnits(CharSequence s, int from, int to) {
+        if (to - from != 3) {
+            return UNKNOWN;
+        }
+        int slot = slot(s, from);
+        return slot < 0 ? UNKNOWN : MINOR_UNITS[slot];
+    }
+
+    /**
+     * Number of active codes in the table
+     */
+    public static int size() {
+        return SIZE;
+    }
+
+    private static int slot(CharSequence s, int from) {
+        int a = s.charAt(from) - 'A';
+        int b = s.charAt(from + 1) - 'A';
+        int c = s.charAt(from + 2) - 'A';
+        if ((a | b | c) < 0 || a >= 26 || b >= 26 || c >= 26) {
+            return -1;
+        }
+        return (a * 26 + b) * 26 + c;
+    }
+
+    private static byte[] load() {
+        byte[] table = new byte[SLOTS];
+        Arrays.fill(table, (byte) UNKNOWN);
+
+        InputStream in = CurrencyTable.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (in == null) {
+            throw new IllegalStateException("ISO 4217 table not found on classpath: " + RESOURCE);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#' || line.startsWith("code,")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                int slot = columns.length == 3 ? slot(columns[0], 0) : -1;
+                if (columns[0].length() != 3 || slot < 0) {
+                    throw new IllegalStateException("Invalid ISO 4217 entry: " + line);
+                }
+                table[slot] = "N.A.".equals(columns[2])
+                        ? (byte) NOT_APPLICABLE
+                        : Byte.parseByte(columns[2]);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("ISO 4217 table could not be read: " + e.getMessage(), e);
+        }
+        return table;
+    }
+
+    private static int count() {
+        int count = 0;
+        for (byte minorUnits : MINOR_UNITS) {
+            if (minorUnits != UNKNOWN) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
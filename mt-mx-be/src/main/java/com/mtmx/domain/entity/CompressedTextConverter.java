@@ -0,0 +1,24 @@
+package com.mtmx.domain.entity;
+
+import com.mtmx.domain.compression.CompressedText;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Maps {@link CompressedText} to its stored bytes. Loading only wraps the bytes; the text is
+ * inflated when the entity getter is first called.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<CompressedText, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedText attribute) {
+        return attribute == null ? null : attribute.bytes();
+    }
+
+    @Override
+    public CompressedText convertToEntityAttribute(byte[] dbData) {
+        return CompressedText.wrap(dbData);
+    }
+}
@@ -0,0 +1,24 @@
+package com.mtmx.domain.entity;
+
+import com.mtmx.domain.header.BicInterner;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Stores BIC columns unchanged and canonicalizes them through {@link BicInterner#shared()} when
+ * rows are loaded, so entities (and the DTOs mapped from them) share one String per BIC.
+ */
+@Converter
+public class InternedBicConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return BicInterner.shared().intern(dbData);
+    }
+}
@@ -1,11 +1,18 @@
 package com.mtmx.domain.entity;
 
+import com.mtmx.domain.compression.CompressedText;
+import com.mtmx.domain.compression.PayloadCompression;
+import com.mtmx.domain.enums.ErrorCode;
+import com.mtmx.domain.enums.MessageStatus;
 import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
 import javax.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,15 +22,33 @@ import java.time.LocalDateTime;
 
 /**
  * Represents a single SWIFT message record in the database.
+ * <p>
+ * The MT and MX texts are stored either plain ({@code TEXT}) or compressed ({@code BYTEA},
+ * see {@link com.mtmx.domain.compression.PayloadCodec}); at most one of the two columns of a
+ * text is set. The getters hide the difference, the setters compress when
+ * {@link PayloadCompression} is enabled.
  */
 @Entity
-@Table(name = "swift_messages")
+@Table(name = "swift_messages", indexes = {
+        @Index(name = "idx_swift_messages_status", columnList = "status, messageType, createdAt"),
+        @Index(name = "idx_swift_messages_verdict", columnList = "validation_verdict, createdAt"),
+        @Index(name = "idx_swift_messages_reference", columnList = "transaction_reference"),
+        @Index(name = "idx_swift_messages_uetr", columnList = "uetr"),
+        @Index(name = "idx_swift_messages_sender", columnList = "senderBic, createdAt"),
+        @Index(name = "idx_swift_messages_receiver", columnList = "receiverBic, createdAt"),
+        @Index(name = "idx_swift_messages_value_date", columnList = "valueDate"),
+        @Index(name = "idx_swift_messages_created", columnList = "createdAt")
+})
 @Data
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class SwiftMessage {
 
+    static final int ERROR_MESSAGE_LENGTH = 1000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,9 +58,11 @@ public class SwiftMessage {
     private MessageType messageType;
 
     @Column(nullable = false, length = 12)
+    @Convert(converter = InternedBicConverter.class)
     private String senderBic;
 
     @Column(nullable = false, length = 12)
+    @Convert(converter = InternedBicConverter.class)
     private String receiverBic;
 
     @Column(precision = 19, scale = 4)
@@ -46,12 +73,57 @@ public class SwiftMessage {
 
     private LocalDate valueDate;
 
+    /** MT {@code :20:}, extracted at ingest ({@link com.mtmx.service.ingest.MtBusinessKeys}) */
+    @Column(name = "transaction_reference", length = 35)
+    private String transactionReference;
+
+    /** Block 3 tag 121 in lower case, extracted at ingest */
+    @Column(length = 36)
+    private String uetr;
+
     @Column(name = "raw_mt_message", columnDefinition = "TEXT")
     private String rawMtMessage;
 
     @Column(name = "generated_mx_message", columnDefinition = "TEXT")
     private String generatedMxMessage;
 
+    /** Compressed {@code rawMtMessage}; decoded on the first read of the getter */
+    @Column(name = "raw_mt_message_z", columnDefinition = "BYTEA")
+    @Convert(converter = CompressedTextConverter.class)
+    private CompressedText rawMtMessageCompressed;
+
+    /** Compressed {@code generatedMxMessage}; decoded on the first read of the getter */
+    @Column(name = "generated_mx_message_z", columnDefinition = "BYTEA")
+    @Convert(converter = CompressedTextConverter.class)
+    private CompressedText generatedMxMessageCompressed;
+
+    /**
+     * Binary canonical payment ({@link com.mtmx.domain.payment.CanonicalPaymentCodec}) captured at
+     * conversion time; MT and MX are regenerated from it instead of re-parsing the stored text
+     */
+    @Column(name = "canonical_payment", columnDefinition = "BYTEA")
+    private byte[] canonicalPayment;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private MessageStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "validation_verdict", length = 20)
+    private ValidationVerdict validationVerdict;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "error_code", length = 30)
+    private ErrorCode errorCode;
+
+    /** Converter or XSD validator message of a failed or invalid message */
+    @Column(name = "error_message", length = ERROR_MESSAGE_LENGTH)
+    private String errorMessage;
+
+    /** Schema the MX was generated for and validated against, e.g. {@code pacs.008.001.08} */
+    @Column(name = "mx_schema", length = 40)
+    private String mxSchema;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -59,6 +131,77 @@ public class SwiftMessage {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    public String getRawMtMessage() {
+        return rawMtMessageCompressed != null ? rawMtMessageCompressed.text() : rawMtMessage;
+    }
+
+    public void setRawMtMessage(String rawMtMessage) {
+        this.rawMtMessageCompressed = PayloadCompression.compress(rawMtMessage);
+        this.rawMtMessage = rawMtMessageCompressed != null ? null : rawMtMessage;
+    }
+
+    public String getGeneratedMxMessage() {
+        return generatedMxMessageCompressed != null ? generatedMxMessageCompressed.text() : generatedMxMessage;
+    }
+
+    public void setGeneratedMxMessage(String generatedMxMessage) {
+        this.generatedMxMessageCompressed = PayloadCompression.compress(generatedMxMessage);
+        this.generatedMxMessage = generatedMxMessageCompressed != null ? null : generatedMxMessage;
+    }
+
+    /**
+     * True if an MX is stored, without decompressing it
+     */
+    public boolean hasGeneratedMxMessage() {
+        return generatedMxMessage != null || generatedMxMessageCompressed != null;
+    }
+
+    /**
+     * MT stored without MX; the MX is generated on first read
+     */
+    public void markReceived() {
+        setGeneratedMxMessage(null);
+        recordOutcome(MessageStatus.RECEIVED, ValidationVerdict.NOT_VALIDATED, null, null, null);
+    }
+
+    /**
+     * MX generated and validated
+     *
+     * @param validationError XSD validator message, or null if the MX is valid
+     */
+    public void markConverted(String mx, String schema, ValidationVerdict verdict, String validationError) {
+        setGeneratedMxMessage(mx);
+        recordOutcome(MessageStatus.CONVERTED, verdict, ErrorCode.ofValidation(verdict, validationError),
+                validationError, schema);
+    }
+
+    /**
+     * MT to MX conversion failed; no MX is stored
+     */
+    public void markConversionFailed(String message) {
+        setGeneratedMxMessage(null);
+        setCanonicalPayment(null);
+        recordOutcome(MessageStatus.CONVERSION_FAILED, ValidationVerdict.NOT_VALIDATED, ErrorCode.CONVERSION_ERROR,
+                message, null);
+    }
+
+    private void recordOutcome(MessageStatus status, ValidationVerdict verdict, ErrorCode code, String message,
+                               String schema) {
+        this.status = status;
+        this.validationVerdict = verdict;
+        this.errorCode = code;
+        this.errorMessage = truncateErrorMessage(message);
+        this.mxSchema = schema;
+    }
+
+    /**
+     * Cuts a message to the {@code error_message} column length
+     */
+    public static String truncateErrorMessage(String message) {
+        return message != null && message.length() > ERROR_MESSAGE_LENGTH
+                ? message.substring(0, ERROR_MESSAGE_LENGTH) : message;
+    }
+
     @PrePersist
     protected void prePersist() {
         if (this.createdAt == null) {
@@ -73,4 +216,22 @@ public class SwiftMessage {
     protected void preUpdate() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * Builder texts go through the same compression as the setters
+     */
+    public static class SwiftMessageBuilder {
+
+        public SwiftMessageBuilder rawMtMessage(String rawMtMessage) {
+            this.rawMtMessageCompressed = PayloadCompression.compress(rawMtMessage);
+            this.rawMtMessage = rawMtMessageCompressed != null ? null : rawMtMessage;
+            return this;
+        }
+
+        public SwiftMessageBuilder generatedMxMessage(String generatedMxMessage) {
+            this.generatedMxMessageCompressed = PayloadCompression.compress(generatedMxMessage);
+            this.generatedMxMessage = generatedMxMessageCompressed != null ? null : generatedMxMessage;
+            return this;
+        }
+    }
 }
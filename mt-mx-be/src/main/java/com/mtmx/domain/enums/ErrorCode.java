@@ -0,0 +1,26 @@
+package com.mtmx.domain.enums;
+
+/**
+ * Reason a stored SWIFT message is failed or invalid.
+ */
+public enum ErrorCode {
+    /** The converter rejected the MT message */
+    CONVERSION_ERROR,
+    /** The MX does not match its XSD */
+    XSD_INVALID,
+    /** The XSD validation itself failed */
+    XSD_ERROR;
+
+    /**
+     * Error code of a generated MX
+     *
+     * @param validationError XSD validator message, null if the MX is valid
+     * @return code, or null for a valid MX
+     */
+    public static ErrorCode ofValidation(ValidationVerdict verdict, String validationError) {
+        if (verdict == ValidationVerdict.INVALID) {
+            return XSD_INVALID;
+        }
+        return verdict == ValidationVerdict.NOT_VALIDATED && validationError != null ? XSD_ERROR : null;
+    }
+}
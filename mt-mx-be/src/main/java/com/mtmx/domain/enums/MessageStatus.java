@@ -0,0 +1,13 @@
+package com.mtmx.domain.enums;
+
+/**
+ * Lifecycle status of a stored SWIFT message.
+ */
+public enum MessageStatus {
+    /** MT stored, MX not generated yet (lazy generation) */
+    RECEIVED,
+    /** MX generated and stored */
+    CONVERTED,
+    /** MT to MX conversion failed, see the error code and message */
+    CONVERSION_FAILED
+}
@@ -0,0 +1,11 @@
+package com.mtmx.domain.enums;
+
+/**
+ * Outcome of the XSD validation of a stored MX message.
+ */
+public enum ValidationVerdict {
+    VALID,
+    INVALID,
+    /** No MX yet, or the validation could not be run */
+    NOT_VALIDATED
+}
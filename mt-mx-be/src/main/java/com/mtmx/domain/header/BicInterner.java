@@ -0,0 +1,92 @@
+package com.mtmx.domain.header;
+
+/**
+ * Canonicalizing table for BICs and LT addresses.
+ * <p>
+ * The same few thousand institution codes repeat across millions of messages, entities and
+ * DTOs; interning them makes every occurrence share one String instance. The table is a fixed
+ * size, direct-mapped cache: a lookup hashes the characters in place (no allocation on a hit),
+ * a colliding code simply replaces the slot. Memory is therefore bounded and no locking is
+ * needed; Strings are immutable, so a racy slot read sees either null or a complete instance.
+ * Unlike {@link String#intern()} nothing is retained beyond the table capacity.
+ */
+public final class BicInterner {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int MAX_LENGTH = 12;
+    private static final BicInterner SHARED = new BicInterner(DEFAULT_CAPACITY);
+
+    private final String[] slots;
+    private final int mask;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public BicInterner(int capacity) {
+        int size = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+        this.slots = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Process wide table used by the header parser and the entity mapping
+     */
+    public static BicInterner shared() {
+        return SHARED;
+    }
+
+    /**
+     * Canonical instance of a BIC, or the argument itself if it is null or not BIC sized
+     */
+    public String intern(String value) {
+        if (value == null || value.isEmpty() || value.length() > MAX_LENGTH) {
+            return value;
+        }
+        int slot = slot(value.hashCode());
+        String cached = slots[slot];
+        if (value.equals(cached)) {
+            return cached;
+        }
+        slots[slot] = value;
+        return value;
+    }
+
+    /**
+     * Canonical instance of the {@code [from, to)} range, created only on a miss
+     */
+    public String intern(CharSequence source, int from, int to) {
+        int length = to - from;
+        if (length <= 0 || length > MAX_LENGTH) {
+            return source.subSequence(from, to).toString();
+        }
+        // String#hashCode ile aynı hash, eşleşmede String oluşturulmaz
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        int slot = slot(hash);
+        String cached = slots[slot];
+        if (cached != null && matches(cached, source, from, to)) {
+            return cached;
+        }
+        String created = source.subSequence(from, to).toString();
+        slots[slot] = created;
+        return created;
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean matches(String cached, CharSequence source, int from, int to) {
+        if (cached.length() != to - from) {
+            return false;
+        }
+        for (int i = 0; i < cached.length(); i++) {
+            if (cached.charAt(i) != source.charAt(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
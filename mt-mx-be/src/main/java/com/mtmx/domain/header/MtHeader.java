@@ -0,0 +1,125 @@
+package com.mtmx.domain.header;
+
+import com.mtmx.domain.enums.MessageType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Decoded SWIFT FIN headers: basic header (block 1), application header (block 2),
+ * user header (block 3) and trailers (block 5). Addresses and BICs are interned through
+ * {@link BicInterner#shared()}.
+ */
+@Value
+@Builder
+public class MtHeader {
+
+    private static final MtHeader EMPTY = MtHeader.builder().build();
+
+    public enum Direction {
+        INPUT,
+        OUTPUT
+    }
+
+    /** Block 1 application identifier, {@code F} for FIN */
+    String applicationId;
+
+    /** Block 1 service identifier, {@code 01} for user-to-user messages */
+    String serviceId;
+
+    /** Block 1 logical terminal address (BIC8, BIC11 or 12 character LT) */
+    String logicalTerminal;
+
+    String sessionNumber;
+
+    String sequenceNumber;
+
+    /** Null without an application header */
+    Direction direction;
+
+    /** Three digit message type, e.g. {@code 103} */
+    String messageType;
+
+    /** {@code COV} suffix in block 2 or {@code {119:COV}} in block 3 */
+    boolean cover;
+
+    /** Block 2 destination (input) or sender LT of the MIR (output) */
+    String applicationAddress;
+
+    /** Block 2 priority ({@code S}, {@code U} or {@code N}), null if absent */
+    String priority;
+
+    /** BIC11 of the sending institution; primary offices carry the {@code XXX} branch */
+    String senderBic;
+
+    /** BIC11 of the receiving institution; primary offices carry the {@code XXX} branch */
+    String receiverBic;
+
+    /** Block 3 fields by tag, e.g. {@code 108}, {@code 119}, {@code 121} */
+    @Builder.Default
+    Map<String, String> userHeader = Collections.emptyMap();
+
+    /** Block 5 trailers by tag, e.g. {@code CHK}, {@code PDE} */
+    @Builder.Default
+    Map<String, String> trailers = Collections.emptyMap();
+
+    static MtHeader empty() {
+        return EMPTY;
+    }
+
+    public boolean hasBasicHeader() {
+        return logicalTerminal != null;
+    }
+
+    public boolean isInput() {
+        return direction == Direction.INPUT;
+    }
+
+    /**
+     * Message user reference, block 3 tag 108
+     */
+    public String getMur() {
+        return userHeader.get("108");
+    }
+
+    /**
+     * Validation flag, block 3 tag 119 (e.g. {@code COV}, {@code STP}, {@code REMIT})
+     */
+    public String getValidationFlag() {
+        return userHeader.get("119");
+    }
+
+    /**
+     * Unique end-to-end transaction reference, block 3 tag 121
+     */
+    public String getUetr() {
+        return userHeader.get("121");
+    }
+
+    /**
+     * Message type including the cover variant, e.g. {@code 103} or {@code 202COV}
+     */
+    public String getTypeName() {
+        if (messageType == null) {
+            return null;
+        }
+        return cover && "202".equals(messageType) ? "202COV" : messageType;
+    }
+
+    /**
+     * Supported message type, null for missing or unsupported types
+     */
+    public MessageType toMessageType() {
+        String typeName = getTypeName();
+        if (typeName == null) {
+            return null;
+        }
+        try {
+            return MessageType.valueOf("MT" + typeName);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
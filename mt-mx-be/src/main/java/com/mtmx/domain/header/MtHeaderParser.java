@@ -0,0 +1,286 @@
+package com.mtmx.domain.header;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single-pass parser for the FIN header blocks of an MT message.
+ * <p>
+ * The top level blocks are walked once from left to right; the text block (block 4) is skipped
+ * without being tokenized. Works on any {@link CharSequence}, including raw bytes viewed through
+ * {@code AsciiBytes}, and never throws: missing or malformed blocks leave the corresponding
+ * {@link MtHeader} properties null.
+ * <pre>
+ * {1:F01BANKBEBBAXXX0000000000}            application, service, LT, session, sequence
+ * {2:I103BANKDEFFXXXXN}                    input: type, destination LT, priority
+ * {2:O1031200240101BANKBEBBAXXX...1201N}   output: type, input time, MIR (date, sender LT, ...)
+ * {3:{108:MUR}{119:COV}{121:uetr}}         user header fields
+ * {5:{CHK:123456789ABC}}                   trailers
+ * </pre>
+ */
+public final class MtHeaderParser {
+
+    /** Session (4) + sequence (6) number following the LT address in block 1 */
+    private static final int SESSION_SEQUENCE_LENGTH = 10;
+    private static final int LT_LENGTH = 12;
+    private static final int BIC11_LENGTH = 11;
+    private static final int BIC8_LENGTH = 8;
+    /** Output block 2: O + type + input time (4) + MIR date (6) */
+    private static final int OUTPUT_ADDRESS_OFFSET = 14;
+
+    private MtHeaderParser() {
+    }
+
+    public static MtHeader parse(CharSequence raw) {
+        if (raw == null || raw.length() == 0) {
+            return MtHeader.empty();
+        }
+        return new Scan(raw, BicInterner.shared()).run();
+    }
+
+    /**
+     * BIC11 of a logical terminal / BIC8 / BIC11 address
+     *
+     * @return BIC11, or null if the address is shorter than a BIC8
+     */
+    static String toBic11(CharSequence address, BicInterner interner) {
+        int length = address.length();
+        if (length == BIC11_LENGTH) {
+            return interner.intern(address, 0, length);
+        }
+        if (length < BIC8_LENGTH) {
+            return null;
+        }
+        StringBuilder bic = new StringBuilder(BIC11_LENGTH).append(address, 0, BIC8_LENGTH);
+        if (length == LT_LENGTH) {
+            // LT adresi: BIC8 + terminal kodu + branch
+            bic.append(address, BIC8_LENGTH + 1, LT_LENGTH);
+        } else {
+            bic.append("XXX");
+        }
+        return interner.intern(bic, 0, bic.length());
+    }
+
+    private static final class Scan {
+
+        private final CharSequence raw;
+        private final BicInterner interner;
+        private final MtHeader.MtHeaderBuilder header = MtHeader.builder();
+        private Map<String, String> userHeader;
+        private Map<String, String> trailers;
+        private boolean cover;
+        private MtHeader.Direction direction;
+        private String localAddress;
+        private String remoteAddress;
+
+        private Scan(CharSequence raw, BicInterner interner) {
+            this.raw = raw;
+            this.interner = interner;
+        }
+
+        private MtHeader run() {
+            int length = raw.length();
+            int i = 0;
+            while (i < length) {
+                if (raw.charAt(i) != '{' || i + 2 >= length || raw.charAt(i + 2) != ':') {
+                    i++;
+                    continue;
+                }
+                char block = raw.charAt(i + 1);
+                int start = i + 3;
+                switch (block) {
+                    case '1':
+                        i = basicHeader(start, closingBrace(start));
+                        break;
+                    case '2':
+                        i = applicationHeader(start, closingBrace(start));
+                        break;
+                    case '3':
+                        userHeader = new LinkedHashMap<>();
+                        i = fields(start, userHeader);
+                        break;
+                    case '4':
+                        i = textBlockEnd(start);
+                        break;
+                    case '5':
+                        trailers = new LinkedHashMap<>();
+                        i = fields(start, trailers);
+                        break;
+                    default:
+                        i++;
+                }
+            }
+
+            if (userHeader != null) {
+                cover |= "COV".equals(userHeader.get("119"));
+                header.userHeader(Collections.unmodifiableMap(userHeader));
+            }
+            if (trailers != null) {
+                header.trailers(Collections.unmodifiableMap(trailers));
+            }
+            // Output mesajlarda gönderen block 2'de (MIR), alıcı block 1'dedir
+            boolean output = direction == MtHeader.Direction.OUTPUT;
+            String sender = output ? remoteAddress : localAddress;
+            String receiver = output ? localAddress : remoteAddress;
+            return header.cover(cover)
+                    .senderBic(sender == null ? null : toBic11(sender, interner))
+                    .receiverBic(receiver == null ? null : toBic11(receiver, interner))
+                    .build();
+        }
+
+        /**
+         * {@code F01} + address + optional session/sequence number
+         */
+        private int basicHeader(int start, int end) {
+            if (end - start >= 3) {
+                header.applicationId(String.valueOf(raw.charAt(start)));
+                header.serviceId(raw.subSequence(start + 1, start + 3).toString());
+                int rest = end - start - 3;
+                int addressLength = basicAddressLength(rest);
+                int addressStart = start + 3;
+                localAddress = interner.intern(raw, addressStart, addressStart + addressLength);
+                header.logicalTerminal(localAddress);
+                if (rest - addressLength == SESSION_SEQUENCE_LENGTH) {
+                    int session = addressStart + addressLength;
+                    header.sessionNumber(raw.subSequence(session, session + 4).toString());
+                    header.sequenceNumber(raw.subSequence(session + 4, end).toString());
+                }
+            }
+            return end + 1;
+        }
+
+        private int applicationHeader(int start, int end) {
+            if (end - start < 4) {
+                return end + 1;
+            }
+            char code = raw.charAt(start);
+            if (code != 'I' && code != 'O') {
+                return end + 1;
+            }
+            boolean input = code == 'I';
+            direction = input ? MtHeader.Direction.INPUT : MtHeader.Direction.OUTPUT;
+            header.direction(direction);
+            header.messageType(raw.subSequence(start + 1, start + 4).toString());
+
+            int address;
+            int addressEnd;
+            if (input) {
+                address = start + 4;
+                if (regionMatches(address, end, "COV")) {
+                    cover = true;
+                    address += 3;
+                }
+                int rest = end - address;
+                // Destination LT (12), BIC11 ya da BIC8; arkasından priority gelebilir
+                addressEnd = address + (rest >= LT_LENGTH ? LT_LENGTH : rest == BIC11_LENGTH ? BIC11_LENGTH
+                        : Math.min(rest, BIC8_LENGTH));
+                if (addressEnd < end && isPriority(raw.charAt(addressEnd))) {
+                    header.priority(String.valueOf(raw.charAt(addressEnd)));
+                }
+            } else {
+                address = start + OUTPUT_ADDRESS_OFFSET;
+                addressEnd = Math.min(end, address + LT_LENGTH);
+                // Output: ... + output date (6) + time (4) + priority
+                int priority = addressEnd + SESSION_SEQUENCE_LENGTH + 10;
+                if (priority < end && isPriority(raw.charAt(priority))) {
+                    header.priority(String.valueOf(raw.charAt(priority)));
+                }
+            }
+            if (addressEnd > address) {
+                remoteAddress = interner.intern(raw, address, addressEnd);
+                header.applicationAddress(remoteAddress);
+            }
+            return end + 1;
+        }
+
+        /**
+         * Parse {@code {tag:value}} fields up to the closing brace of the block
+         *
+         * @return position after the block
+         */
+        private int fields(int from, Map<String, String> target) {
+            int length = raw.length();
+            int i = from;
+            while (i < length) {
+                char c = raw.charAt(i);
+                if (c == '}') {
+                    return i + 1;
+                }
+                if (c != '{') {
+                    i++;
+                    continue;
+                }
+                // ':' yalnızca bu alanın içinde aranır; her karakter sabit sayıda okunur
+                int close = indexOf('}', i + 1, length);
+                if (close < 0) {
+                    return length;
+                }
+                int colon = indexOf(':', i + 1, close);
+                if (colon > i) {
+                    target.put(raw.subSequence(i + 1, colon).toString(), raw.subSequence(colon + 1, close).toString());
+                }
+                i = close + 1;
+            }
+            return length;
+        }
+
+        private int textBlockEnd(int from) {
+            int length = raw.length();
+            for (int i = from; i + 1 < length; i++) {
+                if (raw.charAt(i) == '-' && raw.charAt(i + 1) == '}') {
+                    return i + 2;
+                }
+            }
+            return length;
+        }
+
+        private int closingBrace(int from) {
+            int close = indexOf('}', from);
+            return close < 0 ? raw.length() : close;
+        }
+
+        private int indexOf(char c, int from) {
+            return indexOf(c, from, raw.length());
+        }
+
+        /**
+         * @return first position of {@code c} in {@code [from, to)}, -1 if there is none
+         */
+        private int indexOf(char c, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (raw.charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean regionMatches(int from, int end, String text) {
+            if (end - from < text.length()) {
+                return false;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                if (raw.charAt(from + i) != text.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Address length in block 1: everything before a trailing session/sequence number
+     */
+    private static int basicAddressLength(int rest) {
+        int withoutSession = rest - SESSION_SEQUENCE_LENGTH;
+        if (withoutSession == BIC8_LENGTH || withoutSession == BIC11_LENGTH || withoutSession == LT_LENGTH) {
+            return withoutSession;
+        }
+        return Math.min(rest, LT_LENGTH);
+    }
+
+    private static boolean isPriority(char c) {
+        return c == 'S' || c == 'U' || c == 'N';
+    }
+}
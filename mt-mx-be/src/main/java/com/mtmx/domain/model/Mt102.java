@@ -1,5 +1,10 @@
 package com.mtmx.domain.model;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.validation.GenerateValidator;
+import com.mtmx.domain.validation.SwiftBic;
+import com.mtmx.domain.validation.SwiftCurrency;
+import com.mtmx.domain.validation.SwiftReference;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -21,6 +26,7 @@ import java.util.ArrayList;
  * Veritabanı entity değil, sadece parsing ve validation için kullanılır
  */
 @Data
+@GenerateValidator
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -35,7 +41,7 @@ public class Mt102 {
      */
     @NotBlank(message = "Transaction Reference (:20:) zorunludur")
     @Size(max = 16, message = "Transaction Reference (:20:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]+$", message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
+    @SwiftReference(message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
     private String transactionReference;
 
     /**
@@ -57,7 +63,7 @@ public class Mt102 {
 
     @NotBlank(message = "Settlement Currency (:32A:) zorunludur")
     @Size(min = 3, max = 3, message = "Settlement Currency (:32A:) 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Settlement Currency (:32A:) geçersiz format")
+    @SwiftCurrency(message = "Settlement Currency (:32A:) geçersiz format")
     private String settlementCurrency;
 
     @NotNull(message = "Interbank Settled Amount (:32A:) zorunludur")
@@ -81,7 +87,7 @@ public class Mt102 {
      * OPSİYONEL ALAN
      */
     @Size(max = 16, message = "Related Reference (:21:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]*$", message = "Related Reference (:21:) geçersiz karakterler içeriyor")
+    @SwiftReference(allowEmpty = true, message = "Related Reference (:21:) geçersiz karakterler içeriyor")
     private String relatedReference;
 
     /**
@@ -98,7 +104,7 @@ public class Mt102 {
      * OPSİYONEL ALAN
      */
     @Size(min = 8, max = 11, message = "Sending Institution (:51A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sending Institution (:51A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sending Institution (:51A:) geçersiz BIC formatı")
     private String sendingInstitution;
 
     /**
@@ -107,7 +113,7 @@ public class Mt102 {
      * En az birinin bulunması zorunlu ama hepsi opsiyonel
      */
     @Size(min = 8, max = 11, message = "Ordering Customer BIC (:50A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
     private String orderingCustomerBic;
 
     @Size(max = 140, message = "Ordering Customer Name maksimum 140 karakter olabilir")
@@ -125,7 +131,7 @@ public class Mt102 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Ordering Institution BIC (:52A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
     private String orderingInstitutionBic;
 
     @Size(max = 140, message = "Ordering Institution Name maksimum 140 karakter olabilir")
@@ -140,7 +146,7 @@ public class Mt102 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Sender's Correspondent BIC (:53A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
     private String sendersCorrespondentBic;
 
     @Size(max = 35, message = "Sender's Correspondent Account maksimum 35 karakter olabilir")
@@ -155,7 +161,7 @@ public class Mt102 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Receiver's Correspondent BIC (:54A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
     private String receiversCorrespondentBic;
 
     @Size(max = 35, message = "Receiver's Correspondent Account maksimum 35 karakter olabilir")
@@ -170,7 +176,7 @@ public class Mt102 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Intermediary BIC (:56A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
     private String intermediaryBic;
 
     @Size(max = 35, message = "Intermediary Account maksimum 35 karakter olabilir")
@@ -185,7 +191,7 @@ public class Mt102 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Account With Institution BIC (:57A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
     private String accountWithInstitutionBic;
 
     @Size(max = 35, message = "Account With Institution Account maksimum 35 karakter olabilir")
@@ -208,7 +214,7 @@ public class Mt102 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Sender's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Sender's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Sender's Charges Currency geçersiz format")
     private String sendersChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Sender's Charges Amount negatif olamaz")
@@ -220,7 +226,7 @@ public class Mt102 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Receiver's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Receiver's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Receiver's Charges Currency geçersiz format")
     private String receiversChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Receiver's Charges Amount negatif olamaz")
@@ -260,18 +266,36 @@ public class Mt102 {
      * Toplam transfer sayısını döndürür
      */
     public int getTransactionCount() {
-        return transactions != null ? transactions.size() : 0;
+        return getTransactions() != null ? getTransactions().size() : 0;
+    }
+
+    /**
+     * :32A: amount in minor units of the currency, without a {@link BigDecimal} for bound models
+     *
+     * @return minor units, {@link CurrencyAmounts#NO_AMOUNT} if missing or malformed
+     */
+    public long interbankSettledAmountMinorUnits() {
+        return CurrencyAmounts.minorUnitsOrNone(getInterbankSettledAmount(), getSettlementCurrency());
+    }
+
+    /**
+     * :19: sum of amounts in minor units of the currency, without a {@link BigDecimal} for bound models
+     *
+     * @return minor units, {@link CurrencyAmounts#NO_AMOUNT} if missing or malformed
+     */
+    public long sumOfAmountsMinorUnits() {
+        return CurrencyAmounts.minorUnitsOrNone(getSumOfAmounts(), getSettlementCurrency());
     }
 
     /**
      * Tüm bireysel tutarların toplamını hesaplar
      */
     public BigDecimal calculateTotalAmount() {
-        if (transactions == null || transactions.isEmpty()) {
+        if (getTransactions() == null || getTransactions().isEmpty()) {
             return BigDecimal.ZERO;
         }
         
-        return transactions.stream()
+        return getTransactions().stream()
                 .filter(t -> t.getAmount() != null)
                 .map(Mt102Transaction::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -281,9 +305,9 @@ public class Mt102 {
      * Sum of Amounts ile hesaplanan toplam tutarı karşılaştırır
      */
     public boolean isAmountBalanced() {
-        if (sumOfAmounts == null) return false;
+        if (getSumOfAmounts() == null) return false;
         BigDecimal calculated = calculateTotalAmount();
-        return sumOfAmounts.compareTo(calculated) == 0;
+        return getSumOfAmounts().compareTo(calculated) == 0;
     }
 
     /**
@@ -292,12 +316,12 @@ public class Mt102 {
     public boolean isValid() {
         return transactionReference != null && !transactionReference.trim().isEmpty() &&
                bankOperationCode != null && !bankOperationCode.trim().isEmpty() &&
-               valueDate != null &&
+               getValueDate() != null &&
                settlementCurrency != null && settlementCurrency.length() == 3 &&
-               interbankSettledAmount != null && interbankSettledAmount.compareTo(BigDecimal.ZERO) > 0 &&
-               sumOfAmounts != null && sumOfAmounts.compareTo(BigDecimal.ZERO) > 0 &&
+               getInterbankSettledAmount() != null && getInterbankSettledAmount().compareTo(BigDecimal.ZERO) > 0 &&
+               getSumOfAmounts() != null && getSumOfAmounts().compareTo(BigDecimal.ZERO) > 0 &&
                hasOrderingCustomer() &&
-               transactions != null && !transactions.isEmpty();
+               getTransactions() != null && !getTransactions().isEmpty();
     }
 
     /**
@@ -328,10 +352,11 @@ public class Mt102 {
             sb.append(":50K:").append(orderingCustomerName).append("\n");
         }
         
-        sb.append(":32A:").append(valueDate.toString().replace("-", "").substring(2))
-          .append(settlementCurrency).append(interbankSettledAmount.toString().replace(".", ",")).append("\n");
+        sb.append(":32A:").append(getValueDate().toString().replace("-", "").substring(2))
+          .append(settlementCurrency)
+          .append(CurrencyAmounts.formatMt(getInterbankSettledAmount(), settlementCurrency)).append("\n");
         
-        sb.append(":19:").append(sumOfAmounts.toString().replace(".", ",")).append("\n");
+        sb.append(":19:").append(CurrencyAmounts.formatMt(getSumOfAmounts(), settlementCurrency)).append("\n");
         
         // Optional fields - null kontrolü ile
         if (relatedReference != null && !relatedReference.trim().isEmpty()) {
@@ -355,8 +380,8 @@ public class Mt102 {
         }
         
         // Transaction details
-        if (transactions != null) {
-            for (Mt102Transaction transaction : transactions) {
+        if (getTransactions() != null) {
+            for (Mt102Transaction transaction : getTransactions()) {
                 if (transaction != null) {
                     sb.append(transaction.toSwiftFormat());
                 }
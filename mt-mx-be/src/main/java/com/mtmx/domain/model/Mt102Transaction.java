@@ -1,5 +1,10 @@
 package com.mtmx.domain.model;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.validation.GenerateValidator;
+import com.mtmx.domain.validation.SwiftBic;
+import com.mtmx.domain.validation.SwiftCurrency;
+import com.mtmx.domain.validation.SwiftReference;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -18,6 +23,7 @@ import java.math.BigDecimal;
  * Veritabanı entity değil, sadece parsing ve validation için kullanılır
  */
 @Data
+@GenerateValidator
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -32,7 +38,7 @@ public class Mt102Transaction {
      */
     @NotBlank(message = "Transaction Reference (:21:) zorunludur")
     @Size(max = 16, message = "Transaction Reference (:21:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]+$", message = "Transaction Reference (:21:) geçersiz karakterler içeriyor")
+    @SwiftReference(message = "Transaction Reference (:21:) geçersiz karakterler içeriyor")
     private String transactionReference;
 
     /**
@@ -42,7 +48,7 @@ public class Mt102Transaction {
      */
     @NotBlank(message = "Currency (:32B:) zorunludur")
     @Size(min = 3, max = 3, message = "Currency (:32B:) 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency (:32B:) geçersiz format")
+    @SwiftCurrency(message = "Currency (:32B:) geçersiz format")
     private String currency;
 
     @NotNull(message = "Amount (:32B:) zorunludur")
@@ -55,7 +61,7 @@ public class Mt102Transaction {
      * En az birinin bulunması zorunlu
      */
     @Size(min = 8, max = 11, message = "Beneficiary BIC (:59A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Beneficiary BIC (:59A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Beneficiary BIC (:59A:) geçersiz BIC formatı")
     private String beneficiaryBic;
 
     @Size(max = 34, message = "Beneficiary Account (:59:) maksimum 34 karakter olabilir")
@@ -93,7 +99,7 @@ public class Mt102Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Ordering Customer BIC (:50A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
     private String orderingCustomerBic;
 
     @Size(max = 34, message = "Ordering Customer Account maksimum 34 karakter olabilir")
@@ -108,7 +114,7 @@ public class Mt102Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Account With Institution BIC (:57A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
     private String accountWithInstitutionBic;
 
     @Size(max = 35, message = "Account With Institution Account maksimum 35 karakter olabilir")
@@ -150,7 +156,7 @@ public class Mt102Transaction {
     public boolean isValid() {
         return transactionReference != null && !transactionReference.trim().isEmpty() &&
                currency != null && currency.length() == 3 &&
-               amount != null && amount.compareTo(BigDecimal.ZERO) > 0 &&
+               getAmount() != null && getAmount().compareTo(BigDecimal.ZERO) > 0 &&
                hasBeneficiary();
     }
 
@@ -181,7 +187,7 @@ public class Mt102Transaction {
         }
         
         // Currency and Amount
-        sb.append(":32B:").append(currency).append(amount.toString().replace(".", ",")).append("\n");
+        sb.append(":32B:").append(currency).append(CurrencyAmounts.formatMt(getAmount(), currency)).append("\n");
         
         // Ordering Customer (transaction level - opsiyonel)
         if (orderingCustomerBic != null && !orderingCustomerBic.trim().isEmpty()) {
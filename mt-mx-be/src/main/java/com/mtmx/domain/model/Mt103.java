@@ -1,5 +1,10 @@
 package com.mtmx.domain.model;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.validation.GenerateValidator;
+import com.mtmx.domain.validation.SwiftBic;
+import com.mtmx.domain.validation.SwiftCurrency;
+import com.mtmx.domain.validation.SwiftReference;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -19,6 +24,7 @@ import java.time.LocalDate;
  * Veritabanı entity değil, sadece parsing ve validation için kullanılır
  */
 @Data
+@GenerateValidator
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -33,7 +39,7 @@ public class Mt103 {
      */
     @NotBlank(message = "Transaction Reference (:20:) zorunludur")
     @Size(max = 16, message = "Transaction Reference (:20:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]+$", message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
+    @SwiftReference(message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
     private String transactionReference;
 
     /**
@@ -55,7 +61,7 @@ public class Mt103 {
 
     @NotBlank(message = "Currency (:32A:) zorunludur")
     @Size(min = 3, max = 3, message = "Currency (:32A:) 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency (:32A:) geçersiz format")
+    @SwiftCurrency(message = "Currency (:32A:) geçersiz format")
     private String currency;
 
     @NotNull(message = "Amount (:32A:) zorunludur")
@@ -78,7 +84,7 @@ public class Mt103 {
      * Müşteri bilgileri - en az birinin bulunması zorunlu
      */
     @Size(min = 8, max = 11, message = "Ordering Customer BIC (:50A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
     private String orderingCustomerBic;
 
     @Size(max = 34, message = "Ordering Customer Account maksimum 34 karakter olabilir")
@@ -95,7 +101,7 @@ public class Mt103 {
      * Alıcı müşteri bilgileri - en az birinin bulunması zorunlu
      */
     @Size(min = 8, max = 11, message = "Beneficiary BIC (:59A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Beneficiary BIC (:59A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Beneficiary BIC (:59A:) geçersiz BIC formatı")
     private String beneficiaryBic;
 
     @Size(max = 34, message = "Beneficiary Account (:59:) maksimum 34 karakter olabilir")
@@ -115,7 +121,7 @@ public class Mt103 {
      * OPSİYONEL ALAN
      */
     @Size(max = 16, message = "Related Reference (:21:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]*$", message = "Related Reference (:21:) geçersiz karakterler içeriyor")
+    @SwiftReference(allowEmpty = true, message = "Related Reference (:21:) geçersiz karakterler içeriyor")
     private String relatedReference;
 
     /**
@@ -150,7 +156,7 @@ public class Mt103 {
      * OPSİYONEL ALAN
      */
     @Size(min = 8, max = 11, message = "Sending Institution (:51A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sending Institution (:51A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sending Institution (:51A:) geçersiz BIC formatı")
     private String sendingInstitution;
 
     /**
@@ -159,7 +165,7 @@ public class Mt103 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Ordering Institution BIC (:52A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
     private String orderingInstitutionBic;
 
     @Size(max = 140, message = "Ordering Institution Name maksimum 140 karakter olabilir")
@@ -174,7 +180,7 @@ public class Mt103 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Sender's Correspondent BIC (:53A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
     private String sendersCorrespondentBic;
 
     @Size(max = 35, message = "Sender's Correspondent Account maksimum 35 karakter olabilir")
@@ -189,7 +195,7 @@ public class Mt103 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Receiver's Correspondent BIC (:54A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
     private String receiversCorrespondentBic;
 
     @Size(max = 35, message = "Receiver's Correspondent Account maksimum 35 karakter olabilir")
@@ -204,7 +210,7 @@ public class Mt103 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Intermediary BIC (:56A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
     private String intermediaryBic;
 
     @Size(max = 35, message = "Intermediary Account maksimum 35 karakter olabilir")
@@ -219,7 +225,7 @@ public class Mt103 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Account With Institution BIC (:57A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
     private String accountWithInstitutionBic;
 
     @Size(max = 35, message = "Account With Institution Account maksimum 35 karakter olabilir")
@@ -242,7 +248,7 @@ public class Mt103 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Sender's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Sender's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Sender's Charges Currency geçersiz format")
     private String sendersChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Sender's Charges Amount negatif olamaz")
@@ -254,7 +260,7 @@ public class Mt103 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Receiver's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Receiver's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Receiver's Charges Currency geçersiz format")
     private String receiversChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Receiver's Charges Amount negatif olamaz")
@@ -295,15 +301,24 @@ public class Mt103 {
                (beneficiaryName != null && !beneficiaryName.trim().isEmpty());
     }
 
+    /**
+     * :32A: amount in minor units of the currency, without a {@link BigDecimal} for bound models
+     *
+     * @return minor units, {@link CurrencyAmounts#NO_AMOUNT} if missing or malformed
+     */
+    public long amountMinorUnits() {
+        return CurrencyAmounts.minorUnitsOrNone(getAmount(), getCurrency());
+    }
+
     /**
      * Mesajın temel geçerlilik kontrolü
      */
     public boolean isValid() {
         return transactionReference != null && !transactionReference.trim().isEmpty() &&
                bankOperationCode != null && !bankOperationCode.trim().isEmpty() &&
-               valueDate != null &&
+               getValueDate() != null &&
                currency != null && currency.length() == 3 &&
-               amount != null && amount.compareTo(BigDecimal.ZERO) > 0 &&
+               getAmount() != null && getAmount().compareTo(BigDecimal.ZERO) > 0 &&
                detailsOfCharges != null && !detailsOfCharges.trim().isEmpty() &&
                hasOrderingCustomer() &&
                hasBeneficiary();
@@ -344,8 +359,8 @@ public class Mt103 {
         }
         
         // Value Date, Currency, Amount
-        sb.append(":32A:").append(valueDate.toString().replace("-", "").substring(2))
-          .append(currency).append(amount.toString().replace(".", ",")).append("\n");
+        sb.append(":32A:").append(getValueDate().toString().replace("-", "").substring(2))
+          .append(currency).append(CurrencyAmounts.formatMt(getAmount(), currency)).append("\n");
         
         // Ordering Customer
         if (orderingCustomerBic != null && !orderingCustomerBic.trim().isEmpty()) {
@@ -396,14 +411,14 @@ public class Mt103 {
         sb.append(":71A:").append(detailsOfCharges).append("\n");
         
         // Optional charges
-        if (sendersChargesCurrency != null && sendersChargesAmount != null) {
+        if (sendersChargesCurrency != null && getSendersChargesAmount() != null) {
             sb.append(":71F:").append(sendersChargesCurrency)
-              .append(sendersChargesAmount.toString().replace(".", ",")).append("\n");
+              .append(CurrencyAmounts.formatMt(getSendersChargesAmount(), sendersChargesCurrency)).append("\n");
         }
         
-        if (receiversChargesCurrency != null && receiversChargesAmount != null) {
+        if (receiversChargesCurrency != null && getReceiversChargesAmount() != null) {
             sb.append(":71G:").append(receiversChargesCurrency)
-              .append(receiversChargesAmount.toString().replace(".", ",")).append("\n");
+              .append(CurrencyAmounts.formatMt(getReceiversChargesAmount(), receiversChargesCurrency)).append("\n");
         }
         
         // Sender to Receiver Information
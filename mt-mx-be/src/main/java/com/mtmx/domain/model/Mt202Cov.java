@@ -1,5 +1,10 @@
 package com.mtmx.domain.model;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.validation.GenerateValidator;
+import com.mtmx.domain.validation.SwiftBic;
+import com.mtmx.domain.validation.SwiftCurrency;
+import com.mtmx.domain.validation.SwiftReference;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -19,6 +24,7 @@ import java.time.LocalDate;
  * Veritabanı entity değil, sadece parsing ve validation için kullanılır
  */
 @Data
+@GenerateValidator
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -33,7 +39,7 @@ public class Mt202Cov {
      */
     @NotBlank(message = "Transaction Reference (:20:) zorunludur")
     @Size(max = 16, message = "Transaction Reference (:20:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]+$", message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
+    @SwiftReference(message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
     private String transactionReference;
 
     /**
@@ -43,7 +49,7 @@ public class Mt202Cov {
      */
     @NotBlank(message = "Related Reference (:21:) MT202COV için zorunludur")
     @Size(max = 16, message = "Related Reference (:21:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]+$", message = "Related Reference (:21:) geçersiz karakterler içeriyor")
+    @SwiftReference(message = "Related Reference (:21:) geçersiz karakterler içeriyor")
     private String relatedReference;
 
     /**
@@ -56,7 +62,7 @@ public class Mt202Cov {
 
     @NotBlank(message = "Currency (:32A:) zorunludur")
     @Size(min = 3, max = 3, message = "Currency (:32A:) 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency (:32A:) geçersiz format")
+    @SwiftCurrency(message = "Currency (:32A:) geçersiz format")
     private String currency;
 
     @NotNull(message = "Amount (:32A:) zorunludur")
@@ -68,7 +74,7 @@ public class Mt202Cov {
      * Alıcı finansal kurum - MT202COV için zorunlu
      */
     @Size(min = 8, max = 11, message = "Beneficiary Institution BIC (:58A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Beneficiary Institution BIC (:58A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Beneficiary Institution BIC (:58A:) geçersiz BIC formatı")
     private String beneficiaryInstitutionBic;
 
     @Size(max = 140, message = "Beneficiary Institution Name maksimum 140 karakter olabilir")
@@ -85,7 +91,7 @@ public class Mt202Cov {
      */
     @NotBlank(message = "Original Ordered Currency (:33B:) MT202COV için zorunludur")
     @Size(min = 3, max = 3, message = "Original Ordered Currency (:33B:) 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Original Ordered Currency (:33B:) geçersiz format")
+    @SwiftCurrency(message = "Original Ordered Currency (:33B:) geçersiz format")
     private String originalOrderedCurrency;
 
     @NotNull(message = "Original Ordered Amount (:33B:) MT202COV için zorunludur")
@@ -97,7 +103,7 @@ public class Mt202Cov {
      * Müşteri bilgileri - MT202COV için en az birinin bulunması zorunlu
      */
     @Size(min = 8, max = 11, message = "Ordering Customer BIC (:50A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Customer BIC (:50A:) geçersiz BIC formatı")
     private String orderingCustomerBic;
 
     @Size(max = 34, message = "Ordering Customer Account maksimum 34 karakter olabilir")
@@ -114,7 +120,7 @@ public class Mt202Cov {
      * Alıcı müşteri bilgileri - MT202COV için en az birinin bulunması zorunlu
      */
     @Size(min = 8, max = 11, message = "Beneficiary Customer BIC (:59A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Beneficiary Customer BIC (:59A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Beneficiary Customer BIC (:59A:) geçersiz BIC formatı")
     private String beneficiaryCustomerBic;
 
     @Size(max = 34, message = "Beneficiary Customer Account maksimum 34 karakter olabilir")
@@ -167,7 +173,7 @@ public class Mt202Cov {
      * OPSİYONEL ALAN
      */
     @Size(min = 8, max = 11, message = "Sending Institution (:51A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sending Institution (:51A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sending Institution (:51A:) geçersiz BIC formatı")
     private String sendingInstitution;
 
     /**
@@ -176,7 +182,7 @@ public class Mt202Cov {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Ordering Institution BIC (:52A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
     private String orderingInstitutionBic;
 
     @Size(max = 140, message = "Ordering Institution Name maksimum 140 karakter olabilir")
@@ -188,7 +194,7 @@ public class Mt202Cov {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Sender's Correspondent BIC (:53A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
     private String sendersCorrespondentBic;
 
     @Size(max = 35, message = "Sender's Correspondent Account maksimum 35 karakter olabilir")
@@ -200,7 +206,7 @@ public class Mt202Cov {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Receiver's Correspondent BIC (:54A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
     private String receiversCorrespondentBic;
 
     @Size(max = 35, message = "Receiver's Correspondent Account maksimum 35 karakter olabilir")
@@ -212,7 +218,7 @@ public class Mt202Cov {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Intermediary BIC (:56A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
     private String intermediaryBic;
 
     @Size(max = 35, message = "Intermediary Account maksimum 35 karakter olabilir")
@@ -224,7 +230,7 @@ public class Mt202Cov {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Account With Institution BIC (:57A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
     private String accountWithInstitutionBic;
 
     @Size(max = 35, message = "Account With Institution Account maksimum 35 karakter olabilir")
@@ -244,7 +250,7 @@ public class Mt202Cov {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Sender's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Sender's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Sender's Charges Currency geçersiz format")
     private String sendersChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Sender's Charges Amount negatif olamaz")
@@ -293,17 +299,26 @@ public class Mt202Cov {
                (beneficiaryCustomerName != null && !beneficiaryCustomerName.trim().isEmpty());
     }
 
+    /**
+     * :32A: amount in minor units of the currency, without a {@link BigDecimal} for bound models
+     *
+     * @return minor units, {@link CurrencyAmounts#NO_AMOUNT} if missing or malformed
+     */
+    public long amountMinorUnits() {
+        return CurrencyAmounts.minorUnitsOrNone(getAmount(), getCurrency());
+    }
+
     /**
      * Mesajın temel geçerlilik kontrolü
      */
     public boolean isValid() {
         return transactionReference != null && !transactionReference.trim().isEmpty() &&
                relatedReference != null && !relatedReference.trim().isEmpty() &&
-               valueDate != null &&
+               getValueDate() != null &&
                currency != null && currency.length() == 3 &&
-               amount != null && amount.compareTo(BigDecimal.ZERO) > 0 &&
+               getAmount() != null && getAmount().compareTo(BigDecimal.ZERO) > 0 &&
                originalOrderedCurrency != null && originalOrderedCurrency.length() == 3 &&
-               originalOrderedAmount != null && originalOrderedAmount.compareTo(BigDecimal.ZERO) > 0 &&
+               getOriginalOrderedAmount() != null && getOriginalOrderedAmount().compareTo(BigDecimal.ZERO) > 0 &&
                remittanceInformation != null && !remittanceInformation.trim().isEmpty() &&
                hasBeneficiaryInstitution() &&
                hasOrderingCustomer() &&
@@ -345,12 +360,12 @@ public class Mt202Cov {
         }
         
         // Value Date, Currency, Amount
-        sb.append(":32A:").append(valueDate.toString().replace("-", "").substring(2))
-          .append(currency).append(amount.toString().replace(".", ",")).append("\n");
+        sb.append(":32A:").append(getValueDate().toString().replace("-", "").substring(2))
+          .append(currency).append(CurrencyAmounts.formatMt(getAmount(), currency)).append("\n");
         
         // Original Ordered Amount
         sb.append(":33B:").append(originalOrderedCurrency)
-          .append(originalOrderedAmount.toString().replace(".", ",")).append("\n");
+          .append(CurrencyAmounts.formatMt(getOriginalOrderedAmount(), originalOrderedCurrency)).append("\n");
         
         // Ordering Customer (mandatory for COV)
         if (orderingCustomerBic != null && !orderingCustomerBic.trim().isEmpty()) {
@@ -408,9 +423,9 @@ public class Mt202Cov {
             sb.append(":71A:").append(detailsOfCharges).append("\n");
         }
         
-        if (sendersChargesCurrency != null && sendersChargesAmount != null) {
+        if (sendersChargesCurrency != null && getSendersChargesAmount() != null) {
             sb.append(":71F:").append(sendersChargesCurrency)
-              .append(sendersChargesAmount.toString().replace(".", ",")).append("\n");
+              .append(CurrencyAmounts.formatMt(getSendersChargesAmount(), sendersChargesCurrency)).append("\n");
         }
         
         if (senderToReceiverInfo != null && !senderToReceiverInfo.trim().isEmpty()) {
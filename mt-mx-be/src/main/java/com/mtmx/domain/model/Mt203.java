@@ -1,5 +1,10 @@
 package com.mtmx.domain.model;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.validation.GenerateValidator;
+import com.mtmx.domain.validation.SwiftBic;
+import com.mtmx.domain.validation.SwiftCurrency;
+import com.mtmx.domain.validation.SwiftReference;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -21,6 +26,7 @@ import java.util.ArrayList;
  * Veritabanı entity değil, sadece parsing ve validation için kullanılır
  */
 @Data
+@GenerateValidator
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -35,7 +41,7 @@ public class Mt203 {
      */
     @NotBlank(message = "Transaction Reference (:20:) zorunludur")
     @Size(max = 16, message = "Transaction Reference (:20:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]+$", message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
+    @SwiftReference(message = "Transaction Reference (:20:) geçersiz karakterler içeriyor")
     private String transactionReference;
 
     /**
@@ -52,7 +58,7 @@ public class Mt203 {
      * Alıcı finansal kurum - MT203 için zorunlu
      */
     @Size(min = 8, max = 11, message = "Beneficiary Institution BIC (:58A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Beneficiary Institution BIC (:58A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Beneficiary Institution BIC (:58A:) geçersiz BIC formatı")
     private String beneficiaryInstitutionBic;
 
     @Size(max = 140, message = "Beneficiary Institution Name maksimum 140 karakter olabilir")
@@ -69,7 +75,7 @@ public class Mt203 {
      * OPSİYONEL ALAN
      */
     @Size(max = 16, message = "Related Reference (:21:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]*$", message = "Related Reference (:21:) geçersiz karakterler içeriyor")
+    @SwiftReference(allowEmpty = true, message = "Related Reference (:21:) geçersiz karakterler içeriyor")
     private String relatedReference;
 
     /**
@@ -103,7 +109,7 @@ public class Mt203 {
      * OPSİYONEL ALAN
      */
     @Size(min = 8, max = 11, message = "Sending Institution (:51A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sending Institution (:51A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sending Institution (:51A:) geçersiz BIC formatı")
     private String sendingInstitution;
 
     /**
@@ -112,7 +118,7 @@ public class Mt203 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Ordering Institution BIC (:52A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
     private String orderingInstitutionBic;
 
     @Size(max = 140, message = "Ordering Institution Name maksimum 140 karakter olabilir")
@@ -127,7 +133,7 @@ public class Mt203 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Sender's Correspondent BIC (:53A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
     private String sendersCorrespondentBic;
 
     @Size(max = 35, message = "Sender's Correspondent Account maksimum 35 karakter olabilir")
@@ -142,7 +148,7 @@ public class Mt203 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Receiver's Correspondent BIC (:54A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
     private String receiversCorrespondentBic;
 
     @Size(max = 35, message = "Receiver's Correspondent Account maksimum 35 karakter olabilir")
@@ -157,7 +163,7 @@ public class Mt203 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Intermediary BIC (:56A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
     private String intermediaryBic;
 
     @Size(max = 35, message = "Intermediary Account maksimum 35 karakter olabilir")
@@ -172,7 +178,7 @@ public class Mt203 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Account With Institution BIC (:57A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
     private String accountWithInstitutionBic;
 
     @Size(max = 35, message = "Account With Institution Account maksimum 35 karakter olabilir")
@@ -195,7 +201,7 @@ public class Mt203 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Sender's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Sender's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Sender's Charges Currency geçersiz format")
     private String sendersChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Sender's Charges Amount negatif olamaz")
@@ -207,7 +213,7 @@ public class Mt203 {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Receiver's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Receiver's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Receiver's Charges Currency geçersiz format")
     private String receiversChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Receiver's Charges Amount negatif olamaz")
@@ -239,18 +245,18 @@ public class Mt203 {
      * Toplam transfer sayısını döndürür
      */
     public int getTransactionCount() {
-        return transactions != null ? transactions.size() : 0;
+        return getTransactions() != null ? getTransactions().size() : 0;
     }
 
     /**
      * Tüm bireysel tutarların toplamını hesaplar
      */
     public BigDecimal calculateTotalAmount() {
-        if (transactions == null || transactions.isEmpty()) {
+        if (getTransactions() == null || getTransactions().isEmpty()) {
             return BigDecimal.ZERO;
         }
         
-        return transactions.stream()
+        return getTransactions().stream()
                 .filter(t -> t.getAmount() != null)
                 .map(Mt203Transaction::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -260,9 +266,9 @@ public class Mt203 {
      * Sum of Amounts ile hesaplanan toplam tutarı karşılaştırır
      */
     public boolean isAmountBalanced() {
-        if (sumOfAmounts == null) return false;
+        if (getSumOfAmounts() == null) return false;
         BigDecimal calculated = calculateTotalAmount();
-        return sumOfAmounts.compareTo(calculated) == 0;
+        return getSumOfAmounts().compareTo(calculated) == 0;
     }
 
     /**
@@ -270,9 +276,9 @@ public class Mt203 {
      */
     public boolean isValid() {
         return transactionReference != null && !transactionReference.trim().isEmpty() &&
-               sumOfAmounts != null && sumOfAmounts.compareTo(BigDecimal.ZERO) > 0 &&
+               getSumOfAmounts() != null && getSumOfAmounts().compareTo(BigDecimal.ZERO) > 0 &&
                hasBeneficiaryInstitution() &&
-               transactions != null && !transactions.isEmpty();
+               getTransactions() != null && !getTransactions().isEmpty();
     }
 
     /**
@@ -312,8 +318,12 @@ public class Mt203 {
             sb.append(":26T:").append(transactionTypeCode).append("\n");
         }
         
-        // Sum of Amounts
-        sb.append(":19:").append(sumOfAmounts.toString().replace(".", ",")).append("\n");
+        // Sum of Amounts - :19: para birimi taşımaz, ondalık basamak sayısı işlemlerin para biriminden gelir
+        if (getTransactions() != null && !getTransactions().isEmpty() && getTransactions().get(0).getCurrency() != null) {
+            sb.append(":19:").append(CurrencyAmounts.formatMt(getSumOfAmounts(), getTransactions().get(0).getCurrency())).append("\n");
+        } else {
+            sb.append(":19:").append(getSumOfAmounts().toString().replace(".", ",")).append("\n");
+        }
         
         // Optional institutions
         if (orderingInstitutionBic != null && !orderingInstitutionBic.trim().isEmpty()) {
@@ -353,14 +363,14 @@ public class Mt203 {
             sb.append(":71A:").append(detailsOfCharges).append("\n");
         }
         
-        if (sendersChargesCurrency != null && sendersChargesAmount != null) {
+        if (sendersChargesCurrency != null && getSendersChargesAmount() != null) {
             sb.append(":71F:").append(sendersChargesCurrency)
-              .append(sendersChargesAmount.toString().replace(".", ",")).append("\n");
+              .append(CurrencyAmounts.formatMt(getSendersChargesAmount(), sendersChargesCurrency)).append("\n");
         }
         
-        if (receiversChargesCurrency != null && receiversChargesAmount != null) {
+        if (receiversChargesCurrency != null && getReceiversChargesAmount() != null) {
             sb.append(":71G:").append(receiversChargesCurrency)
-              .append(receiversChargesAmount.toString().replace(".", ",")).append("\n");
+              .append(CurrencyAmounts.formatMt(getReceiversChargesAmount(), receiversChargesCurrency)).append("\n");
         }
         
         // Sender to Receiver Information
@@ -369,8 +379,8 @@ public class Mt203 {
         }
         
         // Transaction details
-        if (transactions != null) {
-            for (Mt203Transaction transaction : transactions) {
+        if (getTransactions() != null) {
+            for (Mt203Transaction transaction : getTransactions()) {
                 if (transaction != null) {
                     sb.append(transaction.toSwiftFormat());
                 }
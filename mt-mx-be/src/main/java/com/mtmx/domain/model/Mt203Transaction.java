@@ -1,5 +1,10 @@
 package com.mtmx.domain.model;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.validation.GenerateValidator;
+import com.mtmx.domain.validation.SwiftBic;
+import com.mtmx.domain.validation.SwiftCurrency;
+import com.mtmx.domain.validation.SwiftReference;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -19,6 +24,7 @@ import java.time.LocalDate;
  * Veritabanı entity değil, sadece parsing ve validation için kullanılır
  */
 @Data
+@GenerateValidator
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -33,7 +39,7 @@ public class Mt203Transaction {
      */
     @NotBlank(message = "Transaction Reference (:21:) zorunludur")
     @Size(max = 16, message = "Transaction Reference (:21:) maksimum 16 karakter olabilir")
-    @Pattern(regexp = "^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]+$", message = "Transaction Reference (:21:) geçersiz karakterler içeriyor")
+    @SwiftReference(message = "Transaction Reference (:21:) geçersiz karakterler içeriyor")
     private String transactionReference;
 
     /**
@@ -46,7 +52,7 @@ public class Mt203Transaction {
 
     @NotBlank(message = "Currency (:32A:) zorunludur")
     @Size(min = 3, max = 3, message = "Currency (:32A:) 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency (:32A:) geçersiz format")
+    @SwiftCurrency(message = "Currency (:32A:) geçersiz format")
     private String currency;
 
     @NotNull(message = "Amount (:32A:) zorunludur")
@@ -58,7 +64,7 @@ public class Mt203Transaction {
      * Alıcı finansal kurum - her transaction için zorunlu
      */
     @Size(min = 8, max = 11, message = "Beneficiary Institution BIC (:58A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Beneficiary Institution BIC (:58A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Beneficiary Institution BIC (:58A:) geçersiz BIC formatı")
     private String beneficiaryInstitutionBic;
 
     @Size(max = 140, message = "Beneficiary Institution Name maksimum 140 karakter olabilir")
@@ -102,7 +108,7 @@ public class Mt203Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Ordering Institution BIC (:52A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Ordering Institution BIC (:52A:) geçersiz BIC formatı")
     private String orderingInstitutionBic;
 
     @Size(max = 140, message = "Ordering Institution Name maksimum 140 karakter olabilir")
@@ -117,7 +123,7 @@ public class Mt203Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Sender's Correspondent BIC (:53A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Sender's Correspondent BIC (:53A:) geçersiz BIC formatı")
     private String sendersCorrespondentBic;
 
     @Size(max = 35, message = "Sender's Correspondent Account maksimum 35 karakter olabilir")
@@ -132,7 +138,7 @@ public class Mt203Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Receiver's Correspondent BIC (:54A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Receiver's Correspondent BIC (:54A:) geçersiz BIC formatı")
     private String receiversCorrespondentBic;
 
     @Size(max = 35, message = "Receiver's Correspondent Account maksimum 35 karakter olabilir")
@@ -147,7 +153,7 @@ public class Mt203Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Intermediary BIC (:56A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Intermediary BIC (:56A:) geçersiz BIC formatı")
     private String intermediaryBic;
 
     @Size(max = 35, message = "Intermediary Account maksimum 35 karakter olabilir")
@@ -162,7 +168,7 @@ public class Mt203Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 8, max = 11, message = "Account With Institution BIC (:57A:) 8-11 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$", message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
+    @SwiftBic(message = "Account With Institution BIC (:57A:) geçersiz BIC formatı")
     private String accountWithInstitutionBic;
 
     @Size(max = 35, message = "Account With Institution Account maksimum 35 karakter olabilir")
@@ -185,7 +191,7 @@ public class Mt203Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Sender's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Sender's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Sender's Charges Currency geçersiz format")
     private String sendersChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Sender's Charges Amount negatif olamaz")
@@ -197,7 +203,7 @@ public class Mt203Transaction {
      * OPSİYONEL ALANLAR
      */
     @Size(min = 3, max = 3, message = "Receiver's Charges Currency 3 karakter olmalı")
-    @Pattern(regexp = "^[A-Z]{3}$", message = "Receiver's Charges Currency geçersiz format")
+    @SwiftCurrency(message = "Receiver's Charges Currency geçersiz format")
     private String receiversChargesCurrency;
 
     @DecimalMin(value = "0.00", message = "Receiver's Charges Amount negatif olamaz")
@@ -221,14 +227,23 @@ public class Mt203Transaction {
                (beneficiaryInstitutionName != null && !beneficiaryInstitutionName.trim().isEmpty());
     }
 
+    /**
+     * :32A: / :32B: amount in minor units of the currency, without a {@link BigDecimal} for bound models
+     *
+     * @return minor units, {@link CurrencyAmounts#NO_AMOUNT} if missing or malformed
+     */
+    public long amountMinorUnits() {
+        return CurrencyAmounts.minorUnitsOrNone(getAmount(), getCurrency());
+    }
+
     /**
      * Transaction'ın temel geçerlilik kontrolü
      */
     public boolean isValid() {
         return transactionReference != null && !transactionReference.trim().isEmpty() &&
-               valueDate != null &&
+               getValueDate() != null &&
                currency != null && currency.length() == 3 &&
-               amount != null && amount.compareTo(BigDecimal.ZERO) > 0 &&
+               getAmount() != null && getAmount().compareTo(BigDecimal.ZERO) > 0 &&
                hasBeneficiaryInstitution();
     }
 
@@ -264,8 +279,8 @@ public class Mt203Transaction {
         }
         
         // Value Date, Currency, Amount
-        sb.append(":32A:").append(valueDate.toString().replace("-", "").substring(2))
-          .append(currency).append(amount.toString().replace(".", ",")).append("\n");
+        sb.append(":32A:").append(getValueDate().toString().replace("-", "").substring(2))
+          .append(currency).append(CurrencyAmounts.formatMt(getAmount(), currency)).append("\n");
         
         // Ordering Institution (transaction level - opsiyonel)
         if (orderingInstitutionBic != null && !orderingInstitutionBic.trim().isEmpty()) {
@@ -312,15 +327,15 @@ public class Mt203Transaction {
         }
         
         // Sender's Charges (transaction level - opsiyonel)
-        if (sendersChargesCurrency != null && sendersChargesAmount != null) {
+        if (sendersChargesCurrency != null && getSendersChargesAmount() != null) {
             sb.append(":71F:").append(sendersChargesCurrency)
-              .append(sendersChargesAmount.toString().replace(".", ",")).append("\n");
+              .append(CurrencyAmounts.formatMt(getSendersChargesAmount(), sendersChargesCurrency)).append("\n");
         }
         
         // Receiver's Charges (transaction level - opsiyonel)
-        if (receiversChargesCurrency != null && receiversChargesAmount != null) {
+        if (receiversChargesCurrency != null && getReceiversChargesAmount() != null) {
             sb.append(":71G:").append(receiversChargesCurrency)
-              .append(receiversChargesAmount.toString().replace(".", ",")).append("\n");
+              .append(CurrencyAmounts.formatMt(getReceiversChargesAmount(), receiversChargesCurrency)).append("\n");
         }
         
         // Sender to Receiver Information (transaction level - opsiyonel)
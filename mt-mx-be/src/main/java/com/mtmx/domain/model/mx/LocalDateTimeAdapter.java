@@ -0,0 +1,35 @@
+package com.mtmx.domain.model.mx;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * ISODateTime mapping of {@code CreDtTm}. JAXB cannot instantiate {@link LocalDateTime} by itself,
+ * so without this adapter documents carrying a creation time could not be unmarshalled.
+ * Values with an offset or {@code Z} are read as their local date-time.
+ */
+public class LocalDateTimeAdapter extends XmlAdapter<String, LocalDateTime> {
+
+    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
+
+    @Override
+    public LocalDateTime unmarshal(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            return OffsetDateTime.parse(trimmed).toLocalDateTime();
+        }
+    }
+
+    @Override
+    public String marshal(LocalDateTime value) {
+        return value != null ? value.format(ISO_FORMATTER) : null;
+    }
+}
@@ -3,6 +3,7 @@ package com.mtmx.domain.model.mx;
 import lombok.Data;
 
 import javax.xml.bind.annotation.*;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -37,6 +38,7 @@ public class Pacs009Message {
         private String msgId;
 
         @XmlElement(name = "CreDtTm", required = true)
+        @XmlJavaTypeAdapter(LocalDateTimeAdapter.class)
         private LocalDateTime creDtTm;
 
         @XmlElement(name = "NbOfTxs", required = true)
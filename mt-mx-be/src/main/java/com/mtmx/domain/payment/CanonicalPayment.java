@@ -0,0 +1,86 @@
+package com.mtmx.domain.payment;
+
+import com.mtmx.domain.enums.MessageType;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Format-neutral content of a converted payment: what the MT and the MX representation of a
+ * message have in common. Built once when a message is converted, persisted in binary form
+ * ({@link CanonicalPaymentCodec}) next to the message, and used to generate either text format
+ * without parsing the other one again.
+ * <p>
+ * Group level fields map to the MX group header ({@code MsgId}, {@code CtrlSum},
+ * {@code TtlIntrBkSttlmAmt}) and to the MT {@code :20:} / {@code :32A:} fields; every
+ * {@link Transaction} maps to a {@code CdtTrfTxInf}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class CanonicalPayment {
+
+    /** MT type of the message; decides between pacs.008 (customer) and pacs.009 (FI) */
+    MessageType messageType;
+
+    /** Group reference, MT {@code :20:} / MX {@code MsgId} */
+    String messageId;
+
+    /** Settlement currency of the group */
+    String currency;
+
+    /** Total interbank settlement amount, MT {@code :32A:} / MX {@code TtlIntrBkSttlmAmt} */
+    BigDecimal settlementAmount;
+
+    /** Sum of the transaction amounts, MX {@code CtrlSum}; null if not stated */
+    BigDecimal controlSum;
+
+    @Singular
+    List<Transaction> transactions;
+
+    /**
+     * Single credit transfer of the group
+     */
+    @Value
+    @Builder(toBuilder = true)
+    public static class Transaction {
+
+        /** MX {@code InstrId} */
+        String instructionId;
+
+        /** MX {@code EndToEndId}, MT {@code :20:} of a single transfer */
+        String endToEndId;
+
+        String currency;
+
+        BigDecimal amount;
+
+        /** pacs.008 {@code Dbtr/Nm} */
+        String debtorName;
+
+        /** pacs.008 {@code Cdtr/Nm} */
+        String creditorName;
+
+        /** pacs.009 {@code InstdAgt/FinInstnId/BICFI} */
+        String instructedAgentBic;
+    }
+
+    /**
+     * True for customer credit transfers (MT102, MT103 / pacs.008), false for financial
+     * institution transfers (MT202, MT202COV, MT203 / pacs.009)
+     */
+    public boolean isCustomerTransfer() {
+        return messageType == MessageType.MT102 || messageType == MessageType.MT103;
+    }
+
+    /**
+     * First transaction, the one a single MT message is generated from
+     *
+     * @return transaction or null for an empty group
+     */
+    public Transaction firstTransaction() {
+        return transactions.isEmpty() ? null : transactions.get(0);
+    }
+}
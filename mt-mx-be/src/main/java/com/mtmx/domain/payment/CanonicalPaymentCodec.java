@@ -0,0 +1,285 @@
+package com.mtmx.domain.payment;
+
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.header.BicInterner;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact binary form of a {@link CanonicalPayment}.
+ * <pre>
+ * version        1 byte
+ * message type   1 byte, 0 = null (fixed codes, independent of the enum order)
+ * string         varint (UTF-8 length + 1), 0 = null, then the bytes
+ * decimal        0 = null | 1, zigzag scale, zigzag unscaled long | 2, zigzag scale, length, two's complement bytes
+ * transactions   varint count, then the transaction fields in declaration order
+ * </pre>
+ * A typical single transaction payment takes well under 100 bytes. BICs are interned on decode.
+ */
+public final class CanonicalPaymentCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int NULL_DECIMAL = 0;
+    private static final int LONG_DECIMAL = 1;
+    private static final int BIG_DECIMAL = 2;
+    private static final int INITIAL_CAPACITY = 128;
+
+    private CanonicalPaymentCodec() {
+    }
+
+    public static byte[] encode(CanonicalPayment payment) {
+        Writer out = new Writer();
+        out.writeByte(VERSION);
+        out.writeByte(typeCode(payment.getMessageType()));
+        out.writeString(payment.getMessageId());
+        out.writeString(payment.getCurrency());
+        out.writeDecimal(payment.getSettlementAmount());
+        out.writeDecimal(payment.getControlSum());
+        out.writeVarLong(payment.getTransactions().size());
+        for (CanonicalPayment.Transaction transaction : payment.getTransactions()) {
+            out.writeString(transaction.getInstructionId());
+            out.writeString(transaction.getEndToEndId());
+            out.writeString(transaction.getCurrency());
+            out.writeDecimal(transaction.getAmount());
+            out.writeString(transaction.getDebtorName());
+            out.writeString(transaction.getCreditorName());
+            out.writeString(transaction.getInstructedAgentBic());
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not a canonical payment of a known version
+     */
+    public static CanonicalPayment decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("Empty canonical payment");
+        }
+        Reader in = new Reader(bytes);
+        try {
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported canonical payment version: " + version);
+            }
+            CanonicalPayment.CanonicalPaymentBuilder payment = CanonicalPayment.builder()
+                    .messageType(messageType(in.readByte()))
+                    .messageId(in.readString())
+                    .currency(in.readString())
+                    .settlementAmount(in.readDecimal())
+                    .controlSum(in.readDecimal());
+            long count = in.readVarLong();
+            if (count < 0 || count > bytes.length) {
+                throw new IllegalArgumentException("Invalid transaction count: " + count);
+            }
+            for (long i = 0; i < count; i++) {
+                payment.transaction(CanonicalPayment.Transaction.builder()
+                        .instructionId(in.readString())
+                        .endToEndId(in.readString())
+                        .currency(in.readString())
+                        .amount(in.readDecimal())
+                        .debtorName(in.readString())
+                        .creditorName(in.readString())
+                        .instructedAgentBic(BicInterner.shared().intern(in.readString()))
+                        .build());
+            }
+            if (in.position != bytes.length) {
+                throw new IllegalArgumentException("Trailing bytes after canonical payment");
+            }
+            return payment.build();
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated canonical payment", e);
+        }
+    }
+
+    private static int typeCode(MessageType type) {
+        if (type == null) {
+            return 0;
+        }
+        switch (type) {
+            case MT102:
+                return 1;
+            case MT103:
+                return 2;
+            case MT202:
+                return 3;
+            case MT202COV:
+                return 4;
+            case MT203:
+                return 5;
+            default:
+                throw new IllegalArgumentException("No type code for " + type);
+        }
+    }
+
+    private static MessageType messageType(int code) {
+        switch (code) {
+            case 0:
+                return null;
+            case 1:
+                return MessageType.MT102;
+            case 2:
+                return MessageType.MT103;
+            case 3:
+                return MessageType.MT202;
+            case 4:
+                return MessageType.MT202COV;
+            case 5:
+                return MessageType.MT203;
+            default:
+                throw new IllegalArgumentException("Unknown message type code: " + code);
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            long rest = value;
+            while ((rest & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((rest & 0x7F) | 0x80);
+                rest >>>= 7;
+            }
+            buffer[size++] = (byte) rest;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            writeBytes(bytes);
+        }
+
+        void writeDecimal(BigDecimal value) {
+            if (value == null) {
+                writeByte(NULL_DECIMAL);
+                return;
+            }
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < Long.SIZE) {
+                writeByte(LONG_DECIMAL);
+                writeZigZag(value.scale());
+                writeZigZag(unscaled.longValue());
+            } else {
+                byte[] bytes = unscaled.toByteArray();
+                writeByte(BIG_DECIMAL);
+                writeZigZag(value.scale());
+                writeVarLong(bytes.length);
+                writeBytes(bytes);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at " + position);
+        }
+
+        long readZigZag() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("Invalid length " + length + " at " + position);
+            }
+            return (int) length;
+        }
+
+        String readString() {
+            long marker = readVarLong();
+            if (marker == 0) {
+                return null;
+            }
+            long length = marker - 1;
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("Invalid string length " + length + " at " + position);
+            }
+            String value = new String(bytes, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        BigDecimal readDecimal() {
+            int kind = readByte();
+            switch (kind) {
+                case NULL_DECIMAL:
+                    return null;
+                case LONG_DECIMAL:
+                    int longScale = scale(readZigZag());
+                    return BigDecimal.valueOf(readZigZag(), longScale);
+                case BIG_DECIMAL:
+                    int scale = scale(readZigZag());
+                    int length = readLength();
+                    BigInteger unscaled = new BigInteger(Arrays.copyOfRange(bytes, position, position + length));
+                    position += length;
+                    return new BigDecimal(unscaled, scale);
+                default:
+                    throw new IllegalArgumentException("Unknown decimal kind " + kind + " at " + position);
+            }
+        }
+
+        private static int scale(long scale) {
+            if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid decimal scale: " + scale);
+            }
+            return (int) scale;
+        }
+    }
+}
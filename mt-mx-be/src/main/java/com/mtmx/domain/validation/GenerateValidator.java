@@ -0,0 +1,23 @@
+package com.mtmx.domain.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a reflection-free {@link ModelValidator} for the annotated model at build time.
+ * <p>
+ * The processor ({@code com.mtmx.domain.validation.processor.ModelValidatorProcessor}) emits
+ * {@code <Model>ModelValidator} next to the model. It translates the field constraints
+ * ({@code @NotNull}, {@code @NotBlank}, {@code @Size}, {@code @Pattern}, {@code @DecimalMin},
+ * {@link SwiftBic}, {@link SwiftCurrency}, {@link SwiftReference}) into plain Java checks with the
+ * same messages Hibernate Validator reports. Values are read through the (Lombok) getters; any
+ * other constraint fails the build instead of being silently skipped.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateValidator {
+}
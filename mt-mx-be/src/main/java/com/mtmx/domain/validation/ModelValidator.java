@@ -0,0 +1,23 @@
+package com.mtmx.domain.validation;
+
+import java.util.List;
+
+/**
+ * Constraint checks of one model type, generated for classes annotated with {@link GenerateValidator}
+ *
+ * @param <T> model type
+ */
+public interface ModelValidator<T> {
+
+    Class<T> getModelType();
+
+    /**
+     * All violations, in field declaration order
+     */
+    List<ModelViolation> validate(T model);
+
+    /**
+     * Stops at the first violation and allocates nothing
+     */
+    boolean isValid(T model);
+}
@@ -0,0 +1,56 @@
+package com.mtmx.domain.validation;
+
+import java.util.List;
+
+/**
+ * Lookup of the generated {@link ModelValidator}s by model type.
+ * <p>
+ * The {@code <Model>ModelValidator} class is resolved once per model type and cached; callers that
+ * know the type statically can use the generated class' {@code INSTANCE} directly. Subclasses of a
+ * model without a validator of their own (e.g. the lazily decoding models of the MT binder) use the
+ * validator of the nearest annotated superclass.
+ */
+public final class ModelValidators {
+
+    static final String SUFFIX = "ModelValidator";
+
+    private static final ClassValue<ModelValidator<?>> VALIDATORS = new ClassValue<ModelValidator<?>>() {
+        @Override
+        protected ModelValidator<?> computeValue(Class<?> type) {
+            for (Class<?> candidate = type; candidate != null && candidate != Object.class;
+                 candidate = candidate.getSuperclass()) {
+                try {
+                    Class<?> generated = Class.forName(candidate.getName() + SUFFIX, true, candidate.getClassLoader());
+                    return (ModelValidator<?>) generated.getField("INSTANCE").get(null);
+                } catch (ClassNotFoundException e) {
+                    // üst sınıfta aranır
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalArgumentException("Invalid generated validator for " + candidate.getName(), e);
+                }
+            }
+            throw new IllegalArgumentException("No generated validator for " + type.getName()
+                    + " - is it annotated with @GenerateValidator?");
+        }
+    };
+
+    private ModelValidators() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if no validator was generated for the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ModelValidator<T> of(Class<T> type) {
+        return (ModelValidator<T>) VALIDATORS.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<ModelViolation> validate(Object model) {
+        return ((ModelValidator<Object>) VALIDATORS.get(model.getClass())).validate(model);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static boolean isValid(Object model) {
+        return ((ModelValidator<Object>) VALIDATORS.get(model.getClass())).isValid(model);
+    }
+}
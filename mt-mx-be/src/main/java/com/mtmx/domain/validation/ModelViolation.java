@@ -0,0 +1,16 @@
+package com.mtmx.domain.validation;
+
+import lombok.Value;
+
+/**
+ * Constraint violation reported by a generated {@link ModelValidator}
+ */
+@Value
+public class ModelViolation {
+
+    /** Field name, the same as {@code ConstraintViolation#getPropertyPath()} */
+    String property;
+
+    /** Constraint message as declared on the field */
+    String message;
+}
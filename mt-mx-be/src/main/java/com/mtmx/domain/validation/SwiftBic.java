@@ -0,0 +1,35 @@
+package com.mtmx.domain.validation;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * BIC format (8 or 11 characters), checked by {@link SwiftFormats#isBic(CharSequence)}.
+ * {@code null} is considered valid, as with {@code @Pattern}.
+ */
+@Documented
+@Constraint(validatedBy = SwiftBic.Validator.class)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SwiftBic {
+
+    String message() default "Geçersiz BIC formatı";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<SwiftBic, CharSequence> {
+        @Override
+        public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+            return value == null || SwiftFormats.isBic(value);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mtmx.domain.validation;
+
+import com.mtmx.domain.currency.CurrencyTable;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Active ISO 4217 currency code, checked against {@link CurrencyTable}.
+ * {@code null} is considered valid.
+ */
+@Documented
+@Constraint(validatedBy = SwiftCurrency.Validator.class)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SwiftCurrency {
+
+    String message() default "Geçersiz currency formatı";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<SwiftCurrency, CharSequence> {
+        @Override
+        public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+            return value == null || CurrencyTable.isValid(value);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.mtmx.domain.validation;
+
+/**
+ * Allocation-free SWIFT format checks on {@link CharSequence} ranges.
+ * <p>
+ * Character classes are resolved through a single 128-entry lookup table, so every check is a
+ * linear scan without {@code Pattern}/{@code Matcher} instances or substrings. Each method has an
+ * overload taking a {@code [from, to)} range so callers can validate a field in place inside the
+ * raw message.
+ * <ul>
+ *     <li>x charset: {@code a-z A-Z 0-9 / - ? : ( ) . , ' + space CrLf}</li>
+ *     <li>y charset: {@code A-Z 0-9 . , - ( ) / = ' + : ? ! " % & * < > ; space}</li>
+ *     <li>z charset: x and y characters plus {@code # @ _ { CrLf}</li>
+ * </ul>
+ */
+public final class SwiftFormats {
+
+    private static final int UPPER = 1;
+    private static final int LOWER = 1 << 1;
+    private static final int DIGIT = 1 << 2;
+    private static final int X_SPECIAL = 1 << 3;
+    private static final int CRLF = 1 << 4;
+    private static final int Y_SPECIAL = 1 << 5;
+    private static final int Z_SPECIAL = 1 << 6;
+
+    public static final int CHARSET_X = UPPER | LOWER | DIGIT | X_SPECIAL | CRLF;
+    public static final int CHARSET_Y = UPPER | DIGIT | Y_SPECIAL;
+    public static final int CHARSET_Z = CHARSET_X | Y_SPECIAL | Z_SPECIAL;
+    /** Upper case x charset without line breaks - references such as :20: and :21: */
+    public static final int CHARSET_REFERENCE = UPPER | DIGIT | X_SPECIAL;
+    /** Upper case x charset with line breaks - narrative fields */
+    public static final int CHARSET_NARRATIVE = UPPER | DIGIT | X_SPECIAL | CRLF;
+
+    public static final int REFERENCE_MAX_LENGTH = 16;
+    public static final int NARRATIVE_MAX_LENGTH = 210;
+    public static final int AMOUNT_MAX_INTEGER_DIGITS = 12;
+    public static final int AMOUNT_MAX_FRACTION_DIGITS = 2;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CLASSES[c] |= UPPER;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] |= LOWER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] |= DIGIT;
+        }
+        mark("/-?:().,'+ ", X_SPECIAL);
+        mark("\r\n", CRLF);
+        mark(".,-()/='+:?!\"%&*<>; ", Y_SPECIAL);
+        mark("#@_{", Z_SPECIAL);
+    }
+
+    private SwiftFormats() {
+    }
+
+    private static void mark(String chars, int flag) {
+        for (int i = 0; i < chars.length(); i++) {
+            CLASSES[chars.charAt(i)] |= flag;
+        }
+    }
+
+    private static boolean is(char c, int mask) {
+        return c < 128 && (CLASSES[c] & mask) != 0;
+    }
+
+    /**
+     * Every character of the range belongs to the charset mask (e.g. {@link #CHARSET_X})
+     */
+    public static boolean isCharset(CharSequence s, int from, int to, int mask) {
+        for (int i = from; i < to; i++) {
+            if (!is(s.charAt(i), mask)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isCharset(CharSequence s, int mask) {
+        return s != null && isCharset(s, 0, s.length(), mask);
+    }
+
+    /**
+     * BIC: 4 letter institution, 2 letter country, 2 alphanumeric location, optional 3 alphanumeric branch
+     */
+    public static boolean isBic(CharSequence s, int from, int to) {
+        int length = to - from;
+        if (length != 8 && length != 11) {
+            return false;
+        }
+        for (int i = from; i < from + 6; i++) {
+            if (!is(s.charAt(i), UPPER)) {
+                return false;
+            }
+        }
+        for (int i = from + 6; i < to; i++) {
+            if (!is(s.charAt(i), UPPER | DIGIT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isBic(CharSequence s) {
+        return s != null && isBic(s, 0, s.length());
+    }
+
+    /**
+     * ISO 4217 code format: three upper case letters
+     */
+    public static boolean isCurrency(CharSequence s, int from, int to) {
+        return to - from == 3
+                && is(s.charAt(from), UPPER)
+                && is(s.charAt(from + 1), UPPER)
+                && is(s.charAt(from + 2), UPPER);
+    }
+
+    public static boolean isCurrency(CharSequence s) {
+        return s != null && isCurrency(s, 0, s.length());
+    }
+
+    /**
+     * SWIFT amount with {@code ,} as decimal separator: 1-12 integer digits, optionally 1-2 fraction digits
+     */
+    public static boolean isAmount(CharSequence s, int from, int to) {
+        return isAmount(s, from, to, AMOUNT_MAX_INTEGER_DIGITS, AMOUNT_MAX_FRACTION_DIGITS);
+    }
+
+    public static boolean isAmount(CharSequence s) {
+        return s != null && isAmount(s, 0, s.length());
+    }
+
+    public static boolean isAmount(CharSequence s, int from, int to, int maxIntegerDigits, int maxFractionDigits) {
+        int i = from;
+        while (i < to && is(s.charAt(i), DIGIT)) {
+            i++;
+        }
+        int integerDigits = i - from;
+        if (integerDigits < 1 || integerDigits > maxIntegerDigits) {
+            return false;
+        }
+        if (i == to) {
+            return true;
+        }
+        if (s.charAt(i) != ',') {
+            return false;
+        }
+        int fractionStart = ++i;
+        while (i < to && is(s.charAt(i), DIGIT)) {
+            i++;
+        }
+        int fractionDigits = i - fractionStart;
+        return i == to && fractionDigits >= 1 && fractionDigits <= maxFractionDigits;
+    }
+
+    /**
+     * Reference fields (:20:, :21:): 1-16 characters of the upper case x charset
+     */
+    public static boolean isReference(CharSequence s, int from, int to) {
+        int length = to - from;
+        return length >= 1 && length <= REFERENCE_MAX_LENGTH && isCharset(s, from, to, CHARSET_REFERENCE);
+    }
+
+    public static boolean isReference(CharSequence s) {
+        return s != null && isReference(s, 0, s.length());
+    }
+
+    /**
+     * Narrative fields: 1-210 characters of the upper case x charset including line breaks
+     */
+    public static boolean isNarrative(CharSequence s, int from, int to) {
+        int length = to - from;
+        return length >= 1 && length <= NARRATIVE_MAX_LENGTH && isCharset(s, from, to, CHARSET_NARRATIVE);
+    }
+
+    public static boolean isNarrative(CharSequence s) {
+        return s != null && isNarrative(s, 0, s.length());
+    }
+
+    /**
+     * Non-empty run of ASCII digits
+     */
+    public static boolean isDigits(CharSequence s, int from, int to) {
+        return to > from && isCharset(s, from, to, DIGIT);
+    }
+
+    public static boolean isDigit(char c) {
+        return is(c, DIGIT);
+    }
+
+    public static boolean isUpper(char c) {
+        return is(c, UPPER);
+    }
+}
@@ -0,0 +1,53 @@
+package com.mtmx.domain.validation;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reference characters (upper case x charset without line breaks), checked by
+ * {@link SwiftFormats#isCharset(CharSequence, int)}. Length limits stay on {@code @Size};
+ * {@code null} is considered valid.
+ */
+@Documented
+@Constraint(validatedBy = SwiftReference.Validator.class)
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SwiftReference {
+
+    String message() default "Referans geçersiz karakterler içeriyor";
+
+    /** Accept the empty string (optional references) */
+    boolean allowEmpty() default false;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class Validator implements ConstraintValidator<SwiftReference, CharSequence> {
+
+        private boolean allowEmpty;
+
+        @Override
+        public void initialize(SwiftReference annotation) {
+            this.allowEmpty = annotation.allowEmpty();
+        }
+
+        @Override
+        public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+            if (value == null) {
+                return true;
+            }
+            if (value.length() == 0) {
+                return allowEmpty;
+            }
+            return SwiftFormats.isCharset(value, SwiftFormats.CHARSET_REFERENCE);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.mtmx.repository;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Search filters for stored SWIFT messages; every filter is optional and set filters are
+ * combined with AND. Each one is backed by an index on {@code swift_messages}.
+ */
+@Data
+public class SwiftMessageFilter {
+
+    /** MT {@code :20:}, exact match */
+    private String reference;
+
+    /** UETR, case insensitive */
+    private String uetr;
+
+    private String senderBic;
+
+    private String receiverBic;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate valueDate;
+
+    /** Created at or after */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    /** Created before */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    /**
+     * True if the reference is the only filter, the most frequent search
+     */
+    public boolean isReferenceOnly() {
+        return StringUtils.hasText(reference) && !StringUtils.hasText(uetr) && !StringUtils.hasText(senderBic)
+                && !StringUtils.hasText(receiverBic) && valueDate == null && createdFrom == null && createdTo == null;
+    }
+}
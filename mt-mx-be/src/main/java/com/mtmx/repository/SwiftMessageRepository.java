@@ -1,19 +1,40 @@
 package com.mtmx.repository;
 
 import com.mtmx.domain.entity.SwiftMessage;
-import com.mtmx.domain.enums.MessageType;import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.compression.CompressedText;
+import com.mtmx.domain.compression.PayloadCompression;
+import com.mtmx.domain.enums.ErrorCode;
+import com.mtmx.domain.enums.MessageStatus;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for the {@link SwiftMessage} entity.
  * Provides standard CRUD operations and pagination support out of the box.
  */
 @Repository
-public interface SwiftMessageRepository extends JpaRepository<SwiftMessage, Long> {
-    
+public interface SwiftMessageRepository extends JpaRepository<SwiftMessage, Long>,
+        JpaSpecificationExecutor<SwiftMessage> {
+
+    /** Rows per round trip of the export cursor */
+    String EXPORT_FETCH_SIZE = "500";
+
     /**
      * Find all messages by message type with pagination.
      * @param messageType the message type to filter by.
@@ -21,4 +42,170 @@ public interface SwiftMessageRepository extends JpaRepository<SwiftMessage, Long
      * @return the page of entities.
      */
     Page<SwiftMessage> findByMessageType(MessageType messageType, Pageable pageable);
-} 
\ No newline at end of file
+
+    /**
+     * Messages of a type created in {@code [from, to)}, newest first. The bounds on
+     * {@code created_at} let PostgreSQL prune the monthly partitions outside the range.
+     * @param messageType the message type to filter by.
+     * @param from inclusive lower bound of the creation time.
+     * @param to exclusive upper bound of the creation time.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessage> findByMessageTypeAndCreatedAtGreaterThanEqualAndCreatedAtLessThanOrderByCreatedAtDesc(
+            MessageType messageType, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * Find messages by MT {@code :20:} reference, newest first.
+     * @param transactionReference the reference.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessage> findByTransactionReferenceOrderByCreatedAtDesc(String transactionReference, Pageable pageable);
+
+    /**
+     * Store MX generated on read and its validation outcome, unless the message got an MX in
+     * the meantime. Runs as a bulk update, so {@code updatedAt} is left untouched.
+     * The MX is compressed if {@link PayloadCompression} is enabled.
+     * @param id the id of the message.
+     * @param generatedMxMessage the generated MX.
+     * @param verdict the XSD validation verdict of the MX.
+     * @param validationError the XSD validator message, null if the MX is valid.
+     * @param mxSchema the schema the MX was validated against.
+     * @return the number of updated rows (0 or 1).
+     */
+    default int writeBackGeneratedMx(Long id, String generatedMxMessage, ValidationVerdict verdict,
+                                     String validationError, String mxSchema) {
+        CompressedText compressed = PayloadCompression.compress(generatedMxMessage);
+        return storeGeneratedMx(id, compressed != null ? null : generatedMxMessage, compressed,
+                MessageStatus.CONVERTED, verdict, ErrorCode.ofValidation(verdict, validationError),
+                SwiftMessage.truncateErrorMessage(validationError), mxSchema);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("update SwiftMessage m set m.generatedMxMessage = :mx, m.generatedMxMessageCompressed = :mxz, "
+            + "m.status = :status, m.validationVerdict = :verdict, m.errorCode = :errorCode, "
+            + "m.errorMessage = :errorMessage, m.mxSchema = :mxSchema "
+            + "where m.id = :id and m.generatedMxMessage is null and m.generatedMxMessageCompressed is null")
+    int storeGeneratedMx(@Param("id") Long id, @Param("mx") String generatedMxMessage,
+                         @Param("mxz") CompressedText generatedMxMessageCompressed,
+                         @Param("status") MessageStatus status, @Param("verdict") ValidationVerdict verdict,
+                         @Param("errorCode") ErrorCode errorCode, @Param("errorMessage") String errorMessage,
+                         @Param("mxSchema") String mxSchema);
+
+    /**
+     * Messages in a lifecycle status, newest first; served by the status index.
+     * @param status the status.
+     * @param messageType the message type.
+     * @param since only messages created at or after this time.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessage> findByStatusAndMessageTypeAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            MessageStatus status, MessageType messageType, LocalDateTime since, Pageable pageable);
+
+    /**
+     * Messages in a lifecycle status of any type, newest first.
+     * @param status the status.
+     * @param since only messages created at or after this time.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessage> findByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            MessageStatus status, LocalDateTime since, Pageable pageable);
+
+    /**
+     * Messages with a validation verdict, newest first; served by the verdict index.
+     * @param verdict the verdict.
+     * @param since only messages created at or after this time.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessage> findByValidationVerdictAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+            ValidationVerdict verdict, LocalDateTime since, Pageable pageable);
+
+    /**
+     * Ids of messages with a plain MT or MX column, in id order.
+     * @param afterId only ids greater than this are returned.
+     * @param pageable the batch size.
+     * @return the ids.
+     */
+    @Query("select m.id from SwiftMessage m where m.id > :afterId "
+            + "and (m.rawMtMessage is not null or m.generatedMxMessage is not null) order by m.id")
+    List<Long> findUncompressedIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Replace the texts of a message with their compressed form, unless the message was
+     * modified since it was read. Runs as a bulk update, so {@code updatedAt} is left untouched.
+     * @param id the id of the message.
+     * @param updatedAt the version the texts were read at.
+     * @param rawMtMessage the compressed MT, null if there is none.
+     * @param generatedMxMessage the compressed MX, null if there is none.
+     * @return the number of updated rows (0 or 1).
+     */
+    @Modifying
+    @Transactional
+    @Query("update SwiftMessage m set m.rawMtMessage = null, m.rawMtMessageCompressed = :mt, "
+            + "m.generatedMxMessage = null, m.generatedMxMessageCompressed = :mx "
+            + "where m.id = :id and m.updatedAt = :updatedAt")
+    int compressTexts(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt,
+                      @Param("mt") CompressedText rawMtMessage, @Param("mx") CompressedText generatedMxMessage);
+
+    /**
+     * Ids of messages with neither a transaction reference nor a UETR, in id order.
+     * @param afterId only ids greater than this are returned.
+     * @param pageable the batch size.
+     * @return the ids.
+     */
+    @Query("select m.id from SwiftMessage m where m.id > :afterId "
+            + "and m.transactionReference is null and m.uetr is null order by m.id")
+    List<Long> findIdsWithoutBusinessKeys(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Store the reference and UETR extracted from the MT of a message, unless the message was
+     * modified since it was read. Bulk update: {@code updatedAt} is left unchanged.
+     * @param id the message id.
+     * @param updatedAt the modification time the keys were extracted at.
+     * @param transactionReference the :20: reference.
+     * @param uetr the UETR.
+     * @return number of updated rows, 0 if the message changed or no longer exists.
+     */
+    @Modifying
+    @Transactional
+    @Query("update SwiftMessage m set m.transactionReference = :reference, m.uetr = :uetr "
+            + "where m.id = :id and m.updatedAt = :updatedAt")
+    int backfillBusinessKeys(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt,
+                             @Param("reference") String transactionReference, @Param("uetr") String uetr);
+
+    /**
+     * Ids of messages created before a point in time, oldest first; one retention purge batch.
+     * @param cutoff only messages created before this time are returned.
+     * @param pageable the batch size.
+     * @return the ids.
+     */
+    @Query("select m.id from SwiftMessage m where m.createdAt < :cutoff order by m.createdAt")
+    List<Long> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Messages created in {@code [from, to)} in creation order, read through a server-side
+     * cursor of {@link #EXPORT_FETCH_SIZE} rows instead of loading the whole result. Must be
+     * consumed and closed inside a read-only transaction; the caller detaches every entity once
+     * written, so memory stays flat however many rows match.
+     * @param messageType the message type, null for all types.
+     * @param status the lifecycle status, null for all.
+     * @param from inclusive lower bound of the creation time.
+     * @param to exclusive upper bound of the creation time.
+     * @return the stream of entities.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select m from SwiftMessage m where m.createdAt >= :from and m.createdAt < :to "
+            + "and (:type is null or m.messageType = :type) and (:status is null or m.status = :status) "
+            + "order by m.createdAt, m.id")
+    Stream<SwiftMessage> streamForExport(@Param("type") MessageType messageType, @Param("status") MessageStatus status,
+                                         @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,49 @@
+package com.mtmx.repository;
+
+import com.mtmx.domain.entity.SwiftMessage;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Criteria queries over {@link SwiftMessage}. Only the filters that are set become predicates,
+ * so the database sees a plain equality / range query it can answer from the matching index
+ * instead of {@code (:x is null or col = :x)} conditions that defeat index use.
+ */
+public final class SwiftMessageSpecifications {
+
+    private SwiftMessageSpecifications() {
+    }
+
+    public static Specification<SwiftMessage> matching(SwiftMessageFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (StringUtils.hasText(filter.getReference())) {
+                predicates.add(cb.equal(root.get("transactionReference"), filter.getReference().trim()));
+            }
+            if (StringUtils.hasText(filter.getUetr())) {
+                predicates.add(cb.equal(root.get("uetr"), filter.getUetr().trim().toLowerCase(Locale.ROOT)));
+            }
+            if (StringUtils.hasText(filter.getSenderBic())) {
+                predicates.add(cb.equal(root.get("senderBic"), filter.getSenderBic().trim().toUpperCase(Locale.ROOT)));
+            }
+            if (StringUtils.hasText(filter.getReceiverBic())) {
+                predicates.add(cb.equal(root.get("receiverBic"), filter.getReceiverBic().trim().toUpperCase(Locale.ROOT)));
+            }
+            if (filter.getValueDate() != null) {
+                predicates.add(cb.equal(root.get("valueDate"), filter.getValueDate()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -1,15 +1,28 @@
 package com.mtmx.service;
 
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.cache.ContentKey;
+import com.mtmx.service.cache.ConversionStamps;
+import com.mtmx.service.cache.ConversionCoalescer;
+import com.mtmx.service.cache.ConversionResultCache;
+import com.mtmx.service.cache.ConversionResultCache.Operation;
+import com.mtmx.service.converter.CanonicalPaymentConverter;
 import com.mtmx.service.converter.ConversionException;
 import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.converter.MtConversion;
 import com.mtmx.service.converter.MtMessageValidator;
+import com.mtmx.service.converter.MtToMxPaymentConverter;
 import com.mtmx.service.converter.MxMessageValidator;
 import com.mtmx.service.converter.impl.*;
+import com.mtmx.service.payment.CanonicalPayments;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.PostConstruct;
+import javax.xml.bind.JAXBException;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,9 +53,16 @@ public class ConversionService {
     private final MxToMt203Converter mxToMt203Converter;
     private final MxToMt202CovConverter mxToMt202CovConverter;
 
+    // Aynı içerik için tekrar parse/marshal yapmamak adına sonuç cache'i
+    private final ConversionResultCache conversionResultCache;
+    // Aynı anda gelen aynı içerikli istekler tek hesaplamayı paylaşır
+    private final ConversionCoalescer conversionCoalescer;
+
     // Converter registry for easy lookup
     private final Map<String, MessageConverter<String, String>> mtToMxConverters = new HashMap<>();
     private final Map<String, MessageConverter<String, String>> mxToMtConverters = new HashMap<>();
+    private final Map<String, MtToMxPaymentConverter> mtPaymentConverters = new HashMap<>();
+    private final Map<String, CanonicalPaymentConverter<String>> mxPaymentConverters = new HashMap<>();
 
     /**
      * Initialize converter registries after dependency injection
@@ -60,6 +80,15 @@ public class ConversionService {
         mxToMtConverters.put("pacs.008.001.08", mxToMt103Converter); // pacs.008 -> MT103 (varsayılan)
         mxToMtConverters.put("pacs.009.001.08", mxToMt202Converter); // pacs.009 -> MT202
 
+        // Canonical payment okuyucuları - aynı converter'lar, tek parse ile
+        mtPaymentConverters.put("103", mt103ToMxConverter);
+        mtPaymentConverters.put("202", mt202ToMxConverter);
+        mtPaymentConverters.put("102", mt102ToMxConverter);
+        mtPaymentConverters.put("203", mt203ToMxConverter);
+        mtPaymentConverters.put("202COV", mt202CovToMxConverter);
+        mxPaymentConverters.put("pacs.008.001.08", mxToMt103Converter);
+        mxPaymentConverters.put("pacs.009.001.08", mxToMt202Converter);
+
         log.info("ConversionService initialized with {} MT to MX converters and {} MX to MT converters",
                 mtToMxConverters.size(), mxToMtConverters.size());
     }
@@ -72,10 +101,82 @@ public class ConversionService {
      * @throws ConversionException if conversion fails
      */
     public String convertMtToMx(String mtMessage) throws ConversionException {
+        // Limit kontrolü trim/hash/cache/parse maliyetinden önce yapılır
+        mtMessageValidator.checkLimits(mtMessage);
         if (mtMessage == null || mtMessage.trim().isEmpty()) {
             throw new ConversionException("MT message cannot be null or empty");
         }
 
+        // Cache ve coalescing kapalıysa SHA-256 anahtarı hesaplanmaz
+        if (!conversionResultCache.isEnabled() && !conversionCoalescer.isEnabled()) {
+            return doConvertMtToMx(mtMessage);
+        }
+        ContentKey key = ContentKey.of(Operation.MT_TO_MX.name(), null, mtMessage);
+        // CreDtTm is stamped per call; MX with a clock based fallback MsgId is never cached
+        String mxMessage = conversionCoalescer.execute(Operation.MT_TO_MX, key,
+                () -> conversionResultCache.get(Operation.MT_TO_MX, key, () -> doConvertMtToMx(mtMessage),
+                        ConversionStamps::isCacheableMx));
+        return ConversionStamps.restampCreationTime(mxMessage);
+    }
+
+    /**
+     * Convert MT message to MX format and read its canonical payment in the same pass.
+     * Cached and coalesced like {@link #convertMtToMx(String)}.
+     *
+     * @param mtMessage MT message to convert
+     * @return Converted MX message with the canonical payment of the message
+     * @throws ConversionException if conversion fails
+     */
+    public MtConversion convertMtToMxWithPayment(String mtMessage) throws ConversionException {
+        mtMessageValidator.checkLimits(mtMessage);
+        if (mtMessage == null || mtMessage.trim().isEmpty()) {
+            throw new ConversionException("MT message cannot be null or empty");
+        }
+
+        if (!conversionResultCache.isEnabled() && !conversionCoalescer.isEnabled()) {
+            return doConvertMtToMxWithPayment(mtMessage);
+        }
+        ContentKey key = ContentKey.of(Operation.MT_TO_MX.name(), "payment", mtMessage);
+        MtConversion conversion = conversionCoalescer.execute(Operation.MT_TO_MX, key,
+                () -> conversionResultCache.get(Operation.MT_TO_MX, key, () -> doConvertMtToMxWithPayment(mtMessage),
+                        cached -> ConversionStamps.isCacheableMx(cached.getMxMessage())));
+        return new MtConversion(ConversionStamps.restampCreationTime(conversion.getMxMessage()), conversion.getPayment());
+    }
+
+    private MtConversion doConvertMtToMxWithPayment(String mtMessage) throws ConversionException {
+        try {
+            MtConversion conversion = mtPaymentConverter(mtMessage).convertWithPayment(mtMessage);
+            log.info("Successfully converted {} to MX format", conversion.getPayment().getMessageType());
+            return conversion;
+        } catch (ConversionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error during MT to MX conversion: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to convert MT to MX", e);
+        }
+    }
+
+    /**
+     * Converter of a valid MT message
+     *
+     * @throws ConversionException if the message is invalid or its type is not supported
+     */
+    private MtToMxPaymentConverter mtPaymentConverter(String mtMessage) throws ConversionException {
+        if (!mtMessageValidator.isValid(mtMessage)) {
+            throw new ConversionException("Invalid MT message format");
+        }
+        String messageType = mtMessageValidator.getMessageType(mtMessage);
+        if (messageType == null) {
+            throw new ConversionException("Could not determine MT message type");
+        }
+        MtToMxPaymentConverter converter = mtPaymentConverters.get(messageType);
+        if (converter == null) {
+            throw new ConversionException("No converter found for MT message type: " + messageType);
+        }
+        return converter;
+    }
+
+    private String doConvertMtToMx(String mtMessage) throws ConversionException {
         try {
             // Validate MT message
             if (!mtMessageValidator.isValid(mtMessage)) {
@@ -120,6 +221,16 @@ public class ConversionService {
             throw new ConversionException("MX message cannot be null or empty");
         }
 
+        if (!conversionResultCache.isEnabled() && !conversionCoalescer.isEnabled()) {
+            return doConvertMxToMt(mxMessage);
+        }
+        // MX'te tarih yoksa :32A: bugünün tarihini alır; anahtar gün ile sınırlanır
+        ContentKey key = ContentKey.of(Operation.MX_TO_MT.name(), LocalDate.now().toString(), mxMessage);
+        return conversionCoalescer.execute(Operation.MX_TO_MT, key,
+                () -> conversionResultCache.get(Operation.MX_TO_MT, key, () -> doConvertMxToMt(mxMessage)));
+    }
+
+    private String doConvertMxToMt(String mxMessage) throws ConversionException {
         try {
             // Validate MX message
             if (!mxMessageValidator.isValid(mxMessage)) {
@@ -152,6 +263,80 @@ public class ConversionService {
         }
     }
 
+    /**
+     * Read an MT message into its canonical payment without generating the MX. The message is
+     * validated the way {@link #convertMtToMx(String)} validates it, so lazy ingest rejects the
+     * messages eager ingest rejects.
+     *
+     * @param mtMessage MT message
+     * @return Canonical payment with the values of the generated MX
+     * @throws ConversionException if the message is invalid, its type is not supported or it cannot be read
+     */
+    public CanonicalPayment toPayment(String mtMessage) throws ConversionException {
+        mtMessageValidator.checkLimits(mtMessage);
+        if (mtMessage == null || mtMessage.trim().isEmpty()) {
+            throw new ConversionException("MT message cannot be null or empty");
+        }
+        try {
+            return mtPaymentConverter(mtMessage).toPayment(mtMessage);
+        } catch (ConversionException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error while reading MT message: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to read MT message", e);
+        }
+    }
+
+    /**
+     * Read an MX document into its canonical payment with a single unmarshal. The document type
+     * comes from its namespace; schema validation is left to the caller.
+     *
+     * @param mxMessage   MX message
+     * @param messageType MT type the message belongs to; kept if it matches the document
+     *                    (customer vs. FI transfer), otherwise MT103 / MT202 is used
+     * @return Canonical payment
+     * @throws ConversionException if the document is not pacs.008 / pacs.009 or cannot be read
+     */
+    public CanonicalPayment toPaymentFromMx(String mxMessage, MessageType messageType) throws ConversionException {
+        String definition = CanonicalPayments.mxMessageDefinition(mxMessage);
+        CanonicalPaymentConverter<String> converter = definition != null ? mxPaymentConverters.get(definition) : null;
+        if (converter == null) {
+            throw new ConversionException("Could not determine MX message type");
+        }
+        CanonicalPayment payment = converter.toPayment(mxMessage);
+        if (messageType == null || messageType == payment.getMessageType()) {
+            return payment;
+        }
+        CanonicalPayment typed = payment.toBuilder().messageType(messageType).build();
+        return typed.isCustomerTransfer() == payment.isCustomerTransfer() ? typed : payment;
+    }
+
+    /**
+     * Generate the MX document of a canonical payment
+     *
+     * @throws ConversionException if marshalling fails
+     */
+    public String convertToMx(CanonicalPayment payment) throws ConversionException {
+        try {
+            return CanonicalPayments.toMx(payment);
+        } catch (JAXBException e) {
+            log.error("Error generating MX from canonical payment: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to generate MX from canonical payment", e);
+        }
+    }
+
+    /**
+     * Generate the MT message of a canonical payment, the way {@link #convertMxToMt(String)}
+     * maps the MX types: customer transfers to MT103, FI transfers to MT202
+     *
+     * @throws ConversionException if the payment lacks the first transaction's reference or amount
+     */
+    public String convertToMt(CanonicalPayment payment) throws ConversionException {
+        return payment.isCustomerTransfer()
+                ? mxToMt103Converter.toMt103(payment)
+                : mxToMt202Converter.toMt202(payment);
+    }
+
     /**
      * Get supported MT message types
      * 
@@ -1,9 +1,11 @@
 package com.mtmx.service;
 
+import com.mtmx.repository.SwiftMessageFilter;
 import com.mtmx.web.dto.SwiftMessageDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -55,6 +57,36 @@ public interface SwiftMessageService {
      */
     Page<SwiftMessageDto> findByMessageType(String messageType, Pageable pageable);
 
+    /**
+     * Get messages by message type created in {@code [from, to)}, newest first.
+     * On the partitioned PostgreSQL table only the months in the range are scanned.
+     * @param messageType the message type to filter by.
+     * @param from inclusive lower bound of the creation time, null for unbounded.
+     * @param to exclusive upper bound of the creation time, null for unbounded.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessageDto> findByMessageType(String messageType, LocalDateTime from, LocalDateTime to,
+                                            Pageable pageable);
+
+    /**
+     * Get messages in a lifecycle status, newest first, e.g. all failed MT202COV since midnight.
+     * @param status the {@link com.mtmx.domain.enums.MessageStatus} name.
+     * @param messageType the message type to filter by, null for all types.
+     * @param since only messages created at or after this time, null for all.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessageDto> findByStatus(String status, String messageType, LocalDateTime since, Pageable pageable);
+
+    /**
+     * Search messages by business keys (reference, UETR, BICs, value date, creation time).
+     * @param filter the filters, unset ones are ignored.
+     * @param pageable the pagination information.
+     * @return the page of entities.
+     */
+    Page<SwiftMessageDto> search(SwiftMessageFilter filter, Pageable pageable);
+
     /**
      * Get the "id" swiftMessage.
      * @param id the id of the entity.
@@ -1,8 +1,18 @@
 package com.mtmx.service;
 
+import com.mtmx.config.ConditionalOnPersistence;
 import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageStatus;
 import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.domain.payment.CanonicalPaymentCodec;
+import com.mtmx.repository.SwiftMessageFilter;
 import com.mtmx.repository.SwiftMessageRepository;
+import com.mtmx.repository.SwiftMessageSpecifications;
+import com.mtmx.service.converter.MtConversion;
+import com.mtmx.service.ingest.MtBusinessKeys;
+import com.mtmx.service.mx.LazyMxGenerator;
 import com.mtmx.web.dto.SwiftMessageDto;
 import com.mtmx.web.mapper.SwiftMessageMapper;
 import lombok.RequiredArgsConstructor;
@@ -12,24 +22,31 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
+@ConditionalOnPersistence
 @Transactional
 @RequiredArgsConstructor
 @Slf4j
 public class SwiftMessageServiceImpl implements SwiftMessageService {
 
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final SwiftMessageRepository swiftMessageRepository;
     private final SwiftMessageMapper swiftMessageMapper;
     private final XsdValidationService xsdValidationService;
     private final ConversionService conversionService;
+    private final LazyMxGenerator lazyMxGenerator;
 
     @Override
     public SwiftMessageDto save(SwiftMessageDto swiftMessageDto) {
         SwiftMessage swiftMessage = swiftMessageMapper.toEntity(swiftMessageDto);
 
         if (swiftMessage.getRawMtMessage() != null && !swiftMessage.getRawMtMessage().isBlank()) {
+            MtBusinessKeys.of(swiftMessage.getRawMtMessage()).applyTo(swiftMessage);
             
             try {
                 MessageType messageType = swiftMessage.getMessageType();
@@ -39,30 +56,20 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
                     swiftMessage.setMessageType(messageType);
                 }
                 
-                // Convert MT to MX using ConversionService
-                String mxMessage = conversionService.convertMtToMx(swiftMessage.getRawMtMessage());
-                
-                if (mxMessage != null && !mxMessage.contains("<error>")) {
-                    // XSD doğrulaması yap
-                    XsdValidationService.ValidationResult validationResult = 
-                        xsdValidationService.validateByMtType(mxMessage, messageType.name());
-                    
-                    if (validationResult.isValid()) {
-                        swiftMessage.setGeneratedMxMessage(mxMessage);
-                        log.info("Successfully converted and validated {} message to MX format", messageType);
-                    } else {
-                        swiftMessage.setGeneratedMxMessage(mxMessage + 
-                            "\n<!-- XSD Validation Warning: " + validationResult.getMessage() + " -->");
-                        log.warn("MX message generated but XSD validation failed: {}", validationResult.getMessage());
-                    }
+                if (lazyMxGenerator.isLazy()) {
+                    // Lazy mod: MX ilk okumada üretilir, kayıtta yalnızca MT ve canonical payment tutulur.
+                    // MT yine de eager moddaki gibi doğrulanır; geçersiz mesaj kaydedilmez
+                    storePayment(swiftMessage, conversionService.toPayment(swiftMessage.getRawMtMessage()));
+                    swiftMessage.markReceived();
                 } else {
-                    swiftMessage.setGeneratedMxMessage(mxMessage != null ? mxMessage : "<error>Conversion Failed</error>");
-                    log.warn("Conversion failed for message type: {}", messageType);
+                    // Convert MT to MX using ConversionService
+                    MtConversion conversion = conversionService.convertMtToMxWithPayment(swiftMessage.getRawMtMessage());
+                    storePayment(swiftMessage, conversion.getPayment());
+                    recordMx(swiftMessage, conversion.getMxMessage(), messageType);
                 }
                 
             } catch (Exception e) {
                 log.error("Failed to convert MT to MX: {}", e.getMessage(), e);
-                swiftMessage.setGeneratedMxMessage("<error>Conversion Failed: " + e.getMessage() + "</error>");
                 throw new RuntimeException("Conversion failed", e);
             }
         }
@@ -102,6 +109,7 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
         } else {
             log.debug("Using new MT message");
             swiftMessage.setRawMtMessage(rawMtMessage);
+            MtBusinessKeys.of(rawMtMessage).applyTo(swiftMessage);
         }
         
         MessageType messageType = determineMessageType(rawMtMessage);
@@ -109,31 +117,15 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
         
         try {
             // Convert MT to MX using ConversionService
-            String mxMessage = conversionService.convertMtToMx(rawMtMessage);
-            
-            if (mxMessage != null && !mxMessage.contains("<error>")) {
-                // XSD doğrulaması yap
-                XsdValidationService.ValidationResult validationResult = 
-                    xsdValidationService.validateByMtType(mxMessage, messageType.name());
-                
-                if (validationResult.isValid()) {
-                    swiftMessage.setGeneratedMxMessage(mxMessage);
-                    log.info("Successfully converted and validated {} message to MX format", messageType);
-                } else {
-                    swiftMessage.setGeneratedMxMessage(mxMessage + 
-                        "\n<!-- XSD Validation Warning: " + validationResult.getMessage() + " -->");
-                    log.warn("MX message generated but XSD validation failed: {}", validationResult.getMessage());
-                }
-            } else {
-                swiftMessage.setGeneratedMxMessage(mxMessage != null ? mxMessage : "<error>Conversion Failed</error>");
-                log.warn("Conversion failed for message type: {}", messageType);
-            }
-            
+            MtConversion conversion = conversionService.convertMtToMxWithPayment(rawMtMessage);
+            storePayment(swiftMessage, conversion.getPayment());
+            recordMx(swiftMessage, conversion.getMxMessage(), messageType);
         } catch (Exception e) {
             log.error("Failed to convert MT to MX: {}", e.getMessage(), e);
-            swiftMessage.setGeneratedMxMessage("<error>Conversion Failed: " + e.getMessage() + "</error>");
+            swiftMessage.markConversionFailed(e.getMessage());
         }
         
+        lazyMxGenerator.evict(id);
         swiftMessage = swiftMessageRepository.save(swiftMessage);
         return swiftMessageMapper.toDto(swiftMessage);
     }
@@ -142,7 +134,7 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
     @Transactional(readOnly = true)
     public Page<SwiftMessageDto> findAll(Pageable pageable) {
         return swiftMessageRepository.findAll(pageable)
-                .map(swiftMessageMapper::toDto);
+                .map(this::toDto);
     }
 
     @Override
@@ -150,23 +142,67 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
     public Page<SwiftMessageDto> findByMessageType(String messageType, Pageable pageable) {
         try {
             MessageType enumType = MessageType.valueOf(messageType);
-            return swiftMessageRepository.findByMessageType(enumType, pageable).map(swiftMessageMapper::toDto);
+            return swiftMessageRepository.findByMessageType(enumType, pageable).map(this::toDto);
         } catch (IllegalArgumentException e) {
             log.warn("Invalid message type requested: {}", messageType);
             return Page.empty(pageable);
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SwiftMessageDto> findByMessageType(String messageType, LocalDateTime from, LocalDateTime to,
+                                                   Pageable pageable) {
+        try {
+            MessageType enumType = MessageType.valueOf(messageType);
+            return swiftMessageRepository.findByMessageTypeAndCreatedAtGreaterThanEqualAndCreatedAtLessThanOrderByCreatedAtDesc(
+                    enumType, from != null ? from : EPOCH, to != null ? to : END_OF_TIME, pageable).map(this::toDto);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid message type requested: {}", messageType);
+            return Page.empty(pageable);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SwiftMessageDto> findByStatus(String status, String messageType, LocalDateTime since,
+                                              Pageable pageable) {
+        try {
+            MessageStatus enumStatus = MessageStatus.valueOf(status);
+            LocalDateTime from = since != null ? since : EPOCH;
+            if (messageType == null || messageType.isBlank()) {
+                return swiftMessageRepository.findByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                        enumStatus, from, pageable).map(this::toDto);
+            }
+            return swiftMessageRepository.findByStatusAndMessageTypeAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                    enumStatus, MessageType.valueOf(messageType), from, pageable).map(this::toDto);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid status or message type requested: {} / {}", status, messageType);
+            return Page.empty(pageable);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SwiftMessageDto> search(SwiftMessageFilter filter, Pageable pageable) {
+        if (filter.isReferenceOnly()) {
+            return swiftMessageRepository.findByTransactionReferenceOrderByCreatedAtDesc(
+                    filter.getReference().trim(), pageable).map(this::toDto);
+        }
+        return swiftMessageRepository.findAll(SwiftMessageSpecifications.matching(filter), pageable).map(this::toDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<SwiftMessageDto> findOne(Long id) {
-        return swiftMessageRepository.findById(id).map(swiftMessageMapper::toDto);
+        return swiftMessageRepository.findById(id).map(this::toDto);
     }
 
     @Override
     public void delete(Long id) {
         log.info("Deleting SWIFT message with id: {}", id);
         swiftMessageRepository.deleteById(id);
+        lazyMxGenerator.evict(id);
     }
 
     @Override
@@ -174,17 +210,25 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
         SwiftMessage swiftMessage = swiftMessageRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Message not found with id: " + id));
         
+        // Canonical payment varsa MX tekrar parse edilmez (lazy modda MX hiç saklanmamış olabilir)
+        CanonicalPayment payment = storedPayment(swiftMessage);
         String mxMessage = swiftMessage.getGeneratedMxMessage();
-        if (mxMessage == null || mxMessage.isBlank()) {
+        if (payment == null && (mxMessage == null || mxMessage.isBlank()) && lazyMxGenerator.isLazy()) {
+            mxMessage = lazyMxGenerator.mxFor(swiftMessage);
+        }
+        if (payment == null && (mxMessage == null || mxMessage.isBlank())) {
             throw new RuntimeException("No MX message content found for id: " + id + ". Please convert MT to MX first.");
         }
         
         try {
         // Convert MX back to MT
-        String convertedMtMessage = conversionService.convertMxToMt(mxMessage);
+        String convertedMtMessage = payment != null
+                ? conversionService.convertToMt(payment)
+                : conversionService.convertMxToMt(mxMessage);
         
         // Update the message with converted content
         swiftMessage.setRawMtMessage(convertedMtMessage);
+        MtBusinessKeys.of(convertedMtMessage).applyTo(swiftMessage);
         SwiftMessage savedMessage = swiftMessageRepository.save(swiftMessage);
         
         return swiftMessageMapper.toDto(savedMessage);
@@ -194,6 +238,82 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
         }
     }
 
+    /**
+     * Entity to DTO; in lazy mode a missing MX is generated here (first read) instead of on save
+     */
+    private SwiftMessageDto toDto(SwiftMessage swiftMessage) {
+        SwiftMessageDto dto = swiftMessageMapper.toDto(swiftMessage);
+        if (dto != null && dto.getGeneratedMxMessage() == null && lazyMxGenerator.isLazy()) {
+            LazyMxGenerator.OnReadMx onRead = lazyMxGenerator.resolve(swiftMessage);
+            if (onRead != null) {
+                onRead.applyTo(dto);
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * Store a generated MX with its XSD verdict; the verdict goes to its own columns, the MX
+     * text is stored as generated
+     */
+    private void recordMx(SwiftMessage swiftMessage, String mxMessage, MessageType messageType) {
+        if (mxMessage == null) {
+            swiftMessage.markConversionFailed("Conversion returned no MX message");
+            log.warn("Conversion failed for message type: {}", messageType);
+            return;
+        }
+        if (messageType == null) {
+            swiftMessage.markConverted(mxMessage, null, ValidationVerdict.NOT_VALIDATED, null);
+            return;
+        }
+        String schema = xsdValidationService.schemaForMtType(messageType.name());
+        try {
+            XsdValidationService.ValidationResult validationResult =
+                    xsdValidationService.validateByMtType(mxMessage, messageType.name());
+            if (validationResult.isValid()) {
+                swiftMessage.markConverted(mxMessage, schema, ValidationVerdict.VALID, null);
+                log.info("Successfully converted and validated {} message to MX format", messageType);
+            } else {
+                swiftMessage.markConverted(mxMessage, schema, ValidationVerdict.INVALID, validationResult.getMessage());
+                log.warn("MX message generated but XSD validation failed: {}", validationResult.getMessage());
+            }
+        } catch (Exception e) {
+            log.warn("Could not validate MX against XSD: {}", e.getMessage());
+            swiftMessage.markConverted(mxMessage, schema, ValidationVerdict.NOT_VALIDATED,
+                    "XSD validation could not be run: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Store the canonical payment of a converted MT message; without it the message still works,
+     * MX to MT then falls back to parsing the stored MX
+     */
+    private void storePayment(SwiftMessage swiftMessage, CanonicalPayment payment) {
+        swiftMessage.setCanonicalPayment(payment != null ? CanonicalPaymentCodec.encode(payment) : null);
+    }
+
+    private CanonicalPayment storedPayment(SwiftMessage swiftMessage) {
+        byte[] bytes = swiftMessage.getCanonicalPayment();
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return CanonicalPaymentCodec.decode(bytes);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring unreadable canonical payment of message {}: {}", swiftMessage.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private CanonicalPayment readPayment(String xmlContent, MessageType messageType) {
+        try {
+            return conversionService.toPaymentFromMx(xmlContent, messageType);
+        } catch (Exception e) {
+            log.debug("Updated XML is not a readable pacs.008/pacs.009: {}", e.getMessage());
+            return null;
+        }
+    }
+
     // Private helper method
     private MessageType determineMessageType(String rawMtMessage) {
         try {
@@ -236,38 +356,32 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
         }
         
         try {
-            // Basic XML validation
-            javax.xml.parsers.DocumentBuilderFactory.newInstance()
-                .newDocumentBuilder()
-                .parse(new java.io.ByteArrayInputStream(xmlContent.getBytes()));
-            
-            // Update the generated MX message
-            swiftMessage.setGeneratedMxMessage(xmlContent);
-            
-            // Try to validate against XSD if possible
-            try {
-                XsdValidationService.ValidationResult validationResult = 
-                    xsdValidationService.validateByMtType(xmlContent, swiftMessage.getMessageType().name());
-                
-                if (!validationResult.isValid()) {
-                    log.warn("Updated XML failed XSD validation: {}", validationResult.getMessage());
-                    swiftMessage.setGeneratedMxMessage(xmlContent + 
-                        "\n<!-- XSD Validation Warning: " + validationResult.getMessage() + " -->");
-                }
-            } catch (Exception e) {
-                log.warn("Could not validate updated XML against XSD: {}", e.getMessage());
+            // pacs.008/pacs.009 tek unmarshal ile okunur; okunamazsa eski yol (DOM parse + MX->MT)
+            CanonicalPayment payment = readPayment(xmlContent, swiftMessage.getMessageType());
+            if (payment == null) {
+                // Basic XML validation
+                javax.xml.parsers.DocumentBuilderFactory.newInstance()
+                    .newDocumentBuilder()
+                    .parse(new java.io.ByteArrayInputStream(xmlContent.getBytes()));
             }
             
+            // Update the generated MX message and its XSD verdict
+            recordMx(swiftMessage, xmlContent, swiftMessage.getMessageType());
+            
             // *** YENİ ÖZELLİK: MX güncellendiğinde MT'ye çevir ***
             try {
                 log.info("Converting updated MX back to MT format for message id: {}", id);
-                String convertedMtMessage = conversionService.convertMxToMt(xmlContent);
+                swiftMessage.setCanonicalPayment(payment != null ? CanonicalPaymentCodec.encode(payment) : null);
+                String convertedMtMessage = payment != null
+                        ? conversionService.convertToMt(payment)
+                        : conversionService.convertMxToMt(xmlContent);
                 
-                if (convertedMtMessage != null && !convertedMtMessage.contains("FALLBACK")) {
+                if (convertedMtMessage != null) {
                     swiftMessage.setRawMtMessage(convertedMtMessage);
+                    MtBusinessKeys.of(convertedMtMessage).applyTo(swiftMessage);
                     log.info("Successfully converted updated MX to MT format");
                 } else {
-                    log.warn("MX to MT conversion returned fallback message, keeping original MT");
+                    log.warn("MX to MT conversion returned no message, keeping original MT");
                 }
             } catch (Exception e) {
                 log.error("Failed to convert updated MX to MT: {}", e.getMessage());
@@ -275,6 +389,7 @@ public class SwiftMessageServiceImpl implements SwiftMessageService {
                 // Sadece log'la, exception fırlatma
             }
             
+            lazyMxGenerator.evict(id);
             SwiftMessage savedMessage = swiftMessageRepository.save(swiftMessage);
             return swiftMessageMapper.toDto(savedMessage);
             
@@ -1,13 +1,13 @@
 package com.mtmx.service;
 
-import org.springframework.core.io.ClassPathResource;
+import com.mtmx.service.cache.ConversionResultCache;
+import com.mtmx.service.xml.XsdSchemaCache;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
 import java.io.IOException;
 import java.io.StringReader;
@@ -29,25 +29,41 @@ public class XsdValidationService {
     private static final String PACS_008_XSD = "xsd/pacs.008.001.06.xsd"; // MT103
     private static final String PACS_009_XSD = "xsd/pacs.009.001.08.xsd"; // MT202, MT202COV, MT203
     
+    private static final String PACS_004_SCHEMA = "pacs.004.001.02";
+    private static final String PACS_008_SCHEMA = "pacs.008.001.06";
+    private static final String PACS_009_SCHEMA = "pacs.009.001.08";
+    
+    // Aynı XML + şema için doğrulama kararı cache'lenir
+    private final ConversionResultCache resultCache;
+    
+    public XsdValidationService() {
+        this(ConversionResultCache.disabled());
+    }
+    
+    @Autowired
+    public XsdValidationService(ConversionResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+    
     /**
      * MT102 için pacs.004.001.02 XSD ile doğrulama
      */
     public ValidationResult validatePacs004(String mxXml) {
-        return validateAgainstXsd(mxXml, PACS_004_XSD, "pacs.004.001.02");
+        return validateAgainstXsd(mxXml, PACS_004_XSD, PACS_004_SCHEMA);
     }
     
     /**
      * MT103 için pacs.008.001.06 XSD ile doğrulama
      */
     public ValidationResult validatePacs008(String mxXml) {
-        return validateAgainstXsd(mxXml, PACS_008_XSD, "pacs.008.001.06");
+        return validateAgainstXsd(mxXml, PACS_008_XSD, PACS_008_SCHEMA);
     }
     
     /**
      * MT202/MT203/MT202COV için pacs.009.001.08 XSD ile doğrulama
      */
     public ValidationResult validatePacs009(String mxXml) {
-        return validateAgainstXsd(mxXml, PACS_009_XSD, "pacs.009.001.08");
+        return validateAgainstXsd(mxXml, PACS_009_XSD, PACS_009_SCHEMA);
     }
     
     /**
@@ -73,25 +89,52 @@ public class XsdValidationService {
     }
     
     /**
-     * Belirtilen XSD dosyasına karşı XML doğrulaması
+     * MT tipinin MX karşılığının doğrulandığı şema, ör. {@code pacs.008.001.06}
+     *
+     * @return şema adı, desteklenmeyen tip için null
+     */
+    public String schemaForMtType(String mtType) {
+        if (mtType == null) {
+            return null;
+        }
+        switch (mtType.toUpperCase()) {
+            case "MT102":
+                return PACS_004_SCHEMA;
+            case "MT103":
+                return PACS_008_SCHEMA;
+            case "MT202":
+            case "MT203":
+            case "MT202COV":
+                return PACS_009_SCHEMA;
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * Belirtilen XSD dosyasına karşı XML doğrulaması (sonuç içerik hash'i ile cache'lenir)
      */
     private ValidationResult validateAgainstXsd(String xmlContent, String xsdPath, String schemaType) {
         if (xmlContent == null || xmlContent.trim().isEmpty()) {
             return ValidationResult.invalid("XML içeriği boş");
         }
         
+        ValidationResult verdict = resultCache.get(ConversionResultCache.Operation.XSD_VALIDATION, schemaType,
+                xmlContent, () -> doValidateAgainstXsd(xmlContent, xsdPath, schemaType));
+        // Cache'teki örnek paylaşıldığı için (index alanı değişebilir) kopya döndür
+        return new ValidationResult(verdict.isValid(), verdict.getMessage());
+    }
+    
+    private ValidationResult doValidateAgainstXsd(String xmlContent, String xsdPath, String schemaType) {
+        
         try {
-            // XSD dosyasını yükle
-            ClassPathResource xsdResource = new ClassPathResource(xsdPath);
-            if (!xsdResource.exists()) {
+            // Derlenmiş XSD şemasını al (süreç başına bir kez derlenir)
+            Schema schema = XsdSchemaCache.get(xsdPath);
+            if (schema == null) {
                 logger.warning("XSD dosyası bulunamadı: " + xsdPath);
                 return ValidationResult.invalid("XSD şeması bulunamadı: " + xsdPath);
             }
             
-            // Schema factory oluştur
-            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            Schema schema = factory.newSchema(xsdResource.getURL());
-            
             // Validator oluştur ve doğrula
             Validator validator = schema.newValidator();
             validator.validate(new StreamSource(new StringReader(xmlContent)));
@@ -0,0 +1,25 @@
+package com.mtmx.service.batch;
+
+import lombok.Value;
+
+/**
+ * Placement of one source MT103 in a flushed pacs.008 batch document
+ */
+@Value
+public class BatchedTransaction {
+
+    /** GrpHdr/MsgId of the batch document */
+    String batchId;
+
+    /** Shared pacs.008 document of the whole batch */
+    String document;
+
+    /** Zero based position of the source message's CdtTrfTxInf in the document */
+    int transactionIndex;
+
+    /** :20: reference of the source MT103 */
+    String sourceReference;
+
+    /** Number of CdtTrfTxInf in the batch */
+    int batchSize;
+}
@@ -0,0 +1,255 @@
+package com.mtmx.service.batch;
+
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.model.mx.Pacs008Message;
+import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.converter.impl.Mt103ToMxConverter;
+import com.mtmx.service.xml.JaxbContextCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregation stage in front of {@link Mt103ToMxConverter} that packs compatible MT103s
+ * (see {@link Mt103BatchKey}) into one multi-transaction pacs.008.
+ * <p>
+ * Each message is mapped to its CdtTrfTxInf when it is submitted; the batch document is built,
+ * marshalled once and handed to every member when the batch reaches
+ * {@code mtmx.batch.max-size} transactions or its first member has waited
+ * {@code mtmx.batch.max-wait-ms}. Envelope, serialization and downstream validation costs are
+ * thereby paid per batch instead of per message. Every caller gets its own
+ * {@link BatchedTransaction} with the CdtTrfTxInf index of its source message. Timeouts run on
+ * the shared {@link TaskScheduler}.
+ */
+@Component
+@Slf4j
+public class Mt103BatchAggregator {
+
+    static final String FLUSH_SIZE = "size";
+    static final String FLUSH_TIMEOUT = "timeout";
+    static final String FLUSH_SHUTDOWN = "shutdown";
+
+    private final Mt103ToMxConverter converter;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final Map<Mt103BatchKey, OpenBatch> openBatches = new HashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final TaskScheduler scheduler;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizes;
+    private boolean closed;
+
+    @Autowired
+    public Mt103BatchAggregator(Mt103ToMxConverter converter,
+                                @Value("${mtmx.batch.max-size:100}") int maxSize,
+                                @Value("${mtmx.batch.max-wait-ms:500}") long maxWaitMillis,
+                                TaskScheduler scheduler,
+                                MeterRegistry meterRegistry) {
+        this.converter = converter;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxWaitMillis = Math.max(1, maxWaitMillis);
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+
+        this.batchSizes = DistributionSummary.builder("mtmx.batch.size")
+                .description("CdtTrfTxInf count of flushed pacs.008 batches")
+                .register(meterRegistry);
+        Gauge.builder("mtmx.batch.pending", this, Mt103BatchAggregator::pendingCount).register(meterRegistry);
+
+        log.info("MT103 batching: max {} transactions, max wait {} ms", this.maxSize, this.maxWaitMillis);
+    }
+
+    /**
+     * Add an MT103 to the open batch of its key
+     *
+     * @param mtMessage raw MT103
+     * @return completes with the placement of the message once its batch is flushed
+     * @throws ConversionException if the message is invalid or cannot be keyed, or the aggregator is shut down
+     */
+    public CompletableFuture<BatchedTransaction> submit(String mtMessage) throws ConversionException {
+        Pacs008Message.CreditTransferTransactionInformation txInfo = converter.toTransactionInformation(mtMessage);
+        Mt103BatchKey key = Mt103BatchKey.of(mtMessage);
+        long minorUnits;
+        try {
+            minorUnits = CurrencyAmounts.toMinorUnits(txInfo.getIntrBkSttlmAmt().getValue(), key.getCurrency());
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid MT103 amount: " + e.getMessage(), e);
+        }
+        Member member = new Member(txInfo, minorUnits);
+
+        OpenBatch full = null;
+        synchronized (openBatches) {
+            if (closed) {
+                throw new ConversionException("MT103 batch aggregator is shut down");
+            }
+            OpenBatch batch = openBatches.get(key);
+            if (batch == null) {
+                OpenBatch created = new OpenBatch(key);
+                created.timeout = scheduler.schedule(() -> flushOnTimeout(created),
+                        Instant.now().plusMillis(maxWaitMillis));
+                openBatches.put(key, created);
+                batch = created;
+            }
+            batch.members.add(member);
+            if (batch.members.size() >= maxSize) {
+                openBatches.remove(key);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            full.timeout.cancel(false);
+            flush(full, FLUSH_SIZE);
+        }
+        return member.result;
+    }
+
+    /**
+     * Flush every open batch now, regardless of size and age
+     */
+    public void flushAll() {
+        List<OpenBatch> batches;
+        synchronized (openBatches) {
+            batches = new ArrayList<>(openBatches.values());
+            openBatches.clear();
+        }
+        for (OpenBatch batch : batches) {
+            batch.timeout.cancel(false);
+            flush(batch, FLUSH_SHUTDOWN);
+        }
+    }
+
+    /**
+     * @return messages waiting in open batches
+     */
+    public int pendingCount() {
+        synchronized (openBatches) {
+            int pending = 0;
+            for (OpenBatch batch : openBatches.values()) {
+                pending += batch.members.size();
+            }
+            return pending;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (openBatches) {
+            closed = true;
+        }
+        flushAll();
+    }
+
+    private void flushOnTimeout(OpenBatch batch) {
+        synchronized (openBatches) {
+            // Boyut nedeniyle zaten flush edilmiş olabilir
+            if (openBatches.get(batch.key) != batch) {
+                return;
+            }
+            openBatches.remove(batch.key);
+        }
+        flush(batch, FLUSH_TIMEOUT);
+    }
+
+    private void flush(OpenBatch batch, String reason) {
+        List<Member> members = batch.members;
+        String batchId = "MT103B" + System.currentTimeMillis() + "-" + sequence.incrementAndGet();
+        try {
+            String document = marshal(createBatchMessage(batchId, batch.key.getCurrency(), members));
+            for (int i = 0; i < members.size(); i++) {
+                Member member = members.get(i);
+                member.result.complete(new BatchedTransaction(batchId, document, i,
+                        member.txInfo.getPmtId().getEndToEndId(), members.size()));
+            }
+            batchSizes.record(members.size());
+            Counter.builder("mtmx.batch.flushes").tag("reason", reason).register(meterRegistry).increment();
+            log.debug("Flushed MT103 batch {} ({} transactions, {})", batchId, members.size(), reason);
+        } catch (Exception e) {
+            log.error("MT103 batch {} could not be built: {}", batchId, e.getMessage(), e);
+            ConversionException failure = new ConversionException("Failed to build pacs.008 batch: " + e.getMessage(), e);
+            for (Member member : members) {
+                member.result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private static Pacs008Message createBatchMessage(String batchId, String currency, List<Member> members) {
+        List<Pacs008Message.CreditTransferTransactionInformation> transactions = new ArrayList<>(members.size());
+        long total = 0;
+        for (Member member : members) {
+            transactions.add(member.txInfo);
+            total = Math.addExact(total, member.minorUnits);
+        }
+
+        Pacs008Message.GroupHeader groupHeader = new Pacs008Message.GroupHeader();
+        groupHeader.setMsgId(batchId);
+        groupHeader.setCreDtTm(LocalDateTime.now());
+        groupHeader.setNbOfTxs(String.valueOf(members.size()));
+        groupHeader.setCtrlSum(CurrencyAmounts.toBigDecimal(total, currency));
+
+        Pacs008Message.ActiveOrHistoricCurrencyAndAmount totalAmount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
+        totalAmount.setCcy(currency);
+        totalAmount.setValue(CurrencyAmounts.toBigDecimal(total, currency));
+        groupHeader.setTtlIntrBkSttlmAmt(totalAmount);
+
+        Pacs008Message.FIToFICstmrCdtTrf fiToFi = new Pacs008Message.FIToFICstmrCdtTrf();
+        fiToFi.setGrpHdr(groupHeader);
+        fiToFi.setCdtTrfTxInf(transactions);
+
+        Pacs008Message message = new Pacs008Message();
+        message.setFiToFICstmrCdtTrf(fiToFi);
+        return message;
+    }
+
+    private static String marshal(Pacs008Message message) throws JAXBException {
+        Marshaller marshaller = JaxbContextCache.get(Pacs008Message.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+        StringWriter writer = new StringWriter();
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        marshaller.marshal(message, writer);
+        return writer.toString();
+    }
+
+    private static final class OpenBatch {
+        private final Mt103BatchKey key;
+        private final List<Member> members = new ArrayList<>();
+        private ScheduledFuture<?> timeout;
+
+        private OpenBatch(Mt103BatchKey key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Member {
+        private final Pacs008Message.CreditTransferTransactionInformation txInfo;
+        private final long minorUnits;
+        private final CompletableFuture<BatchedTransaction> result = new CompletableFuture<>();
+
+        private Member(Pacs008Message.CreditTransferTransactionInformation txInfo, long minorUnits) {
+            this.txInfo = txInfo;
+            this.minorUnits = minorUnits;
+        }
+    }
+}
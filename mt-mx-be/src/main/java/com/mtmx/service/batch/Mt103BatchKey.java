@@ -0,0 +1,53 @@
+package com.mtmx.service.batch;
+
+import com.mtmx.domain.header.MtHeader;
+import com.mtmx.domain.header.MtHeaderParser;
+import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.validation.rules.MtFieldIndex;
+import com.mtmx.service.validation.rules.MtTag;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Compatibility key of MT103s that may share one pacs.008 batch: same sending and receiving
+ * institution (BIC11, primary offices normalised to {@code XXX}), currency and settlement date.
+ */
+@Value
+public class Mt103BatchKey {
+
+    private static final DateTimeFormatter MT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+
+    String senderBic;
+    String receiverBic;
+    String currency;
+    LocalDate settlementDate;
+
+    /**
+     * Read the key from the headers and :32A: of a raw MT103
+     *
+     * @throws ConversionException if an address or :32A: is missing or malformed
+     */
+    public static Mt103BatchKey of(String mtMessage) throws ConversionException {
+        MtHeader header = MtHeaderParser.parse(mtMessage);
+        if (header.getSenderBic() == null || header.getReceiverBic() == null) {
+            throw new ConversionException("MT103 header addresses not found, message cannot be batched");
+        }
+
+        String field32A = MtFieldIndex.parse(mtMessage).first(MtTag.F32A);
+        if (field32A == null || field32A.length() < 9) {
+            throw new ConversionException("MT103 :32A: not found, message cannot be batched");
+        }
+        LocalDate settlementDate;
+        try {
+            settlementDate = LocalDate.parse(field32A.substring(0, 6), MT_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ConversionException("Invalid MT103 :32A: value date: " + field32A.substring(0, 6), e);
+        }
+
+        return new Mt103BatchKey(header.getSenderBic(), header.getReceiverBic(),
+                field32A.substring(6, 9), settlementDate);
+    }
+}
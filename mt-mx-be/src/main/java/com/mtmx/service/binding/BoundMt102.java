@@ -0,0 +1,132 @@
+package com.mtmx.service.binding;
+
+import com.mtmx.domain.model.Mt102;
+import com.mtmx.domain.model.Mt102Transaction;
+import com.mtmx.service.validation.rules.MtFieldIndex;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * {@link Mt102} filled by {@link MtModelBinder}; the :32A:, :19:, :71F: and :71G: values are decoded on first
+ * read and the transactions (sequence B) are bound on the first {@link #getTransactions()} call
+ */
+final class BoundMt102 extends Mt102 {
+
+    static final int VALUE_DATE = 0;
+    static final int INTERBANK_SETTLED_AMOUNT = 1;
+    static final int SUM_OF_AMOUNTS = 2;
+    static final int SENDERS_CHARGES_AMOUNT = 3;
+    static final int RECEIVERS_CHARGES_AMOUNT = 4;
+
+    final LazyFields lazy;
+    private final MtFieldIndex index;
+    /** Index position of the first transaction field, -1 once the transactions are bound */
+    private int transactionsFrom = -1;
+
+    BoundMt102(MtFieldIndex index) {
+        this.lazy = new LazyFields(index.getSource(), 5);
+        this.index = index;
+    }
+
+    void bindTransactions(int from) {
+        transactionsFrom = from;
+    }
+
+    @Override
+    public List<Mt102Transaction> getTransactions() {
+        if (transactionsFrom >= 0) {
+            int from = transactionsFrom;
+            transactionsFrom = -1;
+            super.setTransactions(MtModelBinder.mt102Transactions(index, from));
+        }
+        return super.getTransactions();
+    }
+
+    @Override
+    public void setTransactions(List<Mt102Transaction> transactions) {
+        transactionsFrom = -1;
+        super.setTransactions(transactions);
+    }
+
+    @Override
+    public LocalDate getValueDate() {
+        if (lazy.take(VALUE_DATE)) {
+            super.setValueDate(lazy.date(VALUE_DATE));
+        }
+        return super.getValueDate();
+    }
+
+    @Override
+    public void setValueDate(LocalDate valueDate) {
+        lazy.discard(VALUE_DATE);
+        super.setValueDate(valueDate);
+    }
+
+    @Override
+    public BigDecimal getInterbankSettledAmount() {
+        if (lazy.take(INTERBANK_SETTLED_AMOUNT)) {
+            super.setInterbankSettledAmount(lazy.amount(INTERBANK_SETTLED_AMOUNT, getSettlementCurrency()));
+        }
+        return super.getInterbankSettledAmount();
+    }
+
+    @Override
+    public void setInterbankSettledAmount(BigDecimal interbankSettledAmount) {
+        lazy.discard(INTERBANK_SETTLED_AMOUNT);
+        super.setInterbankSettledAmount(interbankSettledAmount);
+    }
+
+    @Override
+    public long interbankSettledAmountMinorUnits() {
+        return lazy.isPending(INTERBANK_SETTLED_AMOUNT) ? lazy.minorUnits(INTERBANK_SETTLED_AMOUNT, getSettlementCurrency()) : super.interbankSettledAmountMinorUnits();
+    }
+
+    @Override
+    public BigDecimal getSumOfAmounts() {
+        if (lazy.take(SUM_OF_AMOUNTS)) {
+            super.setSumOfAmounts(lazy.amount(SUM_OF_AMOUNTS, getSettlementCurrency()));
+        }
+        return super.getSumOfAmounts();
+    }
+
+    @Override
+    public void setSumOfAmounts(BigDecimal sumOfAmounts) {
+        lazy.discard(SUM_OF_AMOUNTS);
+        super.setSumOfAmounts(sumOfAmounts);
+    }
+
+    @Override
+    public long sumOfAmountsMinorUnits() {
+        return lazy.isPending(SUM_OF_AMOUNTS) ? lazy.minorUnits(SUM_OF_AMOUNTS, getSettlementCurrency()) : super.sumOfAmountsMinorUnits();
+    }
+
+    @Override
+    public BigDecimal getSendersChargesAmount() {
+        if (lazy.take(SENDERS_CHARGES_AMOUNT)) {
+            super.setSendersChargesAmount(lazy.amount(SENDERS_CHARGES_AMOUNT, getSendersChargesCurrency()));
+        }
+        return super.getSendersChargesAmount();
+    }
+
+    @Override
+    public void setSendersChargesAmount(BigDecimal sendersChargesAmount) {
+        lazy.discard(SENDERS_CHARGES_AMOUNT);
+        super.setSendersChargesAmount(sendersChargesAmount);
+    }
+
+    @Override
+    public BigDecimal getReceiversChargesAmount() {
+        if (lazy.take(RECEIVERS_CHARGES_AMOUNT)) {
+            super.setReceiversChargesAmount(lazy.amount(RECEIVERS_CHARGES_AMOUNT, getReceiversChargesCurrency()));
+        }
+        return super.getReceiversChargesAmount();
+    }
+
+    @Override
+    public void setReceiversChargesAmount(BigDecimal receiversChargesAmount) {
+        lazy.discard(RECEIVERS_CHARGES_AMOUNT);
+        super.setReceiversChargesAmount(receiversChargesAmount);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mtmx.service.binding;
+
+import com.mtmx.domain.model.Mt102Transaction;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link Mt102Transaction} filled by {@link MtModelBinder}; the :32B: values are decoded on first read
+ */
+final class BoundMt102Transaction extends Mt102Transaction {
+
+    static final int AMOUNT = 0;
+
+    final LazyFields lazy;
+
+    BoundMt102Transaction(CharSequence raw) {
+        this.lazy = new LazyFields(raw, 1);
+    }
+
+    @Override
+    public BigDecimal getAmount() {
+        if (lazy.take(AMOUNT)) {
+            super.setAmount(lazy.amount(AMOUNT, getCurrency()));
+        }
+        return super.getAmount();
+    }
+
+    @Override
+    public void setAmount(BigDecimal amount) {
+        lazy.discard(AMOUNT);
+        super.setAmount(amount);
+    }
+}
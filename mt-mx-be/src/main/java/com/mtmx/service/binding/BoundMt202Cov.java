@@ -0,0 +1,84 @@
+package com.mtmx.service.binding;
+
+import com.mtmx.domain.model.Mt202Cov;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * {@link Mt202Cov} filled by {@link MtModelBinder}; the :32A:, :33B: and :71F: values are decoded on first read
+ */
+final class BoundMt202Cov extends Mt202Cov {
+
+    static final int VALUE_DATE = 0;
+    static final int AMOUNT = 1;
+    static final int ORIGINAL_ORDERED_AMOUNT = 2;
+    static final int SENDERS_CHARGES_AMOUNT = 3;
+
+    final LazyFields lazy;
+
+    BoundMt202Cov(CharSequence raw) {
+        this.lazy = new LazyFields(raw, 4);
+    }
+
+    @Override
+    public LocalDate getValueDate() {
+        if (lazy.take(VALUE_DATE)) {
+            super.setValueDate(lazy.date(VALUE_DATE));
+        }
+        return super.getValueDate();
+    }
+
+    @Override
+    public void setValueDate(LocalDate valueDate) {
+        lazy.discard(VALUE_DATE);
+        super.setValueDate(valueDate);
+    }
+
+    @Override
+    public BigDecimal getAmount() {
+        if (lazy.take(AMOUNT)) {
+            super.setAmount(lazy.amount(AMOUNT, getCurrency()));
+        }
+        return super.getAmount();
+    }
+
+    @Override
+    public void setAmount(BigDecimal amount) {
+        lazy.discard(AMOUNT);
+        super.setAmount(amount);
+    }
+
+    @Override
+    public long amountMinorUnits() {
+        return lazy.isPending(AMOUNT) ? lazy.minorUnits(AMOUNT, getCurrency()) : super.amountMinorUnits();
+    }
+
+    @Override
+    public BigDecimal getOriginalOrderedAmount() {
+        if (lazy.take(ORIGINAL_ORDERED_AMOUNT)) {
+            super.setOriginalOrderedAmount(lazy.amount(ORIGINAL_ORDERED_AMOUNT, getOriginalOrderedCurrency()));
+        }
+        return super.getOriginalOrderedAmount();
+    }
+
+    @Override
+    public void setOriginalOrderedAmount(BigDecimal originalOrderedAmount) {
+        lazy.discard(ORIGINAL_ORDERED_AMOUNT);
+        super.setOriginalOrderedAmount(originalOrderedAmount);
+    }
+
+    @Override
+    public BigDecimal getSendersChargesAmount() {
+        if (lazy.take(SENDERS_CHARGES_AMOUNT)) {
+            super.setSendersChargesAmount(lazy.amount(SENDERS_CHARGES_AMOUNT, getSendersChargesCurrency()));
+        }
+        return super.getSendersChargesAmount();
+    }
+
+    @Override
+    public void setSendersChargesAmount(BigDecimal sendersChargesAmount) {
+        lazy.discard(SENDERS_CHARGES_AMOUNT);
+        super.setSendersChargesAmount(sendersChargesAmount);
+    }
+}
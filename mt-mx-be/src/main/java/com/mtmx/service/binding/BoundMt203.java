@@ -0,0 +1,97 @@
+package com.mtmx.service.binding;
+
+import com.mtmx.domain.model.Mt203;
+import com.mtmx.domain.model.Mt203Transaction;
+import com.mtmx.service.validation.rules.MtFieldIndex;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * {@link Mt203} filled by {@link MtModelBinder}; the :19:, :71F: and :71G: values are decoded on first read
+ * and the transactions are bound on the first {@link #getTransactions()} call. :19: has no
+ * currency of its own and is decoded with the currency of the first transaction
+ */
+final class BoundMt203 extends Mt203 {
+
+    static final int SUM_OF_AMOUNTS = 0;
+    static final int SENDERS_CHARGES_AMOUNT = 1;
+    static final int RECEIVERS_CHARGES_AMOUNT = 2;
+
+    final LazyFields lazy;
+    private final MtFieldIndex index;
+    /** Index position of the first transaction field, -1 once the transactions are bound */
+    private int transactionsFrom = -1;
+
+    BoundMt203(MtFieldIndex index) {
+        this.lazy = new LazyFields(index.getSource(), 3);
+        this.index = index;
+    }
+
+    void bindTransactions(int from) {
+        transactionsFrom = from;
+    }
+
+    @Override
+    public List<Mt203Transaction> getTransactions() {
+        if (transactionsFrom >= 0) {
+            int from = transactionsFrom;
+            transactionsFrom = -1;
+            super.setTransactions(MtModelBinder.mt203Transactions(index, from));
+        }
+        return super.getTransactions();
+    }
+
+    @Override
+    public void setTransactions(List<Mt203Transaction> transactions) {
+        transactionsFrom = -1;
+        super.setTransactions(transactions);
+    }
+
+    @Override
+    public BigDecimal getSumOfAmounts() {
+        if (lazy.take(SUM_OF_AMOUNTS)) {
+            super.setSumOfAmounts(lazy.amount(SUM_OF_AMOUNTS, firstCurrency()));
+        }
+        return super.getSumOfAmounts();
+    }
+
+    @Override
+    public void setSumOfAmounts(BigDecimal sumOfAmounts) {
+        lazy.discard(SUM_OF_AMOUNTS);
+        super.setSumOfAmounts(sumOfAmounts);
+    }
+
+    @Override
+    public BigDecimal getSendersChargesAmount() {
+        if (lazy.take(SENDERS_CHARGES_AMOUNT)) {
+            super.setSendersChargesAmount(lazy.amount(SENDERS_CHARGES_AMOUNT, getSendersChargesCurrency()));
+        }
+        return super.getSendersChargesAmount();
+    }
+
+    @Override
+    public void setSendersChargesAmount(BigDecimal sendersChargesAmount) {
+        lazy.discard(SENDERS_CHARGES_AMOUNT);
+        super.setSendersChargesAmount(sendersChargesAmount);
+    }
+
+    @Override
+    public BigDecimal getReceiversChargesAmount() {
+        if (lazy.take(RECEIVERS_CHARGES_AMOUNT)) {
+            super.setReceiversChargesAmount(lazy.amount(RECEIVERS_CHARGES_AMOUNT, getReceiversChargesCurrency()));
+        }
+        return super.getReceiversChargesAmount();
+    }
+
+    @Override
+    public void setReceiversChargesAmount(BigDecimal receiversChargesAmount) {
+        lazy.discard(RECEIVERS_CHARGES_AMOUNT);
+        super.setReceiversChargesAmount(receiversChargesAmount);
+    }
+
+    private String firstCurrency() {
+        List<Mt203Transaction> transactions = getTransactions();
+        return transactions == null || transactions.isEmpty() ? null : transactions.get(0).getCurrency();
+    }
+}
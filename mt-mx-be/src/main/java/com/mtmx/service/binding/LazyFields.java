@@ -0,0 +1,116 @@
+package com.mtmx.service.binding;
+
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.validation.SwiftFormats;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Offsets of the not yet decoded typed values of a bound model.
+ * <p>
+ * The binder records where a date or amount sits in the raw message ({@link #bind}); the bound
+ * model decodes it on the first getter call ({@link #take}) and keeps the result in its own
+ * field, so values that are never read are never parsed. A setter call {@link #discard}s the
+ * pending value. Malformed values decode to null, which the model validators report as missing.
+ * Not thread-safe, like the models themselves.
+ */
+final class LazyFields {
+
+    private static final int DATE_LENGTH = 6;
+
+    private final CharSequence raw;
+    private final int[] starts;
+    private final int[] ends;
+    private int pending;
+
+    LazyFields(CharSequence raw, int slots) {
+        this.raw = raw;
+        this.starts = new int[slots];
+        this.ends = new int[slots];
+    }
+
+    void bind(int slot, int from, int to) {
+        starts[slot] = from;
+        ends[slot] = to;
+        pending |= 1 << slot;
+    }
+
+    /**
+     * True exactly once for a bound slot: the caller decodes it now
+     */
+    boolean take(int slot) {
+        int bit = 1 << slot;
+        if ((pending & bit) == 0) {
+            return false;
+        }
+        pending &= ~bit;
+        return true;
+    }
+
+    void discard(int slot) {
+        pending &= ~(1 << slot);
+    }
+
+    /**
+     * True while the slot is bound but not decoded yet
+     */
+    boolean isPending(int slot) {
+        return (pending & (1 << slot)) != 0;
+    }
+
+    /**
+     * YYMMDD date of the slot
+     *
+     * @return date, null if the value is not a valid date
+     */
+    LocalDate date(int slot) {
+        int from = starts[slot];
+        if (ends[slot] - from != DATE_LENGTH || !SwiftFormats.isDigits(raw, from, from + DATE_LENGTH)) {
+            return null;
+        }
+        try {
+            return LocalDate.of(2000 + digits(from), digits(from + 2), digits(from + 4));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * MT amount of the slot at the currency scale
+     *
+     * @return amount, null if the amount is malformed or the currency is missing or unknown
+     */
+    BigDecimal amount(int slot, String currency) {
+        if (currency == null) {
+            return null;
+        }
+        try {
+            return CurrencyAmounts.parseMt(raw, starts[slot], ends[slot], currency);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * MT amount of the slot in minor units of the currency, read without decoding the slot
+     *
+     * @return minor units, {@link CurrencyAmounts#NO_AMOUNT} if the amount is malformed or the
+     *         currency is missing or unknown
+     */
+    long minorUnits(int slot, String currency) {
+        if (currency == null) {
+            return CurrencyAmounts.NO_AMOUNT;
+        }
+        try {
+            return CurrencyAmounts.parseMinorUnits(raw, starts[slot], ends[slot], currency);
+        } catch (IllegalArgumentException e) {
+            return CurrencyAmounts.NO_AMOUNT;
+        }
+    }
+
+    private int digits(int at) {
+        return (raw.charAt(at) - '0') * 10 + (raw.charAt(at + 1) - '0');
+    }
+}
@@ -0,0 +1,888 @@
+package com.mtmx.service.binding;
+
+import com.mtmx.domain.model.Mt102;
+import com.mtmx.domain.model.Mt102Transaction;
+import com.mtmx.domain.model.Mt103;
+import com.mtmx.domain.model.Mt202;
+import com.mtmx.domain.model.Mt202Cov;
+import com.mtmx.domain.model.Mt203;
+import com.mtmx.domain.model.Mt203Transaction;
+import com.mtmx.service.validation.rules.MtFieldIndex;
+import com.mtmx.service.validation.rules.MtTag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds the block 4 fields of a raw MT message into the typed models in one pass over the
+ * {@link MtFieldIndex}.
+ * <p>
+ * Text fields are copied when the model is bound. Dates and amounts ({@code 32A}, {@code 32B},
+ * {@code 33B}, {@code 19}, {@code 71F}, {@code 71G}) only have their offsets recorded and are
+ * decoded by the returned model on the first getter call; values that are never read are never
+ * parsed. Malformed dates and amounts read as null, so the model validators report them as
+ * missing. For every field (and every option group such as {@code 53A/53B/53D}) the first
+ * occurrence wins. Repeating sequences of MT102 and MT203 are bound on the first
+ * {@code getTransactions()} call.
+ * <p>
+ * Text blocks written on a single line are accepted ({@link MtFieldIndex#parseLenient}).
+ * The returned models are plain mutable models; setters override the raw values.
+ */
+public final class MtModelBinder {
+
+    private static final int DATE_LENGTH = 6;
+    private static final int CURRENCY_LENGTH = 3;
+
+    private MtModelBinder() {
+    }
+
+    public static Mt103 mt103(CharSequence raw) {
+        return mt103(MtFieldIndex.parseLenient(raw));
+    }
+
+    public static Mt103 mt103(MtFieldIndex index) {
+        BoundMt103 model = new BoundMt103(index.getSource());
+        LazyFields lazy = model.lazy;
+        long seen = 0;
+        for (int i = 0; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == null || (seen & group(tag)) != 0) {
+                continue;
+            }
+            seen |= group(tag);
+            PartyField party;
+            switch (tag) {
+                case F20:
+                    model.setTransactionReference(index.value(i));
+                    break;
+                case F21:
+                    model.setRelatedReference(index.value(i));
+                    break;
+                case F23B:
+                    model.setBankOperationCode(index.value(i));
+                    break;
+                case F23E:
+                    model.setInstructionCode(index.value(i));
+                    break;
+                case F25:
+                    model.setAccountIdentification(index.value(i));
+                    break;
+                case F26T:
+                    model.setTransactionTypeCode(index.value(i));
+                    break;
+                case F32A:
+                    model.setCurrency(datedAmount(index, i, lazy, BoundMt103.VALUE_DATE, BoundMt103.AMOUNT));
+                    break;
+                case F50A:
+                case F50F:
+                case F50K:
+                    party = party(index, i, tag);
+                    model.setOrderingCustomerAccount(party.getAccount());
+                    model.setOrderingCustomerBic(party.getBic());
+                    model.setOrderingCustomerName(party.getName());
+                    model.setOrderingCustomerAddress(party.getAddress());
+                    break;
+                case F51A:
+                    model.setSendingInstitution(index.value(i));
+                    break;
+                case F52A:
+                case F52D:
+                    party = party(index, i, tag);
+                    model.setOrderingInstitutionBic(party.getBic());
+                    model.setOrderingInstitutionName(party.getName());
+                    model.setOrderingInstitutionAddress(party.getAddress());
+                    break;
+                case F53A:
+                case F53B:
+                case F53D:
+                    party = party(index, i, tag);
+                    model.setSendersCorrespondentAccount(party.getAccount());
+                    model.setSendersCorrespondentBic(party.getBic());
+                    model.setSendersCorrespondentName(party.getName());
+                    break;
+                case F54A:
+                case F54B:
+                case F54D:
+                    party = party(index, i, tag);
+                    model.setReceiversCorrespondentAccount(party.getAccount());
+                    model.setReceiversCorrespondentBic(party.getBic());
+                    model.setReceiversCorrespondentName(party.getName());
+                    break;
+                case F56A:
+                case F56C:
+                case F56D:
+                    party = party(index, i, tag);
+                    model.setIntermediaryAccount(party.getAccount());
+                    model.setIntermediaryBic(party.getBic());
+                    model.setIntermediaryName(party.getName());
+                    break;
+                case F57A:
+                case F57B:
+                case F57C:
+                case F57D:
+                    party = party(index, i, tag);
+                    model.setAccountWithInstitutionAccount(party.getAccount());
+                    model.setAccountWithInstitutionBic(party.getBic());
+                    model.setAccountWithInstitutionName(party.getName());
+                    break;
+                case F59:
+                case F59A:
+                case F59F:
+                    party = party(index, i, tag);
+                    model.setBeneficiaryAccount(party.getAccount());
+                    model.setBeneficiaryBic(party.getBic());
+                    model.setBeneficiaryName(party.getName());
+                    model.setBeneficiaryAddress(party.getAddress());
+                    break;
+                case F70:
+                    model.setRemittanceInformation(index.value(i));
+                    break;
+                case F71A:
+                    model.setDetailsOfCharges(index.value(i));
+                    break;
+                case F71F:
+                    model.setSendersChargesCurrency(currencyAmount(index, i, lazy, BoundMt103.SENDERS_CHARGES_AMOUNT));
+                    break;
+                case F71G:
+                    model.setReceiversChargesCurrency(currencyAmount(index, i, lazy, BoundMt103.RECEIVERS_CHARGES_AMOUNT));
+                    break;
+                case F72:
+                    model.setSenderToReceiverInfo(index.value(i));
+                    break;
+                case F77B:
+                    model.setRegulatoryReporting(index.value(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return model;
+    }
+
+    public static Mt202 mt202(CharSequence raw) {
+        return mt202(MtFieldIndex.parseLenient(raw));
+    }
+
+    public static Mt202 mt202(MtFieldIndex index) {
+        BoundMt202 model = new BoundMt202(index.getSource());
+        LazyFields lazy = model.lazy;
+        long seen = 0;
+        for (int i = 0; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == null || (seen & group(tag)) != 0) {
+                continue;
+            }
+            seen |= group(tag);
+            PartyField party;
+            switch (tag) {
+                case F13C:
+                    model.setTimeIndication(index.value(i));
+                    break;
+                case F20:
+                    model.setTransactionReference(index.value(i));
+                    break;
+                case F21:
+                    model.setRelatedReference(index.value(i));
+                    break;
+                case F25:
+                    model.setAccountIdentification(index.value(i));
+                    break;
+                case F26T:
+                    model.setTransactionTypeCode(index.value(i));
+                    break;
+                case F32A:
+                    model.setCurrency(datedAmount(index, i, lazy, BoundMt202.VALUE_DATE, BoundMt202.AMOUNT));
+                    break;
+                case F51A:
+                    model.setSendingInstitution(index.value(i));
+                    break;
+                case F52A:
+                case F52D:
+                    party = party(index, i, tag);
+                    model.setOrderingInstitutionBic(party.getBic());
+                    model.setOrderingInstitutionName(party.getName());
+                    model.setOrderingInstitutionAddress(party.getAddress());
+                    break;
+                case F53A:
+                case F53B:
+                case F53D:
+                    party = party(index, i, tag);
+                    model.setSendersCorrespondentAccount(party.getAccount());
+                    model.setSendersCorrespondentBic(party.getBic());
+                    model.setSendersCorrespondentName(party.getName());
+                    break;
+                case F54A:
+                case F54B:
+                case F54D:
+                    party = party(index, i, tag);
+                    model.setReceiversCorrespondentAccount(party.getAccount());
+                    model.setReceiversCorrespondentBic(party.getBic());
+                    model.setReceiversCorrespondentName(party.getName());
+                    break;
+                case F56A:
+                case F56D:
+                    party = party(index, i, tag);
+                    model.setIntermediaryAccount(party.getAccount());
+                    model.setIntermediaryBic(party.getBic());
+                    model.setIntermediaryName(party.getName());
+                    break;
+                case F57A:
+                case F57B:
+                case F57D:
+                    party = party(index, i, tag);
+                    model.setAccountWithInstitutionAccount(party.getAccount());
+                    model.setAccountWithInstitutionBic(party.getBic());
+                    model.setAccountWithInstitutionName(party.getName());
+                    break;
+                case F58A:
+                case F58D:
+                    party = party(index, i, tag);
+                    model.setBeneficiaryInstitutionBic(party.getBic());
+                    model.setBeneficiaryInstitutionName(party.getName());
+                    model.setBeneficiaryInstitutionAddress(party.getAddress());
+                    break;
+                case F71A:
+                    model.setDetailsOfCharges(index.value(i));
+                    break;
+                case F71F:
+                    model.setSendersChargesCurrency(currencyAmount(index, i, lazy, BoundMt202.SENDERS_CHARGES_AMOUNT));
+                    break;
+                case F71G:
+                    model.setReceiversChargesCurrency(currencyAmount(index, i, lazy, BoundMt202.RECEIVERS_CHARGES_AMOUNT));
+                    break;
+                case F72:
+                    model.setSenderToReceiverInfo(index.value(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return model;
+    }
+
+    public static Mt202Cov mt202Cov(CharSequence raw) {
+        return mt202Cov(MtFieldIndex.parseLenient(raw));
+    }
+
+    /**
+     * Sequence A (general information) and sequence B (underlying customer credit transfer) share
+     * {@code 52a}, {@code 56a}, {@code 57a} and {@code 72}; the model keeps the sequence A values.
+     */
+    public static Mt202Cov mt202Cov(MtFieldIndex index) {
+        BoundMt202Cov model = new BoundMt202Cov(index.getSource());
+        LazyFields lazy = model.lazy;
+        long seen = 0;
+        for (int i = 0; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == null || (seen & group(tag)) != 0) {
+                continue;
+            }
+            seen |= group(tag);
+            PartyField party;
+            switch (tag) {
+                case F13C:
+                    model.setTimeIndication(index.value(i));
+                    break;
+                case F20:
+                    model.setTransactionReference(index.value(i));
+                    break;
+                case F21:
+                    model.setRelatedReference(index.value(i));
+                    break;
+                case F25:
+                    model.setAccountIdentification(index.value(i));
+                    break;
+                case F26T:
+                    model.setTransactionTypeCode(index.value(i));
+                    break;
+                case F32A:
+                    model.setCurrency(datedAmount(index, i, lazy, BoundMt202Cov.VALUE_DATE, BoundMt202Cov.AMOUNT));
+                    break;
+                case F33B:
+                    model.setOriginalOrderedCurrency(
+                            currencyAmount(index, i, lazy, BoundMt202Cov.ORIGINAL_ORDERED_AMOUNT));
+                    break;
+                case F50A:
+                case F50F:
+                case F50K:
+                    party = party(index, i, tag);
+                    model.setOrderingCustomerAccount(party.getAccount());
+                    model.setOrderingCustomerBic(party.getBic());
+                    model.setOrderingCustomerName(party.getName());
+                    model.setOrderingCustomerAddress(party.getAddress());
+                    break;
+                case F51A:
+                    model.setSendingInstitution(index.value(i));
+                    break;
+                case F52A:
+                case F52D:
+                    party = party(index, i, tag);
+                    model.setOrderingInstitutionBic(party.getBic());
+                    model.setOrderingInstitutionName(party.getName());
+                    break;
+                case F53A:
+                case F53B:
+                case F53D:
+                    party = party(index, i, tag);
+                    model.setSendersCorrespondentAccount(party.getAccount());
+                    model.setSendersCorrespondentBic(party.getBic());
+                    break;
+                case F54A:
+                case F54B:
+                case F54D:
+                    party = party(index, i, tag);
+                    model.setReceiversCorrespondentAccount(party.getAccount());
+                    model.setReceiversCorrespondentBic(party.getBic());
+                    break;
+                case F56A:
+                case F56C:
+                case F56D:
+                    party = party(index, i, tag);
+                    model.setIntermediaryAccount(party.getAccount());
+                    model.setIntermediaryBic(party.getBic());
+                    break;
+                case F57A:
+                case F57B:
+                case F57C:
+                case F57D:
+                    party = party(index, i, tag);
+                    model.setAccountWithInstitutionAccount(party.getAccount());
+                    model.setAccountWithInstitutionBic(party.getBic());
+                    break;
+                case F58A:
+                case F58D:
+                    party = party(index, i, tag);
+                    model.setBeneficiaryInstitutionBic(party.getBic());
+                    model.setBeneficiaryInstitutionName(party.getName());
+                    model.setBeneficiaryInstitutionAddress(party.getAddress());
+                    break;
+                case F59:
+                case F59A:
+                case F59F:
+                    party = party(index, i, tag);
+                    model.setBeneficiaryCustomerAccount(party.getAccount());
+                    model.setBeneficiaryCustomerBic(party.getBic());
+                    model.setBeneficiaryCustomerName(party.getName());
+                    model.setBeneficiaryCustomerAddress(party.getAddress());
+                    break;
+                case F70:
+                    model.setRemittanceInformation(index.value(i));
+                    break;
+                case F71A:
+                    model.setDetailsOfCharges(index.value(i));
+                    break;
+                case F71F:
+                    model.setSendersChargesCurrency(
+                            currencyAmount(index, i, lazy, BoundMt202Cov.SENDERS_CHARGES_AMOUNT));
+                    break;
+                case F72:
+                    model.setSenderToReceiverInfo(index.value(i));
+                    break;
+                case F77B:
+                    model.setRegulatoryReporting(index.value(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return model;
+    }
+
+    public static Mt203 mt203(CharSequence raw) {
+        return mt203(MtFieldIndex.parseLenient(raw));
+    }
+
+    /**
+     * Fields before the first {@code :21:} belong to the message, every {@code :21:} starts a
+     * transaction. A {@code :32A:}/{@code :32B:} before any {@code :21:} has no place in the message
+     * header, so it starts a transaction without a reference.
+     */
+    public static Mt203 mt203(MtFieldIndex index) {
+        BoundMt203 model = new BoundMt203(index);
+        LazyFields lazy = model.lazy;
+        long seen = 0;
+        for (int i = 0; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == MtTag.F21 || tag == MtTag.F32A || tag == MtTag.F32B) {
+                model.bindTransactions(i);
+                break;
+            }
+            if (tag == null || (seen & group(tag)) != 0) {
+                continue;
+            }
+            seen |= group(tag);
+            PartyField party;
+            switch (tag) {
+                case F13C:
+                    model.setTimeIndication(index.value(i));
+                    break;
+                case F19:
+                    lazy.bind(BoundMt203.SUM_OF_AMOUNTS, index.valueStart(i), index.valueEnd(i));
+                    break;
+                case F20:
+                    model.setTransactionReference(index.value(i));
+                    break;
+                case F25:
+                    model.setAccountIdentification(index.value(i));
+                    break;
+                case F26T:
+                    model.setTransactionTypeCode(index.value(i));
+                    break;
+                case F51A:
+                    model.setSendingInstitution(index.value(i));
+                    break;
+                case F52A:
+                case F52D:
+                    party = party(index, i, tag);
+                    model.setOrderingInstitutionBic(party.getBic());
+                    model.setOrderingInstitutionName(party.getName());
+                    model.setOrderingInstitutionAddress(party.getAddress());
+                    break;
+                case F53A:
+                case F53B:
+                case F53D:
+                    party = party(index, i, tag);
+                    model.setSendersCorrespondentAccount(party.getAccount());
+                    model.setSendersCorrespondentBic(party.getBic());
+                    model.setSendersCorrespondentName(party.getName());
+                    break;
+                case F54A:
+                case F54B:
+                case F54D:
+                    party = party(index, i, tag);
+                    model.setReceiversCorrespondentAccount(party.getAccount());
+                    model.setReceiversCorrespondentBic(party.getBic());
+                    model.setReceiversCorrespondentName(party.getName());
+                    break;
+                case F56A:
+                case F56D:
+                    party = party(index, i, tag);
+                    model.setIntermediaryAccount(party.getAccount());
+                    model.setIntermediaryBic(party.getBic());
+                    model.setIntermediaryName(party.getName());
+                    break;
+                case F57A:
+                case F57B:
+                case F57D:
+                    party = party(index, i, tag);
+                    model.setAccountWithInstitutionAccount(party.getAccount());
+                    model.setAccountWithInstitutionBic(party.getBic());
+                    model.setAccountWithInstitutionName(party.getName());
+                    break;
+                case F58A:
+                case F58D:
+                    party = party(index, i, tag);
+                    model.setBeneficiaryInstitutionBic(party.getBic());
+                    model.setBeneficiaryInstitutionName(party.getName());
+                    model.setBeneficiaryInstitutionAddress(party.getAddress());
+                    break;
+                case F71A:
+                    model.setDetailsOfCharges(index.value(i));
+                    break;
+                case F71F:
+                    model.setSendersChargesCurrency(currencyAmount(index, i, lazy, BoundMt203.SENDERS_CHARGES_AMOUNT));
+                    break;
+                case F71G:
+                    model.setReceiversChargesCurrency(currencyAmount(index, i, lazy, BoundMt203.RECEIVERS_CHARGES_AMOUNT));
+                    break;
+                case F72:
+                    model.setSenderToReceiverInfo(index.value(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return model;
+    }
+
+    static List<Mt203Transaction> mt203Transactions(MtFieldIndex index, int from) {
+        List<Mt203Transaction> transactions = new ArrayList<>();
+        BoundMt203Transaction transaction = null;
+        LazyFields lazy = null;
+        long seen = 0;
+        for (int i = from; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == MtTag.F21 || i == from) {
+                transaction = new BoundMt203Transaction(index.getSource());
+                lazy = transaction.lazy;
+                transactions.add(transaction);
+                seen = 0;
+            }
+            if (transaction == null || tag == null || (seen & group(tag)) != 0) {
+                continue;
+            }
+            seen |= group(tag);
+            PartyField party;
+            switch (tag) {
+                case F13C:
+                    transaction.setTimeIndication(index.value(i));
+                    break;
+                case F21:
+                    transaction.setTransactionReference(index.value(i));
+                    break;
+                case F23E:
+                    transaction.setInstructionCode(index.value(i));
+                    break;
+                case F26T:
+                    transaction.setTransactionTypeCode(index.value(i));
+                    break;
+                case F32A:
+                    transaction.setCurrency(datedAmount(index, i, lazy,
+                            BoundMt203Transaction.VALUE_DATE, BoundMt203Transaction.AMOUNT));
+                    break;
+                case F32B:
+                    transaction.setCurrency(currencyAmount(index, i, lazy, BoundMt203Transaction.AMOUNT));
+                    break;
+                case F52A:
+                case F52D:
+                    party = party(index, i, tag);
+                    transaction.setOrderingInstitutionBic(party.getBic());
+                    transaction.setOrderingInstitutionName(party.getName());
+                    transaction.setOrderingInstitutionAddress(party.getAddress());
+                    break;
+                case F53A:
+                case F53B:
+                case F53D:
+                    party = party(index, i, tag);
+                    transaction.setSendersCorrespondentAccount(party.getAccount());
+                    transaction.setSendersCorrespondentBic(party.getBic());
+                    transaction.setSendersCorrespondentName(party.getName());
+                    break;
+                case F54A:
+                case F54B:
+                case F54D:
+                    party = party(index, i, tag);
+                    transaction.setReceiversCorrespondentAccount(party.getAccount());
+                    transaction.setReceiversCorrespondentBic(party.getBic());
+                    transaction.setReceiversCorrespondentName(party.getName());
+                    break;
+                case F56A:
+                case F56D:
+                    party = party(index, i, tag);
+                    transaction.setIntermediaryAccount(party.getAccount());
+                    transaction.setIntermediaryBic(party.getBic());
+                    transaction.setIntermediaryName(party.getName());
+                    break;
+                case F57A:
+                case F57B:
+                case F57D:
+                    party = party(index, i, tag);
+                    transaction.setAccountWithInstitutionAccount(party.getAccount());
+                    transaction.setAccountWithInstitutionBic(party.getBic());
+                    transaction.setAccountWithInstitutionName(party.getName());
+                    break;
+                case F58A:
+                case F58D:
+                    party = party(index, i, tag);
+                    transaction.setBeneficiaryInstitutionBic(party.getBic());
+                    transaction.setBeneficiaryInstitutionName(party.getName());
+                    transaction.setBeneficiaryInstitutionAddress(party.getAddress());
+                    break;
+                case F71A:
+                    transaction.setDetailsOfCharges(index.value(i));
+                    break;
+                case F71F:
+                    transaction.setSendersChargesCurrency(
+                            currencyAmount(index, i, lazy, BoundMt203Transaction.SENDERS_CHARGES_AMOUNT));
+                    break;
+                case F71G:
+                    transaction.setReceiversChargesCurrency(
+                            currencyAmount(index, i, lazy, BoundMt203Transaction.RECEIVERS_CHARGES_AMOUNT));
+                    break;
+                case F72:
+                    transaction.setSenderToReceiverInfo(index.value(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return transactions;
+    }
+
+    public static Mt102 mt102(CharSequence raw) {
+        return mt102(MtFieldIndex.parseLenient(raw));
+    }
+
+    /**
+     * Sequence A and C fields; sequence B starts at every {@code :21:} and ends at the {@code :32A:}
+     * or {@code :19:} of sequence C
+     */
+    public static Mt102 mt102(MtFieldIndex index) {
+        BoundMt102 model = new BoundMt102(index);
+        LazyFields lazy = model.lazy;
+        long seen = 0;
+        boolean firstTransaction = true;
+        boolean inTransaction = false;
+        for (int i = 0; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == MtTag.F21) {
+                if (firstTransaction) {
+                    model.bindTransactions(i);
+                    firstTransaction = false;
+                }
+                inTransaction = true;
+                continue;
+            }
+            if (inTransaction && !endsTransactions(tag)) {
+                continue;
+            }
+            inTransaction = false;
+            if (tag == null || (seen & group(tag)) != 0) {
+                continue;
+            }
+            seen |= group(tag);
+            PartyField party;
+            switch (tag) {
+                case F19:
+                    lazy.bind(BoundMt102.SUM_OF_AMOUNTS, index.valueStart(i), index.valueEnd(i));
+                    break;
+                case F20:
+                    model.setTransactionReference(index.value(i));
+                    break;
+                case F23:
+                    model.setBankOperationCode(index.value(i));
+                    break;
+                case F25:
+                    model.setAccountIdentification(index.value(i));
+                    break;
+                case F32A:
+                    model.setSettlementCurrency(datedAmount(index, i, lazy,
+                            BoundMt102.VALUE_DATE, BoundMt102.INTERBANK_SETTLED_AMOUNT));
+                    break;
+                case F50A:
+                case F50F:
+                case F50K:
+                    party = party(index, i, tag);
+                    model.setOrderingCustomerAccount(party.getAccount());
+                    model.setOrderingCustomerBic(party.getBic());
+                    model.setOrderingCustomerName(party.getName());
+                    model.setOrderingCustomerAddress(party.getAddress());
+                    break;
+                case F51A:
+                    model.setSendingInstitution(index.value(i));
+                    break;
+                case F52A:
+                case F52D:
+                    party = party(index, i, tag);
+                    model.setOrderingInstitutionBic(party.getBic());
+                    model.setOrderingInstitutionName(party.getName());
+                    model.setOrderingInstitutionAddress(party.getAddress());
+                    break;
+                case F53A:
+                case F53B:
+                case F53D:
+                    party = party(index, i, tag);
+                    model.setSendersCorrespondentAccount(party.getAccount());
+                    model.setSendersCorrespondentBic(party.getBic());
+                    model.setSendersCorrespondentName(party.getName());
+                    break;
+                case F54A:
+                case F54B:
+                case F54D:
+                    party = party(index, i, tag);
+                    model.setReceiversCorrespondentAccount(party.getAccount());
+                    model.setReceiversCorrespondentBic(party.getBic());
+                    model.setReceiversCorrespondentName(party.getName());
+                    break;
+                case F56A:
+                case F56C:
+                case F56D:
+                    party = party(index, i, tag);
+                    model.setIntermediaryAccount(party.getAccount());
+                    model.setIntermediaryBic(party.getBic());
+                    model.setIntermediaryName(party.getName());
+                    break;
+                case F57A:
+                case F57B:
+                case F57C:
+                case F57D:
+                    party = party(index, i, tag);
+                    model.setAccountWithInstitutionAccount(party.getAccount());
+                    model.setAccountWithInstitutionBic(party.getBic());
+                    model.setAccountWithInstitutionName(party.getName());
+                    break;
+                case F71A:
+                    model.setDetailsOfCharges(index.value(i));
+                    break;
+                case F71F:
+                    model.setSendersChargesCurrency(currencyAmount(index, i, lazy, BoundMt102.SENDERS_CHARGES_AMOUNT));
+                    break;
+                case F71G:
+                    model.setReceiversChargesCurrency(currencyAmount(index, i, lazy, BoundMt102.RECEIVERS_CHARGES_AMOUNT));
+                    break;
+                case F72:
+                    model.setSenderToReceiverInfo(index.value(i));
+                    break;
+                case F77B:
+                    model.setRegulatoryReporting(index.value(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return model;
+    }
+
+    static List<Mt102Transaction> mt102Transactions(MtFieldIndex index, int from) {
+        List<Mt102Transaction> transactions = new ArrayList<>();
+        BoundMt102Transaction transaction = null;
+        long seen = 0;
+        for (int i = from; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == MtTag.F21) {
+                transaction = new BoundMt102Transaction(index.getSource());
+                transactions.add(transaction);
+                seen = 0;
+            } else if (endsTransactions(tag)) {
+                break;
+            }
+            if (transaction == null || tag == null || (seen & group(tag)) != 0) {
+                continue;
+            }
+            seen |= group(tag);
+            PartyField party;
+            switch (tag) {
+                case F21:
+                    transaction.setTransactionReference(index.value(i));
+                    break;
+                case F23E:
+                    transaction.setInstructionCode(index.value(i));
+                    break;
+                case F26T:
+                    transaction.setTransactionTypeCode(index.value(i));
+                    break;
+                case F32B:
+                    transaction.setCurrency(currencyAmount(index, i, transaction.lazy, BoundMt102Transaction.AMOUNT));
+                    break;
+                case F50A:
+                case F50F:
+                case F50K:
+                    party = party(index, i, tag);
+                    transaction.setOrderingCustomerAccount(party.getAccount());
+                    transaction.setOrderingCustomerBic(party.getBic());
+                    transaction.setOrderingCustomerName(party.getName());
+                    break;
+                case F57A:
+                case F57B:
+                case F57C:
+                case F57D:
+                    party = party(index, i, tag);
+                    transaction.setAccountWithInstitutionAccount(party.getAccount());
+                    transaction.setAccountWithInstitutionBic(party.getBic());
+                    transaction.setAccountWithInstitutionName(party.getName());
+                    break;
+                case F59:
+                case F59A:
+                case F59F:
+                    party = party(index, i, tag);
+                    transaction.setBeneficiaryAccount(party.getAccount());
+                    transaction.setBeneficiaryBic(party.getBic());
+                    transaction.setBeneficiaryName(party.getName());
+                    transaction.setBeneficiaryAddress(party.getAddress());
+                    break;
+                case F70:
+                    transaction.setRemittanceInformation(index.value(i));
+                    break;
+                case F77B:
+                    transaction.setRegulatoryReporting(index.value(i));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * MT102 sequence C starts with the settlement amount or the sum of amounts
+     */
+    private static boolean endsTransactions(MtTag tag) {
+        return tag == MtTag.F32A || tag == MtTag.F19;
+    }
+
+    /**
+     * YYMMDD + currency + amount ({@code 32A}): date and amount are bound lazily
+     *
+     * @return currency, null if the value is too short to hold one
+     */
+    private static String datedAmount(MtFieldIndex index, int i, LazyFields lazy, int dateSlot, int amountSlot) {
+        int start = index.valueStart(i);
+        int end = index.valueEnd(i);
+        if (end - start < DATE_LENGTH + CURRENCY_LENGTH) {
+            return null;
+        }
+        int currency = start + DATE_LENGTH;
+        lazy.bind(dateSlot, start, currency);
+        lazy.bind(amountSlot, currency + CURRENCY_LENGTH, end);
+        return index.getSource().subSequence(currency, currency + CURRENCY_LENGTH).toString();
+    }
+
+    /**
+     * Currency + amount ({@code 32B}, {@code 33B}, {@code 71F}, {@code 71G}): the amount is bound lazily
+     *
+     * @return currency, null if the value is too short to hold one
+     */
+    private static String currencyAmount(MtFieldIndex index, int i, LazyFields lazy, int amountSlot) {
+        int start = index.valueStart(i);
+        int end = index.valueEnd(i);
+        if (end - start < CURRENCY_LENGTH) {
+            return null;
+        }
+        lazy.bind(amountSlot, start + CURRENCY_LENGTH, end);
+        return index.getSource().subSequence(start, start + CURRENCY_LENGTH).toString();
+    }
+
+    private static PartyField party(MtFieldIndex index, int i, MtTag tag) {
+        return PartyField.parse(index.value(i), isIdentifierCode(tag));
+    }
+
+    private static boolean isIdentifierCode(MtTag tag) {
+        switch (tag) {
+            case F50A:
+            case F52A:
+            case F53A:
+            case F54A:
+            case F56A:
+            case F57A:
+            case F58A:
+            case F59A:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Presence bit shared by the options of a party field, so that only the first of
+     * e.g. {@code 53A}/{@code 53B}/{@code 53D} is bound
+     */
+    private static long group(MtTag tag) {
+        switch (tag) {
+            case F50F:
+            case F50K:
+                return MtTag.F50A.bit();
+            case F52D:
+                return MtTag.F52A.bit();
+            case F53B:
+            case F53D:
+                return MtTag.F53A.bit();
+            case F54B:
+            case F54D:
+                return MtTag.F54A.bit();
+            case F56C:
+            case F56D:
+                return MtTag.F56A.bit();
+            case F57B:
+            case F57C:
+            case F57D:
+                return MtTag.F57A.bit();
+            case F58D:
+                return MtTag.F58A.bit();
+            case F59A:
+            case F59F:
+                return MtTag.F59.bit();
+            default:
+                return tag.bit();
+        }
+    }
+}
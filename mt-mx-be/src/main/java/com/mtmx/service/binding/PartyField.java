@@ -0,0 +1,76 @@
+package com.mtmx.service.binding;
+
+import lombok.Value;
+
+/**
+ * Party / institution field split into its lines: {@code 50a}, {@code 52a} ... {@code 59a}.
+ * <pre>
+ * option A:           [/account]       option D, K, no letter:  [/account]
+ *                     BIC                                       name
+ *                                                               address lines...
+ * </pre>
+ */
+@Value
+class PartyField {
+
+    /** Account or party identifier without the leading slash, null if absent */
+    String account;
+
+    /** Option A identifier code */
+    String bic;
+
+    /** First line after the account for name and address options */
+    String name;
+
+    /** Remaining lines joined with {@code \n}, null if absent */
+    String address;
+
+    /**
+     * @param value          trimmed field value
+     * @param identifierCode true for option A (BIC) fields
+     */
+    static PartyField parse(String value, boolean identifierCode) {
+        int length = value.length();
+        int line = 0;
+        String account = null;
+        if (length > 0 && value.charAt(0) == '/') {
+            int end = lineEnd(value, 0);
+            account = emptyToNull(value.substring(1, end).trim());
+            line = nextLine(value, end);
+        }
+        if (line >= length) {
+            return new PartyField(account, null, null, null);
+        }
+        int end = lineEnd(value, line);
+        String first = value.substring(line, end).trim();
+        if (identifierCode) {
+            return new PartyField(account, emptyToNull(first), null, null);
+        }
+        int rest = nextLine(value, end);
+        String address = rest < length ? emptyToNull(value.substring(rest).replace("\r\n", "\n").trim()) : null;
+        return new PartyField(account, null, emptyToNull(first), address);
+    }
+
+    private static int lineEnd(String value, int from) {
+        int end = from;
+        while (end < value.length() && value.charAt(end) != '\n' && value.charAt(end) != '\r') {
+            end++;
+        }
+        return end;
+    }
+
+    private static int nextLine(String value, int lineEnd) {
+        int next = lineEnd;
+        if (next < value.length() && value.charAt(next) == '\r') {
+            next++;
+        }
+        if (next < value.length() && value.charAt(next) == '\n') {
+            next++;
+        }
+        return next;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,77 @@
+package com.mtmx.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * SHA-256 based key of a conversion input.
+ * The digest covers the operation, an optional qualifier (e.g. target MT type for XSD checks)
+ * and the full payload, so identical payloads in different directions never collide.
+ */
+public final class ContentKey {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private final byte[] digest;
+    private final int hash;
+
+    private ContentKey(byte[] digest) {
+        this.digest = digest;
+        this.hash = Arrays.hashCode(digest);
+    }
+
+    /**
+     * Build a key for the given operation and payload
+     *
+     * @param operation operation the payload is used for
+     * @param qualifier optional discriminator, may be null
+     * @param payload   message content
+     * @return content key
+     */
+    public static ContentKey of(String operation, String qualifier, String payload) {
+        MessageDigest md = SHA_256.get();
+        md.reset();
+        md.update(operation.getBytes(StandardCharsets.US_ASCII));
+        md.update((byte) 0);
+        if (qualifier != null) {
+            md.update(qualifier.getBytes(StandardCharsets.UTF_8));
+        }
+        md.update((byte) 0);
+        md.update(payload.getBytes(StandardCharsets.UTF_8));
+        return new ContentKey(md.digest());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContentKey)) {
+            return false;
+        }
+        ContentKey other = (ContentKey) o;
+        return hash == other.hash && Arrays.equals(digest, other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(16);
+        for (int i = 0; i < 8; i++) {
+            sb.append(String.format("%02x", digest[i]));
+        }
+        return sb.toString();
+    }
+}
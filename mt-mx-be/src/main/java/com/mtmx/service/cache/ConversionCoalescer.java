@@ -0,0 +1,155 @@
+package com.mtmx.service.cache;
+
+import com.mtmx.service.cache.ConversionResultCache.Loader;
+import com.mtmx.service.cache.ConversionResultCache.Operation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight coalescing of identical concurrent conversions.
+ * The first caller for a {@link ContentKey} (the leader) runs the computation; callers arriving
+ * while it is in flight (followers) wait for it and receive the same result or exception.
+ * A follower waits at most {@code mtmx.coalescing.follower-timeout-ms}; after that it stops
+ * waiting for a stuck leader and runs the computation itself.
+ * Nothing is retained once the computation finishes, so this complements rather than replaces
+ * {@link ConversionResultCache}. Leader/follower counts and the resulting coalescing ratio are
+ * published as {@code mtmx.conversion.coalescing.*} meters.
+ */
+@Component
+@Slf4j
+public class ConversionCoalescer {
+
+    static final long DEFAULT_FOLLOWER_TIMEOUT_MS = 5000;
+
+    private final boolean enabled;
+    private final long followerTimeoutMs;
+    private final ConcurrentHashMap<ContentKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Operation, Counter> leaders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> followers = new EnumMap<>(Operation.class);
+    private final Counter timeouts;
+
+    public ConversionCoalescer(boolean enabled, MeterRegistry meterRegistry) {
+        this(enabled, DEFAULT_FOLLOWER_TIMEOUT_MS, meterRegistry);
+    }
+
+    @Autowired
+    public ConversionCoalescer(@Value("${mtmx.coalescing.enabled:true}") boolean enabled,
+                               @Value("${mtmx.coalescing.follower-timeout-ms:5000}") long followerTimeoutMs,
+                               MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.followerTimeoutMs = followerTimeoutMs > 0 ? followerTimeoutMs : DEFAULT_FOLLOWER_TIMEOUT_MS;
+
+        for (Operation operation : Operation.values()) {
+            leaders.put(operation, Counter.builder("mtmx.conversion.coalescing.leaders")
+                    .tag("operation", operation.getTag())
+                    .register(meterRegistry));
+            followers.put(operation, Counter.builder("mtmx.conversion.coalescing.followers")
+                    .tag("operation", operation.getTag())
+                    .register(meterRegistry));
+        }
+        this.timeouts = Counter.builder("mtmx.conversion.coalescing.timeouts")
+                .description("Followers that stopped waiting for the leader and converted locally")
+                .register(meterRegistry);
+        Gauge.builder("mtmx.conversion.coalescing.in-flight", inFlight, Map::size).register(meterRegistry);
+        Gauge.builder("mtmx.conversion.coalescing.ratio", this, ConversionCoalescer::coalescingRatio)
+                .description("Share of calls served by another caller's in-flight computation")
+                .register(meterRegistry);
+
+        log.info("Conversion request coalescing {}", enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * Pass-through instance for code paths constructed outside Spring
+     *
+     * @return coalescer that always runs the loader directly
+     */
+    public static ConversionCoalescer disabled() {
+        return new ConversionCoalescer(false, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Run the loader, or join an identical computation already in flight
+     *
+     * @param operation operation being coalesced (used for metrics)
+     * @param key       content key of the payload
+     * @param loader    computation to run when this caller becomes the leader
+     * @return result of the (possibly shared) computation
+     * @throws E the (possibly shared) failure of the computation
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T execute(Operation operation, ContentKey key, Loader<T, E> loader) throws E {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            followers.get(operation).increment();
+            try {
+                return (T) existing.get(followerTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                timeouts.increment();
+                log.warn("Coalesced {} still running after {} ms, converting locally", operation, followerTimeoutMs);
+                return loader.load();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loader.load();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw (E) cause;
+            }
+        }
+
+        leaders.get(operation).increment();
+        try {
+            T value = loader.load();
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private double coalescingRatio() {
+        double led = 0;
+        double joined = 0;
+        for (Operation operation : Operation.values()) {
+            led += leaders.get(operation).count();
+            joined += followers.get(operation).count();
+        }
+        double total = led + joined;
+        return total == 0 ? 0.0 : joined / total;
+    }
+}
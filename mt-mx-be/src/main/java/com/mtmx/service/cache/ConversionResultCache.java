@@ -0,0 +1,204 @@
+package com.mtmx.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Bounded in-process cache of conversion outputs and XSD validation verdicts.
+ * Entries are keyed by a {@link ContentKey} (SHA-256 of operation + payload), evicted
+ * least-recently-used once {@code mtmx.cache.max-entries} is reached and expired after
+ * {@code mtmx.cache.ttl-seconds}; a max-entries or TTL of 0 disables the cache. Only successful
+ * computations are cached; failures are always recomputed. Hit/miss/eviction counts are published as
+ * {@code mtmx.conversion.cache.*} meters.
+ */
+@Component
+@Slf4j
+public class ConversionResultCache {
+
+    public enum Operation {
+        MT_TO_MX("mt-to-mx"),
+        MX_TO_MT("mx-to-mt"),
+        XSD_VALIDATION("xsd");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    /**
+     * Computation executed on a cache miss
+     */
+    @FunctionalInterface
+    public interface Loader<T, E extends Exception> {
+        T load() throws E;
+    }
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<ContentKey, Entry> entries;
+    private final Map<Operation, Counter> hits = new EnumMap<>(Operation.class);
+    private final Map<Operation, Counter> misses = new EnumMap<>(Operation.class);
+    private final Counter evictions;
+
+    @Autowired
+    public ConversionResultCache(@Value("${mtmx.cache.enabled:true}") boolean enabled,
+                                 @Value("${mtmx.cache.max-entries:10000}") int maxEntries,
+                                 @Value("${mtmx.cache.ttl-seconds:600}") long ttlSeconds,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled && maxEntries > 0 && ttlSeconds > 0;
+        this.maxEntries = Math.max(0, maxEntries);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        for (Operation operation : Operation.values()) {
+            hits.put(operation, Counter.builder("mtmx.conversion.cache.hits")
+                    .tag("operation", operation.getTag())
+                    .register(meterRegistry));
+            misses.put(operation, Counter.builder("mtmx.conversion.cache.misses")
+                    .tag("operation", operation.getTag())
+                    .register(meterRegistry));
+        }
+        this.evictions = Counter.builder("mtmx.conversion.cache.evictions").register(meterRegistry);
+        Gauge.builder("mtmx.conversion.cache.size", this, ConversionResultCache::size).register(meterRegistry);
+
+        log.info("Conversion result cache {} (maxEntries={}, ttlSeconds={})",
+                this.enabled ? "enabled" : "disabled", maxEntries, ttlSeconds);
+    }
+
+    /**
+     * Pass-through instance for code paths constructed outside Spring
+     *
+     * @return cache that never stores anything
+     */
+    public static ConversionResultCache disabled() {
+        return new ConversionResultCache(false, 0, 0, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Return the cached result for the payload or compute and store it
+     *
+     * @param operation operation being cached
+     * @param qualifier optional discriminator (e.g. MT type for XSD validation), may be null
+     * @param payload   input message
+     * @param loader    computation to run on a miss
+     * @return cached or freshly computed result
+     * @throws E if the computation fails (failures are not cached)
+     */
+    public <T, E extends Exception> T get(Operation operation, String qualifier, String payload,
+                                          Loader<T, E> loader) throws E {
+        if (!enabled || payload == null) {
+            return loader.load();
+        }
+        return get(operation, ContentKey.of(operation.name(), qualifier, payload), loader);
+    }
+
+    /**
+     * Same as {@link #get(Operation, String, String, Loader)} for callers that already hold the key
+     *
+     * @param operation operation being cached (used for metrics)
+     * @param key       precomputed content key
+     * @param loader    computation to run on a miss
+     * @return cached or freshly computed result
+     * @throws E if the computation fails (failures are not cached)
+     */
+    public <T, E extends Exception> T get(Operation operation, ContentKey key, Loader<T, E> loader) throws E {
+        return get(operation, key, loader, value -> true);
+    }
+
+    /**
+     * Same as {@link #get(Operation, ContentKey, Loader)}, storing only results that pass the filter
+     *
+     * @param operation operation being cached (used for metrics)
+     * @param key       precomputed content key
+     * @param loader    computation to run on a miss
+     * @param cacheable false for results that must not be replayed (e.g. clock based values)
+     * @return cached or freshly computed result
+     * @throws E if the computation fails (failures are not cached)
+     */
+    @SuppressWarnings("unchecked")
+    public <T, E extends Exception> T get(Operation operation, ContentKey key, Loader<T, E> loader,
+                                          Predicate<? super T> cacheable) throws E {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.createdAt < ttlNanos) {
+                    hits.get(operation).increment();
+                    return (T) entry.value;
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.get(operation).increment();
+        T value = loader.load();
+        if (value != null && cacheable.test(value)) {
+            put(key, value, now);
+        }
+        return value;
+    }
+
+    /**
+     * Drop all cached entries
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private void put(ContentKey key, Object value, long createdAt) {
+        synchronized (entries) {
+            entries.put(key, new Entry(value, createdAt));
+            while (entries.size() > maxEntries) {
+                ContentKey eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+                evictions.increment();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long createdAt;
+
+        private Entry(Object value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+}
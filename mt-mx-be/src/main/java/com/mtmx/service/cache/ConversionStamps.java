@@ -0,0 +1,47 @@
+package com.mtmx.service.cache;
+
+import com.mtmx.domain.model.mx.LocalDateTimeAdapter;
+
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Values a converter derives from the clock rather than from the input message.
+ * A cached conversion must not replay them: {@code GrpHdr/CreDtTm} is re-stamped on every
+ * return, and MX whose {@code MsgId} is a time based fallback ({@code MT202REF<millis>},
+ * {@code MT102REF<millis>}, used when the MT has no {@code :20:}) is not cached at all.
+ */
+public final class ConversionStamps {
+
+    private static final Pattern CREATION_TIME = Pattern.compile("<((?:\\w+:)?CreDtTm)>[^<]*</\\1>");
+    private static final Pattern FALLBACK_MSG_ID = Pattern.compile("<(?:\\w+:)?MsgId>MT\\d{3}REF\\d+</");
+    private static final LocalDateTimeAdapter DATE_TIME = new LocalDateTimeAdapter();
+
+    private ConversionStamps() {
+    }
+
+    /**
+     * @return the MX with its first {@code CreDtTm} set to the current time
+     */
+    public static String restampCreationTime(String mx) {
+        if (mx == null) {
+            return null;
+        }
+        Matcher matcher = CREATION_TIME.matcher(mx);
+        if (!matcher.find()) {
+            return mx;
+        }
+        String element = matcher.group(1);
+        return mx.substring(0, matcher.start())
+                + '<' + element + '>' + DATE_TIME.marshal(LocalDateTime.now()) + "</" + element + '>'
+                + mx.substring(matcher.end());
+    }
+
+    /**
+     * @return false if the MX carries a clock based fallback message id
+     */
+    public static boolean isCacheableMx(String mx) {
+        return mx != null && !FALLBACK_MSG_ID.matcher(mx).find();
+    }
+}
@@ -0,0 +1,22 @@
+package com.mtmx.service.converter;
+
+import com.mtmx.domain.payment.CanonicalPayment;
+
+/**
+ * Converter that can also read its source message into the format-neutral
+ * {@link CanonicalPayment}, so the other format can be generated later without parsing the
+ * source again
+ *
+ * @param <T> Source message type
+ */
+public interface CanonicalPaymentConverter<T> {
+
+    /**
+     * Read the source message into its canonical payment
+     *
+     * @param sourceMessage Source message
+     * @return Canonical payment
+     * @throws ConversionException if the message cannot be read
+     */
+    CanonicalPayment toPayment(T sourceMessage) throws ConversionException;
+}
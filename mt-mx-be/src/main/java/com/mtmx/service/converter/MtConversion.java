@@ -0,0 +1,18 @@
+package com.mtmx.service.converter;
+
+import com.mtmx.domain.payment.CanonicalPayment;
+import lombok.Value;
+
+/**
+ * MX document and canonical payment of an MT message, both taken from the same read of the
+ * message
+ */
+@Value
+public class MtConversion {
+
+    /** Generated MX document */
+    String mxMessage;
+
+    /** Canonical payment with the values written to {@link #mxMessage} */
+    CanonicalPayment payment;
+}
@@ -21,6 +21,15 @@ public interface MtMessageValidator {
      */
     String getMessageType(String mtMessage);
 
+    /**
+     * Reject input that exceeds the configured size or field count limits
+     *
+     * @param mtMessage MT message
+     * @throws ConversionException if a limit is exceeded
+     */
+    default void checkLimits(String mtMessage) throws ConversionException {
+    }
+
     /**
      * Extract specific field from MT message
      * 
@@ -0,0 +1,17 @@
+package com.mtmx.service.converter;
+
+/**
+ * MT to MX converter that can return the canonical payment of the message together with the
+ * MX, so ingest does not read the MT a second time to store the payment
+ */
+public interface MtToMxPaymentConverter extends MessageConverter<String, String>, CanonicalPaymentConverter<String> {
+
+    /**
+     * Validate and convert the MT message, reading it once for both results
+     *
+     * @param mtMessage MT message
+     * @return MX document and canonical payment
+     * @throws ConversionException if the message is invalid or cannot be converted
+     */
+    MtConversion convertWithPayment(String mtMessage) throws ConversionException;
+}
@@ -1,24 +1,38 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.model.Mt102;
 import com.mtmx.domain.model.mx.Pacs008Message;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.binding.MtModelBinder;
 import com.mtmx.service.converter.ConversionException;
-import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.converter.MtConversion;
 import com.mtmx.service.converter.MtMessageValidator;
+import com.mtmx.service.converter.MtToMxPaymentConverter;
+import com.mtmx.service.mt102.Mt102TransactionView;
+import com.mtmx.service.mt102.Mt102Transactions;
+import com.mtmx.service.payment.CanonicalPayments;
+import com.mtmx.service.validation.rules.MtTag;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Converter for MT102 to MX pacs.008.001.08 (Multiple Customer Credit Transfer)
@@ -26,17 +40,33 @@ import java.util.regex.Pattern;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class Mt102ToMxConverter implements MessageConverter<String, String> {
+public class Mt102ToMxConverter implements MtToMxPaymentConverter {
 
     private final MtMessageValidator mtMessageValidator;
 
-    private static final Pattern FIELD_32A_PATTERN = Pattern.compile(":32A:(\\d{6})([A-Z]{3})([\\d,\\.]+)");
-    private static final Pattern FIELD_19_PATTERN = Pattern.compile(":19:([\\d,\\.]+)");
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
-    private static final DateTimeFormatter MT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+    /** :32A: olmayan mesajlar için varsayılan tutar: USD 1000.00 */
+    private static final SettlementAmount DEFAULT_AMOUNT = new SettlementAmount("USD", 100_000L);
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String PACS008_NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08";
+    private static final QName GRP_HDR = new QName("GrpHdr");
+    private static final QName CDT_TRF_TX_INF = new QName("CdtTrfTxInf");
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
 
     @Override
     public String convert(String mtMessage) throws ConversionException {
+        StringWriter writer = new StringWriter();
+        convert(mtMessage, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Convert and write the pacs.008 document to {@code out}.
+     * MT102'ler :32B: içeren transaction'lar taşıyorsa her transaction kendi CdtTrfTxInf'i olarak
+     * yazılır (bulk mode); transaction'lar mesaj üzerinden tek tek okunup doğrudan çıktıya
+     * aktarıldığı için bellek kullanımı transaction sayısıyla büyümez.
+     */
+    public void convert(String mtMessage, Writer out) throws ConversionException {
         if (!isValid(mtMessage)) {
             throw new ConversionException("Invalid MT102 message");
         }
@@ -44,41 +74,75 @@ public class Mt102ToMxConverter implements MessageConverter<String, String> {
         try {
             log.info("Starting MT102 to MX pacs.008 conversion");
 
-            // Extract fields from MT message
-            String reference = mtMessageValidator.extractField(mtMessage, "20");
-            String[] amountInfo = extractAmountInfo(mtMessage);
-            String sumOfAmounts = extractSumOfAmounts(mtMessage);
-
-            log.debug("Extracted reference: {}", reference);
-            log.debug("Extracted amountInfo: {}", amountInfo != null ? Arrays.toString(amountInfo) : "null");
-            log.debug("Extracted sumOfAmounts: {}", sumOfAmounts);
+            Mt102Content content = read(mtMessage);
 
-            // Varsayılan değerler kullan
-            if (reference == null || reference.trim().isEmpty()) {
-                reference = "MT102REF" + System.currentTimeMillis();
-                log.warn("Reference field not found, using default: {}", reference);
+            out.write(XML_DECLARATION);
+            if (content.transactions.isBulk()) {
+                // İkinci geçiş: her transaction doğrudan çıktıya yazılır
+                log.info("Writing bulk pacs.008 with {} transactions", content.transactions.count);
+                writeBulk(mtMessage, content, out, null);
+            } else {
+                // Create MX message using JAXB
+                marshal(createPacs008Message(content), out);
             }
+            out.flush();
 
-            if (amountInfo == null) {
-                log.warn("32A field not found, using default values");
-                amountInfo = new String[] {
-                        LocalDate.now().format(MT_DATE_FORMATTER),
-                        "USD",
-                        "1000.00"
-                };
-            }
+        } catch (Exception e) {
+            log.error("Error converting MT102 to MX: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to convert MT102 to MX: " + e.getMessage(), e);
+        }
+    }
 
-            if (sumOfAmounts == null) {
-                sumOfAmounts = amountInfo[2]; // 32A'daki tutarı kullan
-                log.warn("19 field not found, using 32A amount: {}", sumOfAmounts);
+    /**
+     * Canonical payment of an MT102 with the values {@link #convert(String, Writer)} writes to the
+     * pacs.008; in bulk mode every transaction becomes a canonical transaction. The message is not
+     * validated again; callers convert (and so validate) the same message first.
+     */
+    @Override
+    public CanonicalPayment toPayment(String mtMessage) throws ConversionException {
+        try {
+            Mt102Content content = read(mtMessage);
+            if (!content.transactions.isBulk()) {
+                return CanonicalPayments.fromPacs008(MessageType.MT102, createPacs008Message(content));
             }
+            // Transaction'lar pacs.008 modeli kurulmadan doğrudan canonical payment'a eklenir
+            CanonicalPayment.CanonicalPaymentBuilder payment = bulkPayment(content);
+            Mt102Transactions transactions = Mt102Transactions.of(mtMessage);
+            String orderingCustomer = orderingCustomerName(transactions.sequenceA());
+            for (Mt102TransactionView transaction : transactions) {
+                payment.transaction(canonicalTransaction(transaction, content.settlement.getCurrency(), orderingCustomer));
+            }
+            return payment.build();
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            throw new ConversionException("Failed to read MT102: " + e.getMessage(), e);
+        }
+    }
 
-            // Create MX message using JAXB
-            Pacs008Message mxMessage = createPacs008Message(reference, amountInfo, sumOfAmounts);
-
-            // Marshal to XML string
-            return marshalToXml(mxMessage);
+    /**
+     * {@link #convert(String)} and {@link #toPayment(String)} from a single read of the MT102; in
+     * bulk mode every transaction is added to the payment as it is written to the pacs.008
+     */
+    @Override
+    public MtConversion convertWithPayment(String mtMessage) throws ConversionException {
+        if (!isValid(mtMessage)) {
+            throw new ConversionException("Invalid MT102 message");
+        }
 
+        try {
+            Mt102Content content = read(mtMessage);
+            StringWriter out = new StringWriter();
+            out.write(XML_DECLARATION);
+            CanonicalPayment payment;
+            if (content.transactions.isBulk()) {
+                CanonicalPayment.CanonicalPaymentBuilder bulk = bulkPayment(content);
+                writeBulk(mtMessage, content, out, bulk);
+                payment = bulk.build();
+            } else {
+                Pacs008Message message = createPacs008Message(content);
+                marshal(message, out);
+                payment = CanonicalPayments.fromPacs008(MessageType.MT102, message);
+            }
+            return new MtConversion(out.toString(), payment);
         } catch (Exception e) {
             log.error("Error converting MT102 to MX: {}", e.getMessage(), e);
             throw new ConversionException("Failed to convert MT102 to MX: " + e.getMessage(), e);
@@ -100,49 +164,231 @@ public class Mt102ToMxConverter implements MessageConverter<String, String> {
         return "102";
     }
 
-    private String[] extractAmountInfo(String mtMessage) {
-        try {
-            Matcher matcher = FIELD_32A_PATTERN.matcher(mtMessage);
-            if (matcher.find()) {
-                String date = matcher.group(1);
-                String currency = matcher.group(2);
-                String amount = matcher.group(3).replace(",", "").replace(".", "");
-
-                // Ondalık ayracını düzelt
-                if (amount.length() > 2) {
-                    amount = amount.substring(0, amount.length() - 2) + "." + amount.substring(amount.length() - 2);
-                }
-
-                log.debug("Extracted 32A - Date: {}, Currency: {}, Amount: {}", date, currency, amount);
-                return new String[] { date, currency, amount };
+    /**
+     * Sequence A/C alanları ve transaction özeti; eksik alanlar için varsayılan değerler kullanılır
+     */
+    private Mt102Content read(String mtMessage) throws ConversionException {
+        // Extract fields from MT message
+        // Sequence A/C alanları; transaction'lar aşağıda mesaj üzerinden akıtılır
+        Mt102 mt102 = MtModelBinder.mt102(mtMessage);
+        String reference = mt102.getTransactionReference();
+        SettlementAmount settlement = extractAmount(mt102);
+        if (settlement == null) {
+            // :19: tutarı :32A: olmadan USD ölçeğiyle okunur
+            mt102.setSettlementCurrency(DEFAULT_AMOUNT.getCurrency());
+        }
+        long sumOfAmounts = mt102.sumOfAmountsMinorUnits();
+
+        log.debug("Extracted reference: {}", reference);
+        log.debug("Extracted amount: {}", settlement);
+        log.debug("Extracted sumOfAmounts: {}", sumOfAmounts);
+
+        // Varsayılan değerler kullan
+        if (reference == null || reference.trim().isEmpty()) {
+            reference = "MT102REF" + System.currentTimeMillis();
+            log.warn("Reference field not found, using default: {}", reference);
+        }
+
+        if (settlement == null) {
+            log.warn("32A field not found, using default values");
+            settlement = DEFAULT_AMOUNT;
+        }
+        String currency = settlement.getCurrency();
+
+        // İlk geçiş: transaction sayısı ve :32B: toplamı (NbOfTxs / CtrlSum)
+        TransactionSummary transactions = summarizeTransactions(mtMessage, currency);
+
+        if (sumOfAmounts == CurrencyAmounts.NO_AMOUNT && transactions.priced > 0) {
+            sumOfAmounts = transactions.sum;
+            log.warn("19 field not found, using sum of 32B amounts: {}", sumOfAmounts);
+        }
+
+        if (sumOfAmounts == CurrencyAmounts.NO_AMOUNT) {
+            sumOfAmounts = settlement.getMinorUnits(); // 32A'daki tutarı kullan
+            log.warn("19 field not found, using 32A amount: {}", sumOfAmounts);
+        }
+
+        return new Mt102Content(reference, settlement, new SettlementAmount(currency, sumOfAmounts), transactions);
+    }
+
+    /**
+     * :32A: amount in minor units, read from the raw message without a {@link BigDecimal}
+     */
+    private SettlementAmount extractAmount(Mt102 mt102) {
+        String currency = mt102.getSettlementCurrency();
+        // Ondalık basamak sayısı para biriminden (ISO 4217) gelir
+        SettlementAmount settlement = currency != null
+                ? SettlementAmount.of(currency, mt102.interbankSettledAmountMinorUnits()) : null;
+        if (currency != null && settlement == null) {
+            log.error("Error extracting 32A field: malformed amount for currency {}", currency);
+        }
+        return settlement;
+    }
+
+    /**
+     * Sequence B transaction sayısı ve :32B: tutarlarının long minor unit toplamı;
+     * transaction'lar mesaj üzerinden tek tek okunur
+     *
+     * @throws ConversionException if a transaction is not in the :32A: currency
+     */
+    private TransactionSummary summarizeTransactions(String mtMessage, String currency) throws ConversionException {
+        TransactionSummary summary = new TransactionSummary();
+        for (Mt102TransactionView transaction : Mt102Transactions.of(mtMessage)) {
+            summary.count++;
+            if (!transaction.hasAmount()) {
+                continue;
             }
-        } catch (Exception e) {
-            log.error("Error extracting 32A field: {}", e.getMessage());
+            if (!transaction.isCurrency(currency)) {
+                throw new ConversionException("Transaction " + transaction.reference() + " currency "
+                        + transaction.currency() + " differs from 32A currency " + currency);
+            }
+            summary.sum = Math.addExact(summary.sum, transaction.amountMinorUnits(currency));
+            summary.priced++;
         }
-        return null;
+        return summary;
     }
 
-    private String extractSumOfAmounts(String mtMessage) {
-        try {
-            Matcher matcher = FIELD_19_PATTERN.matcher(mtMessage);
-            if (matcher.find()) {
-                String amount = matcher.group(1).replace(",", "").replace(".", "");
+    /**
+     * @param payment receives every written transaction, null if not needed
+     */
+    private void writeBulk(String mtMessage, Mt102Content content, Writer out,
+                           CanonicalPayment.CanonicalPaymentBuilder payment)
+            throws JAXBException, XMLStreamException {
+        String currency = content.settlement.getCurrency();
+        Marshaller marshaller = JaxbContextCache.get(Pacs008Message.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
 
-                // Ondalık ayracını düzelt
-                if (amount.length() > 2) {
-                    amount = amount.substring(0, amount.length() - 2) + "." + amount.substring(amount.length() - 2);
-                }
+        XMLStreamWriter xml = XML_OUTPUT_FACTORY.createXMLStreamWriter(out);
+        xml.writeStartElement("ns2", "Document", PACS008_NAMESPACE);
+        xml.writeNamespace("ns2", PACS008_NAMESPACE);
+        xml.writeStartElement("FIToFICstmrCdtTrf");
+
+        Pacs008Message.GroupHeader groupHeader = createBulkGroupHeader(content);
+        marshaller.marshal(new JAXBElement<>(GRP_HDR, Pacs008Message.GroupHeader.class, groupHeader), xml);
+
+        Mt102Transactions transactions = Mt102Transactions.of(mtMessage);
+        String orderingCustomer = orderingCustomerName(transactions.sequenceA());
+        for (Mt102TransactionView view : transactions) {
+            CanonicalPayment.Transaction transaction = canonicalTransaction(view, currency, orderingCustomer);
+            marshaller.marshal(new JAXBElement<>(CDT_TRF_TX_INF,
+                    Pacs008Message.CreditTransferTransactionInformation.class, createTransactionInformation(transaction)), xml);
+            if (payment != null) {
+                payment.transaction(transaction);
+            }
+        }
+
+        xml.writeEndElement();
+        xml.writeEndElement();
+        xml.flush();
+        xml.close();
+    }
+
+    /**
+     * Group level values of the bulk pacs.008 ({@link #createBulkGroupHeader}) without its transactions
+     */
+    private static CanonicalPayment.CanonicalPaymentBuilder bulkPayment(Mt102Content content) {
+        String currency = content.settlement.getCurrency();
+        return CanonicalPayment.builder()
+                .messageType(MessageType.MT102)
+                .messageId(content.reference)
+                .currency(currency)
+                .settlementAmount(content.settlement.toBigDecimal())
+                .controlSum(CurrencyAmounts.toBigDecimal(content.transactions.sum, currency));
+    }
 
-                log.debug("Extracted 19 field amount: {}", amount);
-                return amount;
+    private static Pacs008Message.GroupHeader createBulkGroupHeader(Mt102Content content) {
+        String currency = content.settlement.getCurrency();
+        Pacs008Message.GroupHeader groupHeader = new Pacs008Message.GroupHeader();
+        groupHeader.setMsgId(content.reference);
+        groupHeader.setCreDtTm(LocalDateTime.now());
+        groupHeader.setNbOfTxs(String.valueOf(content.transactions.count));
+        groupHeader.setCtrlSum(CurrencyAmounts.toBigDecimal(content.transactions.sum, currency));
+        groupHeader.setTtlIntrBkSttlmAmt(amount(content.settlement));
+        return groupHeader;
+    }
+
+    /**
+     * Values of one sequence B transaction; the CdtTrfTxInf written to the pacs.008 is built from it
+     */
+    private static CanonicalPayment.Transaction canonicalTransaction(Mt102TransactionView transaction, String currency,
+                                                                     String orderingCustomer) {
+        // Debtor (transaction level 50a, otherwise sequence A ordering customer)
+        String debtorName = partyName(transaction.value(MtTag.F50A));
+        if (debtorName == null) {
+            debtorName = partyName(transaction.value(MtTag.F50K));
+        }
+        // Creditor from field 59a
+        String creditorName = partyName(transaction.beneficiary());
+
+        // Payment ID from field 21, amount from field 32B
+        return CanonicalPayment.Transaction.builder()
+                .instructionId(transaction.reference())
+                .endToEndId(transaction.reference())
+                .currency(currency)
+                .amount(CurrencyAmounts.toBigDecimal(transaction.amountMinorUnits(currency), currency))
+                .debtorName(debtorName != null ? debtorName : orderingCustomer)
+                .creditorName(creditorName != null ? creditorName : "BENEFICIARY CUSTOMER")
+                .build();
+    }
+
+    private static Pacs008Message.CreditTransferTransactionInformation createTransactionInformation(
+            CanonicalPayment.Transaction transaction) {
+        Pacs008Message.CreditTransferTransactionInformation txInfo = new Pacs008Message.CreditTransferTransactionInformation();
+
+        Pacs008Message.PaymentIdentification paymentId = new Pacs008Message.PaymentIdentification();
+        paymentId.setInstrId(transaction.getInstructionId());
+        paymentId.setEndToEndId(transaction.getEndToEndId());
+        txInfo.setPmtId(paymentId);
+
+        Pacs008Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
+        amount.setCcy(transaction.getCurrency());
+        amount.setValue(transaction.getAmount());
+        txInfo.setIntrBkSttlmAmt(amount);
+
+        Pacs008Message.PartyIdentification43 debtor = new Pacs008Message.PartyIdentification43();
+        debtor.setNm(transaction.getDebtorName());
+        txInfo.setDbtr(debtor);
+
+        Pacs008Message.PartyIdentification43 creditor = new Pacs008Message.PartyIdentification43();
+        creditor.setNm(transaction.getCreditorName());
+        txInfo.setCdtr(creditor);
+
+        return txInfo;
+    }
+
+    private static String orderingCustomerName(Mt102TransactionView sequenceA) {
+        String name = partyName(sequenceA.value(MtTag.F50A));
+        if (name == null) {
+            name = partyName(sequenceA.value(MtTag.F50K));
+        }
+        return name != null ? name : "ORDERING CUSTOMER";
+    }
+
+    /**
+     * First name line of a party field; account lines (starting with '/') are skipped
+     */
+    private static String partyName(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (String line : value.split("\\r?\\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && trimmed.charAt(0) != '/') {
+                return trimmed.length() > 140 ? trimmed.substring(0, 140) : trimmed;
             }
-        } catch (Exception e) {
-            log.error("Error extracting 19 field: {}", e.getMessage());
         }
         return null;
     }
 
-    private Pacs008Message createPacs008Message(String reference, String[] amountInfo, String sumOfAmounts) {
+    private static Pacs008Message.ActiveOrHistoricCurrencyAndAmount amount(SettlementAmount value) {
+        Pacs008Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
+        amount.setCcy(value.getCurrency());
+        amount.setValue(value.toBigDecimal());
+        return amount;
+    }
+
+    private Pacs008Message createPacs008Message(Mt102Content content) {
+        String reference = content.reference;
         Pacs008Message message = new Pacs008Message();
 
         // Create group header
@@ -152,10 +398,7 @@ public class Mt102ToMxConverter implements MessageConverter<String, String> {
         groupHeader.setNbOfTxs("1"); // MT102 multiple transactions can be represented as single credit transfer
 
         // Create total amount from field 32A
-        Pacs008Message.ActiveOrHistoricCurrencyAndAmount totalAmount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
-        totalAmount.setCcy(amountInfo[1]);
-        totalAmount.setValue(new BigDecimal(amountInfo[2]));
-        groupHeader.setTtlIntrBkSttlmAmt(totalAmount);
+        groupHeader.setTtlIntrBkSttlmAmt(amount(content.settlement));
 
         // Create transaction information
         Pacs008Message.CreditTransferTransactionInformation txInfo = new Pacs008Message.CreditTransferTransactionInformation();
@@ -167,10 +410,7 @@ public class Mt102ToMxConverter implements MessageConverter<String, String> {
         txInfo.setPmtId(paymentId);
 
         // Amount from field 19 (sum of amounts)
-        Pacs008Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
-        amount.setCcy(amountInfo[1]);
-        amount.setValue(new BigDecimal(sumOfAmounts));
-        txInfo.setIntrBkSttlmAmt(amount);
+        txInfo.setIntrBkSttlmAmt(amount(content.sumOfAmounts));
 
         // Debtor (MT102 ordering customer)
         Pacs008Message.PartyIdentification43 debtor = new Pacs008Message.PartyIdentification43();
@@ -192,16 +432,45 @@ public class Mt102ToMxConverter implements MessageConverter<String, String> {
         return message;
     }
 
-    private String marshalToXml(Pacs008Message message) throws JAXBException {
-        JAXBContext context = JAXBContext.newInstance(Pacs008Message.class);
+    private void marshal(Pacs008Message message, Writer out) throws JAXBException {
+        JAXBContext context = JaxbContextCache.get(Pacs008Message.class);
         Marshaller marshaller = context.createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
         marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        marshaller.marshal(message, out);
+    }
 
-        StringWriter writer = new StringWriter();
-        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        marshaller.marshal(message, writer);
+    /**
+     * Group level values of an MT102, shared by the streamed and the canonical output
+     */
+    private static final class Mt102Content {
+        private final String reference;
+        private final SettlementAmount settlement;
+        private final SettlementAmount sumOfAmounts;
+        private final TransactionSummary transactions;
+
+        Mt102Content(String reference, SettlementAmount settlement, SettlementAmount sumOfAmounts,
+                     TransactionSummary transactions) {
+            this.reference = reference;
+            this.settlement = settlement;
+            this.sumOfAmounts = sumOfAmounts;
+            this.transactions = transactions;
+        }
+    }
 
-        return writer.toString();
+    /**
+     * Running totals of the sequence B transactions
+     */
+    private static final class TransactionSummary {
+        private int count;
+        private int priced;
+        private long sum;
+
+        /**
+         * Bulk mode needs every transaction to carry its own :32B: amount
+         */
+        boolean isBulk() {
+            return count > 0 && priced == count;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,16 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.model.Mt103;
 import com.mtmx.domain.model.mx.Pacs008Message;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.binding.MtModelBinder;
 import com.mtmx.service.converter.ConversionException;
-import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.converter.MtConversion;
 import com.mtmx.service.converter.MtMessageValidator;
+import com.mtmx.service.converter.MtToMxPaymentConverter;
+import com.mtmx.service.payment.CanonicalPayments;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,12 +19,9 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import java.io.StringWriter;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Converter for MT103 to MX pacs.008.001.08
@@ -25,11 +29,10 @@ import java.util.regex.Pattern;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class Mt103ToMxConverter implements MessageConverter<String, String> {
+public class Mt103ToMxConverter implements MtToMxPaymentConverter {
 
     private final MtMessageValidator mtMessageValidator;
 
-    private static final Pattern FIELD_32A_PATTERN = Pattern.compile(":32A:(\\d{6})(\\w{3})([\\d,\\.]+)");
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
 
     @Override
@@ -39,16 +42,8 @@ public class Mt103ToMxConverter implements MessageConverter<String, String> {
         }
 
         try {
-            // Extract fields from MT message
-            String reference = mtMessageValidator.extractField(mtMessage, "20");
-            String[] amountInfo = extractAmountInfo(mtMessage);
-
-            if (reference == null || amountInfo == null) {
-                throw new ConversionException("Required fields not found in MT103 message");
-            }
-
             // Create MX message using JAXB
-            Pacs008Message mxMessage = createPacs008Message(reference, amountInfo);
+            Pacs008Message mxMessage = readPacs008(mtMessage);
 
             // Marshal to XML string
             return marshalToXml(mxMessage);
@@ -59,6 +54,61 @@ public class Mt103ToMxConverter implements MessageConverter<String, String> {
         }
     }
 
+    /**
+     * Canonical payment of an MT103 with the values {@link #convert(String)} writes to the pacs.008.
+     * The message is not validated again; callers convert (and so validate) the same message first.
+     */
+    @Override
+    public CanonicalPayment toPayment(String mtMessage) throws ConversionException {
+        try {
+            return CanonicalPayments.fromPacs008(MessageType.MT103, readPacs008(mtMessage));
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid MT103 amount: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Transaction part (CdtTrfTxInf) of an MT103, for multi-transaction pacs.008 batches
+     *
+     * @throws ConversionException if the message is not a valid MT103 or lacks :20: / :32A:
+     */
+    public Pacs008Message.CreditTransferTransactionInformation toTransactionInformation(String mtMessage)
+            throws ConversionException {
+        if (!isValid(mtMessage)) {
+            throw new ConversionException("Invalid MT103 message");
+        }
+        Mt103 mt103 = MtModelBinder.mt103(mtMessage);
+        String reference = mt103.getTransactionReference();
+        SettlementAmount settlement;
+        try {
+            settlement = extractAmount(mt103);
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid MT103 amount: " + e.getMessage(), e);
+        }
+        if (reference == null || settlement == null) {
+            throw new ConversionException("Required fields not found in MT103 message");
+        }
+        return createTransactionInformation(reference, settlement);
+    }
+
+    /**
+     * {@link #convert(String)} and {@link #toPayment(String)} from a single read of the MT103
+     */
+    @Override
+    public MtConversion convertWithPayment(String mtMessage) throws ConversionException {
+        if (!isValid(mtMessage)) {
+            throw new ConversionException("Invalid MT103 message");
+        }
+
+        try {
+            Pacs008Message mxMessage = readPacs008(mtMessage);
+            return new MtConversion(marshalToXml(mxMessage), CanonicalPayments.fromPacs008(MessageType.MT103, mxMessage));
+        } catch (Exception e) {
+            log.error("Error converting MT103 to MX: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to convert MT103 to MX", e);
+        }
+    }
+
     @Override
     public boolean isValid(String mtMessage) {
         if (!mtMessageValidator.isValid(mtMessage)) {
@@ -74,18 +124,36 @@ public class Mt103ToMxConverter implements MessageConverter<String, String> {
         return "103";
     }
 
-    private String[] extractAmountInfo(String mtMessage) {
-        Matcher matcher = FIELD_32A_PATTERN.matcher(mtMessage);
-        if (matcher.find()) {
-            String date = matcher.group(1);
-            String currency = matcher.group(2);
-            String amount = matcher.group(3).replace(",", "");
-            return new String[] { date, currency, amount };
+    private Pacs008Message readPacs008(String mtMessage) throws ConversionException {
+        // Extract fields from MT message
+        Mt103 mt103 = MtModelBinder.mt103(mtMessage);
+        String reference = mt103.getTransactionReference();
+        SettlementAmount settlement = extractAmount(mt103);
+
+        if (reference == null || settlement == null) {
+            throw new ConversionException("Required fields not found in MT103 message");
+        }
+        return createPacs008Message(reference, settlement);
+    }
+
+    /**
+     * :32A: amount in minor units, read from the raw message without a {@link BigDecimal}
+     *
+     * @throws IllegalArgumentException if :32A: has a currency but no valid amount
+     */
+    private SettlementAmount extractAmount(Mt103 mt103) {
+        String currency = mt103.getCurrency();
+        if (currency == null) {
+            return null;
+        }
+        SettlementAmount settlement = SettlementAmount.of(currency, mt103.amountMinorUnits());
+        if (settlement == null) {
+            throw new IllegalArgumentException("Malformed :32A: amount for currency " + currency);
         }
-        return null;
+        return settlement;
     }
 
-    private Pacs008Message createPacs008Message(String reference, String[] amountInfo) {
+    private Pacs008Message createPacs008Message(String reference, SettlementAmount settlement) {
         Pacs008Message message = new Pacs008Message();
 
         // Create group header
@@ -96,10 +164,22 @@ public class Mt103ToMxConverter implements MessageConverter<String, String> {
 
         // Create total amount
         Pacs008Message.ActiveOrHistoricCurrencyAndAmount totalAmount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
-        totalAmount.setCcy(amountInfo[1]);
-        totalAmount.setValue(new BigDecimal(amountInfo[2]));
+        totalAmount.setCcy(settlement.getCurrency());
+        totalAmount.setValue(settlement.toBigDecimal());
         groupHeader.setTtlIntrBkSttlmAmt(totalAmount);
 
+        // Set components
+        Pacs008Message.FIToFICstmrCdtTrf fiToFi = new Pacs008Message.FIToFICstmrCdtTrf();
+        fiToFi.setGrpHdr(groupHeader);
+        fiToFi.setCdtTrfTxInf(Arrays.asList(createTransactionInformation(reference, settlement)));
+
+        message.setFiToFICstmrCdtTrf(fiToFi);
+
+        return message;
+    }
+
+    private Pacs008Message.CreditTransferTransactionInformation createTransactionInformation(String reference,
+                                                                                           SettlementAmount settlement) {
         // Create transaction information
         Pacs008Message.CreditTransferTransactionInformation txInfo = new Pacs008Message.CreditTransferTransactionInformation();
 
@@ -111,8 +191,8 @@ public class Mt103ToMxConverter implements MessageConverter<String, String> {
 
         // Amount
         Pacs008Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
-        amount.setCcy(amountInfo[1]);
-        amount.setValue(new BigDecimal(amountInfo[2]));
+        amount.setCcy(settlement.getCurrency());
+        amount.setValue(settlement.toBigDecimal());
         txInfo.setIntrBkSttlmAmt(amount);
 
         // Debtor
@@ -125,18 +205,11 @@ public class Mt103ToMxConverter implements MessageConverter<String, String> {
         creditor.setNm("CREDITOR NAME");
         txInfo.setCdtr(creditor);
 
-        // Set components
-        Pacs008Message.FIToFICstmrCdtTrf fiToFi = new Pacs008Message.FIToFICstmrCdtTrf();
-        fiToFi.setGrpHdr(groupHeader);
-        fiToFi.setCdtTrfTxInf(Arrays.asList(txInfo));
-
-        message.setFiToFICstmrCdtTrf(fiToFi);
-
-        return message;
+        return txInfo;
     }
 
     private String marshalToXml(Pacs008Message message) throws JAXBException {
-        JAXBContext context = JAXBContext.newInstance(Pacs008Message.class);
+        JAXBContext context = JaxbContextCache.get(Pacs008Message.class);
         Marshaller marshaller = context.createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
         marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
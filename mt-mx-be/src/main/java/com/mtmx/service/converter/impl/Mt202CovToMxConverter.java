@@ -1,9 +1,16 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.model.Mt202Cov;
 import com.mtmx.domain.model.mx.Pacs009Message;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.binding.MtModelBinder;
 import com.mtmx.service.converter.ConversionException;
-import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.converter.MtConversion;
 import com.mtmx.service.converter.MtMessageValidator;
+import com.mtmx.service.converter.MtToMxPaymentConverter;
+import com.mtmx.service.payment.CanonicalPayments;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,8 +23,6 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Converter for MT202COV to MX pacs.009.001.08 (Financial Institution Credit
@@ -26,11 +31,10 @@ import java.util.regex.Pattern;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class Mt202CovToMxConverter implements MessageConverter<String, String> {
+public class Mt202CovToMxConverter implements MtToMxPaymentConverter {
 
     private final MtMessageValidator mtMessageValidator;
 
-    private static final Pattern FIELD_32A_PATTERN = Pattern.compile(":32A:(\\d{6})(\\w{3})([\\d,\\.]+)");
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
 
     @Override
@@ -40,16 +44,8 @@ public class Mt202CovToMxConverter implements MessageConverter<String, String> {
         }
 
         try {
-            // Extract fields from MT message
-            String reference = mtMessageValidator.extractField(mtMessage, "20");
-            String[] amountInfo = extractAmountInfo(mtMessage);
-
-            if (reference == null || amountInfo == null) {
-                throw new ConversionException("Required fields not found in MT202COV message");
-            }
-
             // Create MX message using JAXB
-            Pacs009Message mxMessage = createPacs009Message(reference, amountInfo);
+            Pacs009Message mxMessage = readPacs009(mtMessage);
 
             // Marshal to XML string
             return marshalToXml(mxMessage);
@@ -60,6 +56,37 @@ public class Mt202CovToMxConverter implements MessageConverter<String, String> {
         }
     }
 
+    /**
+     * Canonical payment of an MT202COV with the values {@link #convert(String)} writes to the pacs.009.
+     * The message is not validated again; callers convert (and so validate) the same message first.
+     */
+    @Override
+    public CanonicalPayment toPayment(String mtMessage) throws ConversionException {
+        try {
+            return CanonicalPayments.fromPacs009(MessageType.MT202COV, readPacs009(mtMessage));
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid MT202COV amount: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@link #convert(String)} and {@link #toPayment(String)} from a single read of the MT202COV
+     */
+    @Override
+    public MtConversion convertWithPayment(String mtMessage) throws ConversionException {
+        if (!isValid(mtMessage)) {
+            throw new ConversionException("Invalid MT202COV message");
+        }
+
+        try {
+            Pacs009Message mxMessage = readPacs009(mtMessage);
+            return new MtConversion(marshalToXml(mxMessage), CanonicalPayments.fromPacs009(MessageType.MT202COV, mxMessage));
+        } catch (Exception e) {
+            log.error("Error converting MT202COV to MX: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to convert MT202COV to MX", e);
+        }
+    }
+
     @Override
     public boolean isValid(String mtMessage) {
         if (!mtMessageValidator.isValid(mtMessage)) {
@@ -75,18 +102,36 @@ public class Mt202CovToMxConverter implements MessageConverter<String, String> {
         return "202COV";
     }
 
-    private String[] extractAmountInfo(String mtMessage) {
-        Matcher matcher = FIELD_32A_PATTERN.matcher(mtMessage);
-        if (matcher.find()) {
-            String date = matcher.group(1);
-            String currency = matcher.group(2);
-            String amount = matcher.group(3).replace(",", "");
-            return new String[] { date, currency, amount };
+    private Pacs009Message readPacs009(String mtMessage) throws ConversionException {
+        // Extract fields from MT message
+        Mt202Cov mt202Cov = MtModelBinder.mt202Cov(mtMessage);
+        String reference = mt202Cov.getTransactionReference();
+        SettlementAmount settlement = extractAmount(mt202Cov);
+
+        if (reference == null || settlement == null) {
+            throw new ConversionException("Required fields not found in MT202COV message");
+        }
+        return createPacs009Message(reference, settlement);
+    }
+
+    /**
+     * :32A: amount in minor units, read from the raw message without a {@link BigDecimal}
+     *
+     * @throws IllegalArgumentException if :32A: has a currency but no valid amount
+     */
+    private SettlementAmount extractAmount(Mt202Cov mt202Cov) {
+        String currency = mt202Cov.getCurrency();
+        if (currency == null) {
+            return null;
+        }
+        SettlementAmount settlement = SettlementAmount.of(currency, mt202Cov.amountMinorUnits());
+        if (settlement == null) {
+            throw new IllegalArgumentException("Malformed :32A: amount for currency " + currency);
         }
-        return null;
+        return settlement;
     }
 
-    private Pacs009Message createPacs009Message(String reference, String[] amountInfo) {
+    private Pacs009Message createPacs009Message(String reference, SettlementAmount settlement) {
         Pacs009Message message = new Pacs009Message();
 
         // Create group header
@@ -97,8 +142,8 @@ public class Mt202CovToMxConverter implements MessageConverter<String, String> {
 
         // Create total amount
         Pacs009Message.ActiveOrHistoricCurrencyAndAmount totalAmount = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
-        totalAmount.setCcy(amountInfo[1]);
-        totalAmount.setValue(new BigDecimal(amountInfo[2]));
+        totalAmount.setCcy(settlement.getCurrency());
+        totalAmount.setValue(settlement.toBigDecimal());
         groupHeader.setTtlIntrBkSttlmAmt(totalAmount);
 
         // Create transaction information
@@ -112,8 +157,8 @@ public class Mt202CovToMxConverter implements MessageConverter<String, String> {
 
         // Amount
         Pacs009Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
-        amount.setCcy(amountInfo[1]);
-        amount.setValue(new BigDecimal(amountInfo[2]));
+        amount.setCcy(settlement.getCurrency());
+        amount.setValue(settlement.toBigDecimal());
         txInfo.setIntrBkSttlmAmt(amount);
 
         // Instructed Agent (MT202COV ordering institution)
@@ -134,7 +179,7 @@ public class Mt202CovToMxConverter implements MessageConverter<String, String> {
     }
 
     private String marshalToXml(Pacs009Message message) throws JAXBException {
-        JAXBContext context = JAXBContext.newInstance(Pacs009Message.class);
+        JAXBContext context = JaxbContextCache.get(Pacs009Message.class);
         Marshaller marshaller = context.createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
         marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
@@ -1,9 +1,16 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.model.Mt202;
 import com.mtmx.domain.model.mx.Pacs009Message;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.binding.MtModelBinder;
 import com.mtmx.service.converter.ConversionException;
-import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.converter.MtConversion;
 import com.mtmx.service.converter.MtMessageValidator;
+import com.mtmx.service.converter.MtToMxPaymentConverter;
+import com.mtmx.service.payment.CanonicalPayments;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,13 +19,8 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import java.io.StringWriter;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Converter for MT202 to MX pacs.009.001.08 (Financial Institution Credit Transfer)
@@ -26,12 +28,12 @@ import java.util.regex.Pattern;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class Mt202ToMxConverter implements MessageConverter<String, String> {
+public class Mt202ToMxConverter implements MtToMxPaymentConverter {
 
     private final MtMessageValidator mtMessageValidator;
 
-    private static final Pattern FIELD_32A_PATTERN = Pattern.compile(":32A:(\\d{6})([A-Z]{3})([\\d,\\.]+)");
-    private static final DateTimeFormatter MT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+    /** :32A: olmayan mesajlar için varsayılan tutar: USD 1000.00 */
+    private static final SettlementAmount DEFAULT_AMOUNT = new SettlementAmount("USD", 100_000L);
 
     @Override
     public String convert(String mtMessage) throws ConversionException {
@@ -42,30 +44,8 @@ public class Mt202ToMxConverter implements MessageConverter<String, String> {
         try {
             log.info("Starting MT202 to MX pacs.009 conversion");
 
-            // Extract fields from MT message
-            String reference = mtMessageValidator.extractField(mtMessage, "20");
-            String[] amountInfo = extractAmountInfo(mtMessage);
-
-            log.debug("Extracted reference: {}", reference);
-            log.debug("Extracted amountInfo: {}", amountInfo != null ? Arrays.toString(amountInfo) : "null");
-
-            // Varsayılan değerler kullan
-            if (reference == null || reference.trim().isEmpty()) {
-                reference = "MT202REF" + System.currentTimeMillis();
-                log.warn("Reference field not found, using default: {}", reference);
-            }
-
-            if (amountInfo == null) {
-                log.warn("32A field not found, using default values");
-                amountInfo = new String[] {
-                        LocalDate.now().format(MT_DATE_FORMATTER),
-                        "USD",
-                        "1000.00"
-                };
-            }
-
             // Create MX message using JAXB
-            Pacs009Message mxMessage = createPacs009Message(reference, amountInfo);
+            Pacs009Message mxMessage = readPacs009(mtMessage);
 
             // Marshal to XML string
             return marshalToXml(mxMessage);
@@ -76,6 +56,33 @@ public class Mt202ToMxConverter implements MessageConverter<String, String> {
         }
     }
 
+    /**
+     * Canonical payment of an MT202 with the values {@link #convert(String)} writes to the pacs.009.
+     * The message is not validated again; callers convert (and so validate) the same message first.
+     */
+    @Override
+    public CanonicalPayment toPayment(String mtMessage) throws ConversionException {
+        return CanonicalPayments.fromPacs009(MessageType.MT202, readPacs009(mtMessage));
+    }
+
+    /**
+     * {@link #convert(String)} and {@link #toPayment(String)} from a single read of the MT202
+     */
+    @Override
+    public MtConversion convertWithPayment(String mtMessage) throws ConversionException {
+        if (!isValid(mtMessage)) {
+            throw new ConversionException("Invalid MT202 message");
+        }
+
+        try {
+            Pacs009Message mxMessage = readPacs009(mtMessage);
+            return new MtConversion(marshalToXml(mxMessage), CanonicalPayments.fromPacs009(MessageType.MT202, mxMessage));
+        } catch (Exception e) {
+            log.error("Error converting MT202 to MX: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to convert MT202 to MX: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean isValid(String mtMessage) {
         if (!mtMessageValidator.isValid(mtMessage)) {
@@ -91,34 +98,40 @@ public class Mt202ToMxConverter implements MessageConverter<String, String> {
         return "202";
     }
 
-    private String[] extractAmountInfo(String mtMessage) {
-        try {
-            Matcher matcher = FIELD_32A_PATTERN.matcher(mtMessage);
-            if (matcher.find()) {
-                String date = matcher.group(1);
-                String currency = matcher.group(2);
-                String amount = matcher.group(3).replace(",", "");
-                
-                // Nokta ile ondalık ayracı olarak kabul et
-                if (!amount.contains(".")) {
-                    // Eğer nokta yoksa son 2 haneni ondalık kısmı olarak kabul et
-                    if (amount.length() > 2) {
-                        amount = amount.substring(0, amount.length() - 2) + "." + amount.substring(amount.length() - 2);
-                    } else {
-                        amount = amount + ".00";
-                    }
-                }
-
-                log.debug("Extracted 32A - Date: {}, Currency: {}, Amount: {}", date, currency, amount);
-                return new String[] { date, currency, amount };
-            }
-        } catch (Exception e) {
-            log.error("Error extracting 32A field: {}", e.getMessage());
+    private Pacs009Message readPacs009(String mtMessage) {
+        // Extract fields from MT message
+        Mt202 mt202 = MtModelBinder.mt202(mtMessage);
+        String reference = mt202.getTransactionReference();
+        SettlementAmount settlement = extractAmount(mt202);
+
+        log.debug("Extracted reference: {}", reference);
+        log.debug("Extracted amount: {}", settlement);
+
+        // Varsayılan değerler kullan
+        if (reference == null || reference.trim().isEmpty()) {
+            reference = "MT202REF" + System.currentTimeMillis();
+            log.warn("Reference field not found, using default: {}", reference);
+        }
+
+        if (settlement == null) {
+            log.warn("32A field not found, using default values");
+            settlement = DEFAULT_AMOUNT;
+        }
+
+        return createPacs009Message(reference, settlement);
+    }
+
+    private SettlementAmount extractAmount(Mt202 mt202) {
+        String currency = mt202.getCurrency();
+        // Ondalık basamak sayısı para biriminden (ISO 4217) gelir
+        SettlementAmount settlement = currency != null ? SettlementAmount.of(currency, mt202.amountMinorUnits()) : null;
+        if (currency != null && settlement == null) {
+            log.error("Error extracting 32A field: malformed amount for currency {}", currency);
         }
-        return null;
+        return settlement;
     }
 
-    private Pacs009Message createPacs009Message(String reference, String[] amountInfo) {
+    private Pacs009Message createPacs009Message(String reference, SettlementAmount settlement) {
         Pacs009Message message = new Pacs009Message();
 
         // Create group header
@@ -129,8 +142,8 @@ public class Mt202ToMxConverter implements MessageConverter<String, String> {
 
         // Create total amount
         Pacs009Message.ActiveOrHistoricCurrencyAndAmount totalAmount = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
-        totalAmount.setCcy(amountInfo[1]);
-        totalAmount.setValue(new BigDecimal(amountInfo[2]));
+        totalAmount.setCcy(settlement.getCurrency());
+        totalAmount.setValue(settlement.toBigDecimal());
         groupHeader.setTtlIntrBkSttlmAmt(totalAmount);
 
         // Create transaction information
@@ -144,8 +157,8 @@ public class Mt202ToMxConverter implements MessageConverter<String, String> {
 
         // Amount
         Pacs009Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
-        amount.setCcy(amountInfo[1]);
-        amount.setValue(new BigDecimal(amountInfo[2]));
+        amount.setCcy(settlement.getCurrency());
+        amount.setValue(settlement.toBigDecimal());
         txInfo.setIntrBkSttlmAmt(amount);
 
         // Instructed Agent (MT202 için banka bilgisi)
@@ -167,7 +180,7 @@ public class Mt202ToMxConverter implements MessageConverter<String, String> {
 
     private String marshalToXml(Pacs009Message message) throws JAXBException {
         try {
-            JAXBContext context = JAXBContext.newInstance(Pacs009Message.class);
+            JAXBContext context = JaxbContextCache.get(Pacs009Message.class);
             Marshaller marshaller = context.createMarshaller();
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
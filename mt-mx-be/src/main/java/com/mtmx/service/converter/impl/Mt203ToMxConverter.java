@@ -1,9 +1,17 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.model.Mt203;
+import com.mtmx.domain.model.Mt203Transaction;
 import com.mtmx.domain.model.mx.Pacs009Message;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.binding.MtModelBinder;
 import com.mtmx.service.converter.ConversionException;
-import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.converter.MtConversion;
 import com.mtmx.service.converter.MtMessageValidator;
+import com.mtmx.service.converter.MtToMxPaymentConverter;
+import com.mtmx.service.payment.CanonicalPayments;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,12 +20,9 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import java.io.StringWriter;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Converter for MT203 to MX pacs.009.001.08 (Multiple Financial Institution
@@ -26,12 +31,10 @@ import java.util.regex.Pattern;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class Mt203ToMxConverter implements MessageConverter<String, String> {
+public class Mt203ToMxConverter implements MtToMxPaymentConverter {
 
     private final MtMessageValidator mtMessageValidator;
 
-    private static final Pattern FIELD_32A_PATTERN = Pattern.compile(":32A:(\\d{6})(\\w{3})([\\d,\\.]+)");
-    private static final Pattern FIELD_32B_PATTERN = Pattern.compile(":32B:(\\w{3})([\\d,\\.]+)");
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS");
 
     @Override
@@ -44,25 +47,8 @@ public class Mt203ToMxConverter implements MessageConverter<String, String> {
         }
 
         try {
-            // Extract fields from MT message
-            String reference = mtMessageValidator.extractField(mtMessage, "20");
-            log.info("Extracted reference: {}", reference);
-
-            String[] amountInfo = extractAmountInfo(mtMessage);
-            log.info("Extracted amount info: {}", Arrays.toString(amountInfo));
-
-            if (reference == null) {
-                log.error("Reference field (20) not found in MT203 message");
-                throw new ConversionException("Reference field (20) not found in MT203 message");
-            }
-
-            if (amountInfo == null) {
-                log.error("Amount information not found in MT203 message");
-                throw new ConversionException("Amount information not found in MT203 message");
-            }
-
             // Create MX message using JAXB
-            Pacs009Message mxMessage = createPacs009Message(reference, amountInfo);
+            Pacs009Message mxMessage = readPacs009(mtMessage);
             log.info("Created Pacs009Message successfully");
 
             // Marshal to XML string
@@ -76,6 +62,33 @@ public class Mt203ToMxConverter implements MessageConverter<String, String> {
         }
     }
 
+    /**
+     * Canonical payment of an MT203 with the values {@link #convert(String)} writes to the pacs.009.
+     * The message is not validated again; callers convert (and so validate) the same message first.
+     */
+    @Override
+    public CanonicalPayment toPayment(String mtMessage) throws ConversionException {
+        return CanonicalPayments.fromPacs009(MessageType.MT203, readPacs009(mtMessage));
+    }
+
+    /**
+     * {@link #convert(String)} and {@link #toPayment(String)} from a single read of the MT203
+     */
+    @Override
+    public MtConversion convertWithPayment(String mtMessage) throws ConversionException {
+        if (!isValid(mtMessage)) {
+            throw new ConversionException("Invalid MT203 message");
+        }
+
+        try {
+            Pacs009Message mxMessage = readPacs009(mtMessage);
+            return new MtConversion(marshalToXml(mxMessage), CanonicalPayments.fromPacs009(MessageType.MT203, mxMessage));
+        } catch (Exception e) {
+            log.error("Error converting MT203 to MX: {}", e.getMessage(), e);
+            throw new ConversionException("Failed to convert MT203 to MX: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean isValid(String mtMessage) {
         if (!mtMessageValidator.isValid(mtMessage)) {
@@ -93,37 +106,59 @@ public class Mt203ToMxConverter implements MessageConverter<String, String> {
         return "203";
     }
 
-    private String[] extractAmountInfo(String mtMessage) {
-        log.info("Extracting amount info from MT203 message");
+    private Pacs009Message readPacs009(String mtMessage) throws ConversionException {
+        // Extract fields from MT message
+        Mt203 mt203 = MtModelBinder.mt203(mtMessage);
+        String reference = mt203.getTransactionReference();
+        log.info("Extracted reference: {}", reference);
 
-        // First try to get amount from field 32A (total amount)
-        Matcher matcher = FIELD_32A_PATTERN.matcher(mtMessage);
-        if (matcher.find()) {
-            String date = matcher.group(1);
-            String currency = matcher.group(2);
-            String amount = matcher.group(3).replace(",", "");
-            log.info("Found field 32A: date={}, currency={}, amount={}", date, currency, amount);
-            return new String[] { date, currency, amount };
+        SettlementAmount settlement;
+        try {
+            settlement = extractAmount(mt203);
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid MT203 amount: " + e.getMessage(), e);
         }
+        log.info("Extracted amount: {}", settlement);
 
-        log.warn("Field 32A not found, trying field 32B");
+        if (reference == null) {
+            log.error("Reference field (20) not found in MT203 message");
+            throw new ConversionException("Reference field (20) not found in MT203 message");
+        }
 
-        // If field 32A not found, try to get from field 32B (individual transaction
-        // amount)
-        Matcher matcher32B = FIELD_32B_PATTERN.matcher(mtMessage);
-        if (matcher32B.find()) {
-            String currency = matcher32B.group(1);
-            String amount = matcher32B.group(2).replace(",", "");
-            log.info("Found field 32B: currency={}, amount={}", currency, amount);
-            return new String[] { "250626", currency, amount }; // Default date if not found
+        if (settlement == null) {
+            log.error("Amount information not found in MT203 message");
+            throw new ConversionException("Amount information not found in MT203 message");
+        }
+        return createPacs009Message(reference, settlement);
+    }
+
+    /**
+     * Amount of the first transaction (:32A:, or :32B: if it has none) in minor units, read from
+     * the raw message without a {@link java.math.BigDecimal}
+     *
+     * @throws IllegalArgumentException if the transaction has a currency but no valid amount
+     */
+    private SettlementAmount extractAmount(Mt203 mt203) {
+        log.info("Extracting amount info from MT203 message");
+
+        for (Mt203Transaction transaction : mt203.getTransactions()) {
+            String currency = transaction.getCurrency();
+            if (currency == null) {
+                continue;
+            }
+            SettlementAmount settlement = SettlementAmount.of(currency, transaction.amountMinorUnits());
+            if (settlement == null) {
+                throw new IllegalArgumentException("Malformed transaction amount for currency " + currency);
+            }
+            return settlement;
         }
 
         log.error("Neither field 32A nor 32B found in MT203 message");
         return null;
     }
 
-    private Pacs009Message createPacs009Message(String reference, String[] amountInfo) {
-        log.info("Creating Pacs009Message with reference: {}, amountInfo: {}", reference, Arrays.toString(amountInfo));
+    private Pacs009Message createPacs009Message(String reference, SettlementAmount settlement) {
+        log.info("Creating Pacs009Message with reference: {}, amount: {}", reference, settlement);
 
         Pacs009Message message = new Pacs009Message();
 
@@ -135,8 +170,8 @@ public class Mt203ToMxConverter implements MessageConverter<String, String> {
 
         // Create total amount from field 32A or 32B
         Pacs009Message.ActiveOrHistoricCurrencyAndAmount totalAmount = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
-        totalAmount.setCcy(amountInfo[1]);
-        totalAmount.setValue(new BigDecimal(amountInfo[2]));
+        totalAmount.setCcy(settlement.getCurrency());
+        totalAmount.setValue(settlement.toBigDecimal());
         groupHeader.setTtlIntrBkSttlmAmt(totalAmount);
 
         // Create transaction information
@@ -150,8 +185,8 @@ public class Mt203ToMxConverter implements MessageConverter<String, String> {
 
         // Amount from field 32A or 32B
         Pacs009Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
-        amount.setCcy(amountInfo[1]);
-        amount.setValue(new BigDecimal(amountInfo[2]));
+        amount.setCcy(settlement.getCurrency());
+        amount.setValue(settlement.toBigDecimal());
         txInfo.setIntrBkSttlmAmt(amount);
 
         // Instructed Agent (MT203 ordering institution)
@@ -175,7 +210,7 @@ public class Mt203ToMxConverter implements MessageConverter<String, String> {
     private String marshalToXml(Pacs009Message message) throws JAXBException {
         log.info("Marshaling Pacs009Message to XML");
 
-        JAXBContext context = JAXBContext.newInstance(Pacs009Message.class);
+        JAXBContext context = JaxbContextCache.get(Pacs009Message.class);
         Marshaller marshaller = context.createMarshaller();
         marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
         marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
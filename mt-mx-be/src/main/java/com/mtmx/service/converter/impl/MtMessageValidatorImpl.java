@@ -1,25 +1,48 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.header.MtHeaderParser;
+import com.mtmx.service.converter.ConversionException;
 import com.mtmx.service.converter.MtMessageValidator;
+import com.mtmx.service.directory.BicDirectory;
+import com.mtmx.service.validation.MtInputLimits;
+import com.mtmx.service.validation.rules.MtFieldIndex;
+import com.mtmx.service.validation.rules.MtFieldScanner;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 
 /**
- * Implementation of MT message validator
+ * Implementation of MT message validator.
+ * Input is size/field-count limited and scanned without regular expressions, so the time spent
+ * on a message is linear in its length whatever its content.
  */
 @Component
 @Slf4j
 public class MtMessageValidatorImpl implements MtMessageValidator {
 
-    // Regex patterns for field extraction
-    private static final Pattern FIELD_20_PATTERN = Pattern.compile(":20:([^\\r\\n]+)");
-    private static final Pattern FIELD_32A_PATTERN = Pattern.compile(":32A:(\\d{6})(\\w{3})([\\d,\\.]+)");
-    private static final Pattern MESSAGE_TYPE_PATTERN = Pattern.compile("\\{2:I(\\d{3}(?:COV)?)");
-    private static final Pattern GENERAL_FIELD_PATTERN = Pattern.compile(":(\\d{2}[A-Z]?):([^\\r\\n]+)");
+    private final BicDirectory bicDirectory;
+    private final MtInputLimits inputLimits;
+
+    public MtMessageValidatorImpl() {
+        this(BicDirectory.disabled(), MtInputLimits.defaults());
+    }
+
+    @Autowired
+    public MtMessageValidatorImpl(BicDirectory bicDirectory, MtInputLimits inputLimits) {
+        this.bicDirectory = bicDirectory;
+        this.inputLimits = inputLimits;
+    }
+
+    @Override
+    public void checkLimits(String mtMessage) throws ConversionException {
+        String violation = inputLimits.check(mtMessage);
+        if (violation != null) {
+            throw new ConversionException(violation);
+        }
+    }
 
     @Override
     public boolean isValid(String mtMessage) {
@@ -28,6 +51,12 @@ public class MtMessageValidatorImpl implements MtMessageValidator {
             return false;
         }
 
+        String violation = inputLimits.check(mtMessage);
+        if (violation != null) {
+            log.warn(violation);
+            return false;
+        }
+
         // Check if message has basic SWIFT format - {3: is optional
         if (!mtMessage.contains("{1:") || !mtMessage.contains("{2:") || !mtMessage.contains("{4:")) {
             log.warn("Invalid SWIFT message format - missing required blocks");
@@ -41,6 +70,15 @@ public class MtMessageValidatorImpl implements MtMessageValidator {
             return false;
         }
 
+        // Var olmayan kurumlara adreslenmiş mesajlar dönüşüme girmez; dizin yoksa mesaj parse edilmez
+        if (bicDirectory.isLoaded()) {
+            List<String> unknownBics = bicDirectory.findUnknownBics(MtFieldIndex.parse(mtMessage));
+            if (!unknownBics.isEmpty()) {
+                log.warn("MT message references BICs not in the BIC directory: {}", unknownBics);
+                return false;
+            }
+        }
+
         return true;
     }
 
@@ -50,12 +88,8 @@ public class MtMessageValidatorImpl implements MtMessageValidator {
             return null;
         }
 
-        Matcher matcher = MESSAGE_TYPE_PATTERN.matcher(mtMessage);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-
-        return null;
+        // 202COV: block 2'deki COV eki ya da block 3'teki {119:COV}
+        return MtHeaderParser.parse(mtMessage).getTypeName();
     }
 
     @Override
@@ -64,14 +98,16 @@ public class MtMessageValidatorImpl implements MtMessageValidator {
             return null;
         }
 
-        try {
-            Pattern pattern = Pattern.compile(":" + fieldTag + ":([^\\n\\r:]+)", Pattern.MULTILINE);
-            Matcher matcher = pattern.matcher(mtMessage);
+        if (inputLimits.check(mtMessage) != null) {
+            log.warn("MT message exceeds input limits, field {} not extracted", fieldTag);
+            return null;
+        }
 
-            if (matcher.find()) {
-                String value = matcher.group(1).trim();
+        try {
+            String value = MtFieldScanner.firstLine(mtMessage, fieldTag);
+            if (value != null) {
                 log.debug("Extracted field {}: {}", fieldTag, value);
-                return value.isEmpty() ? null : value;
+                return value;
             }
 
             log.warn("Field {} not found in MT message", fieldTag);
@@ -1,6 +1,7 @@
 package com.mtmx.service.converter.impl;
 
 import com.mtmx.service.converter.MxMessageValidator;
+import com.mtmx.service.xml.XsdSchemaCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -12,9 +13,7 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import java.io.ByteArrayInputStream;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -155,16 +154,13 @@ public class MxMessageValidatorImpl implements MxMessageValidator {
 
     private boolean validateAgainstXsd(String mxMessage, String schemaFile) {
         try {
-            SchemaFactory factory = SchemaFactory.newInstance("http://www.w3.org/2001/XMLSchema");
-
-            // Load XSD schema
-            InputStream schemaStream = getClass().getClassLoader().getResourceAsStream("xsd/" + schemaFile);
-            if (schemaStream == null) {
+            // Load compiled XSD schema (compiled once per process)
+            Schema schema = XsdSchemaCache.get("xsd/" + schemaFile);
+            if (schema == null) {
                 log.error("XSD schema file not found: {}", schemaFile);
                 return false;
             }
 
-            Schema schema = factory.newSchema(new javax.xml.transform.stream.StreamSource(schemaStream));
             javax.xml.validation.Validator validator = schema.newValidator();
 
             // Parse and validate XML
@@ -1,9 +1,11 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
 import com.mtmx.domain.model.mx.Pacs008Message;
 import com.mtmx.service.converter.ConversionException;
 import com.mtmx.service.converter.MessageConverter;
 import com.mtmx.service.converter.MxMessageValidator;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,7 @@ import java.io.StringReader;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Converter for MX pacs.008.001.08 to MT102 (Multiple Customer Credit Transfer)
@@ -28,6 +31,9 @@ public class MxToMt102Converter implements MessageConverter<String, String> {
 
     private static final DateTimeFormatter MT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
 
+    /** Network limit of sequence B occurrences in one MT102 */
+    public static final int MAX_TRANSACTIONS = 50;
+
     @Override
     public String convert(String mxMessage) throws ConversionException {
         if (!isValid(mxMessage)) {
@@ -47,6 +53,79 @@ public class MxToMt102Converter implements MessageConverter<String, String> {
         }
     }
 
+    /**
+     * MT102 carrying one chunk of a split pacs.008: one sequence B block per CdtTrfTxInf,
+     * :32A: and :19: computed from the chunk. All transactions must share one currency.
+     *
+     * @param msgId        GrpHdr/MsgId of the source document, may be null
+     * @param chunk        zero based chunk number, appended to :20: when the document is split
+     * @param transactions transactions of the chunk (at most 50 per MT102)
+     * @throws ConversionException if a transaction lacks an amount or mixes currencies
+     */
+    public String toMt102(String msgId, int chunk, List<Pacs008Message.CreditTransferTransactionInformation> transactions)
+            throws ConversionException {
+        if (transactions.isEmpty() || transactions.size() > MAX_TRANSACTIONS) {
+            throw new ConversionException("MT102 must carry 1-" + MAX_TRANSACTIONS + " transactions");
+        }
+        String currency = null;
+        long sum = 0;
+        StringBuilder sequenceB = new StringBuilder(transactions.size() * 160);
+        try {
+            for (Pacs008Message.CreditTransferTransactionInformation txInfo : transactions) {
+                Pacs008Message.ActiveOrHistoricCurrencyAndAmount txAmount = txInfo.getIntrBkSttlmAmt();
+                if (txAmount == null || txAmount.getValue() == null || txAmount.getCcy() == null) {
+                    throw new ConversionException("Required fields not found in CdtTrfTxInf");
+                }
+                if (currency == null) {
+                    currency = txAmount.getCcy();
+                } else if (!currency.equals(txAmount.getCcy())) {
+                    throw new ConversionException("MT102 transactions must share one currency: "
+                            + currency + ", " + txAmount.getCcy());
+                }
+                long minorUnits = CurrencyAmounts.toMinorUnits(txAmount.getValue(), currency);
+                sum = Math.addExact(sum, minorUnits);
+
+                String reference = txInfo.getPmtId() != null ? txInfo.getPmtId().getEndToEndId() : null;
+                sequenceB.append(":21:").append(reference != null ? reference : "NOTPROVIDED").append("\n");
+                sequenceB.append(":32B:").append(currency);
+                CurrencyAmounts.appendMt(sequenceB, minorUnits, currency).append("\n");
+                if (txInfo.getDbtr() != null && txInfo.getDbtr().getNm() != null) {
+                    sequenceB.append(":50K:/NOTPROVIDED\n").append(txInfo.getDbtr().getNm()).append("\n");
+                }
+                if (txInfo.getCdtr() != null && txInfo.getCdtr().getNm() != null) {
+                    sequenceB.append(":59:/NOTPROVIDED\n").append(txInfo.getCdtr().getNm()).append("\n");
+                }
+                sequenceB.append(":71A:SHA\n");
+            }
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            throw new ConversionException("Invalid amount in MT102 chunk: " + e.getMessage(), e);
+        }
+
+        StringBuilder mt102 = new StringBuilder(sequenceB.length() + 160);
+        mt102.append("{1:F01BANKDEFFXXXX0000000000}\n");
+        mt102.append("{2:I102BANKUS33XXXXN}\n");
+        mt102.append("{4:\n");
+        mt102.append(":20:").append(chunkReference(msgId, chunk)).append("\n");
+        mt102.append(":23:CRED\n");
+        mt102.append(sequenceB);
+        mt102.append(":32A:").append(LocalDate.now().format(MT_DATE_FORMATTER)).append(currency);
+        CurrencyAmounts.appendMt(mt102, sum, currency).append("\n");
+        mt102.append(":19:");
+        CurrencyAmounts.appendMt(mt102, sum, currency).append("\n");
+        mt102.append("-}\n");
+        return mt102.toString();
+    }
+
+    /**
+     * :20: of a chunk - MsgId shortened to fit the 16 character limit together with the chunk number
+     */
+    private static String chunkReference(String msgId, int chunk) {
+        String base = msgId != null && !msgId.isEmpty() ? msgId : "NOTPROVIDED";
+        String suffix = "/" + (chunk + 1);
+        int keep = Math.min(base.length(), 16 - suffix.length());
+        return base.substring(0, keep) + suffix;
+    }
+
     @Override
     public boolean isValid(String mxMessage) {
         if (!mxMessageValidator.isValid(mxMessage)) {
@@ -63,7 +142,7 @@ public class MxToMt102Converter implements MessageConverter<String, String> {
     }
 
     private Pacs008Message unmarshalFromXml(String xmlMessage) throws JAXBException {
-        JAXBContext context = JAXBContext.newInstance(Pacs008Message.class);
+        JAXBContext context = JaxbContextCache.get(Pacs008Message.class);
         Unmarshaller unmarshaller = context.createUnmarshaller();
         StringReader reader = new StringReader(xmlMessage);
         return (Pacs008Message) unmarshaller.unmarshal(reader);
@@ -102,13 +181,15 @@ public class MxToMt102Converter implements MessageConverter<String, String> {
             if (settlementAmount != null) {
                 String currency = settlementAmount.getCcy();
                 BigDecimal amount = settlementAmount.getValue();
-                mt102.append(":32A:").append(valueDate).append(currency).append(amount.toPlainString()).append("\n");
+                mt102.append(":32A:").append(valueDate).append(currency)
+                        .append(CurrencyAmounts.formatMt(amount, currency)).append("\n");
             }
 
             // Field 19: Sum of Amounts
             Pacs008Message.ActiveOrHistoricCurrencyAndAmount txAmount = txInfo.getIntrBkSttlmAmt();
             if (txAmount != null) {
-                mt102.append(":19:").append(txAmount.getValue().toPlainString()).append("\n");
+                mt102.append(":19:")
+                        .append(CurrencyAmounts.formatMt(txAmount.getValue(), txAmount.getCcy())).append("\n");
             }
 
             // Field 50K: Ordering Customer (from debtor)
@@ -127,7 +208,8 @@ public class MxToMt102Converter implements MessageConverter<String, String> {
 
             // Field 32B: Currency/Amount for individual transaction
             if (txAmount != null) {
-                mt102.append(":32B:").append(txAmount.getCcy()).append(txAmount.getValue().toPlainString())
+                mt102.append(":32B:").append(txAmount.getCcy())
+                        .append(CurrencyAmounts.formatMt(txAmount.getValue(), txAmount.getCcy()))
                         .append("\n");
             }
 
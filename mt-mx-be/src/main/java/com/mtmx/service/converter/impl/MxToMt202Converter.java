@@ -1,9 +1,15 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.enums.MessageType;
 import com.mtmx.domain.model.mx.Pacs009Message;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.converter.CanonicalPaymentConverter;
 import com.mtmx.service.converter.ConversionException;
 import com.mtmx.service.converter.MessageConverter;
 import com.mtmx.service.converter.MxMessageValidator;
+import com.mtmx.service.payment.CanonicalPayments;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,6 +18,7 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 import java.io.StringReader;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -21,7 +28,7 @@ import java.time.format.DateTimeFormatter;
 @Component
 @Slf4j
 @RequiredArgsConstructor
-public class MxToMt202Converter implements MessageConverter<String, String> {
+public class MxToMt202Converter implements MessageConverter<String, String>, CanonicalPaymentConverter<String> {
 
     private final MxMessageValidator mxMessageValidator;
 
@@ -39,7 +46,7 @@ public class MxToMt202Converter implements MessageConverter<String, String> {
 
             // Extract data from JAXB object
             String reference = extractReference(pacs009Message);
-            String amount = extractAmount(pacs009Message);
+            BigDecimal amount = extractAmount(pacs009Message);
             String currency = extractCurrency(pacs009Message);
 
             if (reference == null || amount == null || currency == null) {
@@ -47,7 +54,7 @@ public class MxToMt202Converter implements MessageConverter<String, String> {
             }
 
             // Create MT202 message
-            return createMt202Message(reference, amount, currency);
+            return createMt202Message(reference, CurrencyAmounts.formatMt(amount, currency), currency);
 
         } catch (Exception e) {
             log.error("Error converting MX to MT202: {}", e.getMessage(), e);
@@ -55,6 +62,59 @@ public class MxToMt202Converter implements MessageConverter<String, String> {
         }
     }
 
+    /**
+     * MT202 for a single CdtTrfTxInf, used when a multi-transaction pacs.009 is split
+     *
+     * @throws ConversionException if EndToEndId or the settlement amount is missing
+     */
+    public String toMt202(Pacs009Message.CreditTransferTransactionInformation txInfo) throws ConversionException {
+        String reference = txInfo.getPmtId() != null ? txInfo.getPmtId().getEndToEndId() : null;
+        Pacs009Message.ActiveOrHistoricCurrencyAndAmount amount = txInfo.getIntrBkSttlmAmt();
+        if (reference == null || amount == null || amount.getValue() == null || amount.getCcy() == null) {
+            throw new ConversionException("Required fields not found in CdtTrfTxInf");
+        }
+        try {
+            return createMt202Message(reference, CurrencyAmounts.formatMt(amount.getValue(), amount.getCcy()),
+                    amount.getCcy());
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid amount in CdtTrfTxInf " + reference + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * MT202 for the first transaction of a canonical payment, without any XML parsing
+     *
+     * @throws ConversionException if the payment has no transaction, EndToEndId or settlement amount
+     */
+    public String toMt202(CanonicalPayment payment) throws ConversionException {
+        CanonicalPayment.Transaction transaction = payment.firstTransaction();
+        if (transaction == null || transaction.getEndToEndId() == null || transaction.getAmount() == null
+                || transaction.getCurrency() == null) {
+            throw new ConversionException("Required fields not found in canonical payment");
+        }
+        try {
+            return createMt202Message(transaction.getEndToEndId(),
+                    CurrencyAmounts.formatMt(transaction.getAmount(), transaction.getCurrency()),
+                    transaction.getCurrency());
+        } catch (IllegalArgumentException e) {
+            throw new ConversionException("Invalid amount in canonical payment " + transaction.getEndToEndId()
+                    + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Canonical payment of a pacs.009 document, typed as MT202. The document is only unmarshalled;
+     * schema validation is left to the caller, which validates edited MX content anyway.
+     */
+    @Override
+    public CanonicalPayment toPayment(String mxMessage) throws ConversionException {
+        try {
+            return CanonicalPayments.fromPacs009(MessageType.MT202, unmarshalFromXml(mxMessage));
+        } catch (JAXBException | ClassCastException e) {
+            throw new ConversionException("Failed to read MX pacs.009 message", e);
+        }
+    }
+
     @Override
     public boolean isValid(String mxMessage) {
         if (!mxMessageValidator.isValid(mxMessage)) {
@@ -71,7 +131,7 @@ public class MxToMt202Converter implements MessageConverter<String, String> {
     }
 
     private Pacs009Message unmarshalFromXml(String mxMessage) throws JAXBException {
-        JAXBContext context = JAXBContext.newInstance(Pacs009Message.class);
+        JAXBContext context = JaxbContextCache.get(Pacs009Message.class);
         Unmarshaller unmarshaller = context.createUnmarshaller();
         return (Pacs009Message) unmarshaller.unmarshal(new StringReader(mxMessage));
     }
@@ -90,7 +150,7 @@ public class MxToMt202Converter implements MessageConverter<String, String> {
         return null;
     }
 
-    private String extractAmount(Pacs009Message message) {
+    private BigDecimal extractAmount(Pacs009Message message) {
         if (message.getFiCdtTrf() != null &&
                 message.getFiCdtTrf().getCdtTrfTxInf() != null &&
                 !message.getFiCdtTrf().getCdtTrfTxInf().isEmpty()) {
@@ -98,7 +158,7 @@ public class MxToMt202Converter implements MessageConverter<String, String> {
             Pacs009Message.CreditTransferTransactionInformation txInfo = message.getFiCdtTrf().getCdtTrfTxInf().get(0);
 
             if (txInfo.getIntrBkSttlmAmt() != null && txInfo.getIntrBkSttlmAmt().getValue() != null) {
-                return txInfo.getIntrBkSttlmAmt().getValue().toString();
+                return txInfo.getIntrBkSttlmAmt().getValue();
             }
         }
         return null;
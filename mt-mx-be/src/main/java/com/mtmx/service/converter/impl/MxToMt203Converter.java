@@ -1,9 +1,11 @@
 package com.mtmx.service.converter.impl;
 
+import com.mtmx.domain.currency.CurrencyAmounts;
 import com.mtmx.domain.model.mx.Pacs009Message;
 import com.mtmx.service.converter.ConversionException;
 import com.mtmx.service.converter.MessageConverter;
 import com.mtmx.service.converter.MxMessageValidator;
+import com.mtmx.service.xml.JaxbContextCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -64,7 +66,7 @@ public class MxToMt203Converter implements MessageConverter<String, String> {
     }
 
     private Pacs009Message unmarshalFromXml(String xmlMessage) throws JAXBException {
-        JAXBContext context = JAXBContext.newInstance(Pacs009Message.class);
+        JAXBContext context = JaxbContextCache.get(Pacs009Message.class);
         Unmarshaller unmarshaller = context.createUnmarshaller();
         StringReader reader = new StringReader(xmlMessage);
         return (Pacs009Message) unmarshaller.unmarshal(reader);
@@ -100,13 +102,15 @@ public class MxToMt203Converter implements MessageConverter<String, String> {
             if (settlementAmount != null) {
                 String currency = settlementAmount.getCcy();
                 BigDecimal amount = settlementAmount.getValue();
-                mt203.append(":32A:").append(valueDate).append(currency).append(amount.toPlainString()).append("\n");
+                mt203.append(":32A:").append(valueDate).append(currency)
+                        .append(CurrencyAmounts.formatMt(amount, currency)).append("\n");
             }
 
             // Field 19: Sum of Amounts
             Pacs009Message.ActiveOrHistoricCurrencyAndAmount txAmount = txInfo.getIntrBkSttlmAmt();
             if (txAmount != null) {
-                mt203.append(":19:").append(txAmount.getValue().toPlainString()).append("\n");
+                mt203.append(":19:")
+                        .append(CurrencyAmounts.formatMt(txAmount.getValue(), txAmount.getCcy())).append("\n");
             }
 
             // Field 52A: Ordering Institution (from instructed agent)
@@ -123,7 +127,8 @@ public class MxToMt203Converter implements MessageConverter<String, String> {
 
             // Field 32B: Currency/Amount for individual transaction
             if (txAmount != null) {
-                mt203.append(":32B:").append(txAmount.getCcy()).append(txAmount.getValue().toPlainString())
+                mt203.append(":32B:").append(txAmount.getCcy())
+                        .append(CurrencyAmounts.formatMt(txAmount.getValue(), txAmount.getCcy()))
                         .append("\n");
             }
 
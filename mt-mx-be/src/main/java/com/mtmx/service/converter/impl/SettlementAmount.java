@@ -0,0 +1,36 @@
+package com.mtmx.service.converter.impl;
+
+import com.mtmx.domain.currency.CurrencyAmounts;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Currency and amount of an MT message in {@code long} minor units, as the MT to MX converters
+ * carry it; the {@link BigDecimal} of the JAXB model is created only by {@link #toBigDecimal()}.
+ */
+@Value
+class SettlementAmount {
+
+    String currency;
+    long minorUnits;
+
+    /**
+     * @return the amount, null if the minor units are {@link CurrencyAmounts#NO_AMOUNT}
+     */
+    static SettlementAmount of(String currency, long minorUnits) {
+        return minorUnits == CurrencyAmounts.NO_AMOUNT ? null : new SettlementAmount(currency, minorUnits);
+    }
+
+    /**
+     * JAXB boundary
+     */
+    BigDecimal toBigDecimal() {
+        return CurrencyAmounts.toBigDecimal(minorUnits, currency);
+    }
+
+    @Override
+    public String toString() {
+        return currency + CurrencyAmounts.formatMx(minorUnits, currency);
+    }
+}
@@ -0,0 +1,230 @@
+package com.mtmx.service.directory;
+
+import com.mtmx.service.validation.rules.AsciiBytes;
+import com.mtmx.service.validation.rules.MtFieldIndex;
+import com.mtmx.service.validation.rules.MtTag;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local BIC directory used to reject messages addressed to institutions that do not exist.
+ * <p>
+ * The directory file ({@code mtmx.bic-directory.path}) is loaded into a {@link BicIndex} and
+ * polled every {@code mtmx.bic-directory.refresh-seconds}; a new file drop is parsed off to
+ * the side and swapped in with a single volatile write, so lookups never block and never see
+ * a half-loaded directory. A broken file keeps the previous index in place, and so does a
+ * well-formed one that is empty or lists fewer than {@code mtmx.bic-directory.min-retained-ratio}
+ * of the current BICs - a truncated drop would otherwise reject every message.
+ * Without a configured file the directory is not loaded and every BIC is accepted
+ * (format checks still apply elsewhere).
+ */
+@Component
+@Slf4j
+public class BicDirectory implements SchedulingConfigurer {
+
+    private static final MtTag[] BIC_FIELDS = { MtTag.F52A, MtTag.F57A, MtTag.F58A };
+    private static final double DEFAULT_MIN_RETAINED_RATIO = 0.5;
+
+    private final Path path;
+    private final long refreshSeconds;
+    private final double minRetainedRatio;
+    private volatile BicIndex index = BicIndex.empty();
+    private volatile boolean loaded;
+    private long lastModified = -1;
+
+    public BicDirectory(String path, long refreshSeconds, MeterRegistry meterRegistry) {
+        this(path, refreshSeconds, DEFAULT_MIN_RETAINED_RATIO, meterRegistry);
+    }
+
+    @Autowired
+    public BicDirectory(@Value("${mtmx.bic-directory.path:}") String path,
+                        @Value("${mtmx.bic-directory.refresh-seconds:60}") long refreshSeconds,
+                        @Value("${mtmx.bic-directory.min-retained-ratio:0.5}") double minRetainedRatio,
+                        MeterRegistry meterRegistry) {
+        this.path = StringUtils.hasText(path) ? Paths.get(path) : null;
+        this.refreshSeconds = refreshSeconds;
+        this.minRetainedRatio = minRetainedRatio;
+        if (meterRegistry != null) {
+            Gauge.builder("mtmx.bic.directory.size", this, d -> d.index.size()).register(meterRegistry);
+        }
+    }
+
+    /**
+     * Directory without a backing file - accepts every BIC
+     */
+    public static BicDirectory disabled() {
+        return new BicDirectory(null, 0, null);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (path == null) {
+            log.info("BIC directory not configured (mtmx.bic-directory.path), existence checks disabled");
+            return;
+        }
+        reloadIfChanged();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (path != null && refreshSeconds > 0) {
+            long interval = TimeUnit.SECONDS.toMillis(refreshSeconds);
+            registrar.addFixedDelayTask(new FixedDelayTask(this::reloadIfChanged, interval, interval));
+        }
+    }
+
+    /**
+     * Reload the directory file if its modification time changed since the last load
+     *
+     * @return true if a new index was swapped in
+     */
+    public synchronized boolean reloadIfChanged() {
+        if (path == null) {
+            return false;
+        }
+        try {
+            if (!Files.isRegularFile(path)) {
+                log.warn("BIC directory file not found: {}", path);
+                return false;
+            }
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (modified == lastModified) {
+                return false;
+            }
+            BicIndex fresh = BicIndex.load(path);
+            // Reddedilen dosya da işaretlenir, yeni bir dosya bırakılana kadar tekrar okunmaz
+            lastModified = modified;
+            return swap(fresh);
+        } catch (IOException | RuntimeException e) {
+            log.error("BIC directory could not be loaded from {}, keeping previous index: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Atomically replace the active index, unless the new one is empty or shrank below
+     * {@code mtmx.bic-directory.min-retained-ratio} of the active one
+     *
+     * @return true if the index was swapped in
+     */
+    public synchronized boolean swap(BicIndex fresh) {
+        int current = loaded ? index.size() : 0;
+        if (fresh.size() == 0 || fresh.size() < current * minRetainedRatio) {
+            log.error("BIC directory from {} rejected: {} BICs ({} lines rejected) against {} loaded, keeping previous index",
+                    fresh.getSource(), fresh.size(), fresh.getRejected(), current);
+            return false;
+        }
+        index = fresh;
+        loaded = true;
+        log.info("BIC directory loaded from {}: {} BICs ({} lines rejected)",
+                fresh.getSource(), fresh.size(), fresh.getRejected());
+        return true;
+    }
+
+    /**
+     * @return false until a directory has been loaded
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public BicIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * True if the BIC is listed, or if no directory is loaded
+     */
+    public boolean isKnown(CharSequence bic) {
+        return !loaded || index.contains(bic);
+    }
+
+    /**
+     * Header addresses (block 1/2, checked at institution level) and :52A:, :57A:, :58A: BICs of
+     * a raw MT message that are not listed in the directory. Values that are not BIC shaped are
+     * left to the format checks.
+     *
+     * @return unknown BICs in message order, empty if all are known or no directory is loaded
+     */
+    public List<String> findUnknownBics(MtFieldIndex message) {
+        if (!loaded) {
+            return Collections.emptyList();
+        }
+        BicIndex current = index;
+        CharSequence raw = message.getSource();
+        List<String> unknown = null;
+
+        unknown = checkAddress(current, raw, message.basicHeaderAddressStart(),
+                message.basicHeaderAddressEnd(), unknown);
+        unknown = checkAddress(current, raw, message.applicationHeaderAddressStart(),
+                message.applicationHeaderAddressEnd(), unknown);
+
+        for (int i = 0; i < message.size(); i++) {
+            MtTag tag = message.tag(i);
+            if (tag == null || !isBicField(tag)) {
+                continue;
+            }
+            int from = message.valueStart(i);
+            int to = message.valueEnd(i);
+            // Opsiyonel party identifier satırı (/hesap) atlanır, BIC bir sonraki satırdadır
+            if (from < to && raw.charAt(from) == '/') {
+                int newline = AsciiBytes.indexOf(raw, '\n', from);
+                from = newline < 0 || newline >= to ? to : newline + 1;
+            }
+            int end = from;
+            while (end < to && raw.charAt(end) != '\n' && raw.charAt(end) != '\r') {
+                end++;
+            }
+            int length = end - from;
+            if ((length == 8 || length == 11) && BicIndex.encode(raw, from, end) >= 0
+                    && !current.contains(raw, from, end)) {
+                unknown = add(unknown, raw.subSequence(from, end).toString());
+            }
+        }
+        return unknown == null ? Collections.emptyList() : unknown;
+    }
+
+    private static List<String> checkAddress(BicIndex current, CharSequence raw, int from, int to, List<String> unknown) {
+        // LT adresinin terminal/branch kısmı oturuma göre değişir, kurum seviyesinde (BIC8) kontrol edilir
+        if (from < 0 || to - from < 8 || current.containsInstitution(raw, from)) {
+            return unknown;
+        }
+        if (BicIndex.encode(raw, from, from + 8) < 0) {
+            return unknown;
+        }
+        return add(unknown, raw.subSequence(from, from + 8).toString());
+    }
+
+    private static List<String> add(List<String> unknown, String bic) {
+        List<String> list = unknown == null ? new ArrayList<>(2) : unknown;
+        list.add(bic);
+        return list;
+    }
+
+    private static boolean isBicField(MtTag tag) {
+        for (MtTag bicField : BIC_FIELDS) {
+            if (bicField == tag) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,196 @@
+package com.mtmx.service.directory;
+
+import com.mtmx.domain.validation.SwiftFormats;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable, read-optimised set of BICs.
+ * <p>
+ * Every BIC is normalised to 11 characters (primary offices get the {@code XXX} branch code)
+ * and packed base-37 into a single {@code long}; the keys are kept in one sorted primitive
+ * array. That is 8 bytes per institution with no per-entry objects, and a lookup is a binary
+ * search over contiguous memory without allocation (~20 probes for a full directory).
+ */
+public final class BicIndex {
+
+    private static final int RADIX = 37;
+    private static final long BRANCH_RANGE = (long) RADIX * RADIX * RADIX;
+    private static final long BRANCH_XXX = (digit('X') * RADIX + digit('X')) * RADIX + digit('X');
+    private static final BicIndex EMPTY = new BicIndex(new long[0], 0, Instant.EPOCH, "empty");
+
+    private final long[] keys;
+    private final int rejected;
+    private final Instant loadedAt;
+    private final String source;
+
+    private BicIndex(long[] keys, int rejected, Instant loadedAt, String source) {
+        this.keys = keys;
+        this.rejected = rejected;
+        this.loadedAt = loadedAt;
+        this.source = source;
+    }
+
+    public static BicIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build an index from BIC strings; entries that are not valid BIC8/BIC11 codes are skipped
+     */
+    public static BicIndex of(Collection<String> bics) {
+        long[] keys = new long[bics.size()];
+        int count = 0;
+        int rejected = 0;
+        for (String bic : bics) {
+            long key = bic == null ? -1 : encode(bic, 0, bic.length());
+            if (key < 0) {
+                rejected++;
+            } else {
+                keys[count++] = key;
+            }
+        }
+        return new BicIndex(sortUnique(keys, count), rejected, Instant.now(), "memory");
+    }
+
+    /**
+     * Load a directory file. The first column of each line is taken as the BIC, so both CSV
+     * ({@code ,} {@code ;} {@code |} or tab separated) and fixed-width exports are accepted.
+     * Blank lines, {@code #} comments and a header row are ignored.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    public static BicIndex load(Path file) throws IOException {
+        long[] keys = new long[1024];
+        int count = 0;
+        int rejected = 0;
+        boolean firstRecord = true;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int start = 0;
+                int length = line.length();
+                while (start < length && (line.charAt(start) == ' ' || line.charAt(start) == '"')) {
+                    start++;
+                }
+                if (start == length || line.charAt(start) == '#') {
+                    continue;
+                }
+                int end = start;
+                while (end < length && !isSeparator(line.charAt(end))) {
+                    end++;
+                }
+
+                long key = encode(line, start, end);
+                if (key < 0) {
+                    // Başlık satırı hata sayılmaz
+                    if (!firstRecord) {
+                        rejected++;
+                    }
+                } else {
+                    if (count == keys.length) {
+                        keys = Arrays.copyOf(keys, count * 2);
+                    }
+                    keys[count++] = key;
+                }
+                firstRecord = false;
+            }
+        }
+        return new BicIndex(sortUnique(keys, count), rejected, Instant.now(), file.toString());
+    }
+
+    /**
+     * Pack a BIC8 or BIC11 into a non-negative long
+     *
+     * @return key, or -1 if the range is not a valid BIC
+     */
+    public static long encode(CharSequence s, int from, int to) {
+        int length = to - from;
+        if ((length != 8 && length != 11) || !SwiftFormats.isBic(s, from, to)) {
+            return -1;
+        }
+        long key = 0;
+        for (int i = from; i < to; i++) {
+            key = key * RADIX + digit(s.charAt(i));
+        }
+        if (length == 8) {
+            key = key * BRANCH_RANGE + BRANCH_XXX;
+        }
+        return key;
+    }
+
+    public boolean contains(CharSequence bic) {
+        return bic != null && contains(bic, 0, bic.length());
+    }
+
+    /**
+     * Check a BIC8/BIC11 in place, e.g. a slice of a raw MT message
+     */
+    public boolean contains(CharSequence s, int from, int to) {
+        long key = encode(s, from, to);
+        return key >= 0 && Arrays.binarySearch(keys, key) >= 0;
+    }
+
+    /**
+     * True if any office (any branch code) of the institution whose BIC8 starts at {@code from}
+     * is listed. All branches of a BIC8 form one contiguous key range, so this is one search.
+     */
+    public boolean containsInstitution(CharSequence s, int from) {
+        long low = encode(s, from, from + 8);
+        if (low < 0) {
+            return false;
+        }
+        low -= BRANCH_XXX;
+        int pos = Arrays.binarySearch(keys, low);
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+        return pos < keys.length && keys[pos] < low + BRANCH_RANGE;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Lines (or entries) that did not contain a valid BIC
+     */
+    public int getRejected() {
+        return rejected;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    private static int digit(char c) {
+        return c >= 'A' ? c - 'A' + 1 : c - '0' + 27;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ',' || c == ';' || c == '|' || c == '\t' || c == ' ' || c == '"';
+    }
+
+    private static long[] sortUnique(long[] keys, int count) {
+        Arrays.sort(keys, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || keys[unique - 1] != keys[i]) {
+                keys[unique++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, unique);
+    }
+}
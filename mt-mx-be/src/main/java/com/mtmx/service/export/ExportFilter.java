@@ -0,0 +1,53 @@
+package com.mtmx.service.export;
+
+import com.mtmx.domain.enums.MessageStatus;
+import com.mtmx.domain.enums.MessageType;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Selection of an export: message type, lifecycle status and creation time range.
+ * Parsed before the response starts streaming, so an invalid filter is still a 400.
+ */
+@Value
+public class ExportFilter {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    /** null for all types */
+    MessageType messageType;
+
+    /** null for all statuses */
+    MessageStatus status;
+
+    /** Created at or after */
+    LocalDateTime from;
+
+    /** Created before */
+    LocalDateTime to;
+
+    /**
+     * @param messageType message type name, null or blank for all
+     * @param status status name, null or blank for all
+     * @param from inclusive lower bound, null for unbounded
+     * @param to exclusive upper bound, null for unbounded
+     * @throws IllegalArgumentException for an unknown type or status or an empty range
+     */
+    public static ExportFilter of(String messageType, String status, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime lower = from != null ? from : EPOCH;
+        LocalDateTime upper = to != null ? to : END_OF_TIME;
+        if (!lower.isBefore(upper)) {
+            throw new IllegalArgumentException("Export range is empty: " + lower + " - " + upper);
+        }
+        try {
+            return new ExportFilter(
+                    messageType == null || messageType.isBlank() ? null : MessageType.valueOf(messageType),
+                    status == null || status.isBlank() ? null : MessageStatus.valueOf(status),
+                    lower, upper);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid message type or status: " + messageType + " / " + status);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mtmx.service.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+/**
+ * Output formats of the message export.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    /** One JSON object per line, the full message including MT and MX */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /** Metadata columns only, without the MT/MX payloads */
+    CSV("text/csv", "csv"),
+    /** One {@code .txt} MT file and one {@code .xml} MX file per message */
+    ZIP("application/zip", "zip");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * @throws IllegalArgumentException for an unknown format name
+     */
+    public static ExportFormat of(String name) {
+        if (name == null || name.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + name);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.mtmx.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mtmx.config.ConditionalOnPersistence;
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.repository.SwiftMessageRepository;
+import com.mtmx.service.mx.LazyMxGenerator;
+import com.mtmx.web.dto.SwiftMessageDto;
+import com.mtmx.web.mapper.SwiftMessageMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Bulk export of stored messages as NDJSON, CSV or a zip of MT/MX files.
+ * <p>
+ * Rows come from {@link SwiftMessageRepository#streamForExport} - a forward-only cursor that
+ * fetches {@link SwiftMessageRepository#EXPORT_FETCH_SIZE} rows per round trip - and every
+ * entity is detached from the persistence context right after it is written. Memory use is
+ * therefore independent of the number of exported rows, and the output is flushed to the client
+ * once per fetch. Messages without a stored MX get it generated by the {@link LazyMxGenerator},
+ * bypassing its cache and write-back so an export neither evicts the hot entries nor queues a
+ * row update per message.
+ */
+@Service
+@ConditionalOnPersistence
+@Slf4j
+public class SwiftMessageExportService {
+
+    static final String[] CSV_COLUMNS = {"id", "messageType", "status", "validationVerdict", "errorCode",
+            "transactionReference", "uetr", "senderBic", "receiverBic", "amount", "currency", "valueDate",
+            "createdAt"};
+
+    private static final int FLUSH_EVERY = Integer.parseInt(SwiftMessageRepository.EXPORT_FETCH_SIZE);
+
+    private final SwiftMessageRepository swiftMessageRepository;
+    private final SwiftMessageMapper swiftMessageMapper;
+    private final LazyMxGenerator lazyMxGenerator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final Map<ExportFormat, Counter> exported = new EnumMap<>(ExportFormat.class);
+
+    @Autowired
+    public SwiftMessageExportService(SwiftMessageRepository swiftMessageRepository,
+                                     SwiftMessageMapper swiftMessageMapper,
+                                     LazyMxGenerator lazyMxGenerator,
+                                     ObjectMapper objectMapper,
+                                     EntityManager entityManager,
+                                     MeterRegistry meterRegistry) {
+        this.swiftMessageRepository = swiftMessageRepository;
+        this.swiftMessageMapper = swiftMessageMapper;
+        this.lazyMxGenerator = lazyMxGenerator;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        for (ExportFormat format : ExportFormat.values()) {
+            exported.put(format, Counter.builder("mtmx.export.messages")
+                    .description("Messages written by the bulk export")
+                    .tag("format", format.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Writes every message matching the filter to the output, oldest first. The output is
+     * flushed but not closed.
+     *
+     * @return number of exported messages
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        long count;
+        try (Stream<SwiftMessage> messages = swiftMessageRepository.streamForExport(
+                filter.getMessageType(), filter.getStatus(), filter.getFrom(), filter.getTo())) {
+            switch (format) {
+                case CSV:
+                    count = writeCsv(messages.iterator(), out);
+                    break;
+                case ZIP:
+                    count = writeZip(messages.iterator(), out);
+                    break;
+                default:
+                    count = writeNdjson(messages.iterator(), out);
+            }
+        }
+        exported.get(format).increment(count);
+        log.info("Exported {} messages as {} ({})", count, format, filter);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<SwiftMessage> messages, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+        while (messages.hasNext()) {
+            writer.write(objectMapper.writeValueAsString(toDto(messages.next())));
+            writer.write('\n');
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<SwiftMessage> messages, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_COLUMNS));
+        writer.write("\r\n");
+        long count = 0;
+        while (messages.hasNext()) {
+            SwiftMessage message = messages.next();
+            writeCsvRow(writer, message.getId(), message.getMessageType(), message.getStatus(),
+                    message.getValidationVerdict(), message.getErrorCode(), message.getTransactionReference(),
+                    message.getUetr(), message.getSenderBic(), message.getReceiverBic(),
+                    message.getAmount() != null ? message.getAmount().toPlainString() : null,
+                    message.getCurrency(), message.getValueDate(), message.getCreatedAt());
+            entityManager.detach(message);
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeZip(Iterator<SwiftMessage> messages, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        long count = 0;
+        while (messages.hasNext()) {
+            SwiftMessageDto dto = toDto(messages.next());
+            String name = dto.getId() + "_" + dto.getMessageType();
+            writeEntry(zip, name + ".txt", dto.getRawMtMessage());
+            writeEntry(zip, name + ".xml", dto.getGeneratedMxMessage());
+            if (++count % FLUSH_EVERY == 0) {
+                zip.flush();
+            }
+        }
+        zip.finish();
+        zip.flush();
+        return count;
+    }
+
+    /**
+     * DTO with the stored or on-read MX; the entity is detached afterwards
+     */
+    private SwiftMessageDto toDto(SwiftMessage message) {
+        SwiftMessageDto dto = swiftMessageMapper.toDto(message);
+        if (dto.getGeneratedMxMessage() == null && lazyMxGenerator.isLazy()) {
+            LazyMxGenerator.OnReadMx onRead = lazyMxGenerator.resolveUncached(message);
+            if (onRead != null) {
+                onRead.applyTo(dto);
+            }
+        }
+        entityManager.detach(message);
+        return dto;
+    }
+
+    private static void writeEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        if (content == null) {
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180: values containing a separator, quote or line break are quoted, quotes doubled
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,120 @@
+package com.mtmx.service.ingest;
+
+import com.mtmx.config.ConditionalOnPersistence;
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.repository.SwiftMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Online backfill of the {@link MtBusinessKeys} columns of rows stored before they existed.
+ * <p>
+ * Every interval one batch of rows without a {@code transaction_reference} and {@code uetr} is
+ * read, the keys are extracted from the stored MT and written with a bulk update; a row is
+ * rewritten only if its {@code updatedAt} is unchanged since it was read, so concurrent edits
+ * win. New rows get their keys at ingest, so the scan walks the ids upwards once and stops at
+ * the end; rows whose MT carries neither key are skipped.
+ */
+@Component
+@ConditionalOnPersistence
+@Slf4j
+public class BusinessKeyBackfill implements SchedulingConfigurer {
+
+    private final SwiftMessageRepository swiftMessageRepository;
+    private final int batchSize;
+    private final boolean enabled;
+    private final long intervalSeconds;
+    private final Counter backfilled;
+    private long lastId;
+    private boolean finished;
+    private ScheduledTask task;
+
+    @Autowired
+    public BusinessKeyBackfill(SwiftMessageRepository swiftMessageRepository,
+                               @Value("${mtmx.ingest.business-keys.backfill.enabled:true}") boolean enabled,
+                               @Value("${mtmx.ingest.business-keys.backfill.batch-size:200}") int batchSize,
+                               @Value("${mtmx.ingest.business-keys.backfill.interval-seconds:5}") long intervalSeconds,
+                               MeterRegistry meterRegistry) {
+        this.swiftMessageRepository = swiftMessageRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.enabled = enabled;
+        this.intervalSeconds = intervalSeconds;
+        this.backfilled = Counter.builder("mtmx.ingest.business-keys.backfilled")
+                .description("Stored messages given a transaction reference / UETR by the backfill")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (enabled && intervalSeconds > 0) {
+            long interval = TimeUnit.SECONDS.toMillis(intervalSeconds);
+            task = registrar.scheduleFixedDelayTask(new FixedDelayTask(this::runSafely, interval, interval));
+            log.info("Business key backfill scheduled (batchSize={}, intervalSeconds={})",
+                    this.batchSize, intervalSeconds);
+        }
+    }
+
+    /**
+     * Extracts and stores the keys of the next batch of rows without them
+     *
+     * @return number of rows rewritten
+     */
+    public synchronized int backfillBatch() {
+        if (finished) {
+            return 0;
+        }
+        List<Long> ids = swiftMessageRepository.findIdsWithoutBusinessKeys(lastId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            finished = true;
+            log.info("Business key backfill finished ({} messages)", (long) backfilled.count());
+            return 0;
+        }
+        int count = 0;
+        for (Long id : ids) {
+            lastId = id;
+            SwiftMessage message = swiftMessageRepository.findById(id).orElse(null);
+            if (message == null) {
+                continue;
+            }
+            MtBusinessKeys keys = MtBusinessKeys.of(message.getRawMtMessage());
+            if (keys.getTransactionReference() == null && keys.getUetr() == null) {
+                continue;
+            }
+            if (swiftMessageRepository.backfillBusinessKeys(id, message.getUpdatedAt(),
+                    keys.getTransactionReference(), keys.getUetr()) > 0) {
+                count++;
+            }
+        }
+        backfilled.increment(count);
+        return count;
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    private void runSafely() {
+        try {
+            int count = backfillBatch();
+            if (count > 0) {
+                log.debug("Backfilled business keys of {} messages", count);
+            } else if (isFinished() && task != null) {
+                task.cancel();
+            }
+        } catch (Exception e) {
+            log.warn("Business key backfill batch failed: {}", e.getMessage());
+        }
+    }
+}
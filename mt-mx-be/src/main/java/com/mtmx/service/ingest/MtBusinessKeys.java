@@ -0,0 +1,79 @@
+package com.mtmx.service.ingest;
+
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.header.MtHeader;
+import com.mtmx.domain.header.MtHeaderParser;
+import com.mtmx.service.validation.rules.MtFieldIndex;
+import com.mtmx.service.validation.rules.MtTag;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Lookup keys of a raw MT message, extracted once at ingest into their own indexed columns:
+ * {@code :20:} transaction reference, UETR (block 3 tag 121), sender / receiver BIC11 and the
+ * {@code :32A:} value date. Extraction is lenient: a missing or malformed key is null.
+ */
+@Value
+public class MtBusinessKeys {
+
+    private static final DateTimeFormatter MT_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyMMdd");
+    private static final int MAX_REFERENCE_LENGTH = 35;
+    private static final int UETR_LENGTH = 36;
+
+    String transactionReference;
+    String uetr;
+    String senderBic;
+    String receiverBic;
+    LocalDate valueDate;
+
+    public static MtBusinessKeys of(String mtMessage) {
+        if (mtMessage == null || mtMessage.isBlank()) {
+            return new MtBusinessKeys(null, null, null, null, null);
+        }
+        MtHeader header = MtHeaderParser.parse(mtMessage);
+        MtFieldIndex fields = MtFieldIndex.parseLenient(mtMessage);
+
+        String reference = fields.first(MtTag.F20);
+        if (reference != null && (reference.isEmpty() || reference.length() > MAX_REFERENCE_LENGTH)) {
+            reference = null;
+        }
+        String uetr = header.getUetr();
+        if (uetr != null && uetr.length() != UETR_LENGTH) {
+            uetr = null;
+        }
+        return new MtBusinessKeys(reference, uetr != null ? uetr.toLowerCase() : null,
+                header.getSenderBic(), header.getReceiverBic(), valueDate(fields.first(MtTag.F32A)));
+    }
+
+    /**
+     * Store the keys on the entity. Reference and UETR always follow the MT; BICs and value
+     * date only fill fields the caller left empty.
+     */
+    public void applyTo(SwiftMessage message) {
+        message.setTransactionReference(transactionReference);
+        message.setUetr(uetr);
+        if (message.getSenderBic() == null && senderBic != null) {
+            message.setSenderBic(senderBic);
+        }
+        if (message.getReceiverBic() == null && receiverBic != null) {
+            message.setReceiverBic(receiverBic);
+        }
+        if (message.getValueDate() == null) {
+            message.setValueDate(valueDate);
+        }
+    }
+
+    private static LocalDate valueDate(String field32A) {
+        if (field32A == null || field32A.length() < 6) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(field32A.substring(0, 6), MT_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.mtmx.service.mt102;
+
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.model.Mt102Transaction;
+import com.mtmx.service.validation.rules.AsciiBytes;
+import com.mtmx.service.validation.rules.MtTag;
+
+import java.util.Arrays;
+
+/**
+ * Lightweight view of one MT102 sequence B transaction (a {@code :21:} block), backed by
+ * the raw message. Only the offsets of the first occurrence of each field are kept;
+ * values are materialised when asked for.
+ * <p>
+ * The view is a flyweight: {@link Mt102Transactions} reuses one instance and moves it to the
+ * next block on every {@code next()}, so it must not be retained across iterations.
+ * Use {@link #toTransaction()} for a detached copy.
+ */
+public final class Mt102TransactionView {
+
+    private final CharSequence raw;
+    private final int[] valueStarts = new int[MtTag.count()];
+    private final int[] valueEnds = new int[MtTag.count()];
+    private int index = -1;
+    private int blockStart;
+    private int blockEnd;
+
+    Mt102TransactionView(CharSequence raw) {
+        this.raw = raw;
+    }
+
+    void reset(int index, int blockStart) {
+        Arrays.fill(valueStarts, -1);
+        this.index = index;
+        this.blockStart = blockStart;
+        this.blockEnd = blockStart;
+    }
+
+    void field(MtTag tag, int valueStart, int valueEnd) {
+        if (tag != null && valueStarts[tag.ordinal()] < 0) {
+            valueStarts[tag.ordinal()] = valueStart;
+            valueEnds[tag.ordinal()] = valueEnd;
+        }
+    }
+
+    void close(int blockEnd) {
+        this.blockEnd = blockEnd;
+    }
+
+    /**
+     * Zero based position of the transaction in sequence B
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Offset of the {@code :21:} tag in the raw message
+     */
+    public int blockStart() {
+        return blockStart;
+    }
+
+    public int blockEnd() {
+        return blockEnd;
+    }
+
+    public boolean has(MtTag tag) {
+        return valueStarts[tag.ordinal()] >= 0;
+    }
+
+    /**
+     * Trimmed value of the first occurrence of the tag in this transaction
+     *
+     * @return value or null if the tag is absent
+     */
+    public String value(MtTag tag) {
+        int start = valueStarts[tag.ordinal()];
+        return start < 0 ? null : raw.subSequence(start, valueEnds[tag.ordinal()]).toString();
+    }
+
+    /**
+     * :21: Transaction Reference
+     */
+    public String reference() {
+        return value(MtTag.F21);
+    }
+
+    /**
+     * True if the transaction carries a well-formed :32B: (currency + amount)
+     */
+    public boolean hasAmount() {
+        int start = valueStarts[MtTag.F32B.ordinal()];
+        return start >= 0 && valueEnds[MtTag.F32B.ordinal()] - start > 3;
+    }
+
+    /**
+     * :32B: currency, null if absent
+     */
+    public String currency() {
+        int start = valueStarts[MtTag.F32B.ordinal()];
+        return hasAmount() ? raw.subSequence(start, start + 3).toString() : null;
+    }
+
+    /**
+     * Compare the :32B: currency without materialising it
+     */
+    public boolean isCurrency(String currency) {
+        return hasAmount() && currency != null && currency.length() == 3
+                && AsciiBytes.regionMatches(raw, valueStarts[MtTag.F32B.ordinal()], currency);
+    }
+
+    /**
+     * :32B: amount in minor units of the given currency
+     *
+     * @throws IllegalArgumentException if the amount is absent, malformed or overflows
+     */
+    public long amountMinorUnits(String currency) {
+        if (!hasAmount()) {
+            throw new IllegalArgumentException("Transaction :32B: alanı bulunamadı: " + reference());
+        }
+        int start = valueStarts[MtTag.F32B.ordinal()];
+        return CurrencyAmounts.parseMinorUnits(raw, start + 3, valueEnds[MtTag.F32B.ordinal()], currency);
+    }
+
+    /**
+     * :59A: / :59F: / :59: Beneficiary Customer, first one present
+     */
+    public String beneficiary() {
+        String value = value(MtTag.F59A);
+        if (value == null) {
+            value = value(MtTag.F59F);
+        }
+        return value != null ? value : value(MtTag.F59);
+    }
+
+    /**
+     * :70: Remittance Information
+     */
+    public String remittanceInformation() {
+        return value(MtTag.F70);
+    }
+
+    /**
+     * Detached model copy of the current transaction, for callers that need to keep it
+     */
+    public Mt102Transaction toTransaction() {
+        String currency = currency();
+        return Mt102Transaction.builder()
+                .transactionReference(reference())
+                .currency(currency)
+                .amount(hasAmount() ? CurrencyAmounts.toBigDecimal(amountMinorUnits(currency), currency) : null)
+                .beneficiaryBic(value(MtTag.F59A))
+                .beneficiaryName(value(MtTag.F59A) == null ? beneficiary() : null)
+                .instructionCode(value(MtTag.F23E))
+                .transactionTypeCode(value(MtTag.F26T))
+                .orderingCustomerBic(value(MtTag.F50A))
+                .accountWithInstitutionBic(value(MtTag.F57A))
+                .remittanceInformation(remittanceInformation())
+                .regulatoryReporting(value(MtTag.F77B))
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return "Mt102TransactionView{index=" + index + ", reference=" + reference() + "}";
+    }
+}
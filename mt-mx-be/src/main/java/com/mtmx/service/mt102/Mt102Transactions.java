@@ -0,0 +1,179 @@
+package com.mtmx.service.mt102;
+
+import com.mtmx.service.validation.rules.AsciiBytes;
+import com.mtmx.service.validation.rules.MtTag;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazy iterator over the sequence B transactions of a raw MT102.
+ * <p>
+ * A transaction starts at a {@code :21:} field and runs until the next {@code :21:}, the
+ * start of sequence C ({@code :32A:} / {@code :19:}) or the end of block 4. The text block is
+ * scanned forward only, one transaction per {@code next()}, and every transaction is exposed
+ * through the same {@link Mt102TransactionView}, so memory stays constant regardless of
+ * how many transactions a bulk payroll MT102 carries. The message may be a String or raw FIN
+ * bytes wrapped in {@link AsciiBytes}.
+ */
+public final class Mt102Transactions implements Iterable<Mt102TransactionView> {
+
+    private final CharSequence raw;
+    private final int textStart;
+    private final int textEnd;
+
+    private Mt102Transactions(CharSequence raw) {
+        this.raw = raw == null ? "" : raw;
+        int b4 = AsciiBytes.indexOf(this.raw, "{4:", 0);
+        if (b4 < 0) {
+            textStart = textEnd = 0;
+            return;
+        }
+        textStart = b4 + 3;
+        int end = AsciiBytes.indexOf(this.raw, "\n-}", textStart);
+        if (end < 0) {
+            end = AsciiBytes.indexOf(this.raw, "-}", textStart);
+        }
+        textEnd = end < 0 ? this.raw.length() : end;
+    }
+
+    public static Mt102Transactions of(CharSequence raw) {
+        return new Mt102Transactions(raw);
+    }
+
+    /**
+     * New forward-only cursor; the returned view is reused between {@code next()} calls
+     */
+    @Override
+    public Iterator<Mt102TransactionView> iterator() {
+        return new Cursor();
+    }
+
+    /**
+     * Number of transactions, counted with a scan that does not look at field values
+     */
+    public int count() {
+        int count = 0;
+        for (int field = nextField(textStart); field < textEnd; field = nextField(field + 1)) {
+            if (tagAt(field) == MtTag.F21) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private final class Cursor implements Iterator<Mt102TransactionView> {
+
+        private final Mt102TransactionView view = new Mt102TransactionView(raw);
+        private int next = firstTransaction();
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public Mt102TransactionView next() {
+            if (next < 0) {
+                throw new NoSuchElementException();
+            }
+            view.reset(index++, next);
+            next = fill(view, next);
+            return view;
+        }
+
+        private int firstTransaction() {
+            for (int field = nextField(textStart); field < textEnd; field = nextField(field + 1)) {
+                if (tagAt(field) == MtTag.F21) {
+                    return field;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Sequence A (general information before the first {@code :21:}) as a detached view
+     */
+    public Mt102TransactionView sequenceA() {
+        Mt102TransactionView view = new Mt102TransactionView(raw);
+        int first = nextField(textStart);
+        view.reset(-1, first);
+        if (first < textEnd && tagAt(first) != MtTag.F21) {
+            fill(view, first);
+        }
+        return view;
+    }
+
+    /**
+     * Record the fields from {@code field} up to the next {@code :21:}, sequence C or the end
+     * of the text block
+     *
+     * @return offset of the next {@code :21:}, or -1 if no transaction follows
+     */
+    private int fill(Mt102TransactionView view, int field) {
+        while (field < textEnd) {
+            int following = nextField(field + 1);
+            int close = closingColon(field);
+            int valueStart = trimStart(close + 1, following);
+            view.field(MtTag.of(raw, field + 1, close), valueStart, trimEnd(valueStart, following));
+
+            MtTag nextTag = following < textEnd ? tagAt(following) : null;
+            if (following >= textEnd || nextTag == MtTag.F21 || isSequenceC(nextTag)) {
+                view.close(trimEnd(field, following));
+                return nextTag == MtTag.F21 ? following : -1;
+            }
+            field = following;
+        }
+        return -1;
+    }
+
+    private static boolean isSequenceC(MtTag tag) {
+        return tag == MtTag.F32A || tag == MtTag.F19;
+    }
+
+    /**
+     * Offset of the next field tag ({@code :TAG:} at line start) at or after {@code from}
+     *
+     * @return offset of the leading colon, or {@code textEnd}
+     */
+    private int nextField(int from) {
+        for (int i = from; i < textEnd; i++) {
+            if (raw.charAt(i) == ':' && (i == textStart || isLineBreak(raw.charAt(i - 1))) && closingColon(i) > 0) {
+                return i;
+            }
+        }
+        return textEnd;
+    }
+
+    private int closingColon(int colon) {
+        int end = colon + 1;
+        while (end < textEnd && end - colon <= 4 && Character.isLetterOrDigit(raw.charAt(end))) {
+            end++;
+        }
+        return end > colon + 1 && end < textEnd && raw.charAt(end) == ':' ? end : -1;
+    }
+
+    private MtTag tagAt(int colon) {
+        return MtTag.of(raw, colon + 1, closingColon(colon));
+    }
+
+    private int trimStart(int start, int end) {
+        while (start < end && Character.isWhitespace(raw.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && Character.isWhitespace(raw.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+}
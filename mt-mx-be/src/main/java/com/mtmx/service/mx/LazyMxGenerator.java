@@ -0,0 +1,274 @@
+package com.mtmx.service.mx;
+
+import com.mtmx.config.ConditionalOnPersistence;
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.ErrorCode;
+import com.mtmx.domain.enums.MessageStatus;
+import com.mtmx.domain.enums.ValidationVerdict;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.domain.payment.CanonicalPaymentCodec;
+import com.mtmx.repository.SwiftMessageRepository;
+import com.mtmx.service.ConversionService;
+import com.mtmx.service.XsdValidationService;
+import com.mtmx.web.dto.SwiftMessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * On-read MX generation for {@code mtmx.mx-generation.mode=lazy}.
+ * <p>
+ * In lazy mode {@code save} stores only the MT and its canonical payment; the MX of a message is
+ * generated the first time it is read, from the canonical payment when there is one (no MT parse)
+ * and otherwise from the raw MT. Results are kept in a bounded LRU keyed by message id and
+ * checked against {@code updatedAt}, so an edited message is regenerated. With
+ * {@code mtmx.mx-generation.write-back=true} the generated MX and its validation verdict are also
+ * written to the row on the shared {@link TaskScheduler}; the row update does not touch {@code updatedAt}.
+ * Failed generations are reported as {@link MessageStatus#CONVERSION_FAILED} but neither cached
+ * nor written back.
+ */
+@Component
+@ConditionalOnPersistence
+@Slf4j
+public class LazyMxGenerator {
+
+    static final String MODE_LAZY = "lazy";
+
+    private final ConversionService conversionService;
+    private final XsdValidationService xsdValidationService;
+    private final SwiftMessageRepository swiftMessageRepository;
+    private final boolean lazy;
+    private final int maxEntries;
+    private final boolean writeBack;
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final TaskScheduler scheduler;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter writeBacks;
+
+    @Autowired
+    public LazyMxGenerator(ConversionService conversionService,
+                           XsdValidationService xsdValidationService,
+                           SwiftMessageRepository swiftMessageRepository,
+                           @Value("${mtmx.mx-generation.mode:eager}") String mode,
+                           @Value("${mtmx.mx-generation.cache-max-entries:1000}") int maxEntries,
+                           @Value("${mtmx.mx-generation.write-back:false}") boolean writeBack,
+                           TaskScheduler scheduler,
+                           MeterRegistry meterRegistry) {
+        this.conversionService = conversionService;
+        this.xsdValidationService = xsdValidationService;
+        this.swiftMessageRepository = swiftMessageRepository;
+        this.lazy = MODE_LAZY.equalsIgnoreCase(mode != null ? mode.trim() : null);
+        this.maxEntries = Math.max(0, maxEntries);
+        this.writeBack = this.lazy && writeBack;
+        this.scheduler = scheduler;
+
+        this.hits = Counter.builder("mtmx.mx.on-read.cache.hits").register(meterRegistry);
+        this.misses = Counter.builder("mtmx.mx.on-read.cache.misses").register(meterRegistry);
+        this.writeBacks = Counter.builder("mtmx.mx.on-read.write-backs").register(meterRegistry);
+        Gauge.builder("mtmx.mx.on-read.cache.size", this, LazyMxGenerator::size).register(meterRegistry);
+
+        log.info("MX generation mode: {} (cacheMaxEntries={}, writeBack={})",
+                this.lazy ? "lazy" : "eager", this.maxEntries, this.writeBack);
+    }
+
+    /**
+     * @return true if MX is generated on read instead of on save
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * MX of a message: the stored one if present, otherwise generated (or taken from the cache)
+     *
+     * @return MX document, or null if generation failed or the message has no MT content
+     */
+    public String mxFor(SwiftMessage message) {
+        OnReadMx result = resolve(message);
+        return result != null ? result.getMx() : null;
+    }
+
+    /**
+     * Stored or generated MX of a message together with its status and validation outcome
+     *
+     * @return outcome, or null if the message has neither an MX nor MT content
+     */
+    public OnReadMx resolve(SwiftMessage message) {
+        return resolve(message, true);
+    }
+
+    /**
+     * Like {@link #resolve} but generate-only: the cache is neither read nor filled and nothing is
+     * written back. For bulk reads (export) that would otherwise flush the LRU and queue a row
+     * update per message.
+     *
+     * @return outcome, or null if the message has neither an MX nor MT content
+     */
+    public OnReadMx resolveUncached(SwiftMessage message) {
+        return resolve(message, false);
+    }
+
+    private OnReadMx resolve(SwiftMessage message, boolean cached) {
+        if (message.hasGeneratedMxMessage()) {
+            return new OnReadMx(message.getGeneratedMxMessage(), message.getStatus(), message.getValidationVerdict(),
+                    message.getErrorCode(), message.getErrorMessage(), message.getMxSchema());
+        }
+        if (message.getRawMtMessage() == null || message.getRawMtMessage().isBlank()) {
+            return null;
+        }
+
+        Long id = message.getId();
+        LocalDateTime version = message.getUpdatedAt();
+        if (cached && id != null) {
+            synchronized (entries) {
+                Entry entry = entries.get(id);
+                if (entry != null && Objects.equals(entry.version, version)) {
+                    hits.increment();
+                    return entry.result;
+                }
+            }
+            misses.increment();
+        }
+
+        OnReadMx result;
+        try {
+            result = generate(message);
+        } catch (Exception e) {
+            log.warn("On-read MX generation failed for message {}: {}", id, e.getMessage());
+            return new OnReadMx(null, MessageStatus.CONVERSION_FAILED, ValidationVerdict.NOT_VALIDATED,
+                    ErrorCode.CONVERSION_ERROR, SwiftMessage.truncateErrorMessage(e.getMessage()), null);
+        }
+
+        if (cached && id != null) {
+            put(id, version, result);
+            if (writeBack) {
+                scheduleWriteBack(id, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forget the cached MX of a message (deleted or rewritten)
+     */
+    public void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private OnReadMx generate(SwiftMessage message) throws Exception {
+        CanonicalPayment payment = null;
+        if (message.getCanonicalPayment() != null) {
+            try {
+                payment = CanonicalPaymentCodec.decode(message.getCanonicalPayment());
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring unreadable canonical payment of message {}: {}", message.getId(), e.getMessage());
+            }
+        }
+        String mx = payment != null
+                ? conversionService.convertToMx(payment)
+                : conversionService.convertMtToMx(message.getRawMtMessage());
+
+        if (message.getMessageType() == null) {
+            return OnReadMx.converted(mx, ValidationVerdict.NOT_VALIDATED, null, null);
+        }
+        String mtType = message.getMessageType().name();
+        String schema = xsdValidationService.schemaForMtType(mtType);
+        XsdValidationService.ValidationResult validationResult = xsdValidationService.validateByMtType(mx, mtType);
+        return validationResult.isValid()
+                ? OnReadMx.converted(mx, ValidationVerdict.VALID, null, schema)
+                : OnReadMx.converted(mx, ValidationVerdict.INVALID, validationResult.getMessage(), schema);
+    }
+
+    private void put(Long id, LocalDateTime version, OnReadMx result) {
+        if (maxEntries == 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(id, new Entry(version, result));
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+    }
+
+    private void scheduleWriteBack(Long id, OnReadMx result) {
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    if (swiftMessageRepository.writeBackGeneratedMx(id, result.getMx(), result.getValidationVerdict(),
+                            result.getErrorMessage(), result.getMxSchema()) > 0) {
+                        writeBacks.increment();
+                    }
+                } catch (Exception e) {
+                    log.warn("Could not write back generated MX of message {}: {}", id, e.getMessage());
+                }
+            }, Instant.now());
+        } catch (RejectedExecutionException e) {
+            log.debug("MX write-back skipped for message {}, scheduler is shut down", id);
+        }
+    }
+
+    /**
+     * MX of a message as served to a reader, with the outcome that would be stored with it
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class OnReadMx {
+        private final String mx;
+        private final MessageStatus status;
+        private final ValidationVerdict validationVerdict;
+        private final ErrorCode errorCode;
+        private final String errorMessage;
+        private final String mxSchema;
+
+        static OnReadMx converted(String mx, ValidationVerdict verdict, String validationError, String schema) {
+            return new OnReadMx(mx, MessageStatus.CONVERTED, verdict, ErrorCode.ofValidation(verdict, validationError),
+                    SwiftMessage.truncateErrorMessage(validationError), schema);
+        }
+
+        public void applyTo(SwiftMessageDto dto) {
+            dto.setGeneratedMxMessage(mx);
+            dto.setStatus(status);
+            dto.setValidationVerdict(validationVerdict);
+            dto.setErrorCode(errorCode);
+            dto.setErrorMessage(errorMessage);
+            dto.setMxSchema(mxSchema);
+        }
+    }
+
+    private static final class Entry {
+        private final LocalDateTime version;
+        private final OnReadMx result;
+
+        private Entry(LocalDateTime version, OnReadMx result) {
+            this.version = version;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.mtmx.service.payment;
+
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.model.mx.Pacs008Message;
+import com.mtmx.domain.model.mx.Pacs009Message;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.service.xml.JaxbContextCache;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapping between {@link CanonicalPayment} and the pacs.008 / pacs.009 JAXB models.
+ * Converters build their JAXB model once and derive the canonical payment from it, so both
+ * representations always carry the same values. The streamed bulk MT102 is the exception: it builds
+ * each canonical transaction first and writes its CdtTrfTxInf from it.
+ */
+public final class CanonicalPayments {
+
+    public static final String PACS008_NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08";
+    public static final String PACS009_NAMESPACE = "urn:iso:std:iso:20022:tech:xsd:pacs.009.001.08";
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+
+    private CanonicalPayments() {
+    }
+
+    /**
+     * @param messageType MT type the payment belongs to (MT102 or MT103)
+     */
+    public static CanonicalPayment fromPacs008(MessageType messageType, Pacs008Message message) {
+        CanonicalPayment.CanonicalPaymentBuilder payment = CanonicalPayment.builder().messageType(messageType);
+        Pacs008Message.FIToFICstmrCdtTrf body = message.getFiToFICstmrCdtTrf();
+        if (body == null) {
+            return payment.build();
+        }
+        Pacs008Message.GroupHeader header = body.getGrpHdr();
+        if (header != null) {
+            payment.messageId(header.getMsgId()).controlSum(header.getCtrlSum());
+            Pacs008Message.ActiveOrHistoricCurrencyAndAmount total = header.getTtlIntrBkSttlmAmt();
+            if (total != null) {
+                payment.currency(total.getCcy()).settlementAmount(total.getValue());
+            }
+        }
+        if (body.getCdtTrfTxInf() != null) {
+            for (Pacs008Message.CreditTransferTransactionInformation txInfo : body.getCdtTrfTxInf()) {
+                CanonicalPayment.Transaction.TransactionBuilder transaction = CanonicalPayment.Transaction.builder();
+                if (txInfo.getPmtId() != null) {
+                    transaction.instructionId(txInfo.getPmtId().getInstrId())
+                            .endToEndId(txInfo.getPmtId().getEndToEndId());
+                }
+                if (txInfo.getIntrBkSttlmAmt() != null) {
+                    transaction.currency(txInfo.getIntrBkSttlmAmt().getCcy())
+                            .amount(txInfo.getIntrBkSttlmAmt().getValue());
+                }
+                if (txInfo.getDbtr() != null) {
+                    transaction.debtorName(txInfo.getDbtr().getNm());
+                }
+                if (txInfo.getCdtr() != null) {
+                    transaction.creditorName(txInfo.getCdtr().getNm());
+                }
+                payment.transaction(transaction.build());
+            }
+        }
+        return payment.build();
+    }
+
+    /**
+     * @param messageType MT type the payment belongs to (MT202, MT202COV or MT203)
+     */
+    public static CanonicalPayment fromPacs009(MessageType messageType, Pacs009Message message) {
+        CanonicalPayment.CanonicalPaymentBuilder payment = CanonicalPayment.builder().messageType(messageType);
+        Pacs009Message.FICdtTrf body = message.getFiCdtTrf();
+        if (body == null) {
+            return payment.build();
+        }
+        Pacs009Message.GroupHeader header = body.getGrpHdr();
+        if (header != null) {
+            payment.messageId(header.getMsgId());
+            Pacs009Message.ActiveOrHistoricCurrencyAndAmount total = header.getTtlIntrBkSttlmAmt();
+            if (total != null) {
+                payment.currency(total.getCcy()).settlementAmount(total.getValue());
+            }
+        }
+        if (body.getCdtTrfTxInf() != null) {
+            for (Pacs009Message.CreditTransferTransactionInformation txInfo : body.getCdtTrfTxInf()) {
+                CanonicalPayment.Transaction.TransactionBuilder transaction = CanonicalPayment.Transaction.builder();
+                if (txInfo.getPmtId() != null) {
+                    transaction.instructionId(txInfo.getPmtId().getInstrId())
+                            .endToEndId(txInfo.getPmtId().getEndToEndId());
+                }
+                if (txInfo.getIntrBkSttlmAmt() != null) {
+                    transaction.currency(txInfo.getIntrBkSttlmAmt().getCcy())
+                            .amount(txInfo.getIntrBkSttlmAmt().getValue());
+                }
+                if (txInfo.getInstdAgt() != null && txInfo.getInstdAgt().getFinInstnId() != null) {
+                    transaction.instructedAgentBic(txInfo.getInstdAgt().getFinInstnId().getBicfi());
+                }
+                payment.transaction(transaction.build());
+            }
+        }
+        return payment.build();
+    }
+
+    public static Pacs008Message toPacs008(CanonicalPayment payment) {
+        Pacs008Message.GroupHeader header = new Pacs008Message.GroupHeader();
+        header.setMsgId(payment.getMessageId());
+        header.setCreDtTm(LocalDateTime.now());
+        header.setNbOfTxs(String.valueOf(payment.getTransactions().size()));
+        header.setCtrlSum(payment.getControlSum());
+        Pacs008Message.ActiveOrHistoricCurrencyAndAmount total = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
+        total.setCcy(payment.getCurrency());
+        total.setValue(payment.getSettlementAmount());
+        header.setTtlIntrBkSttlmAmt(total);
+
+        List<Pacs008Message.CreditTransferTransactionInformation> txInfos = new ArrayList<>(payment.getTransactions().size());
+        for (CanonicalPayment.Transaction transaction : payment.getTransactions()) {
+            Pacs008Message.CreditTransferTransactionInformation txInfo = new Pacs008Message.CreditTransferTransactionInformation();
+            Pacs008Message.PaymentIdentification paymentId = new Pacs008Message.PaymentIdentification();
+            paymentId.setInstrId(transaction.getInstructionId());
+            paymentId.setEndToEndId(transaction.getEndToEndId());
+            txInfo.setPmtId(paymentId);
+
+            Pacs008Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs008Message.ActiveOrHistoricCurrencyAndAmount();
+            amount.setCcy(transaction.getCurrency());
+            amount.setValue(transaction.getAmount());
+            txInfo.setIntrBkSttlmAmt(amount);
+
+            if (transaction.getDebtorName() != null) {
+                Pacs008Message.PartyIdentification43 debtor = new Pacs008Message.PartyIdentification43();
+                debtor.setNm(transaction.getDebtorName());
+                txInfo.setDbtr(debtor);
+            }
+            if (transaction.getCreditorName() != null) {
+                Pacs008Message.PartyIdentification43 creditor = new Pacs008Message.PartyIdentification43();
+                creditor.setNm(transaction.getCreditorName());
+                txInfo.setCdtr(creditor);
+            }
+            txInfos.add(txInfo);
+        }
+
+        Pacs008Message.FIToFICstmrCdtTrf fiToFi = new Pacs008Message.FIToFICstmrCdtTrf();
+        fiToFi.setGrpHdr(header);
+        fiToFi.setCdtTrfTxInf(txInfos);
+        Pacs008Message message = new Pacs008Message();
+        message.setFiToFICstmrCdtTrf(fiToFi);
+        return message;
+    }
+
+    public static Pacs009Message toPacs009(CanonicalPayment payment) {
+        Pacs009Message.GroupHeader header = new Pacs009Message.GroupHeader();
+        header.setMsgId(payment.getMessageId());
+        header.setCreDtTm(LocalDateTime.now());
+        header.setNbOfTxs(String.valueOf(payment.getTransactions().size()));
+        Pacs009Message.ActiveOrHistoricCurrencyAndAmount total = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
+        total.setCcy(payment.getCurrency());
+        total.setValue(payment.getSettlementAmount());
+        header.setTtlIntrBkSttlmAmt(total);
+
+        List<Pacs009Message.CreditTransferTransactionInformation> txInfos = new ArrayList<>(payment.getTransactions().size());
+        for (CanonicalPayment.Transaction transaction : payment.getTransactions()) {
+            Pacs009Message.CreditTransferTransactionInformation txInfo = new Pacs009Message.CreditTransferTransactionInformation();
+            Pacs009Message.PaymentIdentification paymentId = new Pacs009Message.PaymentIdentification();
+            paymentId.setInstrId(transaction.getInstructionId());
+            paymentId.setEndToEndId(transaction.getEndToEndId());
+            txInfo.setPmtId(paymentId);
+
+            Pacs009Message.ActiveOrHistoricCurrencyAndAmount amount = new Pacs009Message.ActiveOrHistoricCurrencyAndAmount();
+            amount.setCcy(transaction.getCurrency());
+            amount.setValue(transaction.getAmount());
+            txInfo.setIntrBkSttlmAmt(amount);
+
+            if (transaction.getInstructedAgentBic() != null) {
+                Pacs009Message.FinancialInstitutionIdentification7 finInstnId = new Pacs009Message.FinancialInstitutionIdentification7();
+                finInstnId.setBicfi(transaction.getInstructedAgentBic());
+                Pacs009Message.BranchAndFinancialInstitutionIdentification4 instdAgt = new Pacs009Message.BranchAndFinancialInstitutionIdentification4();
+                instdAgt.setFinInstnId(finInstnId);
+                txInfo.setInstdAgt(instdAgt);
+            }
+            txInfos.add(txInfo);
+        }
+
+        Pacs009Message.FICdtTrf fiCdtTrf = new Pacs009Message.FICdtTrf();
+        fiCdtTrf.setGrpHdr(header);
+        fiCdtTrf.setCdtTrfTxInf(txInfos);
+        Pacs009Message message = new Pacs009Message();
+        message.setFiCdtTrf(fiCdtTrf);
+        return message;
+    }
+
+    /**
+     * Generate the MX document of the payment: pacs.008 for customer transfers, pacs.009 otherwise.
+     * Output settings are the ones of the MT to MX converters.
+     */
+    public static String toMx(CanonicalPayment payment) throws JAXBException {
+        Object message = payment.isCustomerTransfer() ? toPacs008(payment) : toPacs009(payment);
+        Marshaller marshaller = JaxbContextCache.get(message.getClass()).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+
+        StringWriter writer = new StringWriter();
+        writer.write(XML_DECLARATION);
+        marshaller.marshal(message, writer);
+        return writer.toString();
+    }
+
+    /**
+     * MX message definition of a document, read from its namespace without parsing it
+     *
+     * @return "pacs.008.001.08", "pacs.009.001.08" or null
+     */
+    public static String mxMessageDefinition(String mxMessage) {
+        if (mxMessage == null) {
+            return null;
+        }
+        if (mxMessage.contains(PACS008_NAMESPACE)) {
+            return "pacs.008.001.08";
+        }
+        if (mxMessage.contains(PACS009_NAMESPACE)) {
+            return "pacs.009.001.08";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mtmx.service.split;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Receiver of MT messages produced while an MX document is being split
+ */
+@FunctionalInterface
+public interface MtMessageSink {
+
+    /**
+     * @param index     zero based position of the MT message in the split output
+     * @param mtMessage complete MT message
+     * @throws IOException if the message cannot be delivered; splitting stops
+     */
+    void accept(int index, String mtMessage) throws IOException;
+
+    /**
+     * Sink writing each message to {@code out}, one message per block followed by a line break
+     */
+    static MtMessageSink writingTo(Writer out) {
+        return (index, mtMessage) -> {
+            out.write(mtMessage);
+            if (!mtMessage.endsWith("\n")) {
+                out.write('\n');
+            }
+        };
+    }
+}
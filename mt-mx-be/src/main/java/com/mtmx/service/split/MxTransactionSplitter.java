@@ -0,0 +1,217 @@
+package com.mtmx.service.split;
+
+import com.mtmx.domain.model.mx.Pacs008Message;
+import com.mtmx.domain.model.mx.Pacs009Message;
+import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.converter.impl.MxToMt102Converter;
+import com.mtmx.service.converter.impl.MxToMt103Converter;
+import com.mtmx.service.converter.impl.MxToMt202Converter;
+import com.mtmx.service.xml.JaxbContextCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits multi-transaction pacs.008 / pacs.009 documents into individual MT messages.
+ * <p>
+ * The document is read with StAX; only the CdtTrfTxInf currently under the cursor is
+ * unmarshalled (JAXB), converted and handed to the {@link MtMessageSink} before the next one
+ * is read, so memory does not grow with the size of the document. MT102 output buffers at
+ * most one chunk of {@link MxToMt102Converter#MAX_TRANSACTIONS} transactions.
+ * The document is not XSD-validated as a whole; malformed transactions stop the split.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MxTransactionSplitter {
+
+    private static final String GROUP_HEADER = "GrpHdr";
+    private static final String MESSAGE_ID = "MsgId";
+    private static final String TRANSACTION = "CdtTrfTxInf";
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private final MxToMt103Converter mxToMt103Converter;
+    private final MxToMt102Converter mxToMt102Converter;
+    private final MxToMt202Converter mxToMt202Converter;
+
+    /**
+     * One MT103 per pacs.008 CdtTrfTxInf
+     *
+     * @return number of MT103 messages emitted
+     */
+    public int splitToMt103(Reader pacs008, MtMessageSink sink) throws ConversionException {
+        int[] emitted = new int[1];
+        forEachTransaction(pacs008, Pacs008Message.class, Pacs008Message.CreditTransferTransactionInformation.class,
+                new TransactionHandler<Pacs008Message.CreditTransferTransactionInformation>() {
+                    @Override
+                    public void transaction(int index, Pacs008Message.CreditTransferTransactionInformation txInfo)
+                            throws ConversionException, IOException {
+                        sink.accept(emitted[0]++, mxToMt103Converter.toMt103(txInfo));
+                    }
+                });
+        return emitted[0];
+    }
+
+    /**
+     * pacs.008 CdtTrfTxInf grouped into MT102s of at most {@code chunkSize} transactions.
+     * A currency change also closes the current chunk, since an MT102 is single-currency.
+     *
+     * @param chunkSize transactions per MT102, capped at {@link MxToMt102Converter#MAX_TRANSACTIONS}
+     * @return number of MT102 messages emitted
+     */
+    public int splitToMt102(Reader pacs008, int chunkSize, MtMessageSink sink) throws ConversionException {
+        int limit = Math.max(1, Math.min(chunkSize, MxToMt102Converter.MAX_TRANSACTIONS));
+        List<Pacs008Message.CreditTransferTransactionInformation> chunk = new ArrayList<>(limit);
+        String[] msgId = new String[1];
+        int[] emitted = new int[1];
+
+        TransactionHandler<Pacs008Message.CreditTransferTransactionInformation> handler =
+                new TransactionHandler<Pacs008Message.CreditTransferTransactionInformation>() {
+                    @Override
+                    public void header(String messageId) {
+                        msgId[0] = messageId;
+                    }
+
+                    @Override
+                    public void transaction(int index, Pacs008Message.CreditTransferTransactionInformation txInfo)
+                            throws ConversionException, IOException {
+                        if (!chunk.isEmpty() && (chunk.size() == limit || !sameCurrency(chunk.get(0), txInfo))) {
+                            flush();
+                        }
+                        chunk.add(txInfo);
+                    }
+
+                    @Override
+                    public void end() throws ConversionException, IOException {
+                        if (!chunk.isEmpty()) {
+                            flush();
+                        }
+                    }
+
+                    private void flush() throws ConversionException, IOException {
+                        sink.accept(emitted[0], mxToMt102Converter.toMt102(msgId[0], emitted[0], chunk));
+                        emitted[0]++;
+                        chunk.clear();
+                    }
+                };
+        forEachTransaction(pacs008, Pacs008Message.class, Pacs008Message.CreditTransferTransactionInformation.class,
+                handler);
+        return emitted[0];
+    }
+
+    /**
+     * One MT202 per pacs.009 CdtTrfTxInf
+     *
+     * @return number of MT202 messages emitted
+     */
+    public int splitToMt202(Reader pacs009, MtMessageSink sink) throws ConversionException {
+        int[] emitted = new int[1];
+        forEachTransaction(pacs009, Pacs009Message.class, Pacs009Message.CreditTransferTransactionInformation.class,
+                new TransactionHandler<Pacs009Message.CreditTransferTransactionInformation>() {
+                    @Override
+                    public void transaction(int index, Pacs009Message.CreditTransferTransactionInformation txInfo)
+                            throws ConversionException, IOException {
+                        sink.accept(emitted[0]++, mxToMt202Converter.toMt202(txInfo));
+                    }
+                });
+        return emitted[0];
+    }
+
+    private <T> void forEachTransaction(Reader in, Class<?> rootType, Class<T> transactionType,
+                                        TransactionHandler<T> handler) throws ConversionException {
+        int index = 0;
+        XMLStreamReader reader = null;
+        try {
+            Unmarshaller unmarshaller = JaxbContextCache.get(rootType).createUnmarshaller();
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.getEventType() == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (TRANSACTION.equals(name)) {
+                        // unmarshal imleci elementin sonrasına taşır, next() çağrılmaz
+                        T transaction = unmarshaller.unmarshal(reader, transactionType).getValue();
+                        handler.transaction(index, transaction);
+                        index++;
+                        continue;
+                    }
+                    if (GROUP_HEADER.equals(name)) {
+                        handler.header(readMessageId(reader));
+                    }
+                }
+                reader.next();
+            }
+            handler.end();
+            log.debug("Split {} into {} transactions", rootType.getSimpleName(), index);
+        } catch (ConversionException e) {
+            throw new ConversionException("Failed to split transaction " + index + ": " + e.getMessage(), e);
+        } catch (JAXBException | XMLStreamException | IOException | RuntimeException e) {
+            log.error("Error splitting {} at transaction {}: {}", rootType.getSimpleName(), index, e.getMessage());
+            throw new ConversionException("Failed to split MX document at transaction " + index, e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    /**
+     * Read GrpHdr up to its end element and return MsgId
+     */
+    private static String readMessageId(XMLStreamReader reader) throws XMLStreamException {
+        String msgId = null;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && MESSAGE_ID.equals(reader.getLocalName())) {
+                msgId = reader.getElementText();
+            } else if (event == XMLStreamConstants.END_ELEMENT && GROUP_HEADER.equals(reader.getLocalName())) {
+                break;
+            }
+        }
+        return msgId;
+    }
+
+    private static boolean sameCurrency(Pacs008Message.CreditTransferTransactionInformation first,
+                                        Pacs008Message.CreditTransferTransactionInformation next) {
+        return first.getIntrBkSttlmAmt() == null || next.getIntrBkSttlmAmt() == null
+                || String.valueOf(first.getIntrBkSttlmAmt().getCcy()).equals(next.getIntrBkSttlmAmt().getCcy());
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            log.debug("Error closing XML stream: {}", e.getMessage());
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // DTD / harici entity desteği kapalı (XXE)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private interface TransactionHandler<T> {
+
+        default void header(String msgId) {
+        }
+
+        void transaction(int index, T transaction) throws ConversionException, IOException;
+
+        default void end() throws ConversionException, IOException {
+        }
+    }
+}
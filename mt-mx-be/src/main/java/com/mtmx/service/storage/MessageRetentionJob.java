@@ -0,0 +1,215 @@
+package com.mtmx.service.storage;
+
+import com.mtmx.config.ConditionalOnPersistence;
+import com.mtmx.repository.SwiftMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partition maintenance and retention purge of {@code swift_messages}.
+ * <p>
+ * On PostgreSQL the table is range partitioned by {@code created_at}, one partition per month
+ * ({@code swift_messages_pYYYYMM}, see {@code docker/postgres-init/01-init-db.sql}). Every run
+ * creates the partitions of the next {@code partitions-ahead} months, so inserts never land in
+ * the default partition, and - with retention enabled - detaches the months that ended before
+ * the cutoff and drops them (or keeps them as standalone tables for archiving). Dropping a
+ * partition is a metadata operation: no row by row delete, no table bloat, no vacuum.
+ * <p>
+ * On H2 or an unpartitioned table the expired rows are deleted instead, oldest first, in
+ * batches of {@code batch-size} ids and at most {@code max-batches} per run, so a purge never
+ * holds long locks or one huge transaction. The same delete also clears expired rows left in
+ * the default partition.
+ * <p>
+ * The cutoff is the first day of the month {@code months} months ago: with the default of 13
+ * the current month and the twelve before it are kept.
+ * <p>
+ * Runs every {@code interval-minutes} on the shared scheduler ({@code mtmx.scheduling.enabled});
+ * an interval of 0 turns the job off.
+ */
+@Component
+@ConditionalOnPersistence
+@Slf4j
+public class MessageRetentionJob implements SchedulingConfigurer {
+
+    static final String TABLE = "swift_messages";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{6})");
+
+    private final SwiftMessageRepository swiftMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean retentionEnabled;
+    private final int months;
+    private final int partitionsAhead;
+    private final boolean keepDetached;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long intervalMinutes;
+    private final Counter deleted;
+    private final Counter partitionsDropped;
+    private Boolean partitioned;
+
+    @Autowired
+    public MessageRetentionJob(SwiftMessageRepository swiftMessageRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${mtmx.retention.enabled:false}") boolean retentionEnabled,
+                               @Value("${mtmx.retention.months:13}") int months,
+                               @Value("${mtmx.retention.partitions-ahead:2}") int partitionsAhead,
+                               @Value("${mtmx.retention.keep-detached:false}") boolean keepDetached,
+                               @Value("${mtmx.retention.batch-size:1000}") int batchSize,
+                               @Value("${mtmx.retention.max-batches:50}") int maxBatches,
+                               @Value("${mtmx.retention.interval-minutes:60}") long intervalMinutes,
+                               MeterRegistry meterRegistry) {
+        this.swiftMessageRepository = swiftMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionEnabled = retentionEnabled;
+        this.months = Math.max(1, months);
+        this.partitionsAhead = Math.max(0, partitionsAhead);
+        this.keepDetached = keepDetached;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.intervalMinutes = intervalMinutes;
+        this.deleted = Counter.builder("mtmx.retention.deleted")
+                .description("Expired messages deleted in batches")
+                .register(meterRegistry);
+        this.partitionsDropped = Counter.builder("mtmx.retention.partitions.dropped")
+                .description("Expired monthly partitions detached from swift_messages")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (intervalMinutes > 0) {
+            registrar.addFixedDelayTask(new FixedDelayTask(this::runSafely,
+                    TimeUnit.MINUTES.toMillis(intervalMinutes), TimeUnit.MINUTES.toMillis(1)));
+            log.info("Message retention scheduled (enabled={}, months={}, intervalMinutes={})",
+                    retentionEnabled, this.months, intervalMinutes);
+        }
+    }
+
+    /**
+     * Creates upcoming partitions and, with retention enabled, purges everything before the cutoff
+     *
+     * @return number of rows deleted one by one; rows of dropped partitions are not counted
+     */
+    public synchronized int run() {
+        YearMonth current = YearMonth.now();
+        if (isPartitioned()) {
+            createPartitions(current);
+            if (retentionEnabled) {
+                dropPartitionsBefore(cutoffMonth(current));
+            }
+        }
+        return retentionEnabled ? deleteBefore(cutoffMonth(current).atDay(1).atStartOfDay()) : 0;
+    }
+
+    /**
+     * Deletes messages created before the cutoff in bounded batches
+     *
+     * @return number of rows deleted
+     */
+    public synchronized int deleteBefore(LocalDateTime cutoff) {
+        int count = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> ids = swiftMessageRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            swiftMessageRepository.deleteAllByIdInBatch(ids);
+            count += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        deleted.increment(count);
+        return count;
+    }
+
+    YearMonth cutoffMonth(YearMonth current) {
+        return current.minusMonths(months - 1L);
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * @return month of a monthly partition, null for the default partition or other tables
+     */
+    static YearMonth partitionMonth(String tableName) {
+        Matcher matcher = PARTITION_NAME.matcher(tableName);
+        return matcher.matches() ? YearMonth.parse(matcher.group(1), PARTITION_SUFFIX) : null;
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())))
+                    && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "select exists (select 1 from pg_partitioned_table pt join pg_class c on c.oid = pt.partrelid "
+                            + "where c.relname = ? and pg_table_is_visible(c.oid))", Boolean.class, TABLE));
+            log.info("{} is {}partitioned", TABLE, partitioned ? "" : "not ");
+        }
+        return partitioned;
+    }
+
+    private void createPartitions(YearMonth current) {
+        for (int i = 0; i <= partitionsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE
+                        + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+            } catch (Exception e) {
+                // Default partition already holds rows of this month
+                log.warn("Partition {} could not be created: {}", partitionName(month), e.getMessage());
+            }
+        }
+    }
+
+    private void dropPartitionsBefore(YearMonth cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid "
+                        + "join pg_class p on p.oid = i.inhparent where p.relname = ?", String.class, TABLE);
+        for (String partition : partitions) {
+            YearMonth month = partitionMonth(partition);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+            if (!keepDetached) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            log.info("Expired partition {} {}", partition, keepDetached ? "detached" : "dropped");
+            partitionsDropped.increment();
+        }
+    }
+
+    private void runSafely() {
+        try {
+            int count = run();
+            if (count > 0) {
+                log.info("Retention deleted {} expired messages", count);
+            }
+        } catch (Exception e) {
+            log.warn("Message retention run failed: {}", e.getMessage());
+        }
+    }
+}
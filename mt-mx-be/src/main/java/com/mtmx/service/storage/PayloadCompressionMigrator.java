@@ -0,0 +1,129 @@
+package com.mtmx.service.storage;
+
+import com.mtmx.config.ConditionalOnPersistence;
+import com.mtmx.domain.compression.CompressedText;
+import com.mtmx.domain.compression.PayloadCompression;
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.repository.SwiftMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Online migration of plain MT/MX columns to their compressed form.
+ * <p>
+ * Runs only while {@code mtmx.storage.compression.enabled=true}. Every interval one batch of
+ * rows that still have a plain {@code raw_mt_message} or {@code generated_mx_message} is
+ * compressed; a row is rewritten only if its {@code updatedAt} is unchanged since it was read,
+ * so concurrent edits win (they are compressed by the entity setters anyway). The scan walks
+ * the ids upwards and starts over at the end to pick up rows it had to skip; once a pass from
+ * the start finds no plain row the migration stops, since every later write is compressed by
+ * the setters. Reads never wait for the migration: both forms are readable.
+ */
+@Component
+@ConditionalOnPersistence
+@Slf4j
+public class PayloadCompressionMigrator implements SchedulingConfigurer {
+
+    private final SwiftMessageRepository swiftMessageRepository;
+    private final int batchSize;
+    private final boolean scheduled;
+    private final long intervalSeconds;
+    private final Counter migrated;
+    private long lastId;
+    private boolean finished;
+    private ScheduledTask task;
+
+    @Autowired
+    public PayloadCompressionMigrator(SwiftMessageRepository swiftMessageRepository,
+                                      @Value("${mtmx.storage.compression.enabled:false}") boolean compressionEnabled,
+                                      @Value("${mtmx.storage.compression.migration.enabled:true}") boolean enabled,
+                                      @Value("${mtmx.storage.compression.migration.batch-size:200}") int batchSize,
+                                      @Value("${mtmx.storage.compression.migration.interval-seconds:5}") long intervalSeconds,
+                                      MeterRegistry meterRegistry) {
+        this.swiftMessageRepository = swiftMessageRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.scheduled = compressionEnabled && enabled;
+        this.intervalSeconds = intervalSeconds;
+        this.migrated = Counter.builder("mtmx.storage.compression.migrated")
+                .description("Rows rewritten from plain to compressed MT/MX columns")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (scheduled && intervalSeconds > 0) {
+            long interval = TimeUnit.SECONDS.toMillis(intervalSeconds);
+            task = registrar.scheduleFixedDelayTask(new FixedDelayTask(this::runSafely, interval, interval));
+            log.info("Payload compression migration scheduled (batchSize={}, intervalSeconds={})",
+                    this.batchSize, intervalSeconds);
+        }
+    }
+
+    /**
+     * Compresses the next batch of plain rows; does nothing while compression is disabled or once finished
+     *
+     * @return number of rows rewritten
+     */
+    public synchronized int migrateBatch() {
+        if (finished || !PayloadCompression.isEnabled()) {
+            return 0;
+        }
+        List<Long> ids = swiftMessageRepository.findUncompressedIds(lastId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            if (lastId == 0) {
+                finished = true;
+                log.info("Payload compression migration finished ({} messages)", (long) migrated.count());
+            }
+            lastId = 0;
+            return 0;
+        }
+        int count = 0;
+        for (Long id : ids) {
+            lastId = id;
+            SwiftMessage message = swiftMessageRepository.findById(id).orElse(null);
+            if (message == null) {
+                continue;
+            }
+            CompressedText mt = compressed(message.getRawMtMessageCompressed(), message.getRawMtMessage());
+            CompressedText mx = compressed(message.getGeneratedMxMessageCompressed(), message.getGeneratedMxMessage());
+            if (swiftMessageRepository.compressTexts(id, message.getUpdatedAt(), mt, mx) > 0) {
+                count++;
+            }
+        }
+        migrated.increment(count);
+        return count;
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    private void runSafely() {
+        try {
+            int count = migrateBatch();
+            if (count > 0) {
+                log.debug("Compressed MT/MX of {} messages", count);
+            } else if (isFinished() && task != null) {
+                task.cancel();
+            }
+        } catch (Exception e) {
+            log.warn("Payload compression migration batch failed: {}", e.getMessage());
+        }
+    }
+
+    private static CompressedText compressed(CompressedText existing, String text) {
+        return existing != null ? existing : PayloadCompression.compress(text);
+    }
+}
@@ -1,13 +1,18 @@
 package com.mtmx.service.validation;
 
 import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.currency.CurrencyTable;
+import com.mtmx.domain.validation.SwiftFormats;
+import com.mtmx.service.directory.BicDirectory;
+import com.mtmx.service.validation.rules.MtFieldIndex;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.regex.Pattern;
 
 /**
  * SWIFT mesajları için temel alan validasyonları
@@ -17,9 +22,16 @@ import java.util.regex.Pattern;
 @Slf4j
 public class BasicFieldValidator {
 
-    // SWIFT format desenleri
-    private static final Pattern BIC_PATTERN = Pattern.compile("^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$");
-    private static final Pattern CURRENCY_PATTERN = Pattern.compile("^[A-Z]{3}$");
+    private final BicDirectory bicDirectory;
+
+    public BasicFieldValidator() {
+        this(BicDirectory.disabled());
+    }
+
+    @Autowired
+    public BasicFieldValidator(BicDirectory bicDirectory) {
+        this.bicDirectory = bicDirectory;
+    }
 
     /**
      * Temel alan validasyonları
@@ -51,8 +63,10 @@ public class BasicFieldValidator {
     private void validateSenderBic(SwiftMessage message, ValidationResult result) {
         if (!StringUtils.hasText(message.getSenderBic())) {
             result.addError("Sender BIC zorunludur");
-        } else if (!BIC_PATTERN.matcher(message.getSenderBic()).matches()) {
+        } else if (!SwiftFormats.isBic(message.getSenderBic())) {
             result.addError("Geçersiz Sender BIC formatı: " + message.getSenderBic());
+        } else if (!bicDirectory.isKnown(message.getSenderBic())) {
+            result.addError("Sender BIC, BIC dizininde bulunamadı: " + message.getSenderBic());
         }
     }
 
@@ -62,8 +76,10 @@ public class BasicFieldValidator {
     private void validateReceiverBic(SwiftMessage message, ValidationResult result) {
         if (!StringUtils.hasText(message.getReceiverBic())) {
             result.addError("Receiver BIC zorunludur");
-        } else if (!BIC_PATTERN.matcher(message.getReceiverBic()).matches()) {
+        } else if (!SwiftFormats.isBic(message.getReceiverBic())) {
             result.addError("Geçersiz Receiver BIC formatı: " + message.getReceiverBic());
+        } else if (!bicDirectory.isKnown(message.getReceiverBic())) {
+            result.addError("Receiver BIC, BIC dizininde bulunamadı: " + message.getReceiverBic());
         }
     }
 
@@ -75,8 +91,9 @@ public class BasicFieldValidator {
             result.addError("Amount zorunludur");
         } else if (message.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
             result.addError("Amount sıfırdan büyük olmalıdır");
-        } else if (message.getAmount().scale() > 2) {
-            result.addError("Amount en fazla 2 ondalık basamak içerebilir");
+        } else if (CurrencyAmounts.exceedsMinorUnits(message.getAmount(), message.getCurrency())) {
+            result.addError("Amount en fazla " + CurrencyAmounts.maxFractionDigits(message.getCurrency())
+                    + " ondalık basamak içerebilir");
         }
     }
 
@@ -86,7 +103,7 @@ public class BasicFieldValidator {
     private void validateCurrency(SwiftMessage message, ValidationResult result) {
         if (!StringUtils.hasText(message.getCurrency())) {
             result.addError("Currency zorunludur");
-        } else if (!CURRENCY_PATTERN.matcher(message.getCurrency()).matches()) {
+        } else if (!CurrencyTable.isValid(message.getCurrency())) {
             result.addError("Geçersiz currency formatı: " + message.getCurrency());
         }
     }
@@ -105,25 +122,29 @@ public class BasicFieldValidator {
     }
 
     /**
-     * Raw MT Message validasyonu
+     * Raw MT Message validasyonu - header ve :52A:/:57A:/:58A: BIC'leri BIC dizininde olmalı
      */
     private void validateRawMtMessage(SwiftMessage message, ValidationResult result) {
         if (!StringUtils.hasText(message.getRawMtMessage())) {
             result.addError("Raw MT message zorunludur");
+            return;
+        }
+        for (String unknownBic : bicDirectory.findUnknownBics(MtFieldIndex.parse(message.getRawMtMessage()))) {
+            result.addError("BIC dizininde bulunamadı: " + unknownBic);
         }
     }
 
     /**
-     * BIC format kontrolü
+     * BIC format ve BIC dizini (yüklüyse) kontrolü
      */
     public boolean isValidBic(String bic) {
-        return StringUtils.hasText(bic) && BIC_PATTERN.matcher(bic).matches();
+        return StringUtils.hasText(bic) && SwiftFormats.isBic(bic) && bicDirectory.isKnown(bic);
     }
 
     /**
-     * Currency format kontrolü
+     * Currency kontrolü - aktif ISO 4217 kodu olmalı
      */
     public boolean isValidCurrency(String currency) {
-        return StringUtils.hasText(currency) && CURRENCY_PATTERN.matcher(currency).matches();
+        return StringUtils.hasText(currency) && CurrencyTable.isValid(currency);
     }
 }
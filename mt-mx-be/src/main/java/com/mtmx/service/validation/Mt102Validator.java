@@ -1,6 +1,11 @@
 package com.mtmx.service.validation;
 
 import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.service.validation.rules.MtRuleSets;
+import com.mtmx.service.validation.rules.RuleResult;
+import com.mtmx.service.validation.rules.ValidationMode;
+import com.mtmx.service.validation.rules.ValidationPlan;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +19,8 @@ import java.math.BigDecimal;
 @Slf4j
 public class Mt102Validator {
 
+    private static final ValidationPlan FIELD_RULES = MtRuleSets.planFor(MessageType.MT102);
+
     /**
      * MT102 spesifik validasyonları
      */
@@ -21,8 +28,7 @@ public class Mt102Validator {
         log.debug("Validating MT102 specific rules");
         
         validateMt102Amount(message, result);
-        validateMt102TransactionCount(message, result);
-        validateMt102MandatoryFields(message, result);
+        validateMt102Fields(message, result);
     }
 
     /**
@@ -36,37 +42,12 @@ public class Mt102Validator {
     }
 
     /**
-     * MT102 transaction sayısı kontrolü
-     */
-    private void validateMt102TransactionCount(SwiftMessage message, ValidationResult result) {
-        if (message.getRawMtMessage() != null) {
-            long transactionCount = message.getRawMtMessage().split(":21:").length - 1;
-            if (transactionCount > 50) {
-                result.addError("MT102 maksimum 50 transaction içerebilir");
-            }
-        }
-    }
-
-    /**
-     * MT102 zorunlu alanları kontrolü
+     * MT102 alan kuralları (MtRuleSets) - tek geçişte çalışır
      */
-    private void validateMt102MandatoryFields(SwiftMessage message, ValidationResult result) {
-        String rawMessage = message.getRawMtMessage();
-        if (rawMessage == null) return;
+    private void validateMt102Fields(SwiftMessage message, ValidationResult result) {
+        if (message.getRawMtMessage() == null) return;
 
-        checkMandatoryField(rawMessage, ":20:", "Transaction Reference", result);
-        checkMandatoryField(rawMessage, ":32A:", "Value Date/Currency/Amount", result);
-        checkMandatoryField(rawMessage, ":50A:", "Ordering Customer", result);
-        checkMandatoryField(rawMessage, ":58A:", "Beneficiary Institution", result);
-    }
-
-    /**
-     * Zorunlu alan kontrolü
-     */
-    private void checkMandatoryField(String rawMessage, String fieldTag, 
-                                   String fieldName, ValidationResult result) {
-        if (!rawMessage.contains(fieldTag)) {
-            result.addError("Zorunlu alan eksik: " + fieldName + " (" + fieldTag + ")");
-        }
+        RuleResult ruleResult = FIELD_RULES.validate(message.getRawMtMessage(), ValidationMode.COLLECT_ALL);
+        ruleResult.getErrors().forEach(result::addError);
     }
 }
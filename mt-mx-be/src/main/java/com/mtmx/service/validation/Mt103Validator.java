@@ -1,6 +1,11 @@
 package com.mtmx.service.validation;
 
 import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.service.validation.rules.MtRuleSets;
+import com.mtmx.service.validation.rules.RuleResult;
+import com.mtmx.service.validation.rules.ValidationMode;
+import com.mtmx.service.validation.rules.ValidationPlan;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +19,8 @@ import java.math.BigDecimal;
 @Slf4j
 public class Mt103Validator {
 
+    private static final ValidationPlan FIELD_RULES = MtRuleSets.planFor(MessageType.MT103);
+
     /**
      * MT103 spesifik validasyonları
      */
@@ -21,8 +28,7 @@ public class Mt103Validator {
         log.debug("Validating MT103 specific rules");
         
         validateMt103Amount(message, result);
-        validateMt103MandatoryFields(message, result);
-        validateMt103Charges(message, result);
+        validateMt103Fields(message, result);
     }
 
     /**
@@ -36,58 +42,12 @@ public class Mt103Validator {
     }
 
     /**
-     * MT103 zorunlu alanları kontrolü
-     */
-    private void validateMt103MandatoryFields(SwiftMessage message, ValidationResult result) {
-        String rawMessage = message.getRawMtMessage();
-        if (rawMessage == null) return;
-
-        checkMandatoryField(rawMessage, ":20:", "Transaction Reference", result);
-        checkMandatoryField(rawMessage, ":32A:", "Value Date/Currency/Amount", result);
-        checkMandatoryField(rawMessage, ":50A:", "Ordering Customer", result);
-        checkMandatoryField(rawMessage, ":59A:", "Beneficiary Customer", result);
-        checkMandatoryField(rawMessage, ":71A:", "Details of Charges", result);
-    }
-
-    /**
-     * MT103 charges kontrolü
+     * MT103 alan kuralları (MtRuleSets) - tek geçişte çalışır
      */
-    private void validateMt103Charges(SwiftMessage message, ValidationResult result) {
-        String rawMessage = message.getRawMtMessage();
-        if (rawMessage != null && rawMessage.contains(":71A:")) {
-            String charges = extractField(rawMessage, ":71A:");
-            if (charges != null && !charges.matches("^(BEN|OUR|SHA)$")) {
-                result.addError("Details of Charges (:71A:) geçersiz - BEN, OUR veya SHA olmalı");
-            }
-        }
-    }
+    private void validateMt103Fields(SwiftMessage message, ValidationResult result) {
+        if (message.getRawMtMessage() == null) return;
 
-    /**
-     * Zorunlu alan kontrolü
-     */
-    private void checkMandatoryField(String rawMessage, String fieldTag, 
-                                   String fieldName, ValidationResult result) {
-        if (!rawMessage.contains(fieldTag)) {
-            result.addError("Zorunlu alan eksik: " + fieldName + " (" + fieldTag + ")");
-        }
-    }
-
-    /**
-     * Alan çıkarma yardımcı metodu
-     */
-    private String extractField(String message, String fieldTag) {
-        int startIndex = message.indexOf(fieldTag);
-        if (startIndex == -1) return null;
-        
-        startIndex += fieldTag.length();
-        int endIndex = message.indexOf("\n:", startIndex);
-        if (endIndex == -1) {
-            endIndex = message.indexOf("-}", startIndex);
-        }
-        if (endIndex == -1) {
-            endIndex = message.length();
-        }
-        
-        return message.substring(startIndex, endIndex).trim();
+        RuleResult ruleResult = FIELD_RULES.validate(message.getRawMtMessage(), ValidationMode.COLLECT_ALL);
+        ruleResult.getErrors().forEach(result::addError);
     }
 }
@@ -0,0 +1,60 @@
+package com.mtmx.service.validation;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Upper bounds for raw MT input accepted on the request path.
+ * <p>
+ * Checked before a message is hashed, cached, tokenized or converted, so oversized or
+ * field-flooded input is rejected after at most one linear scan that stops at the limit.
+ */
+@Component
+@Getter
+public class MtInputLimits {
+
+    /** Same as the upload endpoint's file size limit */
+    public static final int DEFAULT_MAX_LENGTH = 1024 * 1024;
+    public static final int DEFAULT_MAX_FIELDS = 10_000;
+
+    private final int maxLength;
+    private final int maxFields;
+
+    @Autowired
+    public MtInputLimits(@Value("${mtmx.input.max-length:1048576}") int maxLength,
+                         @Value("${mtmx.input.max-fields:10000}") int maxFields) {
+        this.maxLength = maxLength;
+        this.maxFields = maxFields;
+    }
+
+    public static MtInputLimits defaults() {
+        return new MtInputLimits(DEFAULT_MAX_LENGTH, DEFAULT_MAX_FIELDS);
+    }
+
+    /**
+     * @return reason the message exceeds a limit, or null if it is within limits
+     */
+    public String check(CharSequence mtMessage) {
+        if (mtMessage == null) {
+            return null;
+        }
+        int length = mtMessage.length();
+        if (length > maxLength) {
+            return "MT message too large: " + length + " characters (limit " + maxLength + ")";
+        }
+        // Satır başındaki ':' alan başlangıcı sayılır; limit aşılınca tarama durur
+        int fields = 0;
+        for (int i = 1; i < length; i++) {
+            if (mtMessage.charAt(i) == ':' && isLineBreak(mtMessage.charAt(i - 1)) && ++fields > maxFields) {
+                return "MT message has too many fields (limit " + maxFields + ")";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r';
+    }
+}
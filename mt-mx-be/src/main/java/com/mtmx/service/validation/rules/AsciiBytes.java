@@ -0,0 +1,155 @@
+package com.mtmx.service.validation.rules;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only {@link CharSequence} view over single-byte text held in a {@code byte[]}, a heap or
+ * direct {@link ByteBuffer} or a memory-mapped file region.
+ * <p>
+ * SWIFT FIN is ASCII only, so every byte is one character and {@link MtFieldIndex},
+ * {@link MtTag#of(CharSequence, int, int)} and the {@link FieldMatcher}s can tokenize and check
+ * the message in place. {@link #subSequence(int, int)} returns another view over the same bytes;
+ * a {@code String} is only decoded by {@link #toString()}. Bytes above 0x7F are exposed as
+ * ISO-8859-1 characters and fail the SWIFT character set checks.
+ * <p>
+ * The view does not copy: the underlying array or buffer must not be modified while it is in use.
+ */
+public final class AsciiBytes implements CharSequence {
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private AsciiBytes(byte[] array, ByteBuffer buffer, int offset, int length) {
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static AsciiBytes of(byte[] bytes) {
+        return new AsciiBytes(bytes, null, 0, bytes.length);
+    }
+
+    public static AsciiBytes of(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + bytes.length);
+        }
+        return new AsciiBytes(bytes, null, offset, length);
+    }
+
+    /**
+     * View over the remaining bytes ({@code position} to {@code limit}) of the buffer.
+     * The buffer's position is not changed; heap buffers are read through their backing array.
+     */
+    public static AsciiBytes of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return new AsciiBytes(buffer.array(), null, buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return new AsciiBytes(null, buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Map a file read-only and view its whole content
+     *
+     * @throws IOException if the file cannot be opened or is larger than 2 GB
+     */
+    public static AsciiBytes map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return of(mapped);
+        }
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        byte b = array != null ? array[offset + index] : buffer.get(offset + index);
+        return (char) (b & 0xFF);
+    }
+
+    @Override
+    public AsciiBytes subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new AsciiBytes(array, buffer, offset + start, end - start);
+    }
+
+    /**
+     * Decode the viewed bytes into a String
+     */
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        byte[] copy = new byte[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = buffer.get(offset + i);
+        }
+        return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * {@link String#indexOf(String, int)} for any char sequence, delegating to the String
+     * implementation when possible
+     */
+    public static int indexOf(CharSequence source, String target, int from) {
+        if (source instanceof String) {
+            return ((String) source).indexOf(target, from);
+        }
+        int last = source.length() - target.length();
+        for (int i = Math.max(0, from); i <= last; i++) {
+            if (regionMatches(source, i, target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int indexOf(CharSequence source, char target, int from) {
+        if (source instanceof String) {
+            return ((String) source).indexOf(target, from);
+        }
+        for (int i = Math.max(0, from); i < source.length(); i++) {
+            if (source.charAt(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * True if {@code target} occurs in {@code source} at {@code offset}
+     */
+    public static boolean regionMatches(CharSequence source, int offset, String target) {
+        if (offset < 0 || offset + target.length() > source.length()) {
+            return false;
+        }
+        for (int i = 0; i < target.length(); i++) {
+            if (source.charAt(offset + i) != target.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
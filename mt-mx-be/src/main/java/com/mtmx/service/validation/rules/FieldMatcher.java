@@ -0,0 +1,15 @@
+package com.mtmx.service.validation.rules;
+
+/**
+ * Precompiled format check applied to a single field value.
+ * Values are passed as a {@code [from, to)} range of the raw message so no substring is created.
+ */
+@FunctionalInterface
+public interface FieldMatcher {
+
+    boolean matches(CharSequence source, int from, int to);
+
+    default boolean matches(CharSequence value) {
+        return matches(value, 0, value.length());
+    }
+}
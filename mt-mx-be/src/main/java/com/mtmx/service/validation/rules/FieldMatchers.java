@@ -0,0 +1,228 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.currency.CurrencyTable;
+import com.mtmx.domain.validation.SwiftFormats;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+
+/**
+ * Factory of the field matchers used by {@link MtRuleSet} declarations.
+ * Matchers work on ranges of the raw message through {@link SwiftFormats}; {@link #pattern(Pattern)}
+ * remains available for rules that have no table-driven equivalent.
+ */
+public final class FieldMatchers {
+
+    private FieldMatchers() {
+    }
+
+    /**
+     * Whole value must match the pattern
+     */
+    public static FieldMatcher pattern(Pattern pattern) {
+        return (s, from, to) -> pattern.matcher(s).region(from, to).matches();
+    }
+
+    public static FieldMatcher pattern(String regex) {
+        return pattern(Pattern.compile(regex));
+    }
+
+    public static FieldMatcher maxLength(int max) {
+        return (s, from, to) -> to - from <= max;
+    }
+
+    /**
+     * :20:/:21: references - 1-16 characters of the upper case x charset
+     */
+    public static FieldMatcher reference() {
+        return SwiftFormats::isReference;
+    }
+
+    public static FieldMatcher oneOf(String... codes) {
+        return (s, from, to) -> {
+            for (String code : codes) {
+                if (regionEquals(s, from, to, code)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    public static FieldMatcher containsAny(String... fragments) {
+        return (s, from, to) -> {
+            for (String fragment : fragments) {
+                if (indexOf(s, from, to, fragment) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Narrative fields: number of lines
+     */
+    public static FieldMatcher maxLines(int max) {
+        return (s, from, to) -> {
+            int lines = 1;
+            for (int i = from; i < to; i++) {
+                if (s.charAt(i) == '\n') {
+                    lines++;
+                }
+            }
+            return lines <= max;
+        };
+    }
+
+    /**
+     * Narrative fields: length of each line (CR excluded)
+     */
+    public static FieldMatcher maxLineLength(int max) {
+        return (s, from, to) -> {
+            int lineLength = 0;
+            for (int i = from; i < to; i++) {
+                char c = s.charAt(i);
+                if (c == '\n') {
+                    lineLength = 0;
+                } else if (c != '\r' && ++lineLength > max) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Option A party fields: BIC on the first line (skipped when shorter than 8 characters)
+     */
+    public static FieldMatcher leadingBic() {
+        return (s, from, to) -> {
+            int lineEnd = lineEnd(s, from, to);
+            if (lineEnd - from < 8) {
+                return true;
+            }
+            return SwiftFormats.isBic(s, from, Math.min(from + 11, lineEnd));
+        };
+    }
+
+    /**
+     * :59: - account number after the leading slash must be at most {@code max} characters
+     */
+    public static FieldMatcher accountMaxLength(int max) {
+        return (s, from, to) -> {
+            if (from == to || s.charAt(from) != '/') {
+                return true;
+            }
+            int lineEnd = from + 1;
+            while (lineEnd < to && s.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            return lineEnd - from - 1 <= max;
+        };
+    }
+
+    /**
+     * :32A: - YYMMDD prefix must be six digits
+     */
+    public static FieldMatcher dateFormatAt32A() {
+        return (s, from, to) -> to - from < 9 || SwiftFormats.isDigits(s, from, from + 6);
+    }
+
+    /**
+     * :32A: - YYMMDD prefix must be a calendar date (format errors are reported by {@link #dateFormatAt32A()})
+     */
+    public static FieldMatcher calendarDateAt32A() {
+        return (s, from, to) -> {
+            if (to - from < 9 || !SwiftFormats.isDigits(s, from, from + 6)) {
+                return true;
+            }
+            try {
+                LocalDate.of(2000 + twoDigits(s, from), twoDigits(s, from + 2), twoDigits(s, from + 4));
+                return true;
+            } catch (DateTimeException e) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Active ISO 4217 currency at the given offset (value shorter than offset + 3 is skipped)
+     */
+    public static FieldMatcher currencyAt(int offset) {
+        return (s, from, to) -> to - from < offset + 3
+                || CurrencyTable.isValid(s, from + offset, from + offset + 3);
+    }
+
+    /**
+     * Amount right after the currency at {@code currencyOffset}, until the end of the first line.
+     * Fraction digits are limited by the currency's minor units; unknown currencies are left to
+     * {@link #currencyAt(int)} and only the generic amount format is checked.
+     */
+    public static FieldMatcher amountAfterCurrency(int currencyOffset) {
+        return (s, from, to) -> {
+            int amountStart = from + currencyOffset + 3;
+            if (to <= amountStart) {
+                return true;
+            }
+            int amountEnd = lineEnd(s, amountStart, to);
+            int minorUnits = CurrencyTable.minorUnits(s, from + currencyOffset, amountStart);
+            return minorUnits == CurrencyTable.UNKNOWN
+                    ? SwiftFormats.isAmount(s, amountStart, amountEnd)
+                    : CurrencyAmounts.isValidMtAmount(s, amountStart, amountEnd, minorUnits);
+        };
+    }
+
+    /**
+     * :71F:/:71G: - ISO 4217 currency followed by an amount with at most the currency's minor units
+     */
+    public static FieldMatcher currencyAmount() {
+        return (s, from, to) -> {
+            if (to - from < 4) {
+                return false;
+            }
+            int minorUnits = CurrencyTable.minorUnits(s, from, from + 3);
+            return CurrencyAmounts.isValidMtAmount(s, from + 3, to, minorUnits);
+        };
+    }
+
+    private static int lineEnd(CharSequence s, int from, int to) {
+        int end = from;
+        while (end < to && s.charAt(end) != '\n' && s.charAt(end) != '\r') {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean regionEquals(CharSequence s, int from, int to, String expected) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (s.charAt(from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence s, int from, int to, String fragment) {
+        int last = to - fragment.length();
+        for (int i = from; i <= last; i++) {
+            int j = 0;
+            while (j < fragment.length() && s.charAt(i + j) == fragment.charAt(j)) {
+                j++;
+            }
+            if (j == fragment.length()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int twoDigits(CharSequence s, int offset) {
+        return (s.charAt(offset) - '0') * 10 + (s.charAt(offset + 1) - '0');
+    }
+}
@@ -0,0 +1,347 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.validation.SwiftFormats;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Single-pass index of an MT message: block presence, application header type and the
+ * offsets of every block 4 field. Field values are only materialised when asked for.
+ * <p>
+ * The message can be any {@link CharSequence}; {@link #parse(byte[])} and
+ * {@link #parse(ByteBuffer)} index raw FIN bytes in place through {@link AsciiBytes} without
+ * decoding them into a String first.
+ */
+public final class MtFieldIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CharSequence raw;
+    private final boolean lenient;
+    private boolean basicHeader;
+    private boolean applicationHeader;
+    private boolean textBlock;
+    private String applicationType;
+    private boolean cover;
+    private long presentMask;
+    private int basicHeaderAddressStart = -1;
+    private int basicHeaderAddressEnd = -1;
+    private int applicationHeaderAddressStart = -1;
+    private int applicationHeaderAddressEnd = -1;
+
+    private int size;
+    private MtTag[] tags = new MtTag[INITIAL_CAPACITY];
+    private int[] tagStarts = new int[INITIAL_CAPACITY];
+    private int[] tagEnds = new int[INITIAL_CAPACITY];
+    private int[] valueStarts = new int[INITIAL_CAPACITY];
+    private int[] valueEnds = new int[INITIAL_CAPACITY];
+
+    private MtFieldIndex(CharSequence raw, boolean lenient) {
+        this.raw = raw;
+        this.lenient = lenient;
+    }
+
+    /**
+     * Tokenize a raw MT message
+     *
+     * @param raw raw MT message, may be null
+     * @return field index (empty for null input)
+     */
+    public static MtFieldIndex parse(CharSequence raw) {
+        MtFieldIndex index = new MtFieldIndex(raw == null ? "" : raw, false);
+        index.scan();
+        return index;
+    }
+
+    /**
+     * Tokenize like {@link #parse(CharSequence)}, but split a text block written on a single line
+     * ({@code {4::20:REF:32A:...-}}, as in API examples and older tests) at every {@code :tag:}
+     * occurrence instead of at line starts only. Used for binding; validation stays strict.
+     */
+    public static MtFieldIndex parseLenient(CharSequence raw) {
+        MtFieldIndex index = new MtFieldIndex(raw == null ? "" : raw, true);
+        index.scan();
+        return index;
+    }
+
+    /**
+     * Tokenize raw FIN bytes without decoding them
+     */
+    public static MtFieldIndex parse(byte[] raw) {
+        return parse(raw == null ? null : AsciiBytes.of(raw));
+    }
+
+    /**
+     * Tokenize the remaining bytes of a heap, direct or memory-mapped buffer without decoding them
+     */
+    public static MtFieldIndex parse(ByteBuffer raw) {
+        return parse(raw == null ? null : AsciiBytes.of(raw));
+    }
+
+    private void scan() {
+        int b1 = AsciiBytes.indexOf(raw, "{1:", 0);
+        basicHeader = b1 >= 0;
+        if (basicHeader) {
+            // {1:F01 + logical terminal address
+            basicHeaderAddressStart = b1 + 6;
+            basicHeaderAddressEnd = addressEnd(basicHeaderAddressStart);
+        }
+
+        int b2 = AsciiBytes.indexOf(raw, "{2:", 0);
+        applicationHeader = b2 >= 0;
+        if (applicationHeader && b2 + 7 <= raw.length()) {
+            char direction = raw.charAt(b2 + 3);
+            if (direction == 'I' || direction == 'O') {
+                applicationType = raw.subSequence(b2 + 4, b2 + 7).toString();
+                cover = AsciiBytes.regionMatches(raw, b2 + 7, "COV");
+                // Input: {2:I103[COV] + destination; Output: {2:O103 + HHMM + YYMMDD + sender LT
+                applicationHeaderAddressStart = direction == 'I'
+                        ? b2 + (cover ? 10 : 7)
+                        : b2 + 17;
+                applicationHeaderAddressEnd = addressEnd(applicationHeaderAddressStart);
+            }
+        }
+        if (!cover) {
+            cover = AsciiBytes.indexOf(raw, "{119:COV}", 0) >= 0;
+        }
+
+        int b4 = AsciiBytes.indexOf(raw, "{4:", 0);
+        textBlock = b4 >= 0;
+        if (textBlock) {
+            scanTextBlock(b4 + 3);
+        }
+    }
+
+    private void scanTextBlock(int from) {
+        int end = AsciiBytes.indexOf(raw, "\n-}", from);
+        if (end < 0) {
+            end = AsciiBytes.indexOf(raw, "-}", from);
+        }
+        if (end < 0) {
+            end = raw.length();
+        }
+
+        // Satır sonu içermeyen text block'ta lenient modda her :tag: bir alan başlatır
+        boolean inline = lenient && !hasLineBreak(from, end);
+        boolean lineStart = true;
+        for (int i = from; i < end; i++) {
+            char c = raw.charAt(i);
+            if (c == '\n' || c == '\r') {
+                lineStart = true;
+                continue;
+            }
+            if ((lineStart || inline) && c == ':') {
+                int tagEnd = i + 1;
+                while (tagEnd < end && tagEnd - i <= 4 && Character.isLetterOrDigit(raw.charAt(tagEnd))) {
+                    tagEnd++;
+                }
+                if (tagEnd > i + 1 && tagEnd < end && raw.charAt(tagEnd) == ':') {
+                    closeLastValue(i);
+                    addField(i + 1, tagEnd);
+                    i = tagEnd;
+                }
+            }
+            lineStart = false;
+        }
+        closeLastValue(end);
+    }
+
+    private boolean hasLineBreak(int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = raw.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int addressEnd(int start) {
+        int end = start;
+        int limit = Math.min(raw.length(), start + 12);
+        while (end < limit && (SwiftFormats.isUpper(raw.charAt(end)) || SwiftFormats.isDigit(raw.charAt(end)))) {
+            end++;
+        }
+        return end;
+    }
+
+    private void addField(int tagStart, int tagEnd) {
+        if (size == tags.length) {
+            grow();
+        }
+        MtTag tag = MtTag.of(raw, tagStart, tagEnd);
+        tags[size] = tag;
+        tagStarts[size] = tagStart;
+        tagEnds[size] = tagEnd;
+        valueStarts[size] = tagEnd + 1;
+        valueEnds[size] = -1;
+        if (tag != null) {
+            presentMask |= tag.bit();
+        }
+        size++;
+    }
+
+    private void closeLastValue(int limit) {
+        if (size == 0 || valueEnds[size - 1] >= 0) {
+            return;
+        }
+        int start = valueStarts[size - 1];
+        int end = limit;
+        while (start < end && Character.isWhitespace(raw.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(raw.charAt(end - 1))) {
+            end--;
+        }
+        valueStarts[size - 1] = start;
+        valueEnds[size - 1] = end;
+    }
+
+    private void grow() {
+        int capacity = tags.length * 2;
+        tags = Arrays.copyOf(tags, capacity);
+        tagStarts = Arrays.copyOf(tagStarts, capacity);
+        tagEnds = Arrays.copyOf(tagEnds, capacity);
+        valueStarts = Arrays.copyOf(valueStarts, capacity);
+        valueEnds = Arrays.copyOf(valueEnds, capacity);
+    }
+
+    /**
+     * Indexed message; offsets returned by this index refer to it
+     */
+    public CharSequence getSource() {
+        return raw;
+    }
+
+    /**
+     * Indexed message as a String, decoded on every call for byte-backed sources
+     */
+    public String getRaw() {
+        return raw.toString();
+    }
+
+    public boolean hasBasicHeader() {
+        return basicHeader;
+    }
+
+    public boolean hasApplicationHeader() {
+        return applicationHeader;
+    }
+
+    public boolean hasTextBlock() {
+        return textBlock;
+    }
+
+    /**
+     * Three digit message type from block 2, e.g. {@code 103}
+     */
+    public String getApplicationType() {
+        return applicationType;
+    }
+
+    /**
+     * True for cover payments ({@code I202COV} header or {@code {119:COV}} in block 3)
+     */
+    public boolean isCover() {
+        return cover;
+    }
+
+    /**
+     * Start of the logical terminal address in block 1, -1 without a basic header.
+     * The address is a BIC8, a BIC11 or a 12 character LT (BIC8 + terminal code + branch).
+     */
+    public int basicHeaderAddressStart() {
+        return basicHeaderAddressStart;
+    }
+
+    public int basicHeaderAddressEnd() {
+        return basicHeaderAddressEnd;
+    }
+
+    /**
+     * Start of the destination (input) or sender (output) address in block 2, -1 if absent
+     */
+    public int applicationHeaderAddressStart() {
+        return applicationHeaderAddressStart;
+    }
+
+    public int applicationHeaderAddressEnd() {
+        return applicationHeaderAddressEnd;
+    }
+
+    public long getPresentMask() {
+        return presentMask;
+    }
+
+    public boolean has(MtTag tag) {
+        return (presentMask & tag.bit()) != 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Declared tag of the i-th field, null for tags unknown to the engine
+     */
+    public MtTag tag(int i) {
+        return tags[i];
+    }
+
+    public String tagText(int i) {
+        return raw.subSequence(tagStarts[i], tagEnds[i]).toString();
+    }
+
+    public int valueStart(int i) {
+        return valueStarts[i];
+    }
+
+    public int valueEnd(int i) {
+        return valueEnds[i];
+    }
+
+    /**
+     * Trimmed value of the i-th field
+     */
+    public String value(int i) {
+        return raw.subSequence(valueStarts[i], valueEnds[i]).toString();
+    }
+
+    /**
+     * Trimmed value of the i-th field as a view over the source, nothing is decoded
+     */
+    public CharSequence valueView(int i) {
+        return raw.subSequence(valueStarts[i], valueEnds[i]);
+    }
+
+    /**
+     * Trimmed value of the first occurrence of the tag
+     *
+     * @return value or null if the tag is absent
+     */
+    public String first(MtTag tag) {
+        if (!has(tag)) {
+            return null;
+        }
+        for (int i = 0; i < size; i++) {
+            if (tags[i] == tag) {
+                return value(i);
+            }
+        }
+        return null;
+    }
+
+    public int count(MtTag tag) {
+        if (!has(tag)) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (tags[i] == tag) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
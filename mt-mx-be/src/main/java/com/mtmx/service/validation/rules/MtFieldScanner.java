@@ -0,0 +1,144 @@
+package com.mtmx.service.validation.rules;
+
+import lombok.Value;
+
+/**
+ * Linear-time lookups of single fields anywhere in a raw MT message.
+ * <p>
+ * Drop-in replacements for the {@code find()} based regex extractions ({@code :20:([^\r\n:]+)},
+ * {@code :32A:(\d{6})(\w{3})([\d,.]+)}, ...): occurrences of the tag are located with a plain
+ * substring search and the value is checked with a bounded forward scan, so every character is
+ * looked at a constant number of times regardless of how the input is shaped. Unlike
+ * {@link MtFieldIndex} the tag does not have to start a line, which keeps the behaviour of the
+ * former patterns on single-line messages.
+ */
+public final class MtFieldScanner {
+
+    private static final int DATE_LENGTH = 6;
+    private static final int CURRENCY_LENGTH = 3;
+
+    private MtFieldScanner() {
+    }
+
+    /**
+     * Amount field such as {@code :32A:} (date + currency + amount) or {@code :32B:} (currency + amount)
+     */
+    @Value
+    public static class AmountField {
+        /** YYMMDD, null for undated fields */
+        String date;
+        String currency;
+        /** Amount in MT notation (digits and decimal comma) */
+        String amount;
+    }
+
+    /**
+     * First line of the first {@code :tag:} occurrence that is followed by at least one
+     * character other than CR, LF or {@code :}; the value stops at the first of those.
+     *
+     * @return trimmed value, null if no occurrence has a value or the value is blank
+     */
+    public static String firstLine(CharSequence raw, String tag) {
+        if (raw == null || tag == null) {
+            return null;
+        }
+        String notation = ":" + tag + ":";
+        for (int at = AsciiBytes.indexOf(raw, notation, 0); at >= 0; at = AsciiBytes.indexOf(raw, notation, at + 1)) {
+            int start = at + notation.length();
+            int end = start;
+            while (end < raw.length() && !isValueStop(raw.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                String value = raw.subSequence(start, end).toString().trim();
+                return value.isEmpty() ? null : value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * First {@code :tag:} occurrence whose value starts with [YYMMDD] + currency + amount
+     *
+     * @param dated true for fields with a leading value date ({@code 32A})
+     * @return parsed field or null if no occurrence matches
+     */
+    public static AmountField amount(CharSequence raw, String tag, boolean dated) {
+        if (raw == null) {
+            return null;
+        }
+        String notation = ":" + tag + ":";
+        for (int at = AsciiBytes.indexOf(raw, notation, 0); at >= 0; at = AsciiBytes.indexOf(raw, notation, at + 1)) {
+            int date = at + notation.length();
+            int currency = dated ? date + DATE_LENGTH : date;
+            int amount = currency + CURRENCY_LENGTH;
+            if (amount >= raw.length()
+                    || (dated && !allDigits(raw, date, currency))
+                    || !allWordCharacters(raw, currency, amount)) {
+                continue;
+            }
+            int end = amountEnd(raw, amount);
+            if (end > amount) {
+                return new AmountField(dated ? raw.subSequence(date, currency).toString() : null,
+                        raw.subSequence(currency, amount).toString(), raw.subSequence(amount, end).toString());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Digits, commas and dots following the first {@code :tag:} occurrence that has any
+     *
+     * @return amount text or null
+     */
+    public static String amountValue(CharSequence raw, String tag) {
+        if (raw == null) {
+            return null;
+        }
+        String notation = ":" + tag + ":";
+        for (int at = AsciiBytes.indexOf(raw, notation, 0); at >= 0; at = AsciiBytes.indexOf(raw, notation, at + 1)) {
+            int start = at + notation.length();
+            int end = amountEnd(raw, start);
+            if (end > start) {
+                return raw.subSequence(start, end).toString();
+            }
+        }
+        return null;
+    }
+
+    private static int amountEnd(CharSequence raw, int from) {
+        int end = from;
+        while (end < raw.length() && isAmountCharacter(raw.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean allDigits(CharSequence raw, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = raw.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allWordCharacters(CharSequence raw, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = raw.charAt(i);
+            if (!(c >= 'A' && c <= 'Z') && !(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9') && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAmountCharacter(char c) {
+        return (c >= '0' && c <= '9') || c == ',' || c == '.';
+    }
+
+    private static boolean isValueStop(char c) {
+        return c == '\n' || c == '\r' || c == ':';
+    }
+}
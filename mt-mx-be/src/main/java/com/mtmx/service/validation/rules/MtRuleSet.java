@@ -0,0 +1,167 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.enums.MessageType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Declarative rule set of one MT message type.
+ * Rule sets are plain data; {@link #compile()} turns them into an immutable {@link ValidationPlan}.
+ */
+@Getter
+public final class MtRuleSet {
+
+    private final MessageType messageType;
+    private final boolean structureChecked;
+    private final List<Presence> mandatory;
+    private final List<AnyOf> anyOf;
+    private final List<Format> formats;
+    private final List<Occurrence> occurrences;
+
+    private MtRuleSet(Builder builder) {
+        this.messageType = builder.messageType;
+        this.structureChecked = builder.structureChecked;
+        this.mandatory = Collections.unmodifiableList(new ArrayList<>(builder.mandatory));
+        this.anyOf = Collections.unmodifiableList(new ArrayList<>(builder.anyOf));
+        this.formats = Collections.unmodifiableList(new ArrayList<>(builder.formats));
+        this.occurrences = Collections.unmodifiableList(new ArrayList<>(builder.occurrences));
+    }
+
+    public static Builder builder(MessageType messageType) {
+        return new Builder(messageType);
+    }
+
+    public ValidationPlan compile() {
+        return ValidationPlan.compile(this);
+    }
+
+    /** Tag must be present */
+    @Getter
+    public static final class Presence {
+        private final MtTag tag;
+        private final String message;
+
+        private Presence(MtTag tag, String message) {
+            this.tag = tag;
+            this.message = message;
+        }
+    }
+
+    /** At least one of the tags must be present */
+    @Getter
+    public static final class AnyOf {
+        private final MtTag[] tags;
+        private final String message;
+
+        private AnyOf(MtTag[] tags, String message) {
+            this.tags = tags;
+            this.message = message;
+        }
+    }
+
+    /** Every occurrence of the tag must satisfy the matcher */
+    @Getter
+    public static final class Format {
+        private final MtTag tag;
+        private final FieldMatcher matcher;
+        private final RuleViolation.Severity severity;
+        private final String message;
+
+        private Format(MtTag tag, FieldMatcher matcher, RuleViolation.Severity severity, String message) {
+            this.tag = tag;
+            this.matcher = matcher;
+            this.severity = severity;
+            this.message = message;
+        }
+    }
+
+    /** Occurrence count of the tag must lie within [min, max] */
+    @Getter
+    public static final class Occurrence {
+        private final MtTag tag;
+        private final int min;
+        private final int max;
+        private final String minMessage;
+        private final String maxMessage;
+
+        private Occurrence(MtTag tag, int min, int max, String minMessage, String maxMessage) {
+            this.tag = tag;
+            this.min = min;
+            this.max = max;
+            this.minMessage = minMessage;
+            this.maxMessage = maxMessage;
+        }
+    }
+
+    public static final class Builder {
+        private final MessageType messageType;
+        private boolean structureChecked;
+        private final List<Presence> mandatory = new ArrayList<>();
+        private final List<AnyOf> anyOf = new ArrayList<>();
+        private final List<Format> formats = new ArrayList<>();
+        private final List<Occurrence> occurrences = new ArrayList<>();
+
+        private Builder(MessageType messageType) {
+            this.messageType = messageType;
+        }
+
+        /**
+         * Check that blocks 1, 2 and 4 exist and block 2 carries the expected message type
+         */
+        public Builder structure() {
+            this.structureChecked = true;
+            return this;
+        }
+
+        /**
+         * Mandatory field with the standard "Zorunlu alan eksik" message
+         */
+        public Builder mandatory(MtTag tag, String fieldName) {
+            return required(tag, "Zorunlu alan eksik: " + fieldName + " (" + tag.notation() + ")");
+        }
+
+        /**
+         * Mandatory field with a custom message
+         */
+        public Builder required(MtTag tag, String message) {
+            mandatory.add(new Presence(tag, message));
+            return this;
+        }
+
+        public Builder anyOf(String message, MtTag... tags) {
+            anyOf.add(new AnyOf(tags.clone(), message));
+            return this;
+        }
+
+        public Builder format(MtTag tag, FieldMatcher matcher, String message) {
+            formats.add(new Format(tag, matcher, RuleViolation.Severity.ERROR, message));
+            return this;
+        }
+
+        public Builder warnUnless(MtTag tag, FieldMatcher matcher, String message) {
+            formats.add(new Format(tag, matcher, RuleViolation.Severity.WARNING, message));
+            return this;
+        }
+
+        public Builder occurrences(MtTag tag, int min, int max, String minMessage, String maxMessage) {
+            occurrences.add(new Occurrence(tag, min, max, minMessage, maxMessage));
+            return this;
+        }
+
+        /**
+         * Apply a reusable group of rules
+         */
+        public Builder include(Consumer<Builder> rules) {
+            rules.accept(this);
+            return this;
+        }
+
+        public MtRuleSet build() {
+            return new MtRuleSet(this);
+        }
+    }
+}
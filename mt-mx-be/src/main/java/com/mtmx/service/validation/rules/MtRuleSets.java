@@ -0,0 +1,160 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.enums.MessageType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.mtmx.service.validation.rules.FieldMatchers.*;
+import static com.mtmx.service.validation.rules.MtTag.*;
+
+/**
+ * Default rule sets of the supported MT message types, compiled once into {@link ValidationPlan}s
+ */
+public final class MtRuleSets {
+
+    private static final Map<MessageType, ValidationPlan> PLANS = new EnumMap<>(MessageType.class);
+
+    static {
+        for (MessageType type : MessageType.values()) {
+            PLANS.put(type, ruleSet(type).compile());
+        }
+    }
+
+    private MtRuleSets() {
+    }
+
+    /**
+     * Compiled plan of the message type
+     */
+    public static ValidationPlan planFor(MessageType messageType) {
+        return PLANS.get(messageType);
+    }
+
+    /**
+     * Declarative rule set of the message type
+     */
+    public static MtRuleSet ruleSet(MessageType messageType) {
+        MtRuleSet.Builder builder = MtRuleSet.builder(messageType).structure();
+        switch (messageType) {
+            case MT102:
+                return builder
+                        .mandatory(F20, "Transaction Reference")
+                        .mandatory(F32A, "Value Date/Currency/Amount")
+                        .mandatory(F50A, "Ordering Customer")
+                        .mandatory(F59A, "Beneficiary Customer")
+                        .include(MtRuleSets::transactionReference)
+                        .include(MtRuleSets::orderingCustomer)
+                        .include(MtRuleSets::beneficiaryCustomer)
+                        .include(MtRuleSets::remittanceInfo)
+                        .occurrences(F21, 0, 50, null, "MT102 maksimum 50 transaction içerebilir")
+                        .build();
+            case MT103:
+                return builder
+                        .mandatory(F20, "Transaction Reference")
+                        .mandatory(F32A, "Value Date/Currency/Amount")
+                        .mandatory(F50A, "Ordering Customer")
+                        .mandatory(F59A, "Beneficiary Customer")
+                        .mandatory(F71A, "Details of Charges")
+                        .include(MtRuleSets::transactionReference)
+                        .include(MtRuleSets::orderingCustomer)
+                        .include(MtRuleSets::beneficiaryCustomer)
+                        .include(MtRuleSets::remittanceInfo)
+                        .include(MtRuleSets::charges)
+                        .include(MtRuleSets::regulatoryReporting)
+                        .build();
+            case MT202:
+                return builder
+                        .mandatory(F20, "Transaction Reference")
+                        .mandatory(F32A, "Value Date/Currency/Amount")
+                        .mandatory(F52A, "Ordering Institution")
+                        .mandatory(F58A, "Beneficiary Institution")
+                        .include(MtRuleSets::institutionTransfer)
+                        .build();
+            case MT202COV:
+                return builder
+                        .mandatory(F20, "Transaction Reference")
+                        .mandatory(F21, "Related Reference")
+                        .mandatory(F32A, "Value Date/Currency/Amount")
+                        .mandatory(F50A, "Ordering Customer")
+                        .mandatory(F59A, "Beneficiary Customer")
+                        .mandatory(F72, "Sender to Receiver Info")
+                        .required(F21, "Related Reference (:21:) MT202COV için zorunludur")
+                        .anyOf("MT202COV underlying customer bilgileri (:50A:/:50F:/:50K:) zorunludur", F50A, F50F, F50K)
+                        .required(F72, "MT202COV için sender to receiver information (:72:) zorunludur")
+                        .include(MtRuleSets::institutionTransfer)
+                        .format(F33B, currencyAt(0), "Original Ordered Currency (:33B:) geçersiz format")
+                        .format(F33B, amountAfterCurrency(0), "Original Ordered Amount (:33B:) geçersiz format")
+                        .build();
+            case MT203:
+                return builder
+                        .mandatory(F20, "Transaction Reference")
+                        .mandatory(F32A, "Value Date/Currency/Amount")
+                        .mandatory(F52A, "Ordering Institution")
+                        .mandatory(F58A, "Beneficiary Institution")
+                        .include(MtRuleSets::institutionTransfer)
+                        .occurrences(F21, 2, 100, "MT203 en az 2 transaction içermelidir",
+                                "MT203 maksimum 100 transaction içerebilir")
+                        .build();
+            default:
+                throw new IllegalArgumentException("Desteklenmeyen mesaj tipi: " + messageType);
+        }
+    }
+
+    private static void transactionReference(MtRuleSet.Builder rules) {
+        rules.format(F20, maxLength(16), "Transaction Reference (:20:) 16 karakterden uzun olamaz")
+                .format(F20, reference(), "Transaction Reference (:20:) geçersiz karakterler içeriyor");
+    }
+
+    private static void orderingCustomer(MtRuleSet.Builder rules) {
+        rules.anyOf("Ordering Customer (:50A:/:50F:/:50K:) alanlarından biri zorunludur", F50A, F50F, F50K)
+                .format(F50A, leadingBic(), "Ordering Customer BIC (:50A:) geçersiz format");
+    }
+
+    private static void beneficiaryCustomer(MtRuleSet.Builder rules) {
+        rules.anyOf("Beneficiary Customer (:59A:/:59F:/:59:) alanlarından biri zorunludur", F59A, F59F, F59)
+                .format(F59A, leadingBic(), "Beneficiary Customer BIC (:59A:) geçersiz format")
+                .format(F59, accountMaxLength(34), "Beneficiary Account Number (:59:) 34 karakterden uzun olamaz");
+    }
+
+    private static void remittanceInfo(MtRuleSet.Builder rules) {
+        rules.format(F70, maxLines(4), "Remittance Information (:70:) maksimum 4 satır içerebilir")
+                .format(F70, maxLineLength(35), "Remittance Information (:70:) her satır 35 karakterden uzun olamaz");
+    }
+
+    private static void charges(MtRuleSet.Builder rules) {
+        rules.format(F71A, oneOf("BEN", "OUR", "SHA"),
+                        "Details of Charges (:71A:) geçersiz kod - BEN, OUR veya SHA olmalı")
+                .format(F71F, currencyAmount(),
+                        "Sender's Charges (:71F:) geçersiz format - CUR1234,56 formatında olmalı");
+    }
+
+    private static void regulatoryReporting(MtRuleSet.Builder rules) {
+        rules.format(F77B, maxLines(3), "Regulatory Reporting (:77B:) maksimum 3 satır içerebilir")
+                .format(F77B, maxLineLength(35), "Regulatory Reporting (:77B:) her satır 35 karakterden uzun olamaz")
+                .warnUnless(F77B, containsAny("/ORDERRES/", "/BENEFRES/"),
+                        "Regulatory Reporting (:77B:) standart kodlar içermiyor");
+    }
+
+    /**
+     * MT202 kuralları - MT202COV ve MT203 de bu kuralları içerir
+     */
+    private static void institutionTransfer(MtRuleSet.Builder rules) {
+        rules.include(MtRuleSets::transactionReference)
+                .format(F52A, leadingBic(), "Ordering Institution BIC (:52A:) geçersiz format")
+                .format(F53A, leadingBic(), "Sender's Correspondent BIC (:53A:) geçersiz format")
+                .format(F54A, leadingBic(), "Receiver's Correspondent BIC (:54A:) geçersiz format")
+                .format(F56A, leadingBic(), "Intermediary BIC (:56A:) geçersiz format")
+                .format(F57A, leadingBic(), "Account With Institution BIC (:57A:) geçersiz format")
+                .format(F58A, leadingBic(), "Beneficiary Institution BIC (:58A:) geçersiz format")
+                .format(F72, maxLines(6), "Sender to Receiver Information (:72:) maksimum 6 satır içerebilir")
+                .format(F72, maxLineLength(35),
+                        "Sender to Receiver Information (:72:) her satır 35 karakterden uzun olamaz")
+                .warnUnless(F72, containsAny("/INS/", "/ACC/", "/INT/"),
+                        "Settlement Instructions (:72:) standart kodlar içermiyor")
+                .format(F32A, dateFormatAt32A(), "Value Date (:32A:) geçersiz format - YYMMDD olmalı")
+                .format(F32A, calendarDateAt32A(), "Value Date (:32A:) geçersiz tarih")
+                .format(F32A, currencyAt(6), "Currency (:32A:) geçersiz format")
+                .format(F32A, amountAfterCurrency(6), "Amount (:32A:) geçersiz format");
+    }
+}
@@ -0,0 +1,114 @@
+package com.mtmx.service.validation.rules;
+
+/**
+ * Block 4 field tags known to the rule engine.
+ * The ordinal is used as bit position in presence masks, so at most 64 tags can be declared.
+ */
+public enum MtTag {
+    F13C("13C"),
+    F19("19"),
+    F20("20"),
+    F21("21"),
+    F23("23"),
+    F23B("23B"),
+    F23E("23E"),
+    F25("25"),
+    F26T("26T"),
+    F30("30"),
+    F32A("32A"),
+    F32B("32B"),
+    F33B("33B"),
+    F36("36"),
+    F50A("50A"),
+    F50F("50F"),
+    F50K("50K"),
+    F51A("51A"),
+    F52A("52A"),
+    F52D("52D"),
+    F53A("53A"),
+    F53B("53B"),
+    F53D("53D"),
+    F54A("54A"),
+    F54B("54B"),
+    F54D("54D"),
+    F56A("56A"),
+    F56C("56C"),
+    F56D("56D"),
+    F57A("57A"),
+    F57B("57B"),
+    F57C("57C"),
+    F57D("57D"),
+    F58A("58A"),
+    F58D("58D"),
+    F59("59"),
+    F59A("59A"),
+    F59F("59F"),
+    F70("70"),
+    F71A("71A"),
+    F71F("71F"),
+    F71G("71G"),
+    F72("72"),
+    F77B("77B");
+
+    private static final MtTag[] VALUES = values();
+
+    private final String tag;
+
+    MtTag(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Presence mask bit of this tag
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * Field notation used in messages, e.g. {@code :32A:}
+     */
+    public String notation() {
+        return ":" + tag + ":";
+    }
+
+    public static int count() {
+        return VALUES.length;
+    }
+
+    /**
+     * Resolve a tag from a region of the raw message without allocating
+     *
+     * @param source raw message
+     * @param start  first character of the tag (after the leading colon)
+     * @param end    position of the closing colon
+     * @return tag or null if the tag is not declared
+     */
+    public static MtTag of(CharSequence source, int start, int end) {
+        int length = end - start;
+        for (MtTag candidate : VALUES) {
+            String tag = candidate.tag;
+            if (tag.length() != length) {
+                continue;
+            }
+            int i = 0;
+            while (i < length && tag.charAt(i) == source.charAt(start + i)) {
+                i++;
+            }
+            if (i == length) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    static {
+        if (VALUES.length > Long.SIZE) {
+            throw new IllegalStateException("MtTag presence mask supports at most 64 tags");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.enums.MessageType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Structured outcome of a {@link ValidationPlan} evaluation
+ */
+@Getter
+public class RuleResult {
+
+    private final MessageType messageType;
+    private final ValidationMode mode;
+    private final List<RuleViolation> violations = new ArrayList<>();
+    private int errorCount;
+
+    RuleResult(MessageType messageType, ValidationMode mode) {
+        this.messageType = messageType;
+        this.mode = mode;
+    }
+
+    /**
+     * Record a violation
+     *
+     * @return true if evaluation should stop (fail-fast mode and the violation is an error)
+     */
+    boolean add(RuleViolation violation) {
+        violations.add(violation);
+        if (violation.isError()) {
+            errorCount++;
+            return mode == ValidationMode.FAIL_FAST;
+        }
+        return false;
+    }
+
+    public boolean isValid() {
+        return errorCount == 0;
+    }
+
+    public List<RuleViolation> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    public List<String> getErrors() {
+        return messages(RuleViolation.Severity.ERROR);
+    }
+
+    public List<String> getWarnings() {
+        return messages(RuleViolation.Severity.WARNING);
+    }
+
+    private List<String> messages(RuleViolation.Severity severity) {
+        List<String> messages = new ArrayList<>();
+        for (RuleViolation violation : violations) {
+            if (violation.getSeverity() == severity) {
+                messages.add(violation.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RuleResult{type=%s, valid=%s, violations=%s}", messageType, isValid(), violations);
+    }
+}
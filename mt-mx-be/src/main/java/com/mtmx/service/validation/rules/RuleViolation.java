@@ -0,0 +1,33 @@
+package com.mtmx.service.validation.rules;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single rule violation produced by a {@link ValidationPlan}
+ */
+@Getter
+@RequiredArgsConstructor
+public class RuleViolation {
+
+    public enum Severity {
+        ERROR,
+        WARNING
+    }
+
+    /** Rule kind that produced the violation (STRUCTURE, MANDATORY, ANY_OF, FORMAT, OCCURRENCE) */
+    private final String rule;
+    /** Field tag, null for message level rules */
+    private final MtTag tag;
+    private final Severity severity;
+    private final String message;
+
+    public boolean isError() {
+        return severity == Severity.ERROR;
+    }
+
+    @Override
+    public String toString() {
+        return severity + (tag != null ? " " + tag.notation() : "") + " " + message;
+    }
+}
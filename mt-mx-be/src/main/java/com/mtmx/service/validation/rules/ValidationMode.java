@@ -0,0 +1,11 @@
+package com.mtmx.service.validation.rules;
+
+/**
+ * Evaluation mode of a {@link ValidationPlan}
+ */
+public enum ValidationMode {
+    /** Stop at the first error (warnings do not stop evaluation) */
+    FAIL_FAST,
+    /** Evaluate every rule and report all violations */
+    COLLECT_ALL
+}
@@ -0,0 +1,191 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.enums.MessageType;
+
+import java.util.List;
+
+/**
+ * Compiled, immutable execution plan of an {@link MtRuleSet}.
+ * <p>
+ * Evaluation order: structure, mandatory presence (one mask test), any-of groups (one mask test each),
+ * then a single pass over the tokenized fields dispatching the format checks registered for each tag,
+ * and finally occurrence limits from the counts collected during that pass.
+ * Plans are thread-safe and meant to be compiled once at startup.
+ */
+public final class ValidationPlan {
+
+    private static final String RULE_STRUCTURE = "STRUCTURE";
+    private static final String RULE_MANDATORY = "MANDATORY";
+    private static final String RULE_ANY_OF = "ANY_OF";
+    private static final String RULE_FORMAT = "FORMAT";
+    private static final String RULE_OCCURRENCE = "OCCURRENCE";
+
+    private final MessageType messageType;
+    private final boolean structureChecked;
+    private final String expectedType;
+    private final boolean expectedCover;
+
+    private final long mandatoryMask;
+    private final MtTag[] mandatoryTags;
+    private final String[] mandatoryMessages;
+
+    private final long[] anyOfMasks;
+    private final String[] anyOfMessages;
+
+    // MtTag ordinal -> format checks for that tag (null when the tag has none)
+    private final MtRuleSet.Format[][] formatsByTag;
+
+    private final MtRuleSet.Occurrence[] occurrences;
+    private final long countedMask;
+
+    private ValidationPlan(MtRuleSet ruleSet) {
+        this.messageType = ruleSet.getMessageType();
+        this.structureChecked = ruleSet.isStructureChecked();
+        this.expectedCover = messageType == MessageType.MT202COV;
+        this.expectedType = messageType.name().substring(2, 5);
+
+        List<MtRuleSet.Presence> mandatory = ruleSet.getMandatory();
+        this.mandatoryTags = new MtTag[mandatory.size()];
+        this.mandatoryMessages = new String[mandatory.size()];
+        long mask = 0;
+        for (int i = 0; i < mandatory.size(); i++) {
+            mandatoryTags[i] = mandatory.get(i).getTag();
+            mandatoryMessages[i] = mandatory.get(i).getMessage();
+            mask |= mandatoryTags[i].bit();
+        }
+        this.mandatoryMask = mask;
+
+        List<MtRuleSet.AnyOf> anyOf = ruleSet.getAnyOf();
+        this.anyOfMasks = new long[anyOf.size()];
+        this.anyOfMessages = new String[anyOf.size()];
+        for (int i = 0; i < anyOf.size(); i++) {
+            for (MtTag tag : anyOf.get(i).getTags()) {
+                anyOfMasks[i] |= tag.bit();
+            }
+            anyOfMessages[i] = anyOf.get(i).getMessage();
+        }
+
+        this.formatsByTag = new MtRuleSet.Format[MtTag.count()][];
+        for (MtRuleSet.Format format : ruleSet.getFormats()) {
+            int id = format.getTag().ordinal();
+            MtRuleSet.Format[] current = formatsByTag[id];
+            if (current == null) {
+                formatsByTag[id] = new MtRuleSet.Format[] { format };
+            } else {
+                MtRuleSet.Format[] extended = new MtRuleSet.Format[current.length + 1];
+                System.arraycopy(current, 0, extended, 0, current.length);
+                extended[current.length] = format;
+                formatsByTag[id] = extended;
+            }
+        }
+
+        this.occurrences = ruleSet.getOccurrences().toArray(new MtRuleSet.Occurrence[0]);
+        long counted = 0;
+        for (MtRuleSet.Occurrence occurrence : occurrences) {
+            counted |= occurrence.getTag().bit();
+        }
+        this.countedMask = counted;
+    }
+
+    static ValidationPlan compile(MtRuleSet ruleSet) {
+        return new ValidationPlan(ruleSet);
+    }
+
+    public MessageType getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * Tokenize and validate a raw message
+     */
+    public RuleResult validate(String rawMessage, ValidationMode mode) {
+        return validate(MtFieldIndex.parse(rawMessage), mode);
+    }
+
+    /**
+     * Validate an already tokenized message
+     */
+    public RuleResult validate(MtFieldIndex index, ValidationMode mode) {
+        RuleResult result = new RuleResult(messageType, mode);
+
+        if (structureChecked && checkStructure(index, result)) {
+            return result;
+        }
+
+        long present = index.getPresentMask();
+        long missing = mandatoryMask & ~present;
+        if (missing != 0) {
+            for (int i = 0; i < mandatoryTags.length; i++) {
+                if ((missing & mandatoryTags[i].bit()) != 0
+                        && result.add(violation(RULE_MANDATORY, mandatoryTags[i], mandatoryMessages[i]))) {
+                    return result;
+                }
+            }
+        }
+
+        for (int i = 0; i < anyOfMasks.length; i++) {
+            if ((present & anyOfMasks[i]) == 0
+                    && result.add(new RuleViolation(RULE_ANY_OF, null, RuleViolation.Severity.ERROR, anyOfMessages[i]))) {
+                return result;
+            }
+        }
+
+        int[] counts = countedMask != 0 ? new int[MtTag.count()] : null;
+        for (int i = 0; i < index.size(); i++) {
+            MtTag tag = index.tag(i);
+            if (tag == null) {
+                continue;
+            }
+            if (counts != null) {
+                counts[tag.ordinal()]++;
+            }
+            MtRuleSet.Format[] formats = formatsByTag[tag.ordinal()];
+            if (formats == null) {
+                continue;
+            }
+            CharSequence raw = index.getSource();
+            int from = index.valueStart(i);
+            int to = index.valueEnd(i);
+            for (MtRuleSet.Format format : formats) {
+                if (!format.getMatcher().matches(raw, from, to)
+                        && result.add(new RuleViolation(RULE_FORMAT, tag, format.getSeverity(), format.getMessage()))) {
+                    return result;
+                }
+            }
+        }
+
+        for (MtRuleSet.Occurrence occurrence : occurrences) {
+            int count = counts[occurrence.getTag().ordinal()];
+            if (count < occurrence.getMin()
+                    && result.add(violation(RULE_OCCURRENCE, occurrence.getTag(), occurrence.getMinMessage()))) {
+                return result;
+            }
+            if (count > occurrence.getMax()
+                    && result.add(violation(RULE_OCCURRENCE, occurrence.getTag(), occurrence.getMaxMessage()))) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return true if evaluation must stop
+     */
+    private boolean checkStructure(MtFieldIndex index, RuleResult result) {
+        if (!index.hasBasicHeader() || !index.hasApplicationHeader() || !index.hasTextBlock()) {
+            if (result.add(violation(RULE_STRUCTURE, null, "Geçersiz SWIFT mesaj formatı - gerekli bloklar eksik"))) {
+                return true;
+            }
+        }
+        boolean typeMatches = expectedType.equals(index.getApplicationType()) && (!expectedCover || index.isCover());
+        if (!typeMatches) {
+            String expected = expectedCover ? expectedType + "COV" : expectedType;
+            return result.add(violation(RULE_STRUCTURE, null, "Mesaj tipi tutarsızlığı - beklenen: " + expected));
+        }
+        return false;
+    }
+
+    private static RuleViolation violation(String rule, MtTag tag, String message) {
+        return new RuleViolation(rule, tag, RuleViolation.Severity.ERROR, message);
+    }
+}
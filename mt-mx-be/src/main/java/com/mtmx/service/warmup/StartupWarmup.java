@@ -0,0 +1,201 @@
+package com.mtmx.service.warmup;
+
+import com.mtmx.domain.model.mx.Pacs008Message;
+import com.mtmx.domain.model.mx.Pacs009Message;
+import com.mtmx.service.ConversionService;
+import com.mtmx.service.XsdValidationService;
+import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.xml.JaxbContextCache;
+import com.mtmx.service.xml.XsdSchemaCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Startup warm-up phase.
+ * Runs before the application is marked ready (ApplicationRunners complete before
+ * ReadinessState.ACCEPTING_TRAFFIC is published), so schema compilation, JAXB
+ * reflection and the first JIT passes no longer happen on live traffic:
+ * <ol>
+ * <li>compiles every XSD under {@code xsd/}</li>
+ * <li>builds the JAXB contexts for the MX models</li>
+ * <li>runs the bundled {@code samples/mt} and {@code samples/mx} messages through
+ * every converter and validator {@code mtmx.warmup.iterations} times</li>
+ * </ol>
+ * Progress is exposed through {@link WarmupHealthIndicator} in the readiness group.
+ */
+@Component
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupWarmup implements ApplicationRunner {
+
+    public enum Phase {
+        PENDING, SCHEMAS, JAXB_CONTEXTS, CONVERTERS, COMPLETED, DISABLED
+    }
+
+    private static final String XSD_LOCATION = "classpath*:xsd/*.xsd";
+    private static final String MT_SAMPLES_LOCATION = "classpath*:samples/mt/*.txt";
+    private static final String MX_SAMPLES_LOCATION = "classpath*:samples/mx/*.xml";
+    private static final Class<?>[] JAXB_ROOT_TYPES = { Pacs008Message.class, Pacs009Message.class };
+
+    private final ConversionService conversionService;
+    private final XsdValidationService xsdValidationService;
+    private final List<MessageConverter<String, String>> converters;
+    private final boolean enabled;
+    private final int iterations;
+
+    private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+    private final AtomicInteger completedSteps = new AtomicInteger();
+    private final AtomicInteger failedSteps = new AtomicInteger();
+    private volatile int totalSteps;
+    private volatile Phase phase = Phase.PENDING;
+    private volatile long durationMs;
+
+    public StartupWarmup(ConversionService conversionService,
+                         XsdValidationService xsdValidationService,
+                         List<MessageConverter<String, String>> converters,
+                         @Value("${mtmx.warmup.enabled:true}") boolean enabled,
+                         @Value("${mtmx.warmup.iterations:20}") int iterations) {
+        this.conversionService = conversionService;
+        this.xsdValidationService = xsdValidationService;
+        this.converters = converters;
+        this.enabled = enabled;
+        this.iterations = Math.max(0, iterations);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            phase = Phase.DISABLED;
+            log.info("Startup warm-up disabled (mtmx.warmup.enabled=false)");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Resource[] schemas = resolver.getResources(XSD_LOCATION);
+            List<String> mtSamples = readAll(resolver.getResources(MT_SAMPLES_LOCATION));
+            List<String> mxSamples = readAll(resolver.getResources(MX_SAMPLES_LOCATION));
+            totalSteps = schemas.length + JAXB_ROOT_TYPES.length
+                    + iterations * (mtSamples.size() + mxSamples.size());
+
+            log.info("Startup warm-up started: {} schemas, {} JAXB contexts, {} MT / {} MX samples x {} iterations",
+                    schemas.length, JAXB_ROOT_TYPES.length, mtSamples.size(), mxSamples.size(), iterations);
+
+            phase = Phase.SCHEMAS;
+            for (Resource schema : schemas) {
+                step(() -> XsdSchemaCache.get("xsd/" + schema.getFilename()));
+            }
+
+            phase = Phase.JAXB_CONTEXTS;
+            for (Class<?> rootType : JAXB_ROOT_TYPES) {
+                step(() -> JaxbContextCache.get(rootType));
+            }
+
+            phase = Phase.CONVERTERS;
+            for (int i = 0; i < iterations; i++) {
+                for (String mt : mtSamples) {
+                    step(() -> exerciseMt(mt));
+                }
+                for (String mx : mxSamples) {
+                    step(() -> exerciseMx(mx));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Startup warm-up could not list bundled resources: {}", e.getMessage());
+        } finally {
+            durationMs = System.currentTimeMillis() - start;
+            phase = Phase.COMPLETED;
+            log.info("Startup warm-up completed in {} ms ({} steps, {} failed)",
+                    durationMs, completedSteps.get(), failedSteps.get());
+        }
+    }
+
+    private void exerciseMt(String mtMessage) throws Exception {
+        conversionService.isValidMtMessage(mtMessage);
+        String mtType = conversionService.getMtMessageType(mtMessage);
+        for (MessageConverter<String, String> converter : converters) {
+            if (!isMxConverter(converter) && converter.isValid(mtMessage)) {
+                String mxMessage = converter.convert(mtMessage);
+                if (mtType != null) {
+                    xsdValidationService.validateByMtType(mxMessage, "MT" + mtType);
+                }
+            }
+        }
+    }
+
+    private void exerciseMx(String mxMessage) throws Exception {
+        conversionService.isValidMxMessage(mxMessage);
+        for (MessageConverter<String, String> converter : converters) {
+            if (isMxConverter(converter) && converter.isValid(mxMessage)) {
+                converter.convert(mxMessage);
+            }
+        }
+    }
+
+    private boolean isMxConverter(MessageConverter<String, String> converter) {
+        String supportedType = converter.getSupportedMessageType();
+        return supportedType != null && supportedType.startsWith("pacs.");
+    }
+
+    private void step(WarmupStep step) {
+        try {
+            step.run();
+        } catch (Exception e) {
+            failedSteps.incrementAndGet();
+            log.debug("Warm-up step failed: {}", e.getMessage());
+        } finally {
+            completedSteps.incrementAndGet();
+        }
+    }
+
+    private List<String> readAll(Resource[] resources) throws IOException {
+        List<String> contents = new ArrayList<>(resources.length);
+        for (Resource resource : resources) {
+            contents.add(StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8));
+        }
+        return contents;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public boolean isFinished() {
+        return phase == Phase.COMPLETED || phase == Phase.DISABLED;
+    }
+
+    public int getCompletedSteps() {
+        return completedSteps.get();
+    }
+
+    public int getFailedSteps() {
+        return failedSteps.get();
+    }
+
+    public int getTotalSteps() {
+        return totalSteps;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,34 @@
+package com.mtmx.service.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@link StartupWarmup} progress under {@code /actuator/health/readiness}.
+ * OUT_OF_SERVICE until the warm-up phase has finished.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmup startupWarmup;
+
+    @Override
+    public Health health() {
+        int total = startupWarmup.getTotalSteps();
+        int completed = startupWarmup.getCompletedSteps();
+        int progress = total > 0 ? (int) (completed * 100L / total) : 0;
+
+        Health.Builder builder = startupWarmup.isFinished() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("phase", startupWarmup.getPhase())
+                .withDetail("completedSteps", completed)
+                .withDetail("totalSteps", total)
+                .withDetail("failedSteps", startupWarmup.getFailedSteps())
+                .withDetail("progress", startupWarmup.isFinished() ? 100 : progress)
+                .withDetail("durationMs", startupWarmup.getDurationMs())
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.mtmx.service.xml;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of {@link JAXBContext} instances.
+ * Building a context reflects over the whole model graph, so converters must not
+ * call {@link JAXBContext#newInstance(Class[])} per message. Contexts are thread-safe;
+ * marshallers and unmarshallers are not and are still created per call.
+ */
+public final class JaxbContextCache {
+
+    private static final Map<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private JaxbContextCache() {
+    }
+
+    /**
+     * Get (or build once) the JAXB context for the given root type
+     *
+     * @param rootType JAXB root element class
+     * @return shared context
+     * @throws JAXBException if the context cannot be created
+     */
+    public static JAXBContext get(Class<?> rootType) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(rootType);
+        if (context == null) {
+            JAXBContext created = JAXBContext.newInstance(rootType);
+            context = CONTEXTS.putIfAbsent(rootType, created);
+            if (context == null) {
+                context = created;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * @return number of contexts built so far
+     */
+    public static int size() {
+        return CONTEXTS.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.mtmx.service.xml;
+
+import org.springframework.core.io.ClassPathResource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of compiled XSD {@link Schema} objects keyed by classpath location.
+ * Compiling a pacs schema takes far longer than validating a message against it;
+ * compiled schemas are immutable and thread-safe, validators are created per call.
+ */
+public final class XsdSchemaCache {
+
+    private static final Map<String, Schema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private XsdSchemaCache() {
+    }
+
+    /**
+     * Get (or compile once) the schema at the given classpath location
+     *
+     * @param classpathLocation e.g. {@code xsd/pacs.008.001.08.xsd}
+     * @return compiled schema, or null if the resource does not exist
+     * @throws SAXException if the schema is malformed
+     * @throws IOException  if the schema cannot be read
+     */
+    public static Schema get(String classpathLocation) throws SAXException, IOException {
+        Schema schema = SCHEMAS.get(classpathLocation);
+        if (schema != null) {
+            return schema;
+        }
+
+        ClassPathResource resource = new ClassPathResource(classpathLocation);
+        if (!resource.exists()) {
+            return null;
+        }
+
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        Schema compiled = factory.newSchema(resource.getURL());
+        schema = SCHEMAS.putIfAbsent(classpathLocation, compiled);
+        return schema != null ? schema : compiled;
+    }
+
+    /**
+     * @return number of schemas compiled so far
+     */
+    public static int size() {
+        return SCHEMAS.size();
+    }
+}
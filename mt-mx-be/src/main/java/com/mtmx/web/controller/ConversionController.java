@@ -0,0 +1,113 @@
+package com.mtmx.web.controller;
+
+import com.mtmx.service.ConversionService;
+import com.mtmx.web.dto.StandardResponse;
+import com.mtmx.web.exception.ErrorDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Stateless conversion and validation endpoints.
+ * Only depends on {@link ConversionService}, so it stays available when
+ * persistence is disabled ({@code stateless} profile).
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Conversion API", description = "Stateless MT/MX conversion and validation")
+public class ConversionController {
+
+    private final ConversionService conversionService;
+    private static final Logger log = LoggerFactory.getLogger(ConversionController.class);
+
+    @Operation(summary = "Convert MT message to MX format using new JAXB-based converter", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class))),
+            @ApiResponse(responseCode = "500", description = "Sunucu Hatası", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @PostMapping("/api/convert/mt-to-mx")
+    public ResponseEntity<StandardResponse<String>> convertMtToMxNew(@RequestBody String mtMessage) {
+        try {
+            String mxMessage = conversionService.convertMtToMx(mtMessage);
+            return ResponseEntity.ok()
+                    .body(StandardResponse.success(mxMessage, "MT mesajı başarıyla MX formatına dönüştürüldü"));
+        } catch (Exception e) {
+            log.error("Error converting MT to MX: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body(StandardResponse.error("Dönüşüm hatası: " + e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Convert MX message to MT format using new JAXB-based converter", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class))),
+            @ApiResponse(responseCode = "500", description = "Sunucu Hatası", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @PostMapping("/api/convert/mx-to-mt")
+    public ResponseEntity<StandardResponse<String>> convertMxToMtNew(@RequestBody String mxMessage) {
+        try {
+            String mtMessage = conversionService.convertMxToMt(mxMessage);
+            return ResponseEntity.ok()
+                    .body(StandardResponse.success(mtMessage, "MX mesajı başarıyla MT formatına dönüştürüldü"));
+        } catch (Exception e) {
+            log.error("Error converting MX to MT: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body(StandardResponse.error("Dönüşüm hatası: " + e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Validate MT message", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @PostMapping("/api/validate/mt")
+    public ResponseEntity<StandardResponse<Boolean>> validateMtMessage(@RequestBody String mtMessage) {
+        boolean isValid = conversionService.isValidMtMessage(mtMessage);
+        String messageType = conversionService.getMtMessageType(mtMessage);
+
+        if (isValid) {
+            return ResponseEntity.ok().body(StandardResponse.success(true,
+                    "MT mesajı geçerli. Mesaj tipi: " + messageType));
+        } else {
+            return ResponseEntity.badRequest().body(StandardResponse.error("MT mesajı geçersiz"));
+        }
+    }
+
+    @Operation(summary = "Validate MX message", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @PostMapping("/api/validate/mx")
+    public ResponseEntity<StandardResponse<Boolean>> validateMxMessage(@RequestBody String mxMessage) {
+        boolean isValid = conversionService.isValidMxMessage(mxMessage);
+        String messageType = conversionService.getMxMessageType(mxMessage);
+
+        if (isValid) {
+            return ResponseEntity.ok().body(StandardResponse.success(true,
+                    "MX mesajı geçerli. Mesaj tipi: " + messageType));
+        } else {
+            return ResponseEntity.badRequest().body(StandardResponse.error("MX mesajı geçersiz"));
+        }
+    }
+
+    @Operation(summary = "Get supported message types", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json"))
+    })
+    @GetMapping("/api/supported-types")
+    public ResponseEntity<StandardResponse<Object>> getSupportedTypes() {
+        return ResponseEntity.ok().body(StandardResponse.success(Map.of(
+                "mtTypes", conversionService.getSupportedMtMessageTypes(),
+                "mxTypes", conversionService.getSupportedMxMessageTypes()),
+                "Desteklenen mesaj tipleri başarıyla getirildi"));
+    }
+}
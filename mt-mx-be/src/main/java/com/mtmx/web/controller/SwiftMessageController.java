@@ -1,9 +1,18 @@
 package com.mtmx.web.controller;
 
+import com.mtmx.config.ConditionalOnPersistence;
+import com.mtmx.domain.currency.CurrencyAmounts;
 import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageStatus;
 import com.mtmx.domain.enums.MessageType;
-import com.mtmx.service.ConversionService;
+import com.mtmx.domain.header.MtHeader;
+import com.mtmx.domain.header.MtHeaderParser;
+import com.mtmx.repository.SwiftMessageFilter;
 import com.mtmx.service.SwiftMessageService;
+import com.mtmx.service.export.ExportFilter;
+import com.mtmx.service.export.ExportFormat;
+import com.mtmx.service.export.SwiftMessageExportService;
+import com.mtmx.service.validation.rules.AsciiBytes;
 import com.mtmx.web.dto.SwiftMessageDto;
 import com.mtmx.web.dto.StandardResponse;
 import com.mtmx.web.exception.ErrorDto;
@@ -15,12 +24,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.util.StringUtils;
@@ -34,17 +48,15 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
-import java.util.Map;
 
 @RestController
+@ConditionalOnPersistence
 @RequiredArgsConstructor
 @Tag(name = "Swift Message API", description = "API for managing SWIFT messages")
-@CrossOrigin(origins = { "http://localhost:5173", "http://localhost:5174", "http://localhost:5175",
-        "http://localhost:5176" })
 public class SwiftMessageController {
 
     private final SwiftMessageService swiftMessageService;
-    private final ConversionService conversionService;
+    private final SwiftMessageExportService swiftMessageExportService;
     private static final Logger log = LoggerFactory.getLogger(SwiftMessageController.class);
 
     @Operation(summary = "Get all messages with pagination", responses = {
@@ -57,17 +69,67 @@ public class SwiftMessageController {
         return ResponseEntity.ok().body(StandardResponse.success(page, "Mesajlar başarıyla getirildi"));
     }
 
-    @Operation(summary = "Get messages by type with pagination", responses = {
+    @Operation(summary = "Get messages by type with pagination, optionally created in [from, to)", responses = {
             @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SwiftMessageDto.class))),
             @ApiResponse(responseCode = "500", description = "Sunucu Hatası", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
     })
     @GetMapping("/api/swift-messages/type/{messageType}")
     public ResponseEntity<StandardResponse<Page<SwiftMessageDto>>> getMessagesByType(@PathVariable String messageType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
             Pageable pageable) {
-        Page<SwiftMessageDto> page = swiftMessageService.findByMessageType(messageType, pageable);
+        Page<SwiftMessageDto> page = from == null && to == null
+                ? swiftMessageService.findByMessageType(messageType, pageable)
+                : swiftMessageService.findByMessageType(messageType, from, to, pageable);
         return ResponseEntity.ok().body(StandardResponse.success(page, messageType + " mesajları başarıyla getirildi"));
     }
 
+    @Operation(summary = "Search messages by reference, UETR, BIC, value date or creation time", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SwiftMessageDto.class))),
+            @ApiResponse(responseCode = "500", description = "Sunucu Hatası", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @GetMapping("/api/swift-messages/search")
+    public ResponseEntity<StandardResponse<Page<SwiftMessageDto>>> searchMessages(SwiftMessageFilter filter,
+            Pageable pageable) {
+        Page<SwiftMessageDto> page = swiftMessageService.search(filter, pageable);
+        return ResponseEntity.ok().body(StandardResponse.success(page, "Mesajlar başarıyla getirildi"));
+    }
+
+    @Operation(summary = "Stream messages by type, status and creation time as NDJSON, CSV or a zip of MT/MX files", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı"),
+            @ApiResponse(responseCode = "400", description = "Geçersiz filtre", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @GetMapping("/api/swift-messages/export")
+    public ResponseEntity<StreamingResponseBody> exportMessages(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String messageType,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        // Filtre yanıt akmaya başlamadan doğrulanır; hatalı filtre 400 döner
+        ExportFormat exportFormat = ExportFormat.of(format);
+        ExportFilter filter = ExportFilter.of(messageType, status, from, to);
+        StreamingResponseBody body = out -> swiftMessageExportService.export(filter, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"swift-messages." + exportFormat.getExtension() + "\"")
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+                .body(body);
+    }
+
+    @Operation(summary = "Get messages by lifecycle status, optionally by type and creation time", responses = {
+            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SwiftMessageDto.class))),
+            @ApiResponse(responseCode = "500", description = "Sunucu Hatası", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
+    })
+    @GetMapping("/api/swift-messages/status/{status}")
+    public ResponseEntity<StandardResponse<Page<SwiftMessageDto>>> getMessagesByStatus(@PathVariable String status,
+            @RequestParam(required = false) String messageType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            Pageable pageable) {
+        Page<SwiftMessageDto> page = swiftMessageService.findByStatus(status, messageType, since, pageable);
+        return ResponseEntity.ok().body(StandardResponse.success(page, status + " mesajları başarıyla getirildi"));
+    }
+
     @Operation(summary = "Get a message by its ID with automatic conversion", responses = {
             @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SwiftMessageDto.class))),
             @ApiResponse(responseCode = "404", description = "Bulunamadı", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class))),
@@ -87,8 +149,9 @@ public class SwiftMessageController {
 
             SwiftMessageDto message = messageOpt.get();
 
-            // Otomatik dönüşüm yap - eğer MX mesajı yoksa oluştur
-            if (message.getGeneratedMxMessage() == null || message.getGeneratedMxMessage().isEmpty()) {
+            // Otomatik dönüşüm yap - eğer MX mesajı yoksa oluştur (başarısız dönüşüm her okumada tekrarlanmaz)
+            if ((message.getGeneratedMxMessage() == null || message.getGeneratedMxMessage().isEmpty())
+                    && message.getStatus() != MessageStatus.CONVERSION_FAILED) {
                 try {
                     log.info("Converting MT message to MX for message ID: {}", id);
                     SwiftMessageDto convertedMessage = swiftMessageService.convertMtToMx(id);
@@ -237,26 +300,31 @@ public class SwiftMessageController {
                 return ResponseEntity.badRequest().body(StandardResponse.error("Sadece .txt dosyaları kabul edilir"));
             }
 
-            // Read file content
-            String fileContent = new String(file.getBytes(), "UTF-8");
-            if (fileContent.trim().isEmpty()) {
+            // Boşluk kontrolü ve tip tespiti byte'lar üzerinde yapılır, içerik yalnızca bir kez decode edilir
+            byte[] content = file.getBytes();
+            AsciiBytes fileBytes = AsciiBytes.of(content);
+            if (isBlank(fileBytes)) {
                 return ResponseEntity.badRequest().body(StandardResponse.error("Dosya içeriği boş olamaz"));
             }
 
+            String fileContent = new String(content, StandardCharsets.UTF_8);
+
             // Create message DTO
             SwiftMessageDto messageDto = new SwiftMessageDto();
             messageDto.setRawMtMessage(fileContent);
 
+            MtHeader header = MtHeaderParser.parse(fileBytes);
+
             // Auto-detect message type if not provided
             if (messageType == null || messageType.trim().isEmpty()) {
-                messageType = detectMessageType(fileContent);
+                messageType = detectMessageType(header);
                 log.info("Auto-detected message type: {}", messageType);
             }
 
             messageDto.setMessageType(MessageType.valueOf(messageType));
 
             // Extract basic information from MT message
-            extractBasicInfoFromMt(fileContent, messageDto);
+            extractBasicInfoFromMt(fileContent, header, messageDto);
 
             // Save message
             SwiftMessageDto savedMessage = swiftMessageService.save(messageDto);
@@ -273,38 +341,28 @@ public class SwiftMessageController {
         }
     }
 
-    private String detectMessageType(String mtContent) {
-        if (mtContent.contains("{2:I102"))
-            return "MT102";
-        if (mtContent.contains("{2:I103"))
-            return "MT103";
-        if (mtContent.contains("{2:I202"))
-            return "MT202";
-        if (mtContent.contains("{2:I203"))
-            return "MT203";
-        return "MT103"; // Default
+    private String detectMessageType(MtHeader header) {
+        MessageType detected = header.toMessageType();
+        return detected != null ? detected.name() : "MT103"; // Default
     }
 
-    private void extractBasicInfoFromMt(String mtContent, SwiftMessageDto messageDto) {
-        try {
-            // Extract sender BIC from field 1
-            if (mtContent.contains("{1:F01")) {
-                int start = mtContent.indexOf("{1:F01") + 6;
-                int end = mtContent.indexOf("}", start);
-                if (end > start) {
-                    String senderBic = mtContent.substring(start, end).substring(0, 11);
-                    messageDto.setSenderBic(senderBic);
-                }
+    private static boolean isBlank(CharSequence content) {
+        for (int i = 0; i < content.length(); i++) {
+            if (!Character.isWhitespace(content.charAt(i))) {
+                return false;
             }
+        }
+        return true;
+    }
 
-            // Extract receiver BIC from field 2
-            if (mtContent.contains("{2:I")) {
-                int start = mtContent.indexOf("{2:I") + 4;
-                int end = mtContent.indexOf("}", start);
-                if (end > start) {
-                    String receiverBic = mtContent.substring(start, end).substring(0, 11);
-                    messageDto.setReceiverBic(receiverBic);
-                }
+    private void extractBasicInfoFromMt(String mtContent, MtHeader header, SwiftMessageDto messageDto) {
+        try {
+            // Sender / receiver BIC11 from blocks 1 and 2 (interned)
+            if (header.getSenderBic() != null) {
+                messageDto.setSenderBic(header.getSenderBic());
+            }
+            if (header.getReceiverBic() != null) {
+                messageDto.setReceiverBic(header.getReceiverBic());
             }
 
             // Extract amount and currency from field 32A
@@ -316,12 +374,11 @@ public class SwiftMessageController {
                     // Format: YYMMDDCURRENCYAMOUNT
                     if (field32A.length() >= 13) {
                         String currency = field32A.substring(6, 9);
-                        String amountStr = field32A.substring(9).replace(",", ".");
                         try {
-                            BigDecimal amount = new BigDecimal(amountStr);
+                            BigDecimal amount = CurrencyAmounts.parseMt(field32A, 9, field32A.length(), currency);
                             messageDto.setCurrency(currency);
                             messageDto.setAmount(amount);
-                        } catch (NumberFormatException e) {
+                        } catch (IllegalArgumentException e) {
                             log.warn("Could not parse amount from field 32A: {}", field32A);
                         }
                     }
@@ -332,83 +389,4 @@ public class SwiftMessageController {
             log.warn("Error extracting basic info from MT message", e);
         }
     }
-
-    @Operation(summary = "Convert MT message to MX format using new JAXB-based converter", responses = {
-            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
-            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class))),
-            @ApiResponse(responseCode = "500", description = "Sunucu Hatası", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
-    })
-    @PostMapping("/api/convert/mt-to-mx")
-    public ResponseEntity<StandardResponse<String>> convertMtToMxNew(@RequestBody String mtMessage) {
-        try {
-            String mxMessage = conversionService.convertMtToMx(mtMessage);
-            return ResponseEntity.ok()
-                    .body(StandardResponse.success(mxMessage, "MT mesajı başarıyla MX formatına dönüştürüldü"));
-        } catch (Exception e) {
-            log.error("Error converting MT to MX: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest().body(StandardResponse.error("Dönüşüm hatası: " + e.getMessage()));
-        }
-    }
-
-    @Operation(summary = "Convert MX message to MT format using new JAXB-based converter", responses = {
-            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
-            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class))),
-            @ApiResponse(responseCode = "500", description = "Sunucu Hatası", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
-    })
-    @PostMapping("/api/convert/mx-to-mt")
-    public ResponseEntity<StandardResponse<String>> convertMxToMtNew(@RequestBody String mxMessage) {
-        try {
-            String mtMessage = conversionService.convertMxToMt(mxMessage);
-            return ResponseEntity.ok()
-                    .body(StandardResponse.success(mtMessage, "MX mesajı başarıyla MT formatına dönüştürüldü"));
-        } catch (Exception e) {
-            log.error("Error converting MX to MT: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest().body(StandardResponse.error("Dönüşüm hatası: " + e.getMessage()));
-        }
-    }
-
-    @Operation(summary = "Validate MT message", responses = {
-            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
-            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
-    })
-    @PostMapping("/api/validate/mt")
-    public ResponseEntity<StandardResponse<Boolean>> validateMtMessage(@RequestBody String mtMessage) {
-        boolean isValid = conversionService.isValidMtMessage(mtMessage);
-        String messageType = conversionService.getMtMessageType(mtMessage);
-
-        if (isValid) {
-            return ResponseEntity.ok().body(StandardResponse.success(true,
-                    "MT mesajı geçerli. Mesaj tipi: " + messageType));
-        } else {
-            return ResponseEntity.badRequest().body(StandardResponse.error("MT mesajı geçersiz"));
-        }
-    }
-
-    @Operation(summary = "Validate MX message", responses = {
-            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json")),
-            @ApiResponse(responseCode = "400", description = "Geçersiz mesaj", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorDto.class)))
-    })
-    @PostMapping("/api/validate/mx")
-    public ResponseEntity<StandardResponse<Boolean>> validateMxMessage(@RequestBody String mxMessage) {
-        boolean isValid = conversionService.isValidMxMessage(mxMessage);
-        String messageType = conversionService.getMxMessageType(mxMessage);
-
-        if (isValid) {
-            return ResponseEntity.ok().body(StandardResponse.success(true,
-                    "MX mesajı geçerli. Mesaj tipi: " + messageType));
-        } else {
-            return ResponseEntity.badRequest().body(StandardResponse.error("MX mesajı geçersiz"));
-        }
-    }
-
-    @Operation(summary = "Get supported message types", responses = {
-            @ApiResponse(responseCode = "200", description = "Başarılı", content = @Content(mediaType = "application/json"))
-    })
-    @GetMapping("/api/supported-types")
-    public ResponseEntity<StandardResponse<Object>> getSupportedTypes() {
-        return ResponseEntity.ok().body(StandardResponse.success(Map.of(
-                "mtTypes", conversionService.getSupportedMtMessageTypes(),
-                "mxTypes", conversionService.getSupportedMxMessageTypes()),
-                "Desteklenen mesaj tipleri başarıyla getirildi"));
-    }
 }
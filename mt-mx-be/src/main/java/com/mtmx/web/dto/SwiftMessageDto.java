@@ -1,6 +1,9 @@
 package com.mtmx.web.dto;
 
+import com.mtmx.domain.enums.ErrorCode;
+import com.mtmx.domain.enums.MessageStatus;
 import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -20,8 +23,15 @@ public class SwiftMessageDto {
     private BigDecimal amount;
     private String currency;
     private LocalDate valueDate;
+    private String transactionReference;
+    private String uetr;
     private String rawMtMessage;
     private String generatedMxMessage;
+    private MessageStatus status;
+    private ValidationVerdict validationVerdict;
+    private ErrorCode errorCode;
+    private String errorMessage;
+    private String mxSchema;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 } 
\ No newline at end of file
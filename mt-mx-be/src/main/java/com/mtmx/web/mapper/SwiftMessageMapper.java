@@ -2,7 +2,9 @@ package com.mtmx.web.mapper;
 
 import com.mtmx.domain.entity.SwiftMessage;
 import com.mtmx.web.dto.SwiftMessageDto;
+import org.mapstruct.Builder;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -11,12 +13,24 @@ import java.util.List;
  * {@link SwiftMessageDto}.
  * Uses MapStruct for automatic implementation.
  * Spring component model is used for dependency injection.
+ * Entities are filled through their setters, not the Lombok builder, so the MT/MX texts
+ * always pass the compressing {@link SwiftMessage#setRawMtMessage} / {@link SwiftMessage#setGeneratedMxMessage}.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", builder = @Builder(disableBuilder = true))
 public interface SwiftMessageMapper {
 
     SwiftMessageDto toDto(SwiftMessage swiftMessage);
 
+    @Mapping(target = "canonicalPayment", ignore = true)
+    @Mapping(target = "rawMtMessageCompressed", ignore = true)
+    @Mapping(target = "generatedMxMessageCompressed", ignore = true)
+    @Mapping(target = "transactionReference", ignore = true)
+    @Mapping(target = "uetr", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "validationVerdict", ignore = true)
+    @Mapping(target = "errorCode", ignore = true)
+    @Mapping(target = "errorMessage", ignore = true)
+    @Mapping(target = "mxSchema", ignore = true)
     SwiftMessage toEntity(SwiftMessageDto swiftMessageDto);
 
     List<SwiftMessageDto> toDtoList(List<SwiftMessage> swiftMessages);
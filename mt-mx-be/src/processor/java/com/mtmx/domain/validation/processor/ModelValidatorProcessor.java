@@ -0,0 +1,473 @@
+package com.mtmx.domain.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Generates {@code <Model>ModelValidator} classes for models annotated with
+ * {@code @GenerateValidator}.
+ * <p>
+ * Each constrained field becomes a block that reads the value through its getter and evaluates
+ * the constraints as plain Java: {@code @Pattern} expressions are compiled once into static
+ * constants (literal alternatives such as {@code ^(BEN|OUR|SHA)$} become a {@code switch}),
+ * {@code @DecimalMin} bounds are parsed once, the SWIFT constraints call {@code SwiftFormats} /
+ * {@code CurrencyTable} directly. Semantics follow the Hibernate Validator implementations
+ * (null is valid for everything except {@code @NotNull}/{@code @NotBlank}), and the declared
+ * message is reported unchanged. Constraints the generator does not know, groups and message
+ * templates that need interpolation are compile errors.
+ * <p>
+ * Compiled on its own before the rest of the module and discovered through
+ * {@code META-INF/services} (see the maven-compiler-plugin executions in the pom).
+ */
+@SupportedAnnotationTypes(ModelValidatorProcessor.GENERATE_VALIDATOR)
+public class ModelValidatorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_VALIDATOR = "com.mtmx.domain.validation.GenerateValidator";
+
+    private static final String VALIDATION = "com.mtmx.domain.validation.";
+    private static final String CONSTRAINTS = "javax.validation.constraints.";
+    private static final String CONSTRAINT = "javax.validation.Constraint";
+    private static final String VALID = "javax.validation.Valid";
+    private static final String SUFFIX = "ModelValidator";
+
+    /** {@code ^(A|B|C)$} */
+    private static final Pattern LITERAL_ALTERNATIVES = Pattern.compile("\\^\\(([A-Za-z0-9]+(?:\\|[A-Za-z0-9]+)*)\\)\\$");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(GENERATE_VALIDATOR);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS
+                    || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) {
+                error(element, "@GenerateValidator is only supported on top level classes");
+                continue;
+            }
+            TypeElement model = (TypeElement) element;
+            try {
+                write(model, new ValidatorSource(model).generate());
+            } catch (UnsupportedConstraintException e) {
+                error(e.element, e.getMessage());
+            } catch (IOException e) {
+                error(model, "Validator could not be written: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void write(TypeElement model, String source) throws IOException {
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(model.getQualifiedName() + SUFFIX, model);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Source of one generated validator
+     */
+    private final class ValidatorSource {
+
+        private final TypeElement model;
+        private final String modelName;
+        private final StringBuilder checks = new StringBuilder();
+        private final StringBuilder constants = new StringBuilder();
+        private final StringBuilder helpers = new StringBuilder();
+        private final Map<String, String> patterns = new LinkedHashMap<>();
+        private final Map<String, String> alternatives = new LinkedHashMap<>();
+        private final Map<String, String> decimals = new LinkedHashMap<>();
+
+        private ValidatorSource(TypeElement model) {
+            this.model = model;
+            this.modelName = model.getQualifiedName().toString();
+        }
+
+        private String generate() {
+            for (VariableElement field : ElementFilter.fieldsIn(model.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    field(field);
+                }
+            }
+
+            String packageName = processingEnv.getElementUtils().getPackageOf(model).getQualifiedName().toString();
+            String simpleName = model.getSimpleName() + SUFFIX;
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+            source.append("import com.mtmx.domain.validation.ModelValidator;\n")
+                    .append("import com.mtmx.domain.validation.ModelViolation;\n\n")
+                    .append("import java.util.ArrayList;\n")
+                    .append("import java.util.List;\n\n")
+                    .append("/**\n * Constraint checks of {@link ").append(modelName)
+                    .append("}, generated from its field annotations\n */\n")
+                    .append("@javax.annotation.processing.Generated(\"").append(ModelValidatorProcessor.class.getName()).append("\")\n")
+                    .append("public final class ").append(simpleName)
+                    .append(" implements ModelValidator<").append(modelName).append("> {\n\n")
+                    .append("    public static final ").append(simpleName).append(" INSTANCE = new ").append(simpleName).append("();\n\n")
+                    .append(constants)
+                    .append(constants.length() > 0 ? "\n" : "")
+                    .append("    @Override\n")
+                    .append("    public Class<").append(modelName).append("> getModelType() {\n")
+                    .append("        return ").append(modelName).append(".class;\n")
+                    .append("    }\n\n")
+                    .append("    @Override\n")
+                    .append("    public List<ModelViolation> validate(").append(modelName).append(" model) {\n")
+                    .append("        List<ModelViolation> violations = new ArrayList<>();\n")
+                    .append("        check(requireModel(model), violations);\n")
+                    .append("        return violations;\n")
+                    .append("    }\n\n")
+                    .append("    @Override\n")
+                    .append("    public boolean isValid(").append(modelName).append(" model) {\n")
+                    .append("        return check(requireModel(model), null);\n")
+                    .append("    }\n\n")
+                    .append("    /**\n     * @param violations collects all violations, null to stop at the first one\n     */\n")
+                    .append("    private static boolean check(").append(modelName).append(" model, List<ModelViolation> violations) {\n")
+                    .append("        boolean valid = true;\n")
+                    .append(checks)
+                    .append("        return valid;\n")
+                    .append("    }\n\n")
+                    .append("    private static ").append(modelName).append(" requireModel(").append(modelName).append(" model) {\n")
+                    .append("        if (model == null) {\n")
+                    .append("            throw new IllegalArgumentException(\"The object to be validated must not be null\");\n")
+                    .append("        }\n")
+                    .append("        return model;\n")
+                    .append("    }\n")
+                    .append(helpers)
+                    .append("}\n");
+            return source.toString();
+        }
+
+        private void field(VariableElement field) {
+            String name = field.getSimpleName().toString();
+            TypeMirror type = field.asType();
+            StringBuilder block = new StringBuilder();
+            for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                String condition = condition(field, type, annotation);
+                if (condition == null) {
+                    continue;
+                }
+                block.append("            if (").append(condition).append(") {\n")
+                        .append("                if (violations == null) {\n")
+                        .append("                    return false;\n")
+                        .append("                }\n")
+                        .append("                valid = false;\n")
+                        .append("                violations.add(new ModelViolation(").append(literal(name)).append(", ")
+                        .append(literal(message(field, annotation))).append("));\n")
+                        .append("            }\n");
+            }
+            if (block.length() > 0) {
+                checks.append("        {\n")
+                        .append("            ").append(typeName(type)).append(" value = model.").append(getter(name, type)).append("();\n")
+                        .append(block)
+                        .append("        }\n");
+            }
+        }
+
+        /**
+         * Java expression that is true when the constraint is violated, null for non-constraint annotations
+         */
+        private String condition(VariableElement field, TypeMirror type, AnnotationMirror annotation) {
+            String annotationName = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+            switch (annotationName) {
+                case CONSTRAINTS + "NotNull":
+                    return type.getKind().isPrimitive() ? null : "value == null";
+                case CONSTRAINTS + "NotBlank":
+                    requireCharSequence(field, type, annotationName);
+                    return "value == null || value.toString().trim().isEmpty()";
+                case CONSTRAINTS + "Size":
+                    return size(field, type, annotation);
+                case CONSTRAINTS + "Pattern":
+                    requireCharSequence(field, type, annotationName);
+                    return pattern(field, type, annotation);
+                case CONSTRAINTS + "DecimalMin":
+                    return decimalMin(field, type, annotation);
+                case VALIDATION + "SwiftBic":
+                    requireCharSequence(field, type, annotationName);
+                    return "value != null && !com.mtmx.domain.validation.SwiftFormats.isBic(value)";
+                case VALIDATION + "SwiftCurrency":
+                    requireCharSequence(field, type, annotationName);
+                    return "value != null && !com.mtmx.domain.currency.CurrencyTable.isValid(value)";
+                case VALIDATION + "SwiftReference":
+                    requireCharSequence(field, type, annotationName);
+                    String charset = "!com.mtmx.domain.validation.SwiftFormats.isCharset(value, "
+                            + "com.mtmx.domain.validation.SwiftFormats.CHARSET_REFERENCE)";
+                    return (Boolean) value(annotation, "allowEmpty")
+                            ? "value != null && value.length() != 0 && " + charset
+                            : "value != null && (value.length() == 0 || " + charset + ")";
+                default:
+                    if (annotationName.equals(VALID) || isConstraint(annotation)) {
+                        throw new UnsupportedConstraintException(field, "@" + annotationName
+                                + " is not supported by the generated validator");
+                    }
+                    return null;
+            }
+        }
+
+        private String size(VariableElement field, TypeMirror type, AnnotationMirror annotation) {
+            String length;
+            if (type.getKind() == TypeKind.ARRAY) {
+                length = "value.length";
+            } else if (isAssignable(type, "java.lang.CharSequence")) {
+                length = "value.length()";
+            } else if (isAssignable(type, "java.util.Collection") || isAssignable(type, "java.util.Map")) {
+                length = "value.size()";
+            } else {
+                throw new UnsupportedConstraintException(field, "@Size is not supported on " + type);
+            }
+            int min = (Integer) value(annotation, "min");
+            int max = (Integer) value(annotation, "max");
+            List<String> bounds = new ArrayList<>();
+            if (min > 0) {
+                bounds.add(length + " < " + min);
+            }
+            if (max < Integer.MAX_VALUE) {
+                bounds.add(length + " > " + max);
+            }
+            if (bounds.isEmpty()) {
+                return null;
+            }
+            return bounds.size() == 1
+                    ? "value != null && " + bounds.get(0)
+                    : "value != null && (" + String.join(" || ", bounds) + ")";
+        }
+
+        private String pattern(VariableElement field, TypeMirror type, AnnotationMirror annotation) {
+            String regexp = (String) value(annotation, "regexp");
+            List<String> flags = new ArrayList<>();
+            for (Object flag : (List<?>) value(annotation, "flags")) {
+                // Pattern.Flag sabitleri java.util.regex.Pattern ile aynı isimleri taşır
+                flags.add("java.util.regex.Pattern." + ((AnnotationValue) flag).getValue());
+            }
+            try {
+                Pattern.compile(regexp);
+            } catch (PatternSyntaxException e) {
+                throw new UnsupportedConstraintException(field, "Invalid @Pattern: " + e.getMessage());
+            }
+
+            Matcher literals = LITERAL_ALTERNATIVES.matcher(regexp);
+            if (flags.isEmpty() && literals.matches() && isSameType(type, "java.lang.String")) {
+                String method = alternatives.get(regexp);
+                if (method == null) {
+                    method = "isOneOf" + alternatives.size();
+                    alternatives.put(regexp, method);
+                    helpers.append("\n    /**\n     * ").append(javadoc(regexp)).append("\n     */\n")
+                            .append("    private static boolean ").append(method).append("(String value) {\n")
+                            .append("        switch (value) {\n");
+                    for (String literal : literals.group(1).split("\\|")) {
+                        helpers.append("            case ").append(literal(literal)).append(":\n");
+                    }
+                    helpers.append("                return true;\n")
+                            .append("            default:\n")
+                            .append("                return false;\n")
+                            .append("        }\n")
+                            .append("    }\n");
+                }
+                return "value != null && !" + method + "(value)";
+            }
+
+            String key = regexp + "\u0000" + flags;
+            String constant = patterns.get(key);
+            if (constant == null) {
+                constant = "PATTERN_" + patterns.size();
+                patterns.put(key, constant);
+                constants.append("    private static final java.util.regex.Pattern ").append(constant)
+                        .append(" = java.util.regex.Pattern.compile(").append(literal(regexp))
+                        .append(flags.isEmpty() ? "" : ", " + String.join(" | ", flags)).append(");\n");
+            }
+            return "value != null && !" + constant + ".matcher(value).matches()";
+        }
+
+        private String decimalMin(VariableElement field, TypeMirror type, AnnotationMirror annotation) {
+            if (!isSameType(type, "java.math.BigDecimal")) {
+                throw new UnsupportedConstraintException(field, "@DecimalMin is only supported on BigDecimal fields");
+            }
+            String min = (String) value(annotation, "value");
+            try {
+                new BigDecimal(min);
+            } catch (NumberFormatException e) {
+                throw new UnsupportedConstraintException(field, "Invalid @DecimalMin value: " + min);
+            }
+            String constant = decimals.get(min);
+            if (constant == null) {
+                constant = "DECIMAL_MIN_" + decimals.size();
+                decimals.put(min, constant);
+                constants.append("    private static final java.math.BigDecimal ").append(constant)
+                        .append(" = new java.math.BigDecimal(").append(literal(min)).append(");\n");
+            }
+            boolean inclusive = (Boolean) value(annotation, "inclusive");
+            return "value != null && value.compareTo(" + constant + ")" + (inclusive ? " < 0" : " <= 0");
+        }
+
+        private String message(VariableElement field, AnnotationMirror annotation) {
+            if (!((List<?>) value(annotation, "groups")).isEmpty()) {
+                throw new UnsupportedConstraintException(field, "Constraint groups are not supported by the generated validator");
+            }
+            String message = (String) value(annotation, "message");
+            // Hibernate Validator {param} ve ${el} ifadelerini çözer; birebir aynı mesaj için desteklenmiyor
+            if (message.indexOf('{') >= 0 || message.indexOf('$') >= 0) {
+                throw new UnsupportedConstraintException(field, "Message templates are not supported by the generated"
+                        + " validator, declare the final message text: " + message);
+            }
+            return message;
+        }
+
+        private void requireCharSequence(VariableElement field, TypeMirror type, String annotationName) {
+            if (!isAssignable(type, "java.lang.CharSequence")) {
+                throw new UnsupportedConstraintException(field, "@" + annotationName + " is only supported on CharSequence fields");
+            }
+        }
+    }
+
+    private Object value(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException("@" + annotation.getAnnotationType() + " has no attribute " + name);
+    }
+
+    private boolean isConstraint(AnnotationMirror annotation) {
+        Element type = annotation.getAnnotationType().asElement();
+        if (processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().contentEquals("javax.validation.constraints")) {
+            return true;
+        }
+        for (AnnotationMirror meta : type.getAnnotationMirrors()) {
+            if (((TypeElement) meta.getAnnotationType().asElement()).getQualifiedName().contentEquals(CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAssignable(TypeMirror type, String className) {
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(className);
+        return target != null && processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(target.asType()));
+    }
+
+    private boolean isSameType(TypeMirror type, String className) {
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(className);
+        return target != null && processingEnv.getTypeUtils().isSameType(type, target.asType());
+    }
+
+    /**
+     * Source name of a field type; {@code TypeMirror#toString()} would include the constraint annotations
+     */
+    private static String typeName(TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                StringBuilder name = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                if (!declared.getTypeArguments().isEmpty()) {
+                    name.append('<');
+                    for (TypeMirror argument : declared.getTypeArguments()) {
+                        name.append(name.charAt(name.length() - 1) == '<' ? "" : ", ").append(typeName(argument));
+                    }
+                    name.append('>');
+                }
+                return name.toString();
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD:
+                return "?";
+            default:
+                return type.getKind().isPrimitive() ? type.getKind().name().toLowerCase(Locale.ROOT) : "Object";
+        }
+    }
+
+    private static String getter(String field, TypeMirror type) {
+        String prefix = type.getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+    }
+
+    /**
+     * Java string literal; non-ASCII characters are escaped so the output does not depend on the source encoding
+     */
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static String javadoc(String text) {
+        return literal(text).replace("*/", "*&#47;").replace("@", "{@literal @}");
+    }
+
+    private static final class UnsupportedConstraintException extends RuntimeException {
+
+        private final transient Element element;
+
+        private UnsupportedConstraintException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.mtmx;
+
+import com.mtmx.repository.SwiftMessageRepository;
+import com.mtmx.service.ConversionService;
+import com.mtmx.service.SwiftMessageService;
+import com.mtmx.web.controller.ConversionController;
+import com.mtmx.web.controller.SwiftMessageController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the conversion-only "stateless" profile starts without any persistence layer.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("stateless")
+class StatelessProfileTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void contextLoads_WithoutDataSourceOrRepositories() {
+        assertThat(context.getBeanNamesForType(DataSource.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(SwiftMessageRepository.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(SwiftMessageService.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(SwiftMessageController.class)).isEmpty();
+
+        assertThat(context.getBean(ConversionService.class)).isNotNull();
+        assertThat(context.getBean(ConversionController.class)).isNotNull();
+    }
+
+    @Test
+    void conversionEndpoints_ShouldStillBeServed() throws Exception {
+        mockMvc.perform(get("/api/supported-types"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        mockMvc.perform(post("/api/validate/mt")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("{1:F01BANKBEBB0000000000}{2:I103BANKDEFFN}{4::20:REF123-}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
+    @Test
+    void persistenceEndpoints_ShouldNotBeMapped() throws Exception {
+        mockMvc.perform(get("/api/swift-messages"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,104 @@
+package com.mtmx.benchmark;
+
+import com.mtmx.domain.model.Mt103;
+import com.mtmx.domain.model.Mt103ModelValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated {@link Mt103ModelValidator} vs. Hibernate Validator on the same model.
+ * <p>
+ * Run: {@code mvn -B test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mtmx.benchmark.ModelValidatorBenchmark}, or start {@link #main} from the IDE.
+ * Add {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelValidatorBenchmark {
+
+    private Validator hibernate;
+    private Mt103 valid;
+    private Mt103 invalid;
+
+    @Setup
+    public void setUp() {
+        hibernate = Validation.buildDefaultValidatorFactory().getValidator();
+        valid = Mt103.builder()
+                .transactionReference("REF123456789")
+                .bankOperationCode("CRED")
+                .valueDate(LocalDate.of(2024, 12, 22))
+                .currency("EUR")
+                .amount(new BigDecimal("1000.00"))
+                .detailsOfCharges("SHA")
+                .orderingCustomerBic("BANKBEBB")
+                .orderingCustomerName("JOHN DOE")
+                .beneficiaryBic("BANKDEFFXXX")
+                .beneficiaryAccount("DE89370400440532013000")
+                .beneficiaryName("JANE DOE")
+                .remittanceInformation("/INV/2024-001")
+                .build();
+        invalid = Mt103.builder()
+                .transactionReference("ref 123")
+                .bankOperationCode("XXXX")
+                .currency("EURO")
+                .amount(BigDecimal.ZERO)
+                .detailsOfCharges("SHA")
+                .orderingCustomerBic("BANK1EBB")
+                .beneficiaryName("JANE DOE")
+                .build();
+    }
+
+    @Benchmark
+    public Object validHibernate() {
+        return hibernate.validate(valid);
+    }
+
+    @Benchmark
+    public Object validGenerated() {
+        return Mt103ModelValidator.INSTANCE.validate(valid);
+    }
+
+    @Benchmark
+    public boolean validGeneratedFailFast() {
+        return Mt103ModelValidator.INSTANCE.isValid(valid);
+    }
+
+    @Benchmark
+    public Object invalidHibernate() {
+        return hibernate.validate(invalid);
+    }
+
+    @Benchmark
+    public Object invalidGenerated() {
+        return Mt103ModelValidator.INSTANCE.validate(invalid);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ModelValidatorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
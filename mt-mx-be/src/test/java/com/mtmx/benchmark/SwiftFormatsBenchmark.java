@@ -0,0 +1,121 @@
+package com.mtmx.benchmark;
+
+import com.mtmx.domain.validation.SwiftFormats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Table-driven {@link SwiftFormats} checks vs. the regexes they replaced.
+ * <p>
+ * Run: {@code mvn -B test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.mtmx.benchmark.SwiftFormatsBenchmark}, or start {@link #main} from the IDE.
+ * Add {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwiftFormatsBenchmark {
+
+    private static final Pattern BIC_PATTERN = Pattern.compile("^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$");
+    private static final Pattern CURRENCY_PATTERN = Pattern.compile("^[A-Z]{3}$");
+    private static final Pattern AMOUNT_PATTERN = Pattern.compile("^\\d{1,12}(,\\d{1,2})?$");
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]{1,16}$");
+    private static final Pattern NARRATIVE_PATTERN = Pattern.compile("^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ \\r\\n]{1,210}$");
+
+    private final String[] bics = { "BANKBEBB", "BANKDEFFXXX", "DEUTDEFF500", "bankbebb", "BANK1EBB" };
+    private final String[] currencies = { "EUR", "USD", "TRY", "eur", "EU1" };
+    private final String[] amounts = { "1000,00", "750000,", "123456789012,99", "12,345", "1.000,00" };
+    private final String[] references = { "REF987654321", "TXN-2024/001", "REF(1)+2", "ref123", "ABCDEFGHIJKLMNOPQ" };
+    private final String narrative = "/INV/2024-001 PAYMENT FOR SERVICES\r\n/RFB/CONTRACT 12345\r\nBRUSSELS, BELGIUM";
+
+    @Benchmark
+    public void bicRegex(Blackhole bh) {
+        for (String bic : bics) {
+            bh.consume(BIC_PATTERN.matcher(bic).matches());
+        }
+    }
+
+    @Benchmark
+    public void bicTable(Blackhole bh) {
+        for (String bic : bics) {
+            bh.consume(SwiftFormats.isBic(bic));
+        }
+    }
+
+    @Benchmark
+    public void currencyRegex(Blackhole bh) {
+        for (String currency : currencies) {
+            bh.consume(CURRENCY_PATTERN.matcher(currency).matches());
+        }
+    }
+
+    @Benchmark
+    public void currencyTable(Blackhole bh) {
+        for (String currency : currencies) {
+            bh.consume(SwiftFormats.isCurrency(currency));
+        }
+    }
+
+    @Benchmark
+    public void amountRegex(Blackhole bh) {
+        for (String amount : amounts) {
+            bh.consume(AMOUNT_PATTERN.matcher(amount).matches());
+        }
+    }
+
+    @Benchmark
+    public void amountTable(Blackhole bh) {
+        for (String amount : amounts) {
+            bh.consume(SwiftFormats.isAmount(amount));
+        }
+    }
+
+    @Benchmark
+    public void referenceRegex(Blackhole bh) {
+        for (String reference : references) {
+            bh.consume(REFERENCE_PATTERN.matcher(reference).matches());
+        }
+    }
+
+    @Benchmark
+    public void referenceTable(Blackhole bh) {
+        for (String reference : references) {
+            bh.consume(SwiftFormats.isReference(reference));
+        }
+    }
+
+    @Benchmark
+    public boolean narrativeRegex() {
+        return NARRATIVE_PATTERN.matcher(narrative).matches();
+    }
+
+    @Benchmark
+    public boolean narrativeTable() {
+        return SwiftFormats.isNarrative(narrative);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SwiftFormatsBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
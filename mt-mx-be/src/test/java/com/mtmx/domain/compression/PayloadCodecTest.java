@@ -0,0 +1,107 @@
+package com.mtmx.domain.compression;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadCodecTest {
+
+    private static final String MT103 = "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}{4:\r\n"
+            + ":20:REF103\r\n"
+            + ":23B:CRED\r\n"
+            + ":32A:241222EUR1000,50\r\n"
+            + ":50K:/12345678\r\n"
+            + "JOHN DOE\r\n"
+            + ":59:/87654321\r\n"
+            + "JANE ROE\r\n"
+            + ":70:INVOICE 42\r\n"
+            + ":71A:SHA\r\n"
+            + "-}";
+
+    private static final String PACS008 = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<ns2:Document xmlns:ns2=\"urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08\">\n"
+            + "    <FIToFICstmrCdtTrf>\n"
+            + "        <GrpHdr>\n"
+            + "            <MsgId>REF103</MsgId>\n"
+            + "            <CreDtTm>2024-12-22T10:15:30.000000</CreDtTm>\n"
+            + "            <NbOfTxs>1</NbOfTxs>\n"
+            + "            <TtlIntrBkSttlmAmt Ccy=\"EUR\">1000.50</TtlIntrBkSttlmAmt>\n"
+            + "        </GrpHdr>\n"
+            + "        <CdtTrfTxInf>\n"
+            + "            <PmtId>\n"
+            + "                <InstrId>REF103</InstrId>\n"
+            + "                <EndToEndId>REF103</EndToEndId>\n"
+            + "            </PmtId>\n"
+            + "            <IntrBkSttlmAmt Ccy=\"EUR\">1000.50</IntrBkSttlmAmt>\n"
+            + "            <Dbtr>\n"
+            + "                <Nm>JOHN DOE</Nm>\n"
+            + "            </Dbtr>\n"
+            + "            <Cdtr>\n"
+            + "                <Nm>JANE ROE</Nm>\n"
+            + "            </Cdtr>\n"
+            + "        </CdtTrfTxInf>\n"
+            + "    </FIToFICstmrCdtTrf>\n"
+            + "</ns2:Document>\n";
+
+    @AfterEach
+    void resetCompression() {
+        PayloadCompression.configure(false, true);
+    }
+
+    @Test
+    void roundTrip_ShouldRestoreText() {
+        String text = MT103 + "\r\n:72:/BNF/ÖDEME İÇİN TEŞEKKÜRLER";
+
+        assertThat(PayloadCodec.decode(PayloadCodec.encode(text, true))).isEqualTo(text);
+        assertThat(PayloadCodec.decode(PayloadCodec.encode(text, false))).isEqualTo(text);
+    }
+
+    @Test
+    void dictionary_ShouldBeSelectedPerPayloadKindAndImproveRatio() {
+        byte[] mt = PayloadCodec.encode(MT103, true);
+        byte[] mx = PayloadCodec.encode(PACS008, true);
+        byte[] mxWithoutDictionary = PayloadCodec.encode(PACS008, false);
+
+        assertThat(mt[2]).isEqualTo((byte) PayloadDictionaries.MT);
+        assertThat(mx[2]).isEqualTo((byte) PayloadDictionaries.PACS_008);
+        assertThat(mxWithoutDictionary[2]).isEqualTo((byte) PayloadDictionaries.NONE);
+        assertThat(mx.length).isLessThan(mxWithoutDictionary.length);
+        assertThat(mx.length).isLessThan(PACS008.length() / 3);
+        assertThat(PayloadCodec.decode(mx)).isEqualTo(PACS008);
+    }
+
+    @Test
+    void shortText_ShouldBeStoredUncompressed() {
+        byte[] bytes = PayloadCodec.encode("<error/>", true);
+
+        assertThat(bytes[1]).isEqualTo((byte) PayloadCodec.STORED);
+        assertThat(PayloadCodec.decode(bytes)).isEqualTo("<error/>");
+    }
+
+    @Test
+    void invalidBytes_ShouldBeRejected() {
+        byte[] bytes = PayloadCodec.encode(PACS008, true);
+
+        assertThatThrownBy(() -> PayloadCodec.decode("plain text".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayloadCodec.decode(Arrays.copyOf(bytes, bytes.length / 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compressedText_ShouldDecodeLazilyAndCompareByBytes() {
+        PayloadCompression.configure(true, true);
+
+        CompressedText compressed = PayloadCompression.compress(MT103);
+        CompressedText loaded = CompressedText.wrap(compressed.bytes());
+
+        assertThat(loaded).isEqualTo(compressed);
+        assertThat(loaded.toString()).contains("bytes");
+        assertThat(loaded.text()).isEqualTo(MT103);
+        assertThat(PayloadCompression.compress(null)).isNull();
+    }
+}
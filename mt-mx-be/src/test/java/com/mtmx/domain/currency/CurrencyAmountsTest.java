@@ -0,0 +1,104 @@
+package com.mtmx.domain.currency;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurrencyAmountsTest {
+
+    @Test
+    void table_ShouldHoldActiveCodesAndMinorUnits() {
+        assertThat(CurrencyTable.size()).isGreaterThan(150);
+        assertThat(CurrencyTable.minorUnits("EUR")).isEqualTo(2);
+        assertThat(CurrencyTable.minorUnits("JPY")).isZero();
+        assertThat(CurrencyTable.minorUnits("BHD")).isEqualTo(3);
+        assertThat(CurrencyTable.minorUnits("CLF")).isEqualTo(4);
+        assertThat(CurrencyTable.minorUnits("XAU")).isEqualTo(CurrencyTable.NOT_APPLICABLE);
+        assertThat(CurrencyTable.minorUnits("ABC")).isEqualTo(CurrencyTable.UNKNOWN);
+        assertThat(CurrencyTable.isValid("eur")).isFalse();
+        assertThat(CurrencyTable.isValid("EURO")).isFalse();
+        assertThat(CurrencyTable.isValid(":32A:241222JPY1000,", 11, 14)).isTrue();
+    }
+
+    @Test
+    void mtToMx_ShouldUseCurrencyScale() {
+        assertThat(CurrencyAmounts.mtToMx("1000,", "EUR")).isEqualTo("1000.00");
+        assertThat(CurrencyAmounts.mtToMx("1000,5", "EUR")).isEqualTo("1000.50");
+        assertThat(CurrencyAmounts.mtToMx("001000,00", "USD")).isEqualTo("1000.00");
+        assertThat(CurrencyAmounts.mtToMx("1000,", "JPY")).isEqualTo("1000");
+        assertThat(CurrencyAmounts.mtToMx("1000", "JPY")).isEqualTo("1000");
+        assertThat(CurrencyAmounts.mtToMx("1000,125", "BHD")).isEqualTo("1000.125");
+        assertThat(CurrencyAmounts.mtToMx("0,1", "KWD")).isEqualTo("0.100");
+
+        assertThatThrownBy(() -> CurrencyAmounts.mtToMx("1000,50", "JPY")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> CurrencyAmounts.mtToMx(",50", "EUR")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> CurrencyAmounts.mtToMx("1,000,00", "EUR")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> CurrencyAmounts.mtToMx("1000,00", "ABC")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parseMt_ShouldReturnAmountAtCurrencyScale() {
+        assertThat(CurrencyAmounts.parseMt("1000,5", "EUR")).isEqualTo(new BigDecimal("1000.50"));
+        assertThat(CurrencyAmounts.parseMt("1000,", "JPY")).isEqualTo(new BigDecimal("1000"));
+        assertThat(CurrencyAmounts.parseMt("12,345", "BHD")).isEqualTo(new BigDecimal("12.345"));
+        assertThat(CurrencyAmounts.parseMt("241222EUR1500,25", 9, 16, "EUR")).isEqualTo(new BigDecimal("1500.25"));
+        assertThat(CurrencyAmounts.parseMt("9999999999999,99", "USD"))
+                .isEqualTo(new BigDecimal("9999999999999.99"));
+    }
+
+    @Test
+    void parseMinorUnits_ShouldScaleToCurrencyAndGuardOverflow() {
+        assertThat(CurrencyAmounts.parseMinorUnits("1000,5", "EUR")).isEqualTo(100050L);
+        assertThat(CurrencyAmounts.parseMinorUnits("1000,", "JPY")).isEqualTo(1000L);
+        assertThat(CurrencyAmounts.parseMinorUnits("1000,125", "BHD")).isEqualTo(1000125L);
+        assertThat(CurrencyAmounts.parseMinorUnits("10,25", "XAU")).isEqualTo(102500L);
+        assertThat(CurrencyAmounts.parseMinorUnits("241222EUR1500,25", 9, 16, "EUR")).isEqualTo(150025L);
+        assertThat(CurrencyAmounts.toMinorUnits(new BigDecimal("1000.5"), "EUR")).isEqualTo(100050L);
+        assertThat(CurrencyAmounts.toBigDecimal(100050L, "EUR")).isEqualTo(new BigDecimal("1000.50"));
+
+        assertThatThrownBy(() -> CurrencyAmounts.parseMinorUnits("99999999999999999,99", "USD"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> CurrencyAmounts.parseMinorUnits("99999999999999999999", "JPY"))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> CurrencyAmounts.toMinorUnits(new BigDecimal("1000.505"), "EUR"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void formatMt_ShouldAlwaysWriteDecimalComma() {
+        assertThat(CurrencyAmounts.formatMt(new BigDecimal("1000.5"), "EUR")).isEqualTo("1000,50");
+        assertThat(CurrencyAmounts.formatMt(new BigDecimal("1000.00"), "JPY")).isEqualTo("1000,");
+        assertThat(CurrencyAmounts.formatMt(new BigDecimal("1000"), "BHD")).isEqualTo("1000,000");
+        assertThat(CurrencyAmounts.formatMx(new BigDecimal("1000"), "EUR")).isEqualTo("1000.00");
+        assertThat(CurrencyAmounts.formatMx(new BigDecimal("1000.00"), "JPY")).isEqualTo("1000");
+        assertThat(CurrencyAmounts.formatMx(new BigDecimal("10.2500"), "XAU")).isEqualTo("10.25");
+        assertThat(CurrencyAmounts.formatMt(100005L, "EUR")).isEqualTo("1000,05");
+        assertThat(CurrencyAmounts.formatMt(1000L, "JPY")).isEqualTo("1000,");
+        assertThat(CurrencyAmounts.formatMx(1000005L, "BHD")).isEqualTo("1000.005");
+        assertThat(CurrencyAmounts.appendMt(new StringBuilder(":32A:241222EUR"), 150025L, "EUR").toString())
+                .isEqualTo(":32A:241222EUR1500,25");
+
+        assertThatThrownBy(() -> CurrencyAmounts.formatMt(new BigDecimal("1000.5"), "JPY"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CurrencyAmounts.formatMt(new BigDecimal("-1"), "EUR"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void validation_ShouldRespectMinorUnits() {
+        assertThat(CurrencyAmounts.isValidMtAmount("1000,", "JPY")).isTrue();
+        assertThat(CurrencyAmounts.isValidMtAmount("1000,5", "JPY")).isFalse();
+        assertThat(CurrencyAmounts.isValidMtAmount("1000,125", "BHD")).isTrue();
+        assertThat(CurrencyAmounts.isValidMtAmount("1000,125", "EUR")).isFalse();
+        assertThat(CurrencyAmounts.isValidMtAmount("1000.12", "EUR")).isFalse();
+        assertThat(CurrencyAmounts.isValidMtAmount("1000,12", "ABC")).isFalse();
+
+        assertThat(CurrencyAmounts.exceedsMinorUnits(new BigDecimal("1000.00"), "JPY")).isFalse();
+        assertThat(CurrencyAmounts.exceedsMinorUnits(new BigDecimal("1000.50"), "JPY")).isTrue();
+        assertThat(CurrencyAmounts.exceedsMinorUnits(new BigDecimal("1000.125"), "BHD")).isFalse();
+        assertThat(CurrencyAmounts.exceedsMinorUnits(new BigDecimal("1000.125"), "EUR")).isTrue();
+    }
+}
@@ -0,0 +1,86 @@
+package com.mtmx.domain.header;
+
+import com.mtmx.domain.enums.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MtHeaderParserTest {
+
+    private static final String MT103 = "{1:F01BANKBEBBAXXX1234567890}{2:I103BANKDEFFXXXXN}"
+            + "{3:{108:MUR001}{121:eb6305c9-1f7f-49de-aed0-16487c27b42d}}{4:\n"
+            + ":20:REF103\n"
+            + ":32A:241222EUR1000,00\n"
+            + "-}{5:{CHK:123456789ABC}{TNG:}}";
+
+    @Test
+    void parse_InputMessage_ShouldDecodeAllHeaderBlocks() {
+        MtHeader header = MtHeaderParser.parse(MT103);
+
+        assertThat(header.getApplicationId()).isEqualTo("F");
+        assertThat(header.getServiceId()).isEqualTo("01");
+        assertThat(header.getLogicalTerminal()).isEqualTo("BANKBEBBAXXX");
+        assertThat(header.getSessionNumber()).isEqualTo("1234");
+        assertThat(header.getSequenceNumber()).isEqualTo("567890");
+        assertThat(header.getDirection()).isEqualTo(MtHeader.Direction.INPUT);
+        assertThat(header.getMessageType()).isEqualTo("103");
+        assertThat(header.getApplicationAddress()).isEqualTo("BANKDEFFXXXX");
+        assertThat(header.getPriority()).isEqualTo("N");
+        assertThat(header.getSenderBic()).isEqualTo("BANKBEBBXXX");
+        assertThat(header.getReceiverBic()).isEqualTo("BANKDEFFXXX");
+        assertThat(header.getMur()).isEqualTo("MUR001");
+        assertThat(header.getUetr()).isEqualTo("eb6305c9-1f7f-49de-aed0-16487c27b42d");
+        assertThat(header.getTrailers()).containsEntry("CHK", "123456789ABC").containsEntry("TNG", "");
+        assertThat(header.toMessageType()).isEqualTo(MessageType.MT103);
+    }
+
+    @Test
+    void parse_ShouldDetectCoverFromBlock2SuffixOrValidationFlag() {
+        MtHeader suffix = MtHeaderParser.parse("{1:F01BANKBEBB0000000000}{2:I202COVBANKDEFFN}{4:\n:20:X\n-}");
+        MtHeader flag = MtHeaderParser.parse("{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{3:{119:COV}}{4:\n:20:X\n-}");
+        MtHeader plain = MtHeaderParser.parse("{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{4:\n:20:X\n-}");
+
+        assertThat(suffix.toMessageType()).isEqualTo(MessageType.MT202COV);
+        assertThat(suffix.getReceiverBic()).isEqualTo("BANKDEFFXXX");
+        assertThat(flag.getValidationFlag()).isEqualTo("COV");
+        assertThat(flag.getTypeName()).isEqualTo("202COV");
+        assertThat(plain.toMessageType()).isEqualTo(MessageType.MT202);
+        assertThat(plain.getSenderBic()).isEqualTo("BANKBEBBXXX");
+    }
+
+    @Test
+    void parse_FieldWithoutColon_ShouldBeSkippedWithoutTakingTheNextFieldsColon() {
+        MtHeader header = MtHeaderParser.parse("{1:F01BANKBEBB0000000000}{2:I103BANKDEFFN}"
+                + "{3:{108}{}{121:eb6305c9-1f7f-49de-aed0-16487c27b42d}}{4:\n:20:X\n-}{5:{PDE}{CHK:ABC}}");
+
+        assertThat(header.getUserHeader()).containsOnlyKeys("121");
+        assertThat(header.getMur()).isNull();
+        assertThat(header.getTrailers()).containsOnlyKeys("CHK");
+    }
+
+    @Test
+    void parse_OutputMessage_ShouldTakeSenderFromMir() {
+        MtHeader header = MtHeaderParser.parse("{1:F01BANKDEFFAXXX0000000000}"
+                + "{2:O1031200241222BANKBEBBAXXX12345678902412221201N}{4:\n:20:X\n-}");
+
+        assertThat(header.getDirection()).isEqualTo(MtHeader.Direction.OUTPUT);
+        assertThat(header.getSenderBic()).isEqualTo("BANKBEBBXXX");
+        assertThat(header.getReceiverBic()).isEqualTo("BANKDEFFXXX");
+        assertThat(header.getPriority()).isEqualTo("N");
+    }
+
+    @Test
+    void parse_ShouldShareInternedBicInstances() {
+        byte[] bytes = MT103.getBytes(StandardCharsets.US_ASCII);
+        MtHeader first = MtHeaderParser.parse(MT103);
+        MtHeader second = MtHeaderParser.parse(new String(bytes, StandardCharsets.US_ASCII));
+
+        assertThat(second.getSenderBic()).isSameAs(first.getSenderBic());
+        assertThat(second.getLogicalTerminal()).isSameAs(first.getLogicalTerminal());
+        assertThat(BicInterner.shared().intern(new String("BANKDEFFXXX"))).isSameAs(first.getReceiverBic());
+        assertThat(MtHeaderParser.parse("no headers").getDirection()).isNull();
+        assertThat(MtHeaderParser.parse(null).hasBasicHeader()).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+package com.mtmx.domain.payment;
+
+import com.mtmx.domain.enums.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CanonicalPaymentCodecTest {
+
+    private static CanonicalPayment payment() {
+        return CanonicalPayment.builder()
+                .messageType(MessageType.MT102)
+                .messageId("BATCH1")
+                .currency("EUR")
+                .settlementAmount(new BigDecimal("350.50"))
+                .controlSum(new BigDecimal("350.50"))
+                .transaction(CanonicalPayment.Transaction.builder()
+                        .instructionId("TX1").endToEndId("TX1").currency("EUR")
+                        .amount(new BigDecimal("100.00")).debtorName("ORDERING CORP").creditorName("FIRST")
+                        .build())
+                .transaction(CanonicalPayment.Transaction.builder()
+                        .instructionId("TX2").endToEndId("TX2").currency("EUR")
+                        .amount(new BigDecimal("250.50")).debtorName("ORDERING CORP").creditorName("İKİNCİ ŞİRKET")
+                        .build())
+                .build();
+    }
+
+    @Test
+    void roundTrip_ShouldKeepAllFields() {
+        CanonicalPayment payment = payment();
+
+        byte[] bytes = CanonicalPaymentCodec.encode(payment);
+
+        assertThat(CanonicalPaymentCodec.decode(bytes)).isEqualTo(payment);
+    }
+
+    @Test
+    void encode_SingleTransactionPayment_ShouldStayCompact() {
+        CanonicalPayment payment = payment().toBuilder().clearTransactions()
+                .transaction(payment().firstTransaction())
+                .build();
+
+        assertThat(CanonicalPaymentCodec.encode(payment).length).isLessThan(100);
+    }
+
+    @Test
+    void roundTrip_ShouldKeepNullsAndDecimalScale() {
+        CanonicalPayment payment = CanonicalPayment.builder()
+                .messageType(MessageType.MT202)
+                .settlementAmount(new BigDecimal("1500000"))
+                .transaction(CanonicalPayment.Transaction.builder()
+                        .endToEndId("REF202").amount(new BigDecimal("-0.125")).instructedAgentBic("TESTBANKAXXX")
+                        .build())
+                .build();
+
+        CanonicalPayment decoded = CanonicalPaymentCodec.decode(CanonicalPaymentCodec.encode(payment));
+
+        assertThat(decoded).isEqualTo(payment);
+        assertThat(decoded.getControlSum()).isNull();
+        assertThat(decoded.firstTransaction().getAmount().scale()).isEqualTo(3);
+        assertThat(decoded.isCustomerTransfer()).isFalse();
+    }
+
+    @Test
+    void roundTrip_ShouldKeepDecimalsBeyondLongRange() {
+        BigDecimal huge = new BigDecimal("123456789012345678901234567890.12");
+        CanonicalPayment payment = payment().toBuilder().settlementAmount(huge).build();
+
+        assertThat(CanonicalPaymentCodec.decode(CanonicalPaymentCodec.encode(payment)).getSettlementAmount())
+                .isEqualTo(huge);
+    }
+
+    @Test
+    void decode_ShouldInternInstructedAgentBic() {
+        CanonicalPayment payment = CanonicalPayment.builder()
+                .messageType(MessageType.MT203)
+                .transaction(CanonicalPayment.Transaction.builder().instructedAgentBic(new String("ORDINSTXX")).build())
+                .build();
+        byte[] bytes = CanonicalPaymentCodec.encode(payment);
+
+        assertThat(CanonicalPaymentCodec.decode(bytes).firstTransaction().getInstructedAgentBic())
+                .isSameAs(CanonicalPaymentCodec.decode(bytes).firstTransaction().getInstructedAgentBic());
+    }
+
+    @Test
+    void decode_ShouldRejectTruncatedOrUnknownContent() {
+        byte[] bytes = CanonicalPaymentCodec.encode(payment());
+
+        assertThatThrownBy(() -> CanonicalPaymentCodec.decode(Arrays.copyOf(bytes, bytes.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CanonicalPaymentCodec.decode(Arrays.copyOf(bytes, bytes.length + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] otherVersion = bytes.clone();
+        otherVersion[0] = 9;
+        assertThatThrownBy(() -> CanonicalPaymentCodec.decode(otherVersion))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+        assertThatThrownBy(() -> CanonicalPaymentCodec.decode(new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
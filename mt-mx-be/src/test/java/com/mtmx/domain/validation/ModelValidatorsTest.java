@@ -0,0 +1,113 @@
+package com.mtmx.domain.validation;
+
+import com.mtmx.domain.model.Mt102;
+import com.mtmx.domain.model.Mt102Transaction;
+import com.mtmx.domain.model.Mt103;
+import com.mtmx.domain.model.Mt103ModelValidator;
+import com.mtmx.domain.model.Mt202;
+import com.mtmx.domain.model.Mt202Cov;
+import com.mtmx.domain.model.Mt203;
+import com.mtmx.domain.model.Mt203Transaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModelValidatorsTest {
+
+    private static final Validator HIBERNATE = Validation.buildDefaultValidatorFactory().getValidator();
+
+    // Kısıtların sınır değerlerini tetikleyen havuz
+    private static final String[] STRINGS = { null, "", " ", "REF-1", "ref 1", "BANKBEBB", "BANKDEFFXXX", "bankbebb",
+            "EUR", "USD", "XXX", "eu", "CRED", "SHA", "OUR", "HOLD", "OTHR", "CREDX", "/CLSTIME/1200", "/SNDTIME/12",
+            "0123456789ABCDEF", "0123456789ABCDEFG", "A".repeat(35), "A".repeat(141), "A".repeat(211), "ÇÖĞ", "12,50" };
+    private static final BigDecimal[] DECIMALS = { null, new BigDecimal("-0.01"), BigDecimal.ZERO, new BigDecimal("0.00"),
+            new BigDecimal("0.001"), new BigDecimal("0.01"), new BigDecimal("1000.50") };
+
+    @ParameterizedTest
+    @ValueSource(classes = { Mt102.class, Mt102Transaction.class, Mt103.class, Mt202.class, Mt202Cov.class,
+            Mt203.class, Mt203Transaction.class })
+    void generatedValidator_ShouldReportSameViolationsAsHibernate(Class<?> type) throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Object model = randomModel(type, random);
+
+            List<ModelViolation> generated = ModelValidators.validate(model);
+
+            assertThat(asStrings(generated)).isEqualTo(hibernate(model));
+            assertThat(ModelValidators.isValid(model)).isEqualTo(generated.isEmpty());
+        }
+    }
+
+    @Test
+    void validMt103_ShouldHaveNoViolations() {
+        Mt103 mt103 = Mt103.builder()
+                .transactionReference("REF123456789")
+                .bankOperationCode("CRED")
+                .valueDate(LocalDate.of(2024, 12, 22))
+                .currency("EUR")
+                .amount(new BigDecimal("1000.00"))
+                .detailsOfCharges("SHA")
+                .orderingCustomerBic("BANKBEBB")
+                .beneficiaryBic("BANKDEFFXXX")
+                .build();
+
+        assertThat(Mt103ModelValidator.INSTANCE.validate(mt103)).isEmpty();
+        assertThat(Mt103ModelValidator.INSTANCE.isValid(mt103)).isTrue();
+        assertThat(hibernate(mt103)).isEmpty();
+
+        mt103.setDetailsOfCharges("XYZ");
+        assertThat(Mt103ModelValidator.INSTANCE.validate(mt103)).containsExactly(new ModelViolation("detailsOfCharges",
+                "Details of Charges (:71A:) geçersiz - BEN, OUR veya SHA olmalı"));
+    }
+
+    @Test
+    void lookup_ShouldRejectModelsWithoutGeneratedValidator() {
+        assertThat(ModelValidators.of(Mt103.class)).isSameAs(Mt103ModelValidator.INSTANCE);
+        assertThatThrownBy(() -> ModelValidators.of(String.class)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Mt103ModelValidator.INSTANCE.validate(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Object randomModel(Class<?> type, Random random) throws Exception {
+        Object model = type.getDeclaredConstructor().newInstance();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            if (field.getType() == String.class) {
+                field.set(model, STRINGS[random.nextInt(STRINGS.length)]);
+            } else if (field.getType() == BigDecimal.class) {
+                field.set(model, DECIMALS[random.nextInt(DECIMALS.length)]);
+            } else if (field.getType() == LocalDate.class) {
+                field.set(model, random.nextBoolean() ? null : LocalDate.of(2024, 12, 22));
+            }
+        }
+        return model;
+    }
+
+    private static Set<String> hibernate(Object model) {
+        return HIBERNATE.validate(model).stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> asStrings(List<ModelViolation> violations) {
+        return violations.stream()
+                .map(v -> v.getProperty() + ": " + v.getMessage())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,138 @@
+package com.mtmx.domain.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SwiftFormatsTest {
+
+    // Yerini aldıkları regex'ler - davranış birebir aynı kalmalı
+    private static final Pattern BIC_PATTERN = Pattern.compile("^[A-Z]{6}[A-Z0-9]{2}([A-Z0-9]{3})?$");
+    private static final Pattern CURRENCY_PATTERN = Pattern.compile("^[A-Z]{3}$");
+    private static final Pattern AMOUNT_PATTERN = Pattern.compile("^\\d{1,12}(,\\d{1,2})?$");
+    private static final Pattern REFERENCE_PATTERN = Pattern.compile("^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ ]{1,16}$");
+    private static final Pattern NARRATIVE_PATTERN = Pattern.compile("^[A-Z0-9/\\-\\?:\\(\\)\\.,'\\+ \\r\\n]{1,210}$");
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcz0123456789/-?:().,'+ \r\n=!\"%&*<>;#@_{ÄÇ";
+
+    @ParameterizedTest
+    @ValueSource(strings = { "BANKBEBB", "BANKDEFFXXX", "DEUTDEFF500", "ABCDEF12" })
+    void isBic_ValidCodes(String bic) {
+        assertThat(SwiftFormats.isBic(bic)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "BANKBEB", "BANKBEBBX", "bankbebb", "BANK1EBB", "BANKDEFFXX", "BANKDEFFXXXX" })
+    void isBic_InvalidCodes(String bic) {
+        assertThat(SwiftFormats.isBic(bic)).isFalse();
+    }
+
+    @Test
+    void isAmount_ShouldAcceptCommaDecimals() {
+        assertThat(SwiftFormats.isAmount("1000")).isTrue();
+        assertThat(SwiftFormats.isAmount("1000,5")).isTrue();
+        assertThat(SwiftFormats.isAmount("123456789012,99")).isTrue();
+        assertThat(SwiftFormats.isAmount("1000,")).isFalse();
+        assertThat(SwiftFormats.isAmount("1000,123")).isFalse();
+        assertThat(SwiftFormats.isAmount("1.000,00")).isFalse();
+        assertThat(SwiftFormats.isAmount("1234567890123")).isFalse();
+        assertThat(SwiftFormats.isAmount("1000,", 0, 5, 15, 2)).isFalse();
+    }
+
+    @Test
+    void rangeOverloads_ShouldValidateInPlace() {
+        String field = ":32A:241222EUR1000,00";
+
+        assertThat(SwiftFormats.isDigits(field, 5, 11)).isTrue();
+        assertThat(SwiftFormats.isCurrency(field, 11, 14)).isTrue();
+        assertThat(SwiftFormats.isAmount(field, 14, field.length())).isTrue();
+        assertThat(SwiftFormats.isBic("{2:I103BANKDEFFXXXXN}", 7, 18)).isTrue();
+    }
+
+    @Test
+    void charsets_ShouldFollowSwiftDefinitions() {
+        assertThat(SwiftFormats.isCharset("Payment for services/INV 1", SwiftFormats.CHARSET_X)).isTrue();
+        assertThat(SwiftFormats.isCharset("AMOUNT=100%", SwiftFormats.CHARSET_X)).isFalse();
+        assertThat(SwiftFormats.isCharset("AMOUNT=100%", SwiftFormats.CHARSET_Y)).isTrue();
+        assertThat(SwiftFormats.isCharset("lower", SwiftFormats.CHARSET_Y)).isFalse();
+        assertThat(SwiftFormats.isCharset("mail@bank.com #1_{x}", SwiftFormats.CHARSET_Z)).isFalse();
+        assertThat(SwiftFormats.isCharset("mail@bank.com #1_{x", SwiftFormats.CHARSET_Z)).isTrue();
+        assertThat(SwiftFormats.isCharset("İSTANBUL", SwiftFormats.CHARSET_Z)).isFalse();
+    }
+
+    @Test
+    void randomInputs_ShouldMatchReplacedRegexes() {
+        Random random = new Random(42);
+        for (int n = 0; n < 20_000; n++) {
+            String s = randomString(random, random.nextInt(20));
+            assertThat(SwiftFormats.isBic(s)).as("BIC %s", s).isEqualTo(BIC_PATTERN.matcher(s).matches());
+            assertThat(SwiftFormats.isCurrency(s)).as("currency %s", s).isEqualTo(CURRENCY_PATTERN.matcher(s).matches());
+            assertThat(SwiftFormats.isReference(s)).as("reference %s", s).isEqualTo(REFERENCE_PATTERN.matcher(s).matches());
+            assertThat(SwiftFormats.isNarrative(s)).as("narrative %s", s).isEqualTo(NARRATIVE_PATTERN.matcher(s).matches());
+
+            String amount = randomAmount(random);
+            assertThat(SwiftFormats.isAmount(amount)).as("amount %s", amount)
+                    .isEqualTo(AMOUNT_PATTERN.matcher(amount).matches());
+        }
+    }
+
+    @Test
+    void constraints_ShouldBeUsableOnDomainModels() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        assertThat(validator.validate(new Sample("BANKBEBB", "EUR", "REF-1", ""))).isEmpty();
+        assertThat(validator.validate(new Sample(null, null, null, null))).isEmpty();
+        assertThat(validator.validate(new Sample("bank", "eur", "ref", "x")))
+                .extracting(v -> v.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("bic", "currency", "reference", "related");
+        assertThat(validator.validate(new Sample("BANKBEBB", "EUR", "", "")))
+                .extracting(v -> v.getPropertyPath().toString())
+                .containsExactly("reference");
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        boolean upperOnly = random.nextBoolean();
+        for (int i = 0; i < length; i++) {
+            sb.append(upperOnly
+                    ? ALPHABET.charAt(random.nextInt(36))
+                    : ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String randomAmount(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(18);
+        for (int i = 0; i < length; i++) {
+            int r = random.nextInt(14);
+            sb.append(r < 10 ? (char) ('0' + r) : r < 12 ? ',' : r == 12 ? '.' : 'A');
+        }
+        return sb.toString();
+    }
+
+    static class Sample {
+        @SwiftBic
+        private final String bic;
+        @SwiftCurrency
+        private final String currency;
+        @SwiftReference
+        private final String reference;
+        @SwiftReference(allowEmpty = true)
+        private final String related;
+
+        Sample(String bic, String currency, String reference, String related) {
+            this.bic = bic;
+            this.currency = currency;
+            this.reference = reference;
+            this.related = related;
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package com.mtmx.repository;
 
+import com.mtmx.domain.compression.PayloadCompression;
 import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.ErrorCode;
+import com.mtmx.domain.enums.MessageStatus;
 import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
+import com.mtmx.web.dto.SwiftMessageDto;
+import com.mtmx.web.mapper.SwiftMessageMapperImpl;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -252,4 +259,159 @@ public class SwiftMessageRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void compressedTexts_ShouldBeStoredInBinaryColumnsAndReadTransparently() {
+        // Given
+        PayloadCompression.configure(true, true);
+        swiftMessage1.setRawMtMessage(swiftMessage1.getRawMtMessage() + "\r\n:70:INVOICE 42 FOR SERVICES RENDERED");
+        swiftMessage1.setGeneratedMxMessage("<Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08\">"
+                + "<FIToFICstmrCdtTrf><GrpHdr><MsgId>TEST1</MsgId></GrpHdr></FIToFICstmrCdtTrf></Document>");
+        SwiftMessage saved = entityManager.persistAndFlush(swiftMessage1);
+        entityManager.clear();
+
+        // When
+        SwiftMessage found = swiftMessageRepository.findById(saved.getId()).orElseThrow();
+
+        // Then
+        assertThat(found.getRawMtMessageCompressed()).isNotNull();
+        assertThat(found.getGeneratedMxMessageCompressed()).isNotNull();
+        assertThat(found.getRawMtMessage()).endsWith(":70:INVOICE 42 FOR SERVICES RENDERED");
+        assertThat(found.getGeneratedMxMessage()).contains("<MsgId>TEST1</MsgId>");
+        assertThat(found.hasGeneratedMxMessage()).isTrue();
+    }
+
+    @Test
+    void mappedEntity_ShouldStoreRawMtInCompressedColumnWhenCompressionIsEnabled() {
+        // Given
+        PayloadCompression.configure(true, true);
+        SwiftMessageDto dto = new SwiftMessageMapperImpl().toDto(swiftMessage1);
+        dto.setRawMtMessage(dto.getRawMtMessage() + "\r\n:70:INVOICE 42 FOR SERVICES RENDERED");
+        SwiftMessage mapped = new SwiftMessageMapperImpl().toEntity(dto);
+
+        // When
+        Long id = entityManager.persistAndFlush(mapped).getId();
+        Object[] columns = (Object[]) entityManager.getEntityManager()
+                .createNativeQuery("SELECT raw_mt_message, raw_mt_message_z FROM swift_messages WHERE id = ?1")
+                .setParameter(1, id)
+                .getSingleResult();
+
+        // Then
+        assertThat(columns[0]).isNull();
+        assertThat(columns[1]).isNotNull();
+        entityManager.clear();
+        assertThat(swiftMessageRepository.findById(id).orElseThrow().getRawMtMessage()).isEqualTo(dto.getRawMtMessage());
+    }
+
+    @Test
+    void compressTexts_ShouldRewritePlainRowUnlessModified() {
+        // Given
+        Long plainId = entityManager.persistAndFlush(swiftMessage1).getId();
+        Long modifiedId = entityManager.persistAndFlush(swiftMessage2).getId();
+        entityManager.clear();
+        SwiftMessage plain = swiftMessageRepository.findById(plainId).orElseThrow();
+        SwiftMessage modified = swiftMessageRepository.findById(modifiedId).orElseThrow();
+        PayloadCompression.configure(true, true);
+
+        // When
+        assertThat(swiftMessageRepository.findUncompressedIds(0L, PageRequest.of(0, 10)))
+                .containsExactly(plain.getId(), modified.getId());
+        int rewritten = swiftMessageRepository.compressTexts(plain.getId(), plain.getUpdatedAt(),
+                PayloadCompression.compress(plain.getRawMtMessage()), null);
+        int stale = swiftMessageRepository.compressTexts(modified.getId(), modified.getUpdatedAt().minusSeconds(1),
+                PayloadCompression.compress(modified.getRawMtMessage()), null);
+        entityManager.clear();
+
+        // Then
+        assertThat(rewritten).isEqualTo(1);
+        assertThat(stale).isZero();
+        SwiftMessage found = swiftMessageRepository.findById(plain.getId()).orElseThrow();
+        assertThat(found.getRawMtMessageCompressed()).isNotNull();
+        assertThat(found.getRawMtMessage()).isEqualTo(swiftMessage1.getRawMtMessage());
+        assertThat(swiftMessageRepository.findUncompressedIds(0L, PageRequest.of(0, 10)))
+                .containsExactly(modified.getId());
+    }
+
+    @Test
+    void findByStatusAndMessageType_ShouldReturnFailedMessagesOfType() {
+        // Given
+        swiftMessage1.markConversionFailed("Invalid MT message format");
+        swiftMessage2.markConversionFailed("Invalid MT message format");
+        swiftMessage3.markConverted("<Document/>", "pacs.008.001.06", ValidationVerdict.VALID, null);
+        entityManager.persistAndFlush(swiftMessage1);
+        entityManager.persistAndFlush(swiftMessage2);
+        entityManager.persistAndFlush(swiftMessage3);
+
+        // When
+        Page<SwiftMessage> failed = swiftMessageRepository
+                .findByStatusAndMessageTypeAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                        MessageStatus.CONVERSION_FAILED, MessageType.MT103, LocalDate.now().atStartOfDay(),
+                        PageRequest.of(0, 10));
+
+        // Then
+        assertThat(failed.getContent()).hasSize(1);
+        assertThat(failed.getContent().get(0).getErrorCode()).isEqualTo(ErrorCode.CONVERSION_ERROR);
+        assertThat(failed.getContent().get(0).getGeneratedMxMessage()).isNull();
+    }
+
+    @Test
+    void writeBackGeneratedMx_ShouldStoreVerdictWithMx() {
+        // Given
+        swiftMessage1.markReceived();
+        Long id = entityManager.persistAndFlush(swiftMessage1).getId();
+        entityManager.clear();
+
+        // When
+        int updated = swiftMessageRepository.writeBackGeneratedMx(id, "<Document/>", ValidationVerdict.INVALID,
+                "cvc-elt.1.a", "pacs.008.001.06");
+        int repeated = swiftMessageRepository.writeBackGeneratedMx(id, "<Document/>", ValidationVerdict.VALID,
+                null, "pacs.008.001.06");
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(repeated).isZero();
+        SwiftMessage found = swiftMessageRepository.findById(id).orElseThrow();
+        assertThat(found.getStatus()).isEqualTo(MessageStatus.CONVERTED);
+        assertThat(found.getValidationVerdict()).isEqualTo(ValidationVerdict.INVALID);
+        assertThat(found.getErrorCode()).isEqualTo(ErrorCode.XSD_INVALID);
+        assertThat(found.getMxSchema()).isEqualTo("pacs.008.001.06");
+    }
+
+    @Test
+    void findAllMatchingFilter_ShouldCombineSetBusinessKeys() {
+        // Given
+        swiftMessage1.setTransactionReference("TEST1");
+        swiftMessage2.setTransactionReference("TEST2");
+        swiftMessage3.setTransactionReference("TEST1");
+        swiftMessage3.setUetr("8a562c67-ca16-48ba-b074-65581be6f001");
+        entityManager.persistAndFlush(swiftMessage1);
+        entityManager.persistAndFlush(swiftMessage2);
+        entityManager.persistAndFlush(swiftMessage3);
+
+        SwiftMessageFilter byReference = new SwiftMessageFilter();
+        byReference.setReference("TEST1");
+        SwiftMessageFilter byReferenceAndSender = new SwiftMessageFilter();
+        byReferenceAndSender.setReference("TEST1");
+        byReferenceAndSender.setSenderBic("bankgb2l0000");
+        SwiftMessageFilter byUetr = new SwiftMessageFilter();
+        byUetr.setUetr("8A562C67-CA16-48BA-B074-65581BE6F001");
+        byUetr.setCreatedFrom(LocalDate.now().atStartOfDay());
+
+        // When / Then
+        assertThat(swiftMessageRepository.findByTransactionReferenceOrderByCreatedAtDesc("TEST1", PageRequest.of(0, 10))
+                .getContent()).hasSize(2);
+        assertThat(swiftMessageRepository.findAll(SwiftMessageSpecifications.matching(byReference))).hasSize(2);
+        assertThat(swiftMessageRepository.findAll(SwiftMessageSpecifications.matching(byReferenceAndSender)))
+                .extracting(SwiftMessage::getCurrency).containsExactly("USD");
+        assertThat(swiftMessageRepository.findAll(SwiftMessageSpecifications.matching(byUetr)))
+                .extracting(SwiftMessage::getTransactionReference).containsExactly("TEST1");
+        assertThat(swiftMessageRepository.findAll(SwiftMessageSpecifications.matching(new SwiftMessageFilter())))
+                .hasSize(3);
+    }
+
+    @AfterEach
+    void resetCompression() {
+        PayloadCompression.configure(false, true);
+    }
+}
@@ -1,5 +1,7 @@
 package com.mtmx.service;
 
+import com.mtmx.service.cache.ConversionCoalescer;
+import com.mtmx.service.cache.ConversionResultCache;
 import com.mtmx.service.converter.ConversionException;
 import com.mtmx.service.converter.MtMessageValidator;
 import com.mtmx.service.converter.MxMessageValidator;
@@ -59,7 +61,8 @@ class ConversionServiceTest {
         conversionService = new ConversionService(
                 mtMessageValidator, mxMessageValidator,
                 mt103ToMxConverter, mt202ToMxConverter, mt102ToMxConverter, mt203ToMxConverter, mt202CovToMxConverter,
-                mxToMt103Converter, mxToMt202Converter, mxToMt102Converter, mxToMt203Converter, mxToMt202CovConverter);
+                mxToMt103Converter, mxToMt202Converter, mxToMt102Converter, mxToMt203Converter, mxToMt202CovConverter,
+                ConversionResultCache.disabled(), ConversionCoalescer.disabled());
         conversionService.initializeConverters();
     }
 
@@ -95,6 +98,18 @@ class ConversionServiceTest {
         verifyNoMoreInteractions(mt103ToMxConverter, mt202ToMxConverter);
     }
 
+    @Test
+    void testToPayment_InvalidMessage() {
+        // Given
+        String mtMessage = "invalid message";
+        when(mtMessageValidator.isValid(mtMessage)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ConversionException.class, () -> conversionService.toPayment(mtMessage));
+        verify(mtMessageValidator).isValid(mtMessage);
+        verifyNoMoreInteractions(mt103ToMxConverter, mt202ToMxConverter);
+    }
+
     @Test
     void testConvertMtToMx_UnsupportedMessageType() {
         // Given
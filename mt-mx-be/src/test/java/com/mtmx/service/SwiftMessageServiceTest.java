@@ -1,8 +1,15 @@
 package com.mtmx.service;
 
 import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.ErrorCode;
+import com.mtmx.domain.enums.MessageStatus;
 import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
+import com.mtmx.domain.payment.CanonicalPayment;
 import com.mtmx.repository.SwiftMessageRepository;
+import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.converter.MtConversion;
+import com.mtmx.service.mx.LazyMxGenerator;
 import com.mtmx.web.dto.SwiftMessageDto;
 import com.mtmx.web.mapper.SwiftMessageMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +55,9 @@ class SwiftMessageServiceTest {
     @Mock
     private XsdValidationService xsdValidationService;
 
+    @Mock
+    private LazyMxGenerator lazyMxGenerator;
+
     @InjectMocks
     private SwiftMessageServiceImpl swiftMessageService;
 
@@ -89,7 +99,7 @@ class SwiftMessageServiceTest {
     void save_WithValidDto_ShouldReturnSavedDto() throws Exception {
         // Given
         when(swiftMessageMapper.toEntity(any(SwiftMessageDto.class))).thenReturn(swiftMessage);
-        when(conversionService.convertMtToMx(anyString())).thenReturn("<?xml>converted</xml>");
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenReturn(conversion("<?xml>converted</xml>"));
         when(xsdValidationService.validateByMtType(anyString(), anyString())).thenReturn(validValidationResult);
         when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(swiftMessage);
         when(swiftMessageMapper.toDto(any(SwiftMessage.class))).thenReturn(swiftMessageDto);
@@ -102,8 +112,10 @@ class SwiftMessageServiceTest {
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getMessageType()).isEqualTo(MessageType.MT103);
         verify(swiftMessageRepository).save(any(SwiftMessage.class));
-        verify(conversionService).convertMtToMx(anyString());
+        verify(conversionService).convertMtToMxWithPayment(anyString());
+        verify(conversionService, never()).toPayment(anyString());
         verify(xsdValidationService).validateByMtType(anyString(), anyString());
+        assertThat(swiftMessage.getCanonicalPayment()).isNotEmpty();
     }
 
     @Test
@@ -120,7 +132,7 @@ class SwiftMessageServiceTest {
 
         // Then
         assertThat(result).isNotNull();
-        verify(conversionService, never()).convertMtToMx(anyString());
+        verify(conversionService, never()).convertMtToMxWithPayment(anyString());
         verify(xsdValidationService, never()).validateByMtType(anyString(), anyString());
     }
 
@@ -131,7 +143,7 @@ class SwiftMessageServiceTest {
         swiftMessage.setRawMtMessage("{1:F01BANKBEBB0000000000}{2:I102BANKDEFFN}{4::20:REF123-}");
         when(swiftMessageMapper.toEntity(any(SwiftMessageDto.class))).thenReturn(swiftMessage);
         when(conversionService.getMtMessageType(anyString())).thenReturn("102");
-        when(conversionService.convertMtToMx(anyString())).thenReturn("<?xml>converted</xml>");
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenReturn(conversion("<?xml>converted</xml>"));
         when(xsdValidationService.validateByMtType(anyString(), anyString())).thenReturn(validValidationResult);
         when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(swiftMessage);
         when(swiftMessageMapper.toDto(any(SwiftMessage.class))).thenReturn(swiftMessageDto);
@@ -141,7 +153,7 @@ class SwiftMessageServiceTest {
 
         // Then
         assertThat(result).isNotNull();
-        verify(conversionService).convertMtToMx(anyString());
+        verify(conversionService).convertMtToMxWithPayment(anyString());
         verify(xsdValidationService).validateByMtType(anyString(), anyString());
     }
 
@@ -151,7 +163,7 @@ class SwiftMessageServiceTest {
         String newMtMessage = "{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{4::20:REF456-}";
         when(swiftMessageRepository.findById(1L)).thenReturn(Optional.of(swiftMessage));
         when(conversionService.getMtMessageType(anyString())).thenReturn("202");
-        when(conversionService.convertMtToMx(anyString())).thenReturn("<?xml>converted MT202</xml>");
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenReturn(conversion("<?xml>converted MT202</xml>"));
         when(xsdValidationService.validateByMtType(anyString(), anyString())).thenReturn(validValidationResult);
         when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(swiftMessage);
         when(swiftMessageMapper.toDto(any(SwiftMessage.class))).thenReturn(swiftMessageDto);
@@ -162,7 +174,7 @@ class SwiftMessageServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(swiftMessageRepository).findById(1L);
-        verify(conversionService).convertMtToMx(newMtMessage);
+        verify(conversionService).convertMtToMxWithPayment(newMtMessage);
         verify(xsdValidationService).validateByMtType(anyString(), anyString());
         verify(swiftMessageRepository).save(any(SwiftMessage.class));
     }
@@ -268,7 +280,7 @@ class SwiftMessageServiceTest {
         
         when(swiftMessageMapper.toEntity(any(SwiftMessageDto.class))).thenReturn(mt102Message);
         when(conversionService.getMtMessageType(anyString())).thenReturn("102");
-        when(conversionService.convertMtToMx(anyString())).thenReturn("<?xml>converted</xml>");
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenReturn(conversion("<?xml>converted</xml>"));
         when(xsdValidationService.validateByMtType(anyString(), anyString())).thenReturn(validValidationResult);
         when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(mt102Message);
         when(swiftMessageMapper.toDto(any(SwiftMessage.class))).thenReturn(swiftMessageDto);
@@ -288,9 +300,128 @@ class SwiftMessageServiceTest {
     void save_WithConversionError_ShouldSetErrorMessage() throws Exception {
         // Given
         when(swiftMessageMapper.toEntity(any(SwiftMessageDto.class))).thenReturn(swiftMessage);
-        when(conversionService.convertMtToMx(anyString())).thenThrow(new RuntimeException("Conversion failed"));
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenThrow(new RuntimeException("Conversion failed"));
         
         // When & Then
         assertThrows(RuntimeException.class, () -> swiftMessageService.save(swiftMessageDto));
     }
+
+    @Test
+    void save_ShouldExtractBusinessKeysFromMt() throws Exception {
+        // Given
+        when(swiftMessageMapper.toEntity(any(SwiftMessageDto.class))).thenReturn(swiftMessage);
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenReturn(conversion("<?xml>converted</xml>"));
+        when(xsdValidationService.validateByMtType(anyString(), anyString())).thenReturn(validValidationResult);
+        when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(swiftMessage);
+        when(swiftMessageMapper.toDto(any(SwiftMessage.class))).thenReturn(swiftMessageDto);
+
+        // When
+        swiftMessageService.save(swiftMessageDto);
+
+        // Then
+        assertThat(swiftMessage.getTransactionReference()).isEqualTo("REF123");
+        assertThat(swiftMessage.getSenderBic()).isEqualTo("BANKBEBB");
+    }
+
+    @Test
+    void save_InLazyMode_ShouldStoreCanonicalPaymentWithoutConverting() throws Exception {
+        // Given
+        swiftMessage.setGeneratedMxMessage(null);
+        when(lazyMxGenerator.isLazy()).thenReturn(true);
+        when(swiftMessageMapper.toEntity(any(SwiftMessageDto.class))).thenReturn(swiftMessage);
+        when(conversionService.toPayment(anyString())).thenReturn(CanonicalPayment.builder()
+                .messageType(MessageType.MT103).messageId("REF123").build());
+        when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(swiftMessage);
+        when(swiftMessageMapper.toDto(any(SwiftMessage.class))).thenReturn(swiftMessageDto);
+
+        // When
+        swiftMessageService.save(swiftMessageDto);
+
+        // Then
+        verify(conversionService, never()).convertMtToMxWithPayment(anyString());
+        verify(xsdValidationService, never()).validateByMtType(anyString(), anyString());
+        assertThat(swiftMessage.getGeneratedMxMessage()).isNull();
+        assertThat(swiftMessage.getCanonicalPayment()).isNotEmpty();
+    }
+
+    @Test
+    void save_InLazyMode_WithInvalidMt_ShouldRejectLikeEagerMode() throws Exception {
+        // Given
+        when(lazyMxGenerator.isLazy()).thenReturn(true);
+        when(swiftMessageMapper.toEntity(any(SwiftMessageDto.class))).thenReturn(swiftMessage);
+        when(conversionService.toPayment(anyString())).thenThrow(new ConversionException("Invalid MT message format"));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                swiftMessageService.save(swiftMessageDto));
+        assertThat(exception.getMessage()).isEqualTo("Conversion failed");
+        verify(swiftMessageRepository, never()).save(any(SwiftMessage.class));
+    }
+
+    @Test
+    void findOne_InLazyMode_ShouldGenerateMissingMx() throws Exception {
+        // Given
+        SwiftMessageDto withoutMx = new SwiftMessageDto();
+        withoutMx.setId(1L);
+        when(lazyMxGenerator.isLazy()).thenReturn(true);
+        when(lazyMxGenerator.resolve(swiftMessage)).thenReturn(new LazyMxGenerator.OnReadMx("<Document>lazy</Document>",
+                MessageStatus.CONVERTED, ValidationVerdict.VALID, null, null, "pacs.008.001.06"));
+        when(swiftMessageRepository.findById(1L)).thenReturn(Optional.of(swiftMessage));
+        when(swiftMessageMapper.toDto(any(SwiftMessage.class))).thenReturn(withoutMx);
+
+        // When
+        Optional<SwiftMessageDto> result = swiftMessageService.findOne(1L);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getGeneratedMxMessage()).isEqualTo("<Document>lazy</Document>");
+        assertThat(result.get().getValidationVerdict()).isEqualTo(ValidationVerdict.VALID);
+    }
+
+    @Test
+    void convertMtToMx_WithXsdErrors_ShouldStoreVerdictInsteadOfMarkerComment() throws Exception {
+        // Given
+        when(swiftMessageRepository.findById(1L)).thenReturn(Optional.of(swiftMessage));
+        when(conversionService.getMtMessageType(anyString())).thenReturn("103");
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenReturn(conversion("<Document>converted</Document>"));
+        when(xsdValidationService.schemaForMtType("MT103")).thenReturn("pacs.008.001.06");
+        when(xsdValidationService.validateByMtType(anyString(), anyString()))
+                .thenReturn(XsdValidationService.ValidationResult.invalid("cvc-complex-type.2.4.a"));
+        when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(swiftMessage);
+
+        // When
+        swiftMessageService.convertMtToMx(1L, "");
+
+        // Then
+        assertThat(swiftMessage.getGeneratedMxMessage()).isEqualTo("<Document>converted</Document>");
+        assertThat(swiftMessage.getStatus()).isEqualTo(MessageStatus.CONVERTED);
+        assertThat(swiftMessage.getValidationVerdict()).isEqualTo(ValidationVerdict.INVALID);
+        assertThat(swiftMessage.getErrorCode()).isEqualTo(ErrorCode.XSD_INVALID);
+        assertThat(swiftMessage.getErrorMessage()).isEqualTo("cvc-complex-type.2.4.a");
+        assertThat(swiftMessage.getMxSchema()).isEqualTo("pacs.008.001.06");
+    }
+
+    @Test
+    void convertMtToMx_WhenConversionFails_ShouldStoreStatusInsteadOfErrorDocument() throws Exception {
+        // Given
+        when(swiftMessageRepository.findById(1L)).thenReturn(Optional.of(swiftMessage));
+        when(conversionService.getMtMessageType(anyString())).thenReturn("103");
+        when(conversionService.convertMtToMxWithPayment(anyString())).thenThrow(new ConversionException("Invalid MT message format"));
+        when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(swiftMessage);
+
+        // When
+        swiftMessageService.convertMtToMx(1L, "");
+
+        // Then
+        assertThat(swiftMessage.getGeneratedMxMessage()).isNull();
+        assertThat(swiftMessage.getStatus()).isEqualTo(MessageStatus.CONVERSION_FAILED);
+        assertThat(swiftMessage.getValidationVerdict()).isEqualTo(ValidationVerdict.NOT_VALIDATED);
+        assertThat(swiftMessage.getErrorCode()).isEqualTo(ErrorCode.CONVERSION_ERROR);
+        assertThat(swiftMessage.getErrorMessage()).isEqualTo("Invalid MT message format");
+    }
+
+    private static MtConversion conversion(String mxMessage) {
+        return new MtConversion(mxMessage, CanonicalPayment.builder()
+                .messageType(MessageType.MT103).messageId("REF123").build());
+    }
 }
@@ -103,6 +103,20 @@ class SwiftMessageValidatorTest {
         assertThat(result.getErrors()).isEmpty();
     }
 
+    @Test
+    void validateAndSave_WithMT102SumMismatch_ShouldReturnError() {
+        // Given
+        SwiftMessage message = createValidMT102Message();
+        message.setRawMtMessage(message.getRawMtMessage().replace(":50A:", ":19:3500,\n:50A:"));
+
+        // When
+        SwiftMessageValidator.ValidationResult result = validator.validateAndSave(message);
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).anyMatch(error -> error.contains(":19: Sum of Amounts"));
+    }
+
     @Test
     void validateAndSave_WithValidMT202_ShouldReturnSuccess() {
         // Given
@@ -131,6 +145,20 @@ class SwiftMessageValidatorTest {
         assertThat(result.getErrors()).isEmpty();
     }
 
+    @Test
+    void validateAndSave_WithMT202COVModelViolation_ShouldReturnWarning() {
+        // Given - :70: is optional in the rule plan but required by the Mt202Cov model
+        SwiftMessage message = createValidMT202COVMessage();
+        when(swiftMessageRepository.save(any(SwiftMessage.class))).thenReturn(message);
+
+        // When
+        SwiftMessageValidator.ValidationResult result = validator.validateAndSave(message);
+
+        // Then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getWarnings()).anyMatch(warning -> warning.startsWith("Remittance Information (:70:)"));
+    }
+
     @Test
     void validateAndSave_WithValidMT203_ShouldReturnSuccess() {
         // Given
@@ -0,0 +1,103 @@
+package com.mtmx.service.batch;
+
+import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.converter.impl.Mt103ToMxConverter;
+import com.mtmx.service.converter.impl.MtMessageValidatorImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Mt103BatchAggregatorTest {
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    private Mt103BatchAggregator aggregator;
+
+    @AfterEach
+    void tearDown() {
+        if (aggregator != null) {
+            aggregator.shutdown();
+        }
+        scheduler.shutdown();
+    }
+
+    @Test
+    void submit_ShouldFlushOnSizeAndMapEachSourceToItsIndex() throws Exception {
+        aggregator = aggregator(3, 60_000);
+
+        CompletableFuture<BatchedTransaction> first = aggregator.submit(mt103("REF001", "EUR1000,50"));
+        CompletableFuture<BatchedTransaction> second = aggregator.submit(mt103("REF002", "EUR250,"));
+        assertThat(first).isNotDone();
+        assertThat(aggregator.pendingCount()).isEqualTo(2);
+
+        CompletableFuture<BatchedTransaction> third = aggregator.submit(mt103("REF003", "EUR0,25"));
+
+        BatchedTransaction placement = second.get(1, TimeUnit.SECONDS);
+        assertThat(placement.getTransactionIndex()).isEqualTo(1);
+        assertThat(placement.getSourceReference()).isEqualTo("REF002");
+        assertThat(placement.getBatchSize()).isEqualTo(3);
+        assertThat(first.get().getDocument()).isSameAs(third.get().getDocument());
+        assertThat(third.get().getTransactionIndex()).isEqualTo(2);
+        assertThat(placement.getDocument())
+                .contains("<NbOfTxs>3</NbOfTxs>")
+                .contains("<CtrlSum>1250.75</CtrlSum>")
+                .contains("<EndToEndId>REF003</EndToEndId>");
+        assertThat(aggregator.pendingCount()).isZero();
+    }
+
+    @Test
+    void submit_ShouldKeepIncompatibleMessagesApartAndFlushOnTimeout() throws Exception {
+        aggregator = aggregator(10, 50);
+
+        CompletableFuture<BatchedTransaction> eur = aggregator.submit(mt103("REF001", "EUR1000,"));
+        CompletableFuture<BatchedTransaction> usd = aggregator.submit(mt103("REF002", "USD1000,"));
+
+        assertThat(eur.get(5, TimeUnit.SECONDS).getBatchSize()).isEqualTo(1);
+        assertThat(usd.get(5, TimeUnit.SECONDS).getBatchSize()).isEqualTo(1);
+        assertThat(eur.get().getBatchId()).isNotEqualTo(usd.get().getBatchId());
+    }
+
+    @Test
+    void submit_ShouldRejectInvalidMessagesImmediately() {
+        aggregator = aggregator(10, 60_000);
+
+        assertThatThrownBy(() -> aggregator.submit("{1:F01BANKBEBBAXXX0000000000}{4:\n:20:X\n-}"))
+                .isInstanceOf(ConversionException.class);
+        assertThat(aggregator.pendingCount()).isZero();
+    }
+
+    @Test
+    void submit_AfterShutdown_ShouldFailWithConversionException() {
+        aggregator = aggregator(10, 60_000);
+        aggregator.shutdown();
+
+        assertThatThrownBy(() -> aggregator.submit(mt103("REF001", "EUR1000,")))
+                .isInstanceOf(ConversionException.class)
+                .hasMessageContaining("shut down");
+        assertThat(aggregator.pendingCount()).isZero();
+    }
+
+    private Mt103BatchAggregator aggregator(int maxSize, long maxWaitMillis) {
+        scheduler.initialize();
+        return new Mt103BatchAggregator(new Mt103ToMxConverter(new MtMessageValidatorImpl()),
+                maxSize, maxWaitMillis, scheduler, new SimpleMeterRegistry());
+    }
+
+    private static String mt103(String reference, String currencyAmount) {
+        return "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}{4:\n"
+                + ":20:" + reference + "\n"
+                + ":23B:CRED\n"
+                + ":32A:241222" + currencyAmount + "\n"
+                + ":50K:/12345678\nJOHN DOE\n"
+                + ":59:/87654321\nJANE DOE\n"
+                + ":71A:SHA\n"
+                + "-}";
+    }
+}
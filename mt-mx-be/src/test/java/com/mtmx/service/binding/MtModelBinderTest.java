@@ -0,0 +1,242 @@
+package com.mtmx.service.binding;
+
+import com.mtmx.domain.currency.CurrencyAmounts;
+import com.mtmx.domain.model.Mt102;
+import com.mtmx.domain.model.Mt102Transaction;
+import com.mtmx.domain.model.Mt103;
+import com.mtmx.domain.model.Mt202;
+import com.mtmx.domain.model.Mt202Cov;
+import com.mtmx.domain.model.Mt203;
+import com.mtmx.domain.validation.ModelValidators;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MtModelBinderTest {
+
+    private static final String MT103 = "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}{4:\n"
+            + ":20:REF103\n"
+            + ":23B:CRED\n"
+            + ":32A:241222EUR1000,50\n"
+            + ":50K:/12345678\n"
+            + "JOHN DOE\n"
+            + "MAIN STREET 1\n"
+            + "BRUSSELS\n"
+            + ":53A:/D/998877\n"
+            + "CITIUS33XXX\n"
+            + ":53D:IGNORED\n"
+            + ":59A:/87654321\n"
+            + "BANKDEFFXXX\n"
+            + ":70:INVOICE 42\n"
+            + ":71A:SHA\n"
+            + ":71F:EUR2,5\n"
+            + "-}";
+
+    @Test
+    void mt103_ShouldBindTextAndDecodeTypedFields() {
+        Mt103 mt103 = MtModelBinder.mt103(MT103);
+
+        assertThat(mt103.getTransactionReference()).isEqualTo("REF103");
+        assertThat(mt103.getBankOperationCode()).isEqualTo("CRED");
+        assertThat(mt103.getValueDate()).isEqualTo(LocalDate.of(2024, 12, 22));
+        assertThat(mt103.getCurrency()).isEqualTo("EUR");
+        assertThat(mt103.getAmount()).isEqualByComparingTo("1000.50");
+        assertThat(mt103.getAmount().scale()).isEqualTo(2);
+        assertThat(mt103.getOrderingCustomerAccount()).isEqualTo("12345678");
+        assertThat(mt103.getOrderingCustomerName()).isEqualTo("JOHN DOE");
+        assertThat(mt103.getOrderingCustomerAddress()).isEqualTo("MAIN STREET 1\nBRUSSELS");
+        assertThat(mt103.getSendersCorrespondentAccount()).isEqualTo("D/998877");
+        assertThat(mt103.getSendersCorrespondentBic()).isEqualTo("CITIUS33XXX");
+        assertThat(mt103.getSendersCorrespondentName()).isNull();
+        assertThat(mt103.getBeneficiaryAccount()).isEqualTo("87654321");
+        assertThat(mt103.getBeneficiaryBic()).isEqualTo("BANKDEFFXXX");
+        assertThat(mt103.getRemittanceInformation()).isEqualTo("INVOICE 42");
+        assertThat(mt103.getDetailsOfCharges()).isEqualTo("SHA");
+        assertThat(mt103.getSendersChargesCurrency()).isEqualTo("EUR");
+        assertThat(mt103.getSendersChargesAmount()).isEqualByComparingTo("2.50");
+        assertThat(mt103.getReceiversChargesAmount()).isNull();
+    }
+
+    @Test
+    void mt103_SingleLineTextBlock_ShouldBeBound() {
+        Mt103 mt103 = MtModelBinder.mt103("{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}"
+                + "{4::20:REF123:23B:CRED:32A:241222USD1000,00:71A:OUR-}");
+
+        assertThat(mt103.getTransactionReference()).isEqualTo("REF123");
+        assertThat(mt103.getBankOperationCode()).isEqualTo("CRED");
+        assertThat(mt103.getCurrency()).isEqualTo("USD");
+        assertThat(mt103.getAmount()).isEqualByComparingTo("1000");
+        assertThat(mt103.getDetailsOfCharges()).isEqualTo("OUR");
+    }
+
+    @Test
+    void setter_ShouldOverrideUndecodedRawValue() {
+        Mt103 mt103 = MtModelBinder.mt103(MT103);
+
+        mt103.setAmount(new BigDecimal("1.00"));
+        mt103.setValueDate(LocalDate.of(2025, 1, 2));
+
+        assertThat(mt103.getAmount()).isEqualByComparingTo("1.00");
+        assertThat(mt103.getValueDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+    }
+
+    @Test
+    void amountMinorUnits_ShouldReadRawAmountWithoutDecodingAndFollowSetters() {
+        Mt103 mt103 = MtModelBinder.mt103(MT103);
+        Mt103 malformed = MtModelBinder.mt103(MT103.replace(":32A:241222EUR1000,50", ":32A:241222EUR10X0"));
+
+        assertThat(mt103.amountMinorUnits()).isEqualTo(100050L);
+        assertThat(malformed.amountMinorUnits()).isEqualTo(CurrencyAmounts.NO_AMOUNT);
+
+        mt103.setAmount(new BigDecimal("1.5"));
+        assertThat(mt103.amountMinorUnits()).isEqualTo(150L);
+        assertThat(new Mt103().amountMinorUnits()).isEqualTo(CurrencyAmounts.NO_AMOUNT);
+    }
+
+    @Test
+    void malformedTypedFields_ShouldReadAsNullAndFailValidation() {
+        Mt103 mt103 = MtModelBinder.mt103(MT103.replace(":32A:241222EUR1000,50", ":32A:241322EUR10X0"));
+
+        assertThat(mt103.getCurrency()).isEqualTo("EUR");
+        assertThat(mt103.getValueDate()).isNull();
+        assertThat(mt103.getAmount()).isNull();
+        assertThat(ModelValidators.validate(mt103))
+                .extracting(violation -> violation.getProperty())
+                .contains("valueDate", "amount");
+    }
+
+    @Test
+    void boundModel_ShouldUseGeneratedValidatorOfModel() {
+        Mt103 mt103 = MtModelBinder.mt103(MT103);
+
+        assertThat(mt103).isNotExactlyInstanceOf(Mt103.class);
+        assertThat(ModelValidators.validate(mt103)).isEmpty();
+        assertThat(mt103.isValid()).isTrue();
+    }
+
+    @Test
+    void mt202_ShouldBindInstitutions() {
+        Mt202 mt202 = MtModelBinder.mt202("{4:\n"
+                + ":20:REF202\n"
+                + ":21:RELATED\n"
+                + ":32A:250101JPY1500000\n"
+                + ":52A:BANKBEBBXXX\n"
+                + ":56D:INTERMEDIARY BANK\n"
+                + "TOKYO\n"
+                + ":58A:/445566\n"
+                + "BANKJPJTXXX\n"
+                + "-}");
+
+        assertThat(mt202.getTransactionReference()).isEqualTo("REF202");
+        assertThat(mt202.getRelatedReference()).isEqualTo("RELATED");
+        assertThat(mt202.getAmount()).isEqualByComparingTo("1500000");
+        assertThat(mt202.getAmount().scale()).isZero();
+        assertThat(mt202.getOrderingInstitutionBic()).isEqualTo("BANKBEBBXXX");
+        assertThat(mt202.getIntermediaryName()).isEqualTo("INTERMEDIARY BANK");
+        assertThat(mt202.getBeneficiaryInstitutionBic()).isEqualTo("BANKJPJTXXX");
+        assertThat(ModelValidators.validate(mt202)).isEmpty();
+    }
+
+    @Test
+    void mt202Cov_ShouldKeepSequenceAInstitutionsAndBindUnderlyingCustomers() {
+        Mt202Cov cov = MtModelBinder.mt202Cov("{4:\n"
+                + ":20:COVREF\n"
+                + ":21:RELREF\n"
+                + ":32A:250101EUR500,\n"
+                + ":52A:BANKBEBBXXX\n"
+                + ":58A:BANKDEFFXXX\n"
+                + ":50K:/111\n"
+                + "ORDERING CUSTOMER\n"
+                + ":52A:OTHRBEBBXXX\n"
+                + ":59:/222\n"
+                + "BENEFICIARY\n"
+                + ":70:COVER PAYMENT\n"
+                + ":33B:USD540,25\n"
+                + "-}");
+
+        assertThat(cov.getOrderingInstitutionBic()).isEqualTo("BANKBEBBXXX");
+        assertThat(cov.getOrderingCustomerName()).isEqualTo("ORDERING CUSTOMER");
+        assertThat(cov.getBeneficiaryCustomerAccount()).isEqualTo("222");
+        assertThat(cov.getOriginalOrderedCurrency()).isEqualTo("USD");
+        assertThat(cov.getOriginalOrderedAmount()).isEqualByComparingTo("540.25");
+        assertThat(cov.getAmount()).isEqualByComparingTo("500");
+    }
+
+    @Test
+    void mt102_ShouldBindSequencesAAndCAndTransactions() {
+        Mt102 mt102 = MtModelBinder.mt102("{4:\n"
+                + ":20:BATCH1\n"
+                + ":23:CREDIT\n"
+                + ":50K:/999\n"
+                + "ORDERING CORP\n"
+                + ":71A:SHA\n"
+                + ":21:TX1\n"
+                + ":32B:EUR100,\n"
+                + ":59:/A1\n"
+                + "FIRST\n"
+                + ":70:ONE\n"
+                + ":21:TX2\n"
+                + ":32B:EUR250,5\n"
+                + ":59:/A2\n"
+                + "SECOND\n"
+                + ":32A:250101EUR350,50\n"
+                + ":19:350,50\n"
+                + "-}");
+
+        assertThat(mt102.getTransactionReference()).isEqualTo("BATCH1");
+        assertThat(mt102.getBankOperationCode()).isEqualTo("CREDIT");
+        assertThat(mt102.getOrderingCustomerName()).isEqualTo("ORDERING CORP");
+        assertThat(mt102.getSettlementCurrency()).isEqualTo("EUR");
+        assertThat(mt102.getInterbankSettledAmount()).isEqualByComparingTo("350.50");
+        assertThat(mt102.getSumOfAmounts()).isEqualByComparingTo("350.50");
+
+        assertThat(mt102.getTransactions()).extracting(Mt102Transaction::getTransactionReference)
+                .containsExactly("TX1", "TX2");
+        Mt102Transaction second = mt102.getTransactions().get(1);
+        assertThat(second.getAmount()).isEqualByComparingTo("250.50");
+        assertThat(second.getBeneficiaryName()).isEqualTo("SECOND");
+        assertThat(second.getRemittanceInformation()).isNull();
+        assertThat(mt102.isAmountBalanced()).isTrue();
+    }
+
+    @Test
+    void mt203_ShouldDecodeSumWithFirstTransactionCurrency() {
+        Mt203 mt203 = MtModelBinder.mt203("{4:\n"
+                + ":19:3000,\n"
+                + ":20:MULTI\n"
+                + ":21:T1\n"
+                + ":32B:USD1000,\n"
+                + ":58A:BANKUS33XXX\n"
+                + ":21:T2\n"
+                + ":32B:USD2000,\n"
+                + ":58A:BANKGB2LXXX\n"
+                + "-}");
+
+        assertThat(mt203.getTransactionReference()).isEqualTo("MULTI");
+        assertThat(mt203.getTransactions()).hasSize(2);
+        assertThat(mt203.getTransactions().get(1).getBeneficiaryInstitutionBic()).isEqualTo("BANKGB2LXXX");
+        assertThat(mt203.getSumOfAmounts()).isEqualByComparingTo("3000");
+        assertThat(mt203.isAmountBalanced()).isTrue();
+    }
+
+    @Test
+    void mt203_AmountBeforeFirstRelatedReference_ShouldStartTransactionWithoutReference() {
+        Mt203 mt203 = MtModelBinder.mt203("{4:\n"
+                + ":20:REF203\n"
+                + ":32A:250625EUR1000,50\n"
+                + ":58A:BANKUS33XXX\n"
+                + ":21:T2\n"
+                + ":32A:250625EUR2000,\n"
+                + "-}");
+
+        assertThat(mt203.getTransactionReference()).isEqualTo("REF203");
+        assertThat(mt203.getTransactions()).hasSize(2);
+        assertThat(mt203.getTransactions().get(0).getTransactionReference()).isNull();
+        assertThat(mt203.getTransactions().get(0).getBeneficiaryInstitutionBic()).isEqualTo("BANKUS33XXX");
+        assertThat(mt203.getTransactions().get(0).amountMinorUnits()).isEqualTo(100050L);
+        assertThat(mt203.getTransactions().get(1).getTransactionReference()).isEqualTo("T2");
+    }
+}
@@ -0,0 +1,143 @@
+package com.mtmx.service.cache;
+
+import com.mtmx.service.cache.ConversionResultCache.Operation;
+import com.mtmx.service.converter.ConversionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionCoalescerTest {
+
+    private static final int THREADS = 8;
+
+    private SimpleMeterRegistry registry;
+    private ConversionCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        coalescer = new ConversionCoalescer(true, registry);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_ConcurrentSamePayload_ShouldRunOnceAndShareResult() throws Exception {
+        ContentKey key = ContentKey.of(Operation.MT_TO_MX.name(), null, "MT103");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> coalescer.execute(Operation.MT_TO_MX, key, () -> {
+                loads.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return "<mx/>";
+            })));
+        }
+        waitForFollowers(THREADS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("<mx/>", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, coalescer.inFlightCount());
+        assertEquals((THREADS - 1) / (double) THREADS,
+                registry.get("mtmx.conversion.coalescing.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void execute_ConcurrentFailure_ShouldPropagateSameErrorToFollowers() throws Exception {
+        ContentKey key = ContentKey.of(Operation.MX_TO_MT.name(), null, "<bad/>");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> coalescer.execute(Operation.MX_TO_MT, key, () -> {
+                release.await(5, TimeUnit.SECONDS);
+                throw new ConversionException("Invalid MX message format");
+            })));
+        }
+        waitForFollowers(THREADS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ConversionException.class, e.getCause());
+        }
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    void execute_SequentialCalls_ShouldNotCoalesce() throws Exception {
+        ContentKey key = ContentKey.of(Operation.MT_TO_MX.name(), null, "MT202");
+        AtomicInteger loads = new AtomicInteger();
+
+        coalescer.execute(Operation.MT_TO_MX, key, loads::incrementAndGet);
+        coalescer.execute(Operation.MT_TO_MX, key, loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertEquals(0.0, registry.get("mtmx.conversion.coalescing.ratio").gauge().value());
+    }
+
+    @Test
+    void execute_WhenLeaderIsStuck_FollowerShouldConvertLocallyAfterTimeout() throws Exception {
+        ConversionCoalescer bounded = new ConversionCoalescer(true, 50, registry);
+        ContentKey key = ContentKey.of(Operation.MT_TO_MX.name(), null, "MT103");
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> bounded.execute(Operation.MT_TO_MX, key, () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "<leader/>";
+        }));
+        while (bounded.inFlightCount() == 0) {
+            Thread.sleep(5);
+        }
+
+        assertEquals("<local/>", bounded.execute(Operation.MT_TO_MX, key, () -> "<local/>"));
+        assertEquals(1.0, registry.get("mtmx.conversion.coalescing.timeouts").counter().count());
+        release.countDown();
+        assertEquals("<leader/>", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_WhenDisabled_ShouldAlwaysRunLoader() throws Exception {
+        ConversionCoalescer disabled = ConversionCoalescer.disabled();
+        ContentKey key = ContentKey.of(Operation.MT_TO_MX.name(), null, "MT103");
+
+        assertEquals("x", disabled.execute(Operation.MT_TO_MX, key, () -> "x"));
+        assertFalse(disabled.isEnabled());
+    }
+
+    private void waitForFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (followerCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, followerCount());
+    }
+
+    private double followerCount() {
+        return registry.get("mtmx.conversion.coalescing.followers").counters().stream()
+                .mapToDouble(c -> c.count()).sum();
+    }
+}
@@ -0,0 +1,141 @@
+package com.mtmx.service.cache;
+
+import com.mtmx.service.cache.ConversionResultCache.Operation;
+import com.mtmx.service.converter.ConversionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionResultCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Test
+    void get_SamePayloadTwice_ShouldLoadOnceAndRecordHit() {
+        ConversionResultCache cache = new ConversionResultCache(true, 100, 600, registry);
+
+        assertEquals("<mx/>", cache.get(Operation.MT_TO_MX, null, "MT103", () -> load("<mx/>")));
+        assertEquals("<mx/>", cache.get(Operation.MT_TO_MX, null, "MT103", () -> load("<other/>")));
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.get("mtmx.conversion.cache.hits").tag("operation", "mt-to-mx").counter().count());
+        assertEquals(1.0, registry.get("mtmx.conversion.cache.misses").tag("operation", "mt-to-mx").counter().count());
+        assertEquals(1.0, registry.get("mtmx.conversion.cache.size").gauge().value());
+    }
+
+    @Test
+    void get_DifferentOperationOrQualifier_ShouldNotShareEntries() {
+        ConversionResultCache cache = new ConversionResultCache(true, 100, 600, registry);
+
+        cache.get(Operation.MT_TO_MX, null, "payload", () -> load("a"));
+        cache.get(Operation.MX_TO_MT, null, "payload", () -> load("b"));
+        cache.get(Operation.XSD_VALIDATION, "pacs.008.001.06", "payload", () -> load("c"));
+        cache.get(Operation.XSD_VALIDATION, "pacs.009.001.08", "payload", () -> load("d"));
+
+        assertEquals(4, loads.get());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void get_WhenFull_ShouldEvictLeastRecentlyUsed() {
+        ConversionResultCache cache = new ConversionResultCache(true, 2, 600, registry);
+
+        cache.get(Operation.MT_TO_MX, null, "one", () -> load("1"));
+        cache.get(Operation.MT_TO_MX, null, "two", () -> load("2"));
+        cache.get(Operation.MT_TO_MX, null, "one", () -> load("1"));   // "one" son kullanılan olur
+        cache.get(Operation.MT_TO_MX, null, "three", () -> load("3")); // "two" çıkarılır
+
+        assertEquals(2, cache.size());
+        assertEquals(3, loads.get());
+        cache.get(Operation.MT_TO_MX, null, "one", () -> load("1"));
+        assertEquals(3, loads.get());
+        cache.get(Operation.MT_TO_MX, null, "two", () -> load("2"));
+        assertEquals(4, loads.get());
+        assertTrue(registry.get("mtmx.conversion.cache.evictions").counter().count() >= 1.0);
+    }
+
+    @Test
+    void get_WhenLoaderFails_ShouldNotCacheFailure() {
+        ConversionResultCache cache = new ConversionResultCache(true, 100, 600, registry);
+
+        assertThrows(ConversionException.class, () -> cache.get(Operation.MX_TO_MT, null, "bad",
+                () -> { throw new ConversionException("boom"); }));
+        assertEquals(0, cache.size());
+
+        assertDoesNotThrow(() -> cache.get(Operation.MX_TO_MT, null, "bad", () -> load("ok")));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysLoad() {
+        ConversionResultCache cache = new ConversionResultCache(false, 100, 600, registry);
+
+        cache.get(Operation.MT_TO_MX, null, "MT103", () -> load("<mx/>"));
+        cache.get(Operation.MT_TO_MX, null, "MT103", () -> load("<mx/>"));
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_WithZeroTtl_ShouldBeDisabled() {
+        ConversionResultCache cache = new ConversionResultCache(true, 100, 0, registry);
+
+        cache.get(Operation.MT_TO_MX, null, "MT103", () -> load("<mx/>"));
+        cache.get(Operation.MT_TO_MX, null, "MT103", () -> load("<mx/>"));
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WithClockBasedMsgId_ShouldNotCacheResult() {
+        ConversionResultCache cache = new ConversionResultCache(true, 100, 600, registry);
+        ContentKey key = ContentKey.of(Operation.MT_TO_MX.name(), null, "MT202");
+        String fallback = "<Document><GrpHdr><MsgId>MT202REF1718000000000</MsgId></GrpHdr></Document>";
+
+        cache.get(Operation.MT_TO_MX, key, () -> load(fallback), ConversionStamps::isCacheableMx);
+        cache.get(Operation.MT_TO_MX, key, () -> load(fallback), ConversionStamps::isCacheableMx);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+        assertTrue(ConversionStamps.isCacheableMx("<Document><GrpHdr><MsgId>REF123</MsgId></GrpHdr></Document>"));
+    }
+
+    @Test
+    void restampCreationTime_ShouldReplaceOnlyCreDtTm() {
+        String mx = "<Document><GrpHdr><MsgId>REF1</MsgId><CreDtTm>2020-01-01T00:00:00.000000</CreDtTm>"
+                + "</GrpHdr></Document>";
+
+        String restamped = ConversionStamps.restampCreationTime(mx);
+
+        assertFalse(restamped.contains("2020-01-01T00:00:00.000000"));
+        assertTrue(restamped.matches("<Document><GrpHdr><MsgId>REF1</MsgId><CreDtTm>"
+                + "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{6}</CreDtTm></GrpHdr></Document>"));
+        assertEquals("<Document/>", ConversionStamps.restampCreationTime("<Document/>"));
+    }
+
+    @Test
+    void contentKey_ShouldDependOnAllParts() {
+        assertEquals(ContentKey.of("MT_TO_MX", null, "x"), ContentKey.of("MT_TO_MX", null, "x"));
+        assertNotEquals(ContentKey.of("MT_TO_MX", null, "x"), ContentKey.of("MX_TO_MT", null, "x"));
+        assertNotEquals(ContentKey.of("MT_TO_MX", "a", "bc"), ContentKey.of("MT_TO_MX", "ab", "c"));
+    }
+}
@@ -1,7 +1,12 @@
 package com.mtmx.service.conversion;
 
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.payment.CanonicalPayment;
 import com.mtmx.service.ConversionService;
+import com.mtmx.service.cache.ConversionCoalescer;
+import com.mtmx.service.cache.ConversionResultCache;
 import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.converter.MtConversion;
 import com.mtmx.service.converter.MtMessageValidator;
 import com.mtmx.service.converter.MxMessageValidator;
 import com.mtmx.service.converter.impl.*;
@@ -11,8 +16,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
 
+import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,7 +79,8 @@ class Mt102ConversionTest {
         conversionService = new ConversionService(
                 mtMessageValidator, mxMessageValidator,
                 mt103ToMxConverter, mt202ToMxConverter, mt102ToMxConverter, mt203ToMxConverter, mt202CovToMxConverter,
-                mxToMt103Converter, mxToMt202Converter, mxToMt102Converter, mxToMt203Converter, mxToMt202CovConverter);
+                mxToMt103Converter, mxToMt202Converter, mxToMt102Converter, mxToMt203Converter, mxToMt202CovConverter,
+                ConversionResultCache.disabled(), ConversionCoalescer.disabled());
         conversionService.initializeConverters();
     }
 
@@ -152,6 +165,51 @@ class Mt102ConversionTest {
         assertTrue(isValid, "MT102 mesajı geçerli olmalı");
     }
 
+    @Test
+    void testMt102BulkToMxConversion() throws Exception {
+        // Her :21: transaction'ı kendi CdtTrfTxInf'i olarak yazılmalı
+        String mtContent = loadTestResource("test-data/mt102/bulk/mt102_bulk.txt");
+        Mt102ToMxConverter converter = new Mt102ToMxConverter(new MtMessageValidatorImpl());
+
+        String mxContent = converter.convert(mtContent);
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader(mxContent)));
+        NodeList transactions = document.getElementsByTagName("CdtTrfTxInf");
+        assertEquals(3, transactions.getLength(), "Her MT102 transaction'ı için bir CdtTrfTxInf olmalı");
+        assertEquals("3", document.getElementsByTagName("NbOfTxs").item(0).getTextContent());
+        assertEquals("7350.75", document.getElementsByTagName("CtrlSum").item(0).getTextContent());
+        assertEquals("SAL002", document.getElementsByTagName("EndToEndId").item(1).getTextContent());
+        assertEquals("3100.50", document.getElementsByTagName("IntrBkSttlmAmt").item(1).getTextContent());
+        assertEquals("ACME PAYROLL NV", ((Element) transactions.item(0)).getElementsByTagName("Nm").item(0).getTextContent());
+        assertEquals("JANE ROE", ((Element) transactions.item(1)).getElementsByTagName("Nm").item(1).getTextContent());
+    }
+
+    @Test
+    void testMt102BulkPaymentMatchesWrittenTransactions() throws Exception {
+        // Canonical transaction'lar pacs.008 ile aynı değerleri taşımalı
+        String mtContent = loadTestResource("test-data/mt102/bulk/mt102_bulk.txt");
+        Mt102ToMxConverter converter = new Mt102ToMxConverter(new MtMessageValidatorImpl());
+
+        MtConversion conversion = converter.convertWithPayment(mtContent);
+        CanonicalPayment payment = conversion.getPayment();
+
+        assertEquals(converter.toPayment(mtContent), payment);
+        assertEquals(MessageType.MT102, payment.getMessageType());
+        assertEquals(0, new BigDecimal("7350.75").compareTo(payment.getControlSum()));
+        assertEquals(3, payment.getTransactions().size());
+        CanonicalPayment.Transaction second = payment.getTransactions().get(1);
+        assertEquals("SAL002", second.getEndToEndId());
+        assertEquals(0, new BigDecimal("3100.50").compareTo(second.getAmount()));
+        assertEquals("JANE ROE", second.getCreditorName());
+        assertEquals("ACME PAYROLL NV", payment.getTransactions().get(0).getDebtorName());
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader(conversion.getMxMessage())));
+        assertEquals(3, document.getElementsByTagName("CdtTrfTxInf").getLength());
+        assertEquals("SAL002", document.getElementsByTagName("EndToEndId").item(1).getTextContent());
+    }
+
     private String loadTestResource(String path) throws IOException {
         ClassPathResource resource = new ClassPathResource(path);
         return Files.readString(resource.getFile().toPath());
@@ -0,0 +1,131 @@
+package com.mtmx.service.directory;
+
+import com.mtmx.service.validation.rules.MtFieldIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BicDirectoryTest {
+
+    private static final String MT103 = "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}{4:\n"
+            + ":20:REF123\n"
+            + ":32A:241222EUR1000,00\n"
+            + ":52A:/12345678\nBANKBEBB\n"
+            + ":57A:DEUTDEFF500\n"
+            + ":58A:UNKNDEFFXXX\n"
+            + "-}";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void index_ShouldNormalisePrimaryOfficesAndIgnoreDuplicates() {
+        BicIndex index = BicIndex.of(Arrays.asList("BANKBEBB", "BANKBEBBXXX", "DEUTDEFF500", "bad", null));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.getRejected()).isEqualTo(2);
+        assertThat(index.contains("BANKBEBB")).isTrue();
+        assertThat(index.contains("BANKBEBBXXX")).isTrue();
+        assertThat(index.contains("DEUTDEFF500")).isTrue();
+        assertThat(index.contains("DEUTDEFF")).isFalse();
+        assertThat(index.contains("DEUTDEFF501")).isFalse();
+        assertThat(index.containsInstitution("xxDEUTDEFF", 2)).isTrue();
+        assertThat(index.containsInstitution("DEUTDEFG", 0)).isFalse();
+    }
+
+    @Test
+    void load_ShouldReadFirstColumnOfCsvAndFixedWidthFiles() throws Exception {
+        Path csv = tempDir.resolve("bic.csv");
+        Files.write(csv, Arrays.asList(
+                "BIC;INSTITUTION;CITY",
+                "# comment",
+                "\"BANKBEBB\";\"BANK OF BELGIUM\";BRUSSELS",
+                "DEUTDEFF500;DEUTSCHE BANK;FRANKFURT",
+                "",
+                "NOTABIC;X;Y"));
+        Path fixed = tempDir.resolve("bic.txt");
+        Files.write(fixed, Arrays.asList(
+                "BANKBEBBXXX BANK OF BELGIUM         BRUSSELS",
+                "CHASUS33    JPMORGAN CHASE          NEW YORK"));
+
+        BicIndex fromCsv = BicIndex.load(csv);
+        BicIndex fromFixed = BicIndex.load(fixed);
+
+        assertThat(fromCsv.size()).isEqualTo(2);
+        assertThat(fromCsv.getRejected()).isEqualTo(1);
+        assertThat(fromCsv.contains("DEUTDEFF500")).isTrue();
+        assertThat(fromFixed.contains("BANKBEBB")).isTrue();
+        assertThat(fromFixed.contains("CHASUS33XXX")).isTrue();
+    }
+
+    @Test
+    void findUnknownBics_ShouldCheckHeaderAndPartyFields() {
+        BicDirectory directory = BicDirectory.disabled();
+        assertThat(directory.findUnknownBics(MtFieldIndex.parse(MT103))).isEmpty();
+        assertThat(directory.isKnown("UNKNDEFF")).isTrue();
+
+        directory.swap(BicIndex.of(Arrays.asList("BANKBEBB", "BANKDEFF", "DEUTDEFF500")));
+
+        assertThat(directory.findUnknownBics(MtFieldIndex.parse(MT103))).containsExactly("UNKNDEFFXXX");
+        assertThat(directory.isKnown("UNKNDEFF")).isFalse();
+
+        List<String> unknownHeaders = directory.findUnknownBics(
+                MtFieldIndex.parse("{1:F01NONEBEBBAXXX0000000000}{2:I202COVOTHRDEFFXXXXN}{4:\n:20:X\n-}"));
+        assertThat(unknownHeaders).containsExactly("NONEBEBB", "OTHRDEFF");
+    }
+
+    @Test
+    void reloadIfChanged_ShouldSwapInNewFileDropAndKeepIndexOnFailure() throws Exception {
+        Path file = tempDir.resolve("directory.csv");
+        Files.write(file, Arrays.asList("BIC", "BANKBEBB"));
+        BicDirectory directory = new BicDirectory(file.toString(), 0, new SimpleMeterRegistry());
+        directory.start();
+
+        assertThat(directory.isLoaded()).isTrue();
+        assertThat(directory.isKnown("BANKBEBB")).isTrue();
+        assertThat(directory.isKnown("NEWBDEFF")).isFalse();
+        assertThat(directory.reloadIfChanged()).isFalse();
+
+        Files.write(file, Arrays.asList("BIC", "BANKBEBB", "NEWBDEFF"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        BicIndex previous = directory.getIndex();
+
+        assertThat(directory.reloadIfChanged()).isTrue();
+        assertThat(directory.getIndex()).isNotSameAs(previous);
+        assertThat(directory.isKnown("NEWBDEFF")).isTrue();
+
+        Files.delete(file);
+        assertThat(directory.reloadIfChanged()).isFalse();
+        assertThat(directory.isKnown("NEWBDEFF")).isTrue();
+    }
+
+    @Test
+    void reloadIfChanged_ShouldRefuseEmptyOrTruncatedDrop() throws Exception {
+        Path file = tempDir.resolve("directory.csv");
+        Files.write(file, Arrays.asList("BIC", "BANKBEBB", "BANKDEFF", "DEUTDEFF", "CHASUS33"));
+        BicDirectory directory = new BicDirectory(file.toString(), 0, new SimpleMeterRegistry());
+        directory.start();
+        BicIndex loaded = directory.getIndex();
+
+        Files.write(file, Collections.singletonList("BIC"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+        assertThat(directory.reloadIfChanged()).isFalse();
+
+        Files.write(file, Arrays.asList("BIC", "BANKBEBB"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        assertThat(directory.reloadIfChanged()).isFalse();
+
+        assertThat(directory.getIndex()).isSameAs(loaded);
+        assertThat(directory.isKnown("CHASUS33")).isTrue();
+        assertThat(BicDirectory.disabled().swap(BicIndex.empty())).isFalse();
+    }
+}
@@ -0,0 +1,164 @@
+package com.mtmx.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageStatus;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
+import com.mtmx.repository.SwiftMessageRepository;
+import com.mtmx.service.mx.LazyMxGenerator;
+import com.mtmx.web.mapper.SwiftMessageMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SwiftMessageExportServiceTest {
+
+    private static final String MX = "<Document><FIToFICstmrCdtTrf/></Document>";
+
+    @Autowired
+    private SwiftMessageRepository swiftMessageRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final LazyMxGenerator lazyMxGenerator = mock(LazyMxGenerator.class);
+
+    private SwiftMessageExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new SwiftMessageExportService(swiftMessageRepository, new SwiftMessageMapperImpl(),
+                lazyMxGenerator, objectMapper, entityManager.getEntityManager(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void ndjson_ShouldStreamMatchingMessagesOldestFirstAndDetachThem() throws Exception {
+        SwiftMessage first = persist(MessageType.MT103, "REF1", MX);
+        persist(MessageType.MT202, "REF2", MX);
+        SwiftMessage third = persist(MessageType.MT103, "REF3", MX);
+        persist(MessageType.MT103, "REF4", null);
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(ExportFilter.of("MT103", "CONVERTED", null, null), ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode json = objectMapper.readTree(lines[0]);
+        assertThat(json.get("id").asLong()).isEqualTo(first.getId());
+        assertThat(json.get("generatedMxMessage").asText()).isEqualTo(MX);
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(third.getId());
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void csv_ShouldWriteHeaderAndQuoteValues() throws Exception {
+        persist(MessageType.MT103, "REF,\"1\"", MX);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ExportFilter.of(null, null, null, null), ExportFormat.CSV, out);
+
+        String[] rows = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).hasSize(2);
+        assertThat(rows[0]).isEqualTo(String.join(",", SwiftMessageExportService.CSV_COLUMNS));
+        assertThat(rows[1]).contains(",MT103,CONVERTED,", ",\"REF,\"\"1\"\"\",", ",100.00,EUR,");
+    }
+
+    @Test
+    void zip_ShouldContainMtAndMxFilePerMessage() throws Exception {
+        SwiftMessage converted = persist(MessageType.MT103, "REF1", MX);
+        SwiftMessage received = persist(MessageType.MT202, "REF2", null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(ExportFilter.of(null, null, null, null), ExportFormat.ZIP, out);
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+        assertThat(count).isEqualTo(2);
+        assertThat(names).containsExactly(converted.getId() + "_MT103.txt", converted.getId() + "_MT103.xml",
+                received.getId() + "_MT202.txt");
+    }
+
+    @Test
+    void ndjson_InLazyMode_ShouldGenerateMissingMxWithoutCaching() throws Exception {
+        SwiftMessage received = persist(MessageType.MT103, "REF1", null);
+        entityManager.clear();
+        when(lazyMxGenerator.isLazy()).thenReturn(true);
+        when(lazyMxGenerator.resolveUncached(any())).thenReturn(new LazyMxGenerator.OnReadMx(MX,
+                MessageStatus.CONVERTED, ValidationVerdict.VALID, null, null, "pacs.008.001.06"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ExportFilter.of(null, null, null, null), ExportFormat.NDJSON, out);
+
+        JsonNode json = objectMapper.readTree(out.toString(StandardCharsets.UTF_8).trim());
+        assertThat(json.get("id").asLong()).isEqualTo(received.getId());
+        assertThat(json.get("generatedMxMessage").asText()).isEqualTo(MX);
+        assertThat(json.get("status").asText()).isEqualTo("CONVERTED");
+        verify(lazyMxGenerator, never()).resolve(any());
+    }
+
+    @Test
+    void invalidFilterOrFormat_ShouldBeRejectedBeforeStreaming() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(ExportFormat.of(null)).isEqualTo(ExportFormat.NDJSON);
+        assertThat(ExportFormat.of("csv")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.of("xlsx")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExportFilter.of("MT999", null, null, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExportFilter.of(null, null, now, now)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SwiftMessage persist(MessageType type, String reference, String mx) {
+        SwiftMessage message = new SwiftMessage();
+        message.setMessageType(type);
+        message.setSenderBic("BANKBEBBXXX");
+        message.setReceiverBic("BANKDEFFXXX");
+        message.setAmount(new BigDecimal("100.00"));
+        message.setCurrency("EUR");
+        message.setValueDate(LocalDate.now());
+        message.setTransactionReference(reference);
+        message.setRawMtMessage("{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}{4::20:EXP-}");
+        if (mx != null) {
+            message.markConverted(mx, "pacs.008.001.06", ValidationVerdict.VALID, null);
+        } else {
+            message.markReceived();
+        }
+        return entityManager.persistAndFlush(message);
+    }
+}
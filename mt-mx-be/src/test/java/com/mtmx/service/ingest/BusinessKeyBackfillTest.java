@@ -0,0 +1,74 @@
+package com.mtmx.service.ingest;
+
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.repository.SwiftMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Her repository çağrısı kendi transaction'ında çalışır; backfill de uygulamada böyle çalışır
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BusinessKeyBackfillTest {
+
+    private static final String UETR = "8A562C67-CA16-48BA-B074-65581BE6F001";
+
+    @Autowired
+    private SwiftMessageRepository swiftMessageRepository;
+
+    @AfterEach
+    void tearDown() {
+        swiftMessageRepository.deleteAll();
+    }
+
+    @Test
+    void backfillBatch_ShouldFillReferenceAndUetrOfExistingRowsAndStopAtTheEnd() {
+        SwiftMessage withUetr = persist("{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}"
+                + "{3:{121:" + UETR + "}}{4:\n:20:OLD1\n:32A:241222EUR100,00\n-}");
+        SwiftMessage withoutUetr = persist("{1:F01BANKBEBBAXXX0000000000}{2:I202BANKDEFFXXXXN}"
+                + "{4:\n:20:OLD2\n:32A:241222EUR100,00\n-}");
+        SwiftMessage withoutKeys = persist("{1:F01BANKBEBBAXXX0000000000}{2:I202BANKDEFFXXXXN}{4:\n-}");
+        BusinessKeyBackfill backfill = new BusinessKeyBackfill(swiftMessageRepository, false, 2, 0,
+                new SimpleMeterRegistry());
+
+        assertThat(backfill.backfillBatch()).isEqualTo(2);
+        assertThat(backfill.backfillBatch()).isZero();
+        assertThat(backfill.isFinished()).isFalse();
+        assertThat(backfill.backfillBatch()).isZero();
+        assertThat(backfill.isFinished()).isTrue();
+
+        SwiftMessage first = swiftMessageRepository.findById(withUetr.getId()).orElseThrow();
+        assertThat(first.getTransactionReference()).isEqualTo("OLD1");
+        assertThat(first.getUetr()).isEqualTo(UETR.toLowerCase());
+        SwiftMessage second = swiftMessageRepository.findById(withoutUetr.getId()).orElseThrow();
+        assertThat(second.getTransactionReference()).isEqualTo("OLD2");
+        assertThat(second.getUetr()).isNull();
+        assertThat(swiftMessageRepository.findById(withoutKeys.getId()).orElseThrow().getTransactionReference())
+                .isNull();
+    }
+
+    private SwiftMessage persist(String mt) {
+        SwiftMessage message = new SwiftMessage();
+        message.setMessageType(MessageType.MT103);
+        message.setSenderBic("BANKBEBBXXX");
+        message.setReceiverBic("BANKDEFFXXX");
+        message.setAmount(new BigDecimal("100.00"));
+        message.setCurrency("EUR");
+        message.setValueDate(LocalDate.of(2024, 12, 22));
+        message.setRawMtMessage(mt);
+        message.markReceived();
+        return swiftMessageRepository.save(message);
+    }
+}
@@ -0,0 +1,54 @@
+package com.mtmx.service.ingest;
+
+import com.mtmx.domain.entity.SwiftMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MtBusinessKeysTest {
+
+    private static final String MT103 = "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}"
+            + "{3:{108:MUR1}{121:8A562C67-CA16-48BA-B074-65581BE6F001}}{4:\n"
+            + ":20:REF103\n"
+            + ":23B:CRED\n"
+            + ":32A:241222EUR1000,50\n"
+            + ":71A:SHA\n"
+            + "-}";
+
+    @Test
+    void of_ShouldExtractReferenceUetrBicsAndValueDate() {
+        MtBusinessKeys keys = MtBusinessKeys.of(MT103);
+
+        assertThat(keys.getTransactionReference()).isEqualTo("REF103");
+        assertThat(keys.getUetr()).isEqualTo("8a562c67-ca16-48ba-b074-65581be6f001");
+        assertThat(keys.getSenderBic()).isEqualTo("BANKBEBBXXX");
+        assertThat(keys.getReceiverBic()).isEqualTo("BANKDEFFXXX");
+        assertThat(keys.getValueDate()).isEqualTo(LocalDate.of(2024, 12, 22));
+    }
+
+    @Test
+    void of_WithSingleLineTextBlockAndNoUserHeader_ShouldStillFindReference() {
+        MtBusinessKeys keys = MtBusinessKeys.of("{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{4::20:REF202:32A:251399USD5,-}");
+
+        assertThat(keys.getTransactionReference()).isEqualTo("REF202");
+        assertThat(keys.getUetr()).isNull();
+        assertThat(keys.getValueDate()).isNull();
+    }
+
+    @Test
+    void applyTo_ShouldKeepBicsAndValueDateGivenByCaller() {
+        SwiftMessage message = new SwiftMessage();
+        message.setSenderBic("CALLERBBXXX");
+        message.setValueDate(LocalDate.of(2025, 1, 2));
+
+        MtBusinessKeys.of(MT103).applyTo(message);
+
+        assertThat(message.getTransactionReference()).isEqualTo("REF103");
+        assertThat(message.getUetr()).isEqualTo("8a562c67-ca16-48ba-b074-65581be6f001");
+        assertThat(message.getSenderBic()).isEqualTo("CALLERBBXXX");
+        assertThat(message.getReceiverBic()).isEqualTo("BANKDEFFXXX");
+        assertThat(message.getValueDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+    }
+}
@@ -0,0 +1,99 @@
+package com.mtmx.service.mt102;
+
+import com.mtmx.service.validation.rules.AsciiBytes;
+import com.mtmx.service.validation.rules.MtTag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Mt102TransactionsTest {
+
+    private static final String MT102 = "{1:F01BANKBEBB0000000000}{2:I102BANKDEFFN}{4:\n"
+            + ":20:REF102\n"
+            + ":23:CRED\n"
+            + ":50A:BANKBEBB\n"
+            + ":21:TXN001\n"
+            + ":32B:EUR1000,\n"
+            + ":59A:BANKDEFF\n"
+            + ":70:SALARY JANUARY\n"
+            + "SECOND LINE\n"
+            + ":21:TXN002\n"
+            + ":32B:EUR2000,5\n"
+            + ":59:/DE89370400440532013000\n"
+            + "JOHN DOE\n"
+            + ":32A:241222EUR3000,50\n"
+            + ":19:3000,50\n"
+            + "-}";
+
+    @Test
+    void iterator_ShouldYieldEachSequenceBBlock() {
+        List<String> references = new ArrayList<>();
+        long sum = 0;
+        for (Mt102TransactionView transaction : Mt102Transactions.of(MT102)) {
+            references.add(transaction.reference());
+            assertThat(transaction.isCurrency("EUR")).isTrue();
+            sum += transaction.amountMinorUnits("EUR");
+        }
+
+        assertThat(references).containsExactly("TXN001", "TXN002");
+        assertThat(sum).isEqualTo(300050L);
+        assertThat(Mt102Transactions.of(MT102).count()).isEqualTo(2);
+        assertThat(Mt102Transactions.of(MT102).sequenceA().value(MtTag.F50A)).isEqualTo("BANKBEBB");
+        assertThat(Mt102Transactions.of(MT102).sequenceA().has(MtTag.F21)).isFalse();
+    }
+
+    @Test
+    void iterator_ShouldReadRawBytesWithoutDecoding() {
+        AsciiBytes bytes = AsciiBytes.of(MT102.getBytes(StandardCharsets.US_ASCII));
+
+        List<String> beneficiaries = new ArrayList<>();
+        long sum = 0;
+        for (Mt102TransactionView transaction : Mt102Transactions.of(bytes)) {
+            beneficiaries.add(transaction.beneficiary());
+            sum += transaction.amountMinorUnits("EUR");
+        }
+
+        assertThat(beneficiaries).containsExactly("BANKDEFF", "/DE89370400440532013000\nJOHN DOE");
+        assertThat(sum).isEqualTo(300050L);
+    }
+
+    @Test
+    void view_ShouldExposeFieldsOfCurrentTransactionOnly() {
+        Iterator<Mt102TransactionView> iterator = Mt102Transactions.of(MT102).iterator();
+
+        Mt102TransactionView first = iterator.next();
+        assertThat(first.index()).isZero();
+        assertThat(first.beneficiary()).isEqualTo("BANKDEFF");
+        assertThat(first.remittanceInformation()).isEqualTo("SALARY JANUARY\nSECOND LINE");
+        assertThat(first.has(MtTag.F20)).isFalse();
+
+        Mt102TransactionView second = iterator.next();
+        assertThat(second).isSameAs(first);
+        assertThat(second.index()).isEqualTo(1);
+        assertThat(second.beneficiary()).isEqualTo("/DE89370400440532013000\nJOHN DOE");
+        assertThat(second.remittanceInformation()).isNull();
+        // Sequence C alanları transaction'a dahil edilmez
+        assertThat(second.has(MtTag.F32A)).isFalse();
+        assertThat(second.has(MtTag.F19)).isFalse();
+        assertThat(second.toTransaction().getAmount()).isEqualTo(new BigDecimal("2000.50"));
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator_ShouldBeEmptyWithoutTransactions() {
+        String single = "{1:F01BANKBEBB0000000000}{2:I102BANKDEFFN}{4:\n:20:REF\n:32A:241222EUR1000,00\n-}";
+
+        assertThat(Mt102Transactions.of(single).iterator().hasNext()).isFalse();
+        assertThat(Mt102Transactions.of(null).count()).isZero();
+    }
+}
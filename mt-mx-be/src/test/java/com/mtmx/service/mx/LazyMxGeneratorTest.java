@@ -0,0 +1,174 @@
+package com.mtmx.service.mx;
+
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.ErrorCode;
+import com.mtmx.domain.enums.MessageStatus;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.domain.payment.CanonicalPaymentCodec;
+import com.mtmx.repository.SwiftMessageRepository;
+import com.mtmx.service.ConversionService;
+import com.mtmx.service.XsdValidationService;
+import com.mtmx.service.converter.ConversionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LazyMxGeneratorTest {
+
+    private static final String MT103 = "{1:F01BANKBEBB0000000000}{2:I103BANKDEFFN}{4::20:REF123:32A:241222EUR10,-}";
+
+    @Mock
+    private ConversionService conversionService;
+
+    @Mock
+    private XsdValidationService xsdValidationService;
+
+    @Mock
+    private SwiftMessageRepository swiftMessageRepository;
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    private SwiftMessage message;
+
+    @BeforeEach
+    void setUp() {
+        scheduler.initialize();
+        message = new SwiftMessage();
+        message.setId(7L);
+        message.setMessageType(MessageType.MT103);
+        message.setRawMtMessage(MT103);
+        message.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        when(xsdValidationService.validateByMtType(anyString(), anyString()))
+                .thenReturn(XsdValidationService.ValidationResult.valid("Valid"));
+        when(xsdValidationService.schemaForMtType("MT103")).thenReturn("pacs.008.001.06");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private LazyMxGenerator generator(boolean writeBack) {
+        return new LazyMxGenerator(conversionService, xsdValidationService, swiftMessageRepository,
+                "lazy", 10, writeBack, scheduler, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void mxFor_ShouldGenerateFromCanonicalPaymentOnceAndCache() throws Exception {
+        CanonicalPayment payment = CanonicalPayment.builder().messageType(MessageType.MT103).messageId("REF123")
+                .currency("EUR").settlementAmount(new BigDecimal("10")).build();
+        message.setCanonicalPayment(CanonicalPaymentCodec.encode(payment));
+        when(conversionService.convertToMx(payment)).thenReturn("<Document>canonical</Document>");
+        LazyMxGenerator generator = generator(false);
+
+        assertThat(generator.mxFor(message)).isEqualTo("<Document>canonical</Document>");
+        assertThat(generator.mxFor(message)).isEqualTo("<Document>canonical</Document>");
+
+        verify(conversionService, times(1)).convertToMx(payment);
+        verify(conversionService, never()).convertMtToMx(anyString());
+        assertThat(generator.size()).isEqualTo(1);
+    }
+
+    @Test
+    void mxFor_ShouldRegenerateWhenMessageWasUpdated() throws Exception {
+        when(conversionService.convertMtToMx(MT103)).thenReturn("<Document>v1</Document>", "<Document>v2</Document>");
+        LazyMxGenerator generator = generator(false);
+
+        assertThat(generator.mxFor(message)).isEqualTo("<Document>v1</Document>");
+        message.setUpdatedAt(message.getUpdatedAt().plusMinutes(1));
+
+        assertThat(generator.mxFor(message)).isEqualTo("<Document>v2</Document>");
+    }
+
+    @Test
+    void mxFor_ShouldNotCacheFailures() throws Exception {
+        when(conversionService.convertMtToMx(MT103)).thenThrow(new ConversionException("broken"));
+        LazyMxGenerator generator = generator(true);
+
+        assertThat(generator.mxFor(message)).isNull();
+        LazyMxGenerator.OnReadMx failed = generator.resolve(message);
+        assertThat(failed.getStatus()).isEqualTo(MessageStatus.CONVERSION_FAILED);
+        assertThat(failed.getErrorCode()).isEqualTo(ErrorCode.CONVERSION_ERROR);
+        assertThat(failed.getErrorMessage()).isEqualTo("broken");
+
+        verify(conversionService, times(2)).convertMtToMx(MT103);
+        verify(swiftMessageRepository, never()).writeBackGeneratedMx(any(), any(), any(), any(), any());
+        assertThat(generator.size()).isZero();
+    }
+
+    @Test
+    void mxFor_ShouldReturnStoredMxWithoutGenerating() throws Exception {
+        message.setGeneratedMxMessage("<Document>stored</Document>");
+
+        assertThat(generator(false).mxFor(message)).isEqualTo("<Document>stored</Document>");
+
+        verifyNoInteractions(conversionService);
+    }
+
+    @Test
+    void mxFor_WithWriteBack_ShouldPersistGeneratedMx() throws Exception {
+        when(conversionService.convertMtToMx(MT103)).thenReturn("<Document>generated</Document>");
+        LazyMxGenerator generator = generator(true);
+
+        generator.mxFor(message);
+
+        verify(swiftMessageRepository, timeout(2000)).writeBackGeneratedMx(7L, "<Document>generated</Document>",
+                ValidationVerdict.VALID, null, "pacs.008.001.06");
+    }
+
+    @Test
+    void resolveUncached_ShouldGenerateWithoutCachingOrWriteBack() throws Exception {
+        when(conversionService.convertMtToMx(MT103)).thenReturn("<Document>generated</Document>");
+        LazyMxGenerator generator = generator(true);
+
+        assertThat(generator.resolveUncached(message).getMx()).isEqualTo("<Document>generated</Document>");
+        assertThat(generator.resolveUncached(message).getMx()).isEqualTo("<Document>generated</Document>");
+
+        verify(conversionService, times(2)).convertMtToMx(MT103);
+        assertThat(generator.size()).isZero();
+        verify(swiftMessageRepository, after(200).never()).writeBackGeneratedMx(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void resolve_WithInvalidMx_ShouldReportVerdictWithoutChangingMx() throws Exception {
+        when(conversionService.convertMtToMx(MT103)).thenReturn("<Document>invalid</Document>");
+        when(xsdValidationService.validateByMtType(anyString(), anyString()))
+                .thenReturn(XsdValidationService.ValidationResult.invalid("cvc-complex-type"));
+
+        LazyMxGenerator.OnReadMx result = generator(false).resolve(message);
+
+        assertThat(result.getMx()).isEqualTo("<Document>invalid</Document>");
+        assertThat(result.getStatus()).isEqualTo(MessageStatus.CONVERTED);
+        assertThat(result.getValidationVerdict()).isEqualTo(ValidationVerdict.INVALID);
+        assertThat(result.getErrorCode()).isEqualTo(ErrorCode.XSD_INVALID);
+        assertThat(result.getErrorMessage()).isEqualTo("cvc-complex-type");
+        assertThat(result.getMxSchema()).isEqualTo("pacs.008.001.06");
+    }
+
+    @Test
+    void eagerMode_ShouldNotBeLazy() {
+        LazyMxGenerator eager = new LazyMxGenerator(conversionService, xsdValidationService, swiftMessageRepository,
+                "eager", 10, true, scheduler, new SimpleMeterRegistry());
+
+        assertThat(eager.isLazy()).isFalse();
+    }
+}
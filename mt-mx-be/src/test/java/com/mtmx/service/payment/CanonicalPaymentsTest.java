@@ -0,0 +1,83 @@
+package com.mtmx.service.payment;
+
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.payment.CanonicalPayment;
+import com.mtmx.domain.payment.CanonicalPaymentCodec;
+import com.mtmx.service.converter.MtConversion;
+import com.mtmx.service.converter.impl.Mt102ToMxConverter;
+import com.mtmx.service.converter.impl.Mt202ToMxConverter;
+import com.mtmx.service.converter.impl.MtMessageValidatorImpl;
+import com.mtmx.service.converter.impl.MxMessageValidatorImpl;
+import com.mtmx.service.converter.impl.MxToMt103Converter;
+import com.mtmx.service.converter.impl.MxToMt202Converter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CanonicalPaymentsTest {
+
+    private static final String MT202 = "{1:F01BANKBEBBAXXX0000000000}{2:I202BANKDEFFXXXXN}{4:\n"
+            + ":20:REF202\n"
+            + ":21:RELATED\n"
+            + ":32A:250101JPY1500000\n"
+            + ":58A:BANKJPJTXXX\n"
+            + "-}";
+
+    @Test
+    void mt102Bulk_ShouldKeepEveryTransactionThroughCodecAndMx() throws Exception {
+        String mt102 = new String(Files.readAllBytes(
+                new ClassPathResource("test-data/mt102/bulk/mt102_bulk.txt").getFile().toPath()));
+        CanonicalPayment payment = new Mt102ToMxConverter(new MtMessageValidatorImpl()).toPayment(mt102);
+
+        assertThat(payment.getMessageType()).isEqualTo(MessageType.MT102);
+        assertThat(payment.getMessageId()).isEqualTo("PAYROLL2410");
+        assertThat(payment.getControlSum()).isEqualByComparingTo("7350.75");
+        assertThat(payment.getTransactions()).extracting(CanonicalPayment.Transaction::getEndToEndId)
+                .containsExactly("SAL001", "SAL002", "SAL003");
+        assertThat(payment.getTransactions().get(1).getCreditorName()).isEqualTo("JANE ROE");
+
+        CanonicalPayment stored = CanonicalPaymentCodec.decode(CanonicalPaymentCodec.encode(payment));
+        String mx = CanonicalPayments.toMx(stored);
+        CanonicalPayment reread = new MxToMt103Converter(new MxMessageValidatorImpl()).toPayment(mx);
+
+        assertThat(CanonicalPayments.mxMessageDefinition(mx)).isEqualTo("pacs.008.001.08");
+        assertThat(reread.toBuilder().messageType(MessageType.MT102).build()).isEqualTo(payment);
+    }
+
+    @Test
+    void convertWithPayment_ShouldReturnMxAndPaymentOfTheSameRead() throws Exception {
+        String mt102 = new String(Files.readAllBytes(
+                new ClassPathResource("test-data/mt102/bulk/mt102_bulk.txt").getFile().toPath()));
+        Mt102ToMxConverter mt102Converter = new Mt102ToMxConverter(new MtMessageValidatorImpl());
+        Mt202ToMxConverter mt202Converter = new Mt202ToMxConverter(new MtMessageValidatorImpl());
+
+        MtConversion bulk = mt102Converter.convertWithPayment(mt102);
+        MtConversion single = mt202Converter.convertWithPayment(MT202);
+
+        assertThat(bulk.getPayment()).isEqualTo(mt102Converter.toPayment(mt102));
+        assertThat(bulk.getMxMessage()).contains("<NbOfTxs>3</NbOfTxs>", "<EndToEndId>SAL003</EndToEndId>");
+        assertThat(new MxToMt103Converter(new MxMessageValidatorImpl()).toPayment(bulk.getMxMessage())
+                .toBuilder().messageType(MessageType.MT102).build()).isEqualTo(bulk.getPayment());
+        assertThat(single.getPayment()).isEqualTo(mt202Converter.toPayment(MT202));
+        assertThat(single.getMxMessage()).contains("<MsgId>REF202</MsgId>");
+    }
+
+    @Test
+    void mt202_ShouldGenerateMtFromCanonicalPayment() throws Exception {
+        CanonicalPayment payment = new Mt202ToMxConverter(new MtMessageValidatorImpl()).toPayment(MT202);
+        MxToMt202Converter mxToMt202 = new MxToMt202Converter(new MxMessageValidatorImpl());
+
+        assertThat(payment.isCustomerTransfer()).isFalse();
+        assertThat(payment.firstTransaction().getInstructedAgentBic()).isEqualTo("TESTBANKAXXX");
+
+        String mx = CanonicalPayments.toMx(payment);
+        assertThat(mxToMt202.toPayment(mx)).isEqualTo(payment);
+        assertThat(mxToMt202.toMt202(payment))
+                .contains(":20:REF202\r\n")
+                .contains("JPY1500000");
+    }
+}
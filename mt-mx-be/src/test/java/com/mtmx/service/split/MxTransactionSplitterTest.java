@@ -0,0 +1,91 @@
+package com.mtmx.service.split;
+
+import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.converter.impl.MxMessageValidatorImpl;
+import com.mtmx.service.converter.impl.MxToMt102Converter;
+import com.mtmx.service.converter.impl.MxToMt103Converter;
+import com.mtmx.service.converter.impl.MxToMt202Converter;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MxTransactionSplitterTest {
+
+    private final MxTransactionSplitter splitter = new MxTransactionSplitter(
+            new MxToMt103Converter(new MxMessageValidatorImpl()),
+            new MxToMt102Converter(new MxMessageValidatorImpl()),
+            new MxToMt202Converter(new MxMessageValidatorImpl()));
+
+    @Test
+    void splitToMt103_ShouldEmitOneMessagePerTransaction() throws Exception {
+        List<String> messages = new ArrayList<>();
+
+        int count = splitter.splitToMt103(new StringReader(pacs008(120, "EUR")), (index, mt) -> messages.add(mt));
+
+        assertThat(count).isEqualTo(120);
+        assertThat(messages).hasSize(120);
+        assertThat(messages.get(0)).contains(":20:E2E0\r\n").contains("EUR1,25");
+        assertThat(messages.get(119)).contains(":20:E2E119\r\n").contains("EUR120,25");
+    }
+
+    @Test
+    void splitToMt102_ShouldChunkByLimitAndCurrency() throws Exception {
+        List<String> messages = new ArrayList<>();
+        String document = pacs008(120, "EUR").replace("<IntrBkSttlmAmt Ccy=\"EUR\">120.25</IntrBkSttlmAmt>",
+                "<IntrBkSttlmAmt Ccy=\"USD\">120.25</IntrBkSttlmAmt>");
+
+        int count = splitter.splitToMt102(new StringReader(document), 100, (index, mt) -> messages.add(mt));
+
+        // 50 + 50 + 19 EUR, 1 USD
+        assertThat(count).isEqualTo(4);
+        assertThat(messages.get(0)).startsWith("{1:").contains(":20:BULKMSG/1\n");
+        assertThat(messages.get(0).split(":21:", -1)).hasSize(51);
+        assertThat(messages.get(2).split(":21:", -1)).hasSize(20);
+        assertThat(messages.get(3)).contains(":32B:USD120,25").contains(":19:120,25");
+    }
+
+    @Test
+    void splitToMt202_ShouldWriteEachTransactionToTheWriter() throws Exception {
+        StringWriter out = new StringWriter();
+        String pacs009 = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<ns2:Document xmlns:ns2=\"urn:iso:std:iso:20022:tech:xsd:pacs.009.001.08\"><FICdtTrf>"
+                + "<GrpHdr><MsgId>FI1</MsgId><NbOfTxs>2</NbOfTxs></GrpHdr>"
+                + "<CdtTrfTxInf><PmtId><EndToEndId>FI-A</EndToEndId></PmtId><IntrBkSttlmAmt Ccy=\"USD\">5000</IntrBkSttlmAmt></CdtTrfTxInf>"
+                + "<CdtTrfTxInf><PmtId><EndToEndId>FI-B</EndToEndId></PmtId><IntrBkSttlmAmt Ccy=\"JPY\">700</IntrBkSttlmAmt></CdtTrfTxInf>"
+                + "</FICdtTrf></ns2:Document>";
+
+        int count = splitter.splitToMt202(new StringReader(pacs009), MtMessageSink.writingTo(out));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString()).contains("FI-A").contains("USD5000,00").contains("FI-B").contains("JPY700,");
+    }
+
+    @Test
+    void split_ShouldReportTheFailingTransaction() {
+        String document = pacs008(3, "EUR").replace("<EndToEndId>E2E1</EndToEndId>", "");
+
+        assertThatThrownBy(() -> splitter.splitToMt103(new StringReader(document), (index, mt) -> { }))
+                .isInstanceOf(ConversionException.class)
+                .hasMessageContaining("transaction 1");
+    }
+
+    private static String pacs008(int transactions, String currency) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<ns2:Document xmlns:ns2=\"urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08\"><FIToFICstmrCdtTrf>")
+                .append("<GrpHdr><MsgId>BULKMSG</MsgId><NbOfTxs>").append(transactions).append("</NbOfTxs></GrpHdr>");
+        for (int i = 0; i < transactions; i++) {
+            xml.append("<CdtTrfTxInf><PmtId><InstrId>I").append(i).append("</InstrId><EndToEndId>E2E").append(i)
+                    .append("</EndToEndId></PmtId><IntrBkSttlmAmt Ccy=\"").append(currency).append("\">")
+                    .append(i + 1).append(".25</IntrBkSttlmAmt>")
+                    .append("<Dbtr><Nm>DEBTOR ").append(i).append("</Nm></Dbtr>")
+                    .append("<Cdtr><Nm>CREDITOR ").append(i).append("</Nm></Cdtr></CdtTrfTxInf>");
+        }
+        return xml.append("</FIToFICstmrCdtTrf></ns2:Document>").toString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.mtmx.service.storage;
+
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.repository.SwiftMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class MessageRetentionJobTest {
+
+    @Autowired
+    private SwiftMessageRepository swiftMessageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void run_OnUnpartitionedTable_ShouldDeleteExpiredMessagesInBatches() {
+        for (int i = 0; i < 5; i++) {
+            persist(LocalDateTime.now().minusMonths(14).minusDays(i));
+        }
+        SwiftMessage recent = persist(LocalDateTime.now().minusMonths(11));
+        SwiftMessage current = persist(LocalDateTime.now());
+
+        int deleted = job(true, 2, 10).run();
+
+        assertThat(deleted).isEqualTo(5);
+        assertThat(swiftMessageRepository.findAll())
+                .extracting(SwiftMessage::getId)
+                .containsExactlyInAnyOrder(recent.getId(), current.getId());
+    }
+
+    @Test
+    void deleteBefore_ShouldStopAfterMaxBatches() {
+        for (int i = 0; i < 5; i++) {
+            persist(LocalDateTime.now().minusYears(2).plusDays(i));
+        }
+        MessageRetentionJob job = job(true, 2, 2);
+
+        assertThat(job.deleteBefore(LocalDateTime.now().minusYears(1))).isEqualTo(4);
+        assertThat(job.deleteBefore(LocalDateTime.now().minusYears(1))).isEqualTo(1);
+        assertThat(swiftMessageRepository.count()).isZero();
+    }
+
+    @Test
+    void run_WithRetentionDisabled_ShouldKeepEverything() {
+        persist(LocalDateTime.now().minusYears(3));
+
+        assertThat(job(false, 100, 10).run()).isZero();
+        assertThat(swiftMessageRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void partitionNames_ShouldRoundTripMonths() {
+        YearMonth month = YearMonth.of(2025, 3);
+
+        assertThat(MessageRetentionJob.partitionName(month)).isEqualTo("swift_messages_p202503");
+        assertThat(MessageRetentionJob.partitionMonth("swift_messages_p202503")).isEqualTo(month);
+        assertThat(MessageRetentionJob.partitionMonth("swift_messages_default")).isNull();
+        assertThat(job(true, 100, 10).cutoffMonth(YearMonth.of(2026, 1))).isEqualTo(YearMonth.of(2025, 1));
+    }
+
+    private MessageRetentionJob job(boolean enabled, int batchSize, int maxBatches) {
+        return new MessageRetentionJob(swiftMessageRepository, jdbcTemplate, enabled, 13, 2, false,
+                batchSize, maxBatches, 0, new SimpleMeterRegistry());
+    }
+
+    private SwiftMessage persist(LocalDateTime createdAt) {
+        SwiftMessage message = new SwiftMessage();
+        message.setMessageType(MessageType.MT103);
+        message.setSenderBic("BANKBEBBXXX");
+        message.setReceiverBic("BANKDEFFXXX");
+        message.setAmount(new BigDecimal("100.00"));
+        message.setCurrency("EUR");
+        message.setValueDate(LocalDate.now());
+        message.setRawMtMessage("{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}{4::20:RET-}");
+        message = entityManager.persistAndFlush(message);
+        // createdAt is set by Hibernate on insert
+        entityManager.getEntityManager()
+                .createNativeQuery("update swift_messages set created_at = ?1 where id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, message.getId())
+                .executeUpdate();
+        entityManager.clear();
+        return message;
+    }
+}
@@ -0,0 +1,164 @@
+package com.mtmx.service.storage;
+
+import com.mtmx.domain.compression.PayloadCompression;
+import com.mtmx.domain.entity.SwiftMessage;
+import com.mtmx.domain.enums.MessageType;
+import com.mtmx.domain.enums.ValidationVerdict;
+import com.mtmx.repository.SwiftMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+// Her repository çağrısı kendi transaction'ında çalışır; migration da uygulamada böyle çalışır
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PayloadCompressionMigratorTest {
+
+    private static final String MT = "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}"
+            + "{4:\n:20:PLAIN1\n:32A:241222EUR100,00\n:70:INVOICE 42 FOR SERVICES RENDERED\n-}";
+    private static final String MX = "<Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:pacs.008.001.08\">"
+            + "<FIToFICstmrCdtTrf><GrpHdr><MsgId>PLAIN1</MsgId></GrpHdr></FIToFICstmrCdtTrf></Document>";
+
+    @Autowired
+    private SwiftMessageRepository swiftMessageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        swiftMessageRepository.deleteAll();
+        PayloadCompression.configure(false, true);
+    }
+
+    @Test
+    void migrateBatch_ShouldCompressPlainRowsAndStopAfterAnEmptyPass() {
+        SwiftMessage converted = persist(MX);
+        SwiftMessage withoutMx = persist(null);
+        LocalDateTime version = updatedAt(converted.getId());
+        PayloadCompression.configure(true, true);
+        PayloadCompressionMigrator migrator = migrator(swiftMessageRepository);
+
+        assertThat(migrator.migrateBatch()).isEqualTo(2);
+        assertThat(migrator.migrateBatch()).isZero();
+        assertThat(migrator.isFinished()).isFalse();
+        assertThat(migrator.migrateBatch()).isZero();
+        assertThat(migrator.isFinished()).isTrue();
+
+        assertThat(columns(converted.getId()))
+                .containsEntry("RAW_MT_MESSAGE", null)
+                .containsEntry("GENERATED_MX_MESSAGE", null);
+        assertThat(columns(converted.getId()).get("GENERATED_MX_MESSAGE_Z")).isNotNull();
+        SwiftMessage found = swiftMessageRepository.findById(converted.getId()).orElseThrow();
+        assertThat(found.getRawMtMessage()).isEqualTo(MT);
+        assertThat(found.getGeneratedMxMessage()).isEqualTo(MX);
+        assertThat(found.getUpdatedAt()).isEqualTo(version);
+
+        Map<String, Object> noMx = columns(withoutMx.getId());
+        assertThat(noMx.get("RAW_MT_MESSAGE_Z")).isNotNull();
+        assertThat(noMx).containsEntry("GENERATED_MX_MESSAGE", null).containsEntry("GENERATED_MX_MESSAGE_Z", null);
+        assertThat(swiftMessageRepository.findById(withoutMx.getId()).orElseThrow().hasGeneratedMxMessage()).isFalse();
+    }
+
+    @Test
+    void migrateBatch_ShouldKeepCompressedTextsAndSkipCompressedRows() {
+        PayloadCompression.configure(true, true);
+        SwiftMessage compressed = persist(MX);
+        LocalDateTime version = updatedAt(compressed.getId());
+        PayloadCompression.configure(false, true);
+        SwiftMessage partial = message(MX);
+        PayloadCompression.configure(true, true);
+        partial.setRawMtMessage(MT);
+        partial = swiftMessageRepository.save(partial);
+        byte[] partialMt = (byte[]) columns(partial.getId()).get("RAW_MT_MESSAGE_Z");
+        PayloadCompressionMigrator migrator = migrator(swiftMessageRepository);
+
+        assertThat(migrator.migrateBatch()).isEqualTo(1);
+
+        Map<String, Object> rewritten = columns(partial.getId());
+        assertThat(rewritten.get("RAW_MT_MESSAGE_Z")).isEqualTo(partialMt);
+        assertThat(rewritten.get("GENERATED_MX_MESSAGE_Z")).isNotNull();
+        assertThat(rewritten).containsEntry("GENERATED_MX_MESSAGE", null);
+        assertThat(swiftMessageRepository.findById(partial.getId()).orElseThrow().getGeneratedMxMessage()).isEqualTo(MX);
+        assertThat(updatedAt(compressed.getId())).isEqualTo(version);
+    }
+
+    @Test
+    void migrateBatch_ShouldNotOverwriteRowEditedAfterItWasRead() {
+        SwiftMessage stored = persist(MX);
+        PayloadCompression.configure(true, true);
+        SwiftMessageRepository editedWhileRead = mock(SwiftMessageRepository.class, delegatesTo(swiftMessageRepository));
+        doAnswer(invocation -> {
+            Optional<SwiftMessage> read = swiftMessageRepository.findById(stored.getId());
+            SwiftMessage edit = swiftMessageRepository.findById(stored.getId()).orElseThrow();
+            edit.setValidationVerdict(ValidationVerdict.INVALID);
+            swiftMessageRepository.save(edit);
+            return read;
+        }).when(editedWhileRead).findById(stored.getId());
+
+        assertThat(migrator(editedWhileRead).migrateBatch()).isZero();
+
+        SwiftMessage found = swiftMessageRepository.findById(stored.getId()).orElseThrow();
+        assertThat(found.getValidationVerdict()).isEqualTo(ValidationVerdict.INVALID);
+        assertThat(found.getRawMtMessageCompressed()).isNull();
+        assertThat(found.getRawMtMessage()).isEqualTo(MT);
+
+        // Atlanan satır bir sonraki turda sıkıştırılır
+        PayloadCompressionMigrator migrator = migrator(swiftMessageRepository);
+        assertThat(migrator.migrateBatch()).isEqualTo(1);
+        assertThat(swiftMessageRepository.findById(stored.getId()).orElseThrow().getValidationVerdict())
+                .isEqualTo(ValidationVerdict.INVALID);
+    }
+
+    private static PayloadCompressionMigrator migrator(SwiftMessageRepository repository) {
+        return new PayloadCompressionMigrator(repository, true, false, 10, 0, new SimpleMeterRegistry());
+    }
+
+    private LocalDateTime updatedAt(Long id) {
+        return swiftMessageRepository.findById(id).orElseThrow().getUpdatedAt();
+    }
+
+    private Map<String, Object> columns(Long id) {
+        return jdbcTemplate.queryForMap("SELECT raw_mt_message, raw_mt_message_z, generated_mx_message, "
+                + "generated_mx_message_z FROM swift_messages WHERE id = ?", id);
+    }
+
+    private SwiftMessage persist(String mx) {
+        return swiftMessageRepository.save(message(mx));
+    }
+
+    private static SwiftMessage message(String mx) {
+        SwiftMessage message = new SwiftMessage();
+        message.setMessageType(MessageType.MT103);
+        message.setSenderBic("BANKBEBBXXX");
+        message.setReceiverBic("BANKDEFFXXX");
+        message.setAmount(new BigDecimal("100.00"));
+        message.setCurrency("EUR");
+        message.setValueDate(LocalDate.of(2024, 12, 22));
+        message.setRawMtMessage(MT);
+        if (mx != null) {
+            message.markConverted(mx, "pacs.008.001.08", ValidationVerdict.VALID, null);
+        } else {
+            message.markReceived();
+        }
+        return message;
+    }
+}
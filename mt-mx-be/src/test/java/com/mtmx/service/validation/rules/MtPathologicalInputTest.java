@@ -0,0 +1,165 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.header.MtHeaderParser;
+import com.mtmx.service.converter.ConversionException;
+import com.mtmx.service.converter.impl.MtMessageValidatorImpl;
+import com.mtmx.service.directory.BicDirectory;
+import com.mtmx.service.validation.MtInputLimits;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Malformed and adversarial MT input must be processed in linear time.
+ * Inputs are ~1 MB; anything super-linear would take minutes instead of milliseconds.
+ */
+class MtPathologicalInputTest {
+
+    private static final int SIZE = 1_000_000;
+    private static final Duration BUDGET = Duration.ofSeconds(3);
+    private static final String ALPHABET = "{}:\n\r-/,.0123456789ABCDEFIOXZ ";
+
+    private static final String VALID_MT103 = "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFXXXXN}{3:{108:MUR}}{4:\n" +
+            ":20:REF103\n" +
+            ":23B:CRED\n" +
+            ":32A:241222EUR1000,00\n" +
+            ":50K:/123456\n" +
+            "JOHN DOE\n" +
+            ":59:/654321\n" +
+            "JANE DOE\n" +
+            ":71A:SHA\n" +
+            "-}{5:{CHK:123456789ABC}}";
+
+    private final MtMessageValidatorImpl validator = new MtMessageValidatorImpl(BicDirectory.disabled(),
+            new MtInputLimits(Integer.MAX_VALUE, Integer.MAX_VALUE));
+
+    @Test
+    void pathologicalShapes_ShouldBeScannedInLinearTime() {
+        String[] inputs = {
+                repeat(":20:", SIZE),
+                ":32A:241222EUR" + repeat("1", SIZE),
+                ":32A:" + repeat("241222", SIZE),
+                repeat("{2:I", SIZE),
+                "{3:" + repeat("{", SIZE),
+                // Alanı kapanan ama ':' içermeyen bloklar; ':' çok daha ileride
+                "{3:" + repeat("{}", SIZE) + "}{4:\n:20:X\n-}",
+                "{5:" + repeat("{}", SIZE) + "}{4:\n:20:X\n-}",
+                "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFN}{3:" + repeat("{}", SIZE) + "}{4:\n:20:X\n-}",
+                "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFN}{4:\n:20:X\n-}{5:" + repeat("{}", SIZE) + "}",
+                "{3:" + repeat("{x}", SIZE) + ":",
+                repeat(":", SIZE),
+                "{4:" + repeat("\n:", SIZE),
+                "{1:F01BANKBEBBAXXX0000000000}{2:I103BANKDEFFN}{4:" + repeat("\n:20:X", SIZE) + "\n-}",
+                repeat("{1:{2:{3:{4:{5:", SIZE),
+                repeat("a", SIZE),
+        };
+        for (String input : inputs) {
+            assertTimeoutPreemptively(BUDGET, () -> scanAll(input),
+                    () -> "Input starting with " + input.substring(0, Math.min(20, input.length())));
+        }
+    }
+
+    @Test
+    void randomMutations_ShouldNeverThrowOrStall() {
+        Random random = new Random(41);
+        assertTimeoutPreemptively(BUDGET.multipliedBy(3), () -> {
+            for (int i = 0; i < 5_000; i++) {
+                scanAll(mutate(VALID_MT103, random, 1 + random.nextInt(20)));
+            }
+            for (int i = 0; i < 20; i++) {
+                scanAll(randomText(random, 50_000));
+            }
+        });
+    }
+
+    @Test
+    void validMessage_ShouldStillBeReadByScanners() {
+        assertThat(validator.isValid(VALID_MT103)).isTrue();
+        assertThat(validator.getMessageType(VALID_MT103)).isEqualTo("103");
+        assertThat(validator.extractField(VALID_MT103, "20")).isEqualTo("REF103");
+        assertThat(validator.extractField(VALID_MT103, "50K")).isEqualTo("/123456");
+        MtFieldScanner.AmountField field32A = MtFieldScanner.amount(VALID_MT103, "32A", true);
+        assertThat(field32A.getDate()).isEqualTo("241222");
+        assertThat(field32A.getCurrency()).isEqualTo("EUR");
+        assertThat(field32A.getAmount()).isEqualTo("1000,00");
+        // Tek satırlık mesajlarda da alan bulunur
+        assertThat(MtFieldScanner.amount("{4::20:REF:32A:231215USD1000,00:50K:X-}", "32A", true).getAmount())
+                .isEqualTo("1000,00");
+    }
+
+    @Test
+    void limits_ShouldRejectOversizedAndFieldFloodedInput() {
+        MtMessageValidatorImpl limited = new MtMessageValidatorImpl(BicDirectory.disabled(), new MtInputLimits(1000, 20));
+        String flooded = VALID_MT103.replace(":71A:SHA\n", repeat(":72:/X/\n", 30 * 8) + ":71A:SHA\n");
+
+        assertThat(limited.isValid(VALID_MT103)).isTrue();
+        assertThat(limited.isValid(VALID_MT103 + repeat(" ", 1000))).isFalse();
+        assertThat(limited.isValid(flooded)).isFalse();
+        assertThat(limited.extractField(flooded, "20")).isNull();
+        assertThatThrownBy(() -> limited.checkLimits(flooded))
+                .isInstanceOf(ConversionException.class)
+                .hasMessageContaining("too many fields");
+        assertThat(MtInputLimits.defaults().check(repeat("x", MtInputLimits.DEFAULT_MAX_LENGTH + 1)))
+                .contains("too large");
+    }
+
+    private void scanAll(String input) {
+        Consumer<String> ignore = value -> { };
+        validator.isValid(input);
+        ignore.accept(validator.getMessageType(input));
+        ignore.accept(validator.extractField(input, "20"));
+        ignore.accept(validator.extractField(input, "32A"));
+        MtFieldIndex index = MtFieldIndex.parse(input);
+        for (int i = 0; i < index.size(); i++) {
+            ignore.accept(index.value(i));
+        }
+        MtHeaderParser.parse(input);
+        MtFieldScanner.amount(input, "32A", true);
+        MtFieldScanner.amount(input, "32B", false);
+        MtFieldScanner.amountValue(input, "19");
+        MtRuleSets.planFor(com.mtmx.domain.enums.MessageType.MT103).validate(index, ValidationMode.COLLECT_ALL);
+    }
+
+    private static String mutate(String source, Random random, int edits) {
+        StringBuilder sb = new StringBuilder(source);
+        for (int i = 0; i < edits; i++) {
+            int at = random.nextInt(sb.length() + 1);
+            switch (random.nextInt(3)) {
+                case 0:
+                    sb.insert(at, ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                    break;
+                case 1:
+                    if (at < sb.length()) {
+                        sb.deleteCharAt(at);
+                    }
+                    break;
+                default:
+                    int end = Math.min(sb.length(), at + random.nextInt(30));
+                    sb.insert(at, sb.substring(at, end));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String repeat(String unit, int totalLength) {
+        StringBuilder sb = new StringBuilder(totalLength + unit.length());
+        while (sb.length() < totalLength) {
+            sb.append(unit);
+        }
+        return sb.toString();
+    }
+}
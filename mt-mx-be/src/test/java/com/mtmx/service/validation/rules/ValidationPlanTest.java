@@ -0,0 +1,188 @@
+package com.mtmx.service.validation.rules;
+
+import com.mtmx.domain.enums.MessageType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationPlanTest {
+
+    private static final String VALID_MT103 = "{1:F01BANKBEBB0000000000}{2:I103BANKDEFFN}{4:\n" +
+            ":20:REF103\n" +
+            ":23B:CRED\n" +
+            ":32A:241222EUR1000,00\n" +
+            ":50A:BANKBEBB\n" +
+            ":59A:BANKDEFF\n" +
+            ":70:INVOICE 123\n" +
+            ":71A:SHA\n" +
+            "-}";
+
+    @Test
+    void fieldIndex_ShouldTokenizeTextBlockInOnePass() {
+        MtFieldIndex index = MtFieldIndex.parse(VALID_MT103);
+
+        assertThat(index.hasBasicHeader()).isTrue();
+        assertThat(index.getApplicationType()).isEqualTo("103");
+        assertThat(index.size()).isEqualTo(7);
+        assertThat(index.first(MtTag.F32A)).isEqualTo("241222EUR1000,00");
+        assertThat(index.first(MtTag.F71A)).isEqualTo("SHA");
+        assertThat(index.has(MtTag.F72)).isFalse();
+        assertThat(index.getPresentMask() & MtTag.F20.bit()).isNotZero();
+    }
+
+    @Test
+    void fieldIndex_ShouldKeepMultiLineValuesAndUnknownTags() {
+        MtFieldIndex index = MtFieldIndex.parse("{1:F01X}{2:I103X}{4:\r\n:20:REF\r\n:50K:/123\r\nJOHN DOE\r\n:99Z:X\r\n-}");
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.first(MtTag.F50K)).isEqualTo("/123\r\nJOHN DOE");
+        assertThat(index.tag(2)).isNull();
+        assertThat(index.tagText(2)).isEqualTo("99Z");
+    }
+
+    @Test
+    void fieldIndex_ShouldTokenizeBytesAndDirectBuffersInPlace() {
+        byte[] bytes = VALID_MT103.getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        for (MtFieldIndex index : new MtFieldIndex[]{MtFieldIndex.parse(bytes), MtFieldIndex.parse(direct)}) {
+            assertThat(index.getSource()).isInstanceOf(AsciiBytes.class);
+            assertThat(index.getApplicationType()).isEqualTo("103");
+            assertThat(index.size()).isEqualTo(7);
+            assertThat(index.valueView(2)).isInstanceOf(AsciiBytes.class);
+            assertThat(index.valueView(2).toString()).isEqualTo("241222EUR1000,00");
+            assertThat(index.first(MtTag.F70)).isEqualTo("INVOICE 123");
+        }
+        assertThat(direct.position()).isZero();
+        assertThat(MtRuleSets.planFor(MessageType.MT103)
+                .validate(MtFieldIndex.parse(bytes), ValidationMode.COLLECT_ALL).isValid()).isTrue();
+    }
+
+    @Test
+    void asciiBytes_ShouldViewMappedFileSlices(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("mt103.txt");
+        Files.write(file, ("HEADER" + VALID_MT103).getBytes(StandardCharsets.US_ASCII));
+
+        AsciiBytes mapped = AsciiBytes.map(file);
+        AsciiBytes message = mapped.subSequence(6, mapped.length());
+
+        assertThat(message.toString()).isEqualTo(VALID_MT103);
+        assertThat(AsciiBytes.indexOf(message, ":71A:", 0)).isEqualTo(VALID_MT103.indexOf(":71A:"));
+        assertThat(MtFieldIndex.parse(message).first(MtTag.F71A)).isEqualTo("SHA");
+    }
+
+    @Test
+    void validate_ValidMt103_ShouldHaveNoViolations() {
+        RuleResult result = MtRuleSets.planFor(MessageType.MT103).validate(VALID_MT103, ValidationMode.COLLECT_ALL);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getViolations()).isEmpty();
+    }
+
+    @Test
+    void validate_CollectAll_ShouldReportEveryViolationWithTag() {
+        String message = VALID_MT103
+                .replace(":71A:SHA\n", ":71A:XXX\n")
+                .replace(":59A:BANKDEFF\n", "");
+
+        RuleResult result = MtRuleSets.planFor(MessageType.MT103).validate(message, ValidationMode.COLLECT_ALL);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).containsExactly(
+                "Zorunlu alan eksik: Beneficiary Customer (:59A:)",
+                "Beneficiary Customer (:59A:/:59F:/:59:) alanlarından biri zorunludur",
+                "Details of Charges (:71A:) geçersiz kod - BEN, OUR veya SHA olmalı");
+        assertThat(result.getViolations()).extracting(RuleViolation::getRule)
+                .containsExactly("MANDATORY", "ANY_OF", "FORMAT");
+        assertThat(result.getViolations().get(2).getTag()).isEqualTo(MtTag.F71A);
+    }
+
+    @Test
+    void validate_FailFast_ShouldStopAtFirstError() {
+        String message = VALID_MT103
+                .replace(":71A:SHA\n", ":71A:XXX\n")
+                .replace(":59A:BANKDEFF\n", "");
+
+        RuleResult result = MtRuleSets.planFor(MessageType.MT103).validate(message, ValidationMode.FAIL_FAST);
+
+        assertThat(result.getViolations()).hasSize(1);
+        assertThat(result.getErrors()).containsExactly("Zorunlu alan eksik: Beneficiary Customer (:59A:)");
+    }
+
+    @Test
+    void validate_MissingBlocks_ShouldReportStructureError() {
+        RuleResult result = MtRuleSets.planFor(MessageType.MT103).validate("INVALID FORMAT", ValidationMode.FAIL_FAST);
+
+        assertThat(result.getErrors()).containsExactly("Geçersiz SWIFT mesaj formatı - gerekli bloklar eksik");
+    }
+
+    @Test
+    void validate_TypeMismatch_ShouldReportExpectedType() {
+        String mt202 = "{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{4:\n:20:REF\n:21:REL\n:32A:241222EUR1000,00\n" +
+                ":50A:BANKBEBB\n:59A:BANKDEFF\n:72:/INS/BANK\n-}";
+
+        RuleResult asCover = MtRuleSets.planFor(MessageType.MT202COV).validate(mt202, ValidationMode.COLLECT_ALL);
+        RuleResult withBlock3 = MtRuleSets.planFor(MessageType.MT202COV)
+                .validate(mt202.replace("{4:", "{3:{119:COV}}{4:"), ValidationMode.COLLECT_ALL);
+
+        assertThat(asCover.getErrors()).contains("Mesaj tipi tutarsızlığı - beklenen: 202COV");
+        assertThat(withBlock3.getErrors()).doesNotContain("Mesaj tipi tutarsızlığı - beklenen: 202COV");
+    }
+
+    @Test
+    void validate_Mt202CovWithoutCoverFields_ShouldReportGenericAndCoverMessages() {
+        String cover = "{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{3:{119:COV}}{4:\n:20:REF\n" +
+                ":32A:241222EUR1000,00\n:50A:BANKBEBB\n:59A:BANKDEFF\n-}";
+
+        RuleResult result = MtRuleSets.planFor(MessageType.MT202COV).validate(cover, ValidationMode.COLLECT_ALL);
+
+        assertThat(result.getErrors()).contains(
+                "Zorunlu alan eksik: Related Reference (:21:)",
+                "Related Reference (:21:) MT202COV için zorunludur",
+                "Zorunlu alan eksik: Sender to Receiver Info (:72:)",
+                "MT202COV için sender to receiver information (:72:) zorunludur");
+    }
+
+    @Test
+    void validate_Occurrences_ShouldUseCountsFromSinglePass() {
+        String mt203 = "{1:F01BANKBEBB0000000000}{2:I203BANKDEFFN}{4:\n:20:REF203\n:19:3000,00\n:30:241222\n" +
+                ":21:TX1\n:32A:241222EUR1000,00\n:52A:BANKBEBB\n:58A:BANKDEFF\n-}";
+
+        RuleResult result = MtRuleSets.planFor(MessageType.MT203).validate(mt203, ValidationMode.COLLECT_ALL);
+
+        assertThat(result.getErrors()).containsExactly("MT203 en az 2 transaction içermelidir");
+    }
+
+    @Test
+    void validate_Warnings_ShouldNotInvalidateOrStopFailFast() {
+        String mt202 = "{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{4:\n:20:REF202\n:32A:241222EUR5000,00\n" +
+                ":52A:BANKBEBB\n:58A:BANKDEFF\n:72:FREE TEXT\n-}";
+
+        RuleResult result = MtRuleSets.planFor(MessageType.MT202).validate(mt202, ValidationMode.FAIL_FAST);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getWarnings()).containsExactly("Settlement Instructions (:72:) standart kodlar içermiyor");
+    }
+
+    @Test
+    void validate_InvalidValueDate_ShouldUsePrecompiledMatchers() {
+        String mt202 = "{1:F01BANKBEBB0000000000}{2:I202BANKDEFFN}{4:\n:20:REF202\n:32A:241340EURX5000\n" +
+                ":52A:BANKBEBB\n:58A:bad bic x\n-}";
+
+        RuleResult result = MtRuleSets.planFor(MessageType.MT202).validate(mt202, ValidationMode.COLLECT_ALL);
+
+        // Format ihlalleri alan sırasıyla raporlanır
+        assertThat(result.getErrors()).containsExactly(
+                "Value Date (:32A:) geçersiz tarih",
+                "Amount (:32A:) geçersiz format",
+                "Beneficiary Institution BIC (:58A:) geçersiz format");
+    }
+}
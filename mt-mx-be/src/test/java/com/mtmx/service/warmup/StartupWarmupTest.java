@@ -0,0 +1,77 @@
+package com.mtmx.service.warmup;
+
+import com.mtmx.service.ConversionService;
+import com.mtmx.service.XsdValidationService;
+import com.mtmx.service.converter.MessageConverter;
+import com.mtmx.service.xml.JaxbContextCache;
+import com.mtmx.service.xml.XsdSchemaCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StartupWarmupTest {
+
+    @Mock
+    private ConversionService conversionService;
+
+    @Mock
+    private XsdValidationService xsdValidationService;
+
+    @Mock
+    private MessageConverter<String, String> mtConverter;
+
+    @Mock
+    private MessageConverter<String, String> mxConverter;
+
+    @Test
+    void run_ShouldCompileSchemasBuildContextsAndExerciseConverters() throws Exception {
+        when(mtConverter.getSupportedMessageType()).thenReturn("103");
+        when(mtConverter.isValid(anyString())).thenReturn(true);
+        when(mtConverter.convert(anyString())).thenReturn("<Document/>");
+        when(mxConverter.getSupportedMessageType()).thenReturn("pacs.008.001.08");
+        when(mxConverter.isValid(anyString())).thenReturn(true);
+        when(conversionService.getMtMessageType(anyString())).thenReturn("103");
+
+        StartupWarmup warmup = new StartupWarmup(conversionService, xsdValidationService,
+                List.of(mtConverter, mxConverter), true, 3);
+        WarmupHealthIndicator indicator = new WarmupHealthIndicator(warmup);
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+
+        warmup.run(null);
+
+        assertEquals(StartupWarmup.Phase.COMPLETED, warmup.getPhase());
+        assertEquals(warmup.getTotalSteps(), warmup.getCompletedSteps());
+        assertTrue(XsdSchemaCache.size() >= 4, "all bundled XSDs should be compiled");
+        assertTrue(JaxbContextCache.size() >= 2, "pacs.008 and pacs.009 contexts should be built");
+
+        // 5 MT samples and 2 MX samples, 3 iterations each
+        verify(mtConverter, times(15)).convert(anyString());
+        verify(mxConverter, times(6)).convert(anyString());
+        verify(xsdValidationService, times(15)).validateByMtType("<Document/>", "MT103");
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void run_WhenDisabled_ShouldReportUpWithoutWork() throws Exception {
+        StartupWarmup warmup = new StartupWarmup(conversionService, xsdValidationService,
+                List.of(mtConverter), false, 3);
+
+        warmup.run(null);
+
+        assertEquals(StartupWarmup.Phase.DISABLED, warmup.getPhase());
+        verify(mtConverter, never()).convert(anyString());
+        assertEquals(Status.UP, new WarmupHealthIndicator(warmup).health().getStatus());
+    }
+}
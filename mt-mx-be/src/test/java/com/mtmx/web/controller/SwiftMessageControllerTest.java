@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mtmx.domain.enums.MessageType;
 import com.mtmx.service.SwiftMessageService;
 import com.mtmx.service.ConversionService;
+import com.mtmx.service.export.SwiftMessageExportService;
 import com.mtmx.web.dto.SwiftMessageDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,9 @@ class SwiftMessageControllerTest {
     @MockBean
     private ConversionService conversionService;
 
+    @MockBean
+    private SwiftMessageExportService swiftMessageExportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -160,6 +164,14 @@ class SwiftMessageControllerTest {
                 .andExpect(jsonPath("$.data.content[0].messageType").value("MT103"));
     }
 
+    @Test
+    void exportMessages_WithUnknownFormat_ShouldReturnBadRequestBeforeStreaming() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/swift-messages/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format: xlsx"));
+    }
+
     @Test
     void convertMtToMx_WithValidData_ShouldReturnConvertedMessage() throws Exception {
         // Given
@@ -3,6 +3,7 @@ package com.mtmx.web.exception;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mtmx.service.SwiftMessageService;
 import com.mtmx.service.ConversionService;
+import com.mtmx.service.export.SwiftMessageExportService;
 import com.mtmx.web.controller.SwiftMessageController;
 import com.mtmx.web.dto.SwiftMessageDto;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ class GlobalExceptionHandlerTest {
         @MockBean
         private ConversionService conversionService;
 
+        @MockBean
+        private SwiftMessageExportService swiftMessageExportService;
+
         @Autowired
         private ObjectMapper objectMapper;
 